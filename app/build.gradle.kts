@@ -19,6 +19,14 @@ android {
         versionName = "1.0"
 
         testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+
+        // Room writes each schema version here; commit them so later
+        // migrations can be checked against the exact schema they start from.
+        javaCompileOptions {
+            annotationProcessorOptions {
+                arguments += mapOf("room.schemaLocation" to "$projectDir/schemas")
+            }
+        }
     }
 
     buildTypes {
@@ -34,6 +42,17 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+    testOptions {
+        unitTests {
+            isIncludeAndroidResources = true
+            all {
+                // DaoScalingBenchmark and RepositoryLoadTest only run when asked
+                // for: -PdaoBenchmarks, -PloadTests
+                it.systemProperty("daoBenchmarks", project.hasProperty("daoBenchmarks"))
+                it.systemProperty("loadTests", project.hasProperty("loadTests"))
+            }
+        }
+    }
 }
 
 dependencies {
@@ -45,6 +64,10 @@ dependencies {
     implementation(libs.gson)
     implementation(libs.converter.gson)
     implementation(libs.glide)
+    annotationProcessor(libs.glide.compiler)
+    implementation(libs.glide.recyclerview) {
+        isTransitive = false
+    }
     implementation(libs.androidx.room.runtime)
     annotationProcessor(libs.androidx.room.compiler)
     implementation(libs.lottie.dep)
@@ -72,6 +95,9 @@ dependencies {
     implementation(libs.firebase.firestore)
     implementation(libs.bcrypt)
     testImplementation(libs.junit)
+    testImplementation(libs.robolectric)
+    testImplementation(libs.androidx.test.core)
+    testImplementation(libs.mockwebserver)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
 }
@@ -5,7 +5,13 @@ import android.content.Context;
 
 import androidx.appcompat.app.AppCompatDelegate;
 
+import com.example.recipe_android_project.core.config.RetrofitClient;
+import com.example.recipe_android_project.core.helper.FavoritesRealtimeSync;
+import com.example.recipe_android_project.core.helper.ImageMemoryPolicy;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
 import com.example.recipe_android_project.core.helper.LocaleHelper;
+import com.example.recipe_android_project.core.helper.MealCatalogCrawler;
+import com.example.recipe_android_project.core.helper.PasswordCostCalibrator;
 import com.example.recipe_android_project.core.helper.SyncManager;
 
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
@@ -22,6 +28,7 @@ public class RecipeApplication extends Application {
     public void onCreate() {
         super.onCreate();
         setupRxJavaErrorHandler();
+        RetrofitClient.init(this);
         AppCompatDelegate.setDefaultNightMode(
                 AppCompatDelegate.MODE_NIGHT_NO);
         try {
@@ -30,6 +37,23 @@ public class RecipeApplication extends Application {
         } catch (Exception e) {
             e.printStackTrace();
         }
+        registerActivityLifecycleCallbacks(FavoritesRealtimeSync.getInstance(this));
+        registerActivityLifecycleCallbacks(ImageMemoryPolicy.getInstance(this));
+        PasswordCostCalibrator.getInstance(this).start();
+        try {
+            MealCatalogCrawler.getInstance(this).start();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        // Picks up favourites and plans synced from other devices and drops
+        // images of plans whose day has passed.
+        ImagePinStore.getInstance(this).reconcile();
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        ImageMemoryPolicy.getInstance(this).onTrimMemory(level);
     }
 
     private void setupRxJavaErrorHandler() {
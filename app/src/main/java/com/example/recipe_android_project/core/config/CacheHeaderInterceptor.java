@@ -0,0 +1,38 @@
+package com.example.recipe_android_project.core.config;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public final class CacheHeaderInterceptor implements Interceptor {
+
+    private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    private static final String HEADER_PRAGMA = "Pragma";
+    private static final String HEADER_EXPIRES = "Expires";
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        HttpCachePolicy policy = HttpCachePolicy.forPath(request.url().encodedPath());
+        if (policy == null) {
+            return response;
+        }
+
+        String cacheControl = response.isSuccessful()
+                ? "public, max-age=" + policy.getTtlSeconds()
+                : "no-store";
+
+        return response.newBuilder()
+                .removeHeader(HEADER_PRAGMA)
+                .removeHeader(HEADER_EXPIRES)
+                .header(HEADER_CACHE_CONTROL, cacheControl)
+                .build();
+    }
+}
@@ -2,8 +2,14 @@ package com.example.recipe_android_project.core.config;
 
 import android.content.Context;
 
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.room.Database;
+import androidx.room.InvalidationTracker;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
 import androidx.room.migration.Migration;
@@ -12,21 +18,37 @@ import androidx.sqlite.db.SupportSQLiteDatabase;
 import com.example.recipe_android_project.features.auth.data.datasource.local.UserDao;
 import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
 import com.example.recipe_android_project.features.dashboard.data.datasource.local.DashboardDao;
+import com.example.recipe_android_project.features.favourites.data.datasource.local.FavoriteOutboxDao;
 import com.example.recipe_android_project.features.favourites.data.datasource.local.FavouriteDao;
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealCatalogDao;
 import com.example.recipe_android_project.features.home.data.datasource.local.MealDao;
+import com.example.recipe_android_project.features.home.data.entities.FavoriteIngredientEntity;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogFtsEntity;
+import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
 import com.example.recipe_android_project.features.plan.data.datasource.local.MealPlanDao;
 import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
 import com.example.recipe_android_project.features.profile.data.datasource.local.ProfileDao;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
 @Database(
         entities = {
                 UserEntity.class,
                 FavoriteMealEntity.class,
-                MealPlanEntity.class
+                MealPlanEntity.class,
+                MealCatalogEntity.class,
+                MealCatalogFtsEntity.class,
+                FavoriteOutboxEntity.class,
+                FavoriteIngredientEntity.class
         },
-        version = 6,
-        exportSchema = false
+        version = 11,
+        exportSchema = true
 )
 public abstract class DbManager extends RoomDatabase {
 
@@ -36,10 +58,33 @@ public abstract class DbManager extends RoomDatabase {
     public abstract DashboardDao dashboardDao();
     public abstract MealPlanDao mealPlanDao();
     public abstract ProfileDao profileDao();
+    public abstract MealCatalogDao mealCatalogDao();
+    public abstract FavoriteOutboxDao favoriteOutboxDao();
 
     private static volatile DbManager INSTANCE;
     private static final String DATABASE_NAME = "recipe_app_db";
 
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    /**
+     * Goes up after every committed write to {@code meal_catalog}, whichever
+     * DAO made it. Caches built from the catalog compare it to decide whether
+     * to rebuild instead of querying the table.
+     */
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    private DbManager trackCatalogWrites() {
+        getInvalidationTracker().addObserver(new InvalidationTracker.Observer("meal_catalog") {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                catalogVersion.incrementAndGet();
+            }
+        });
+        return this;
+    }
+
 
 
     static final Migration MIGRATION_3_4 = new Migration(3, 4) {
@@ -108,6 +153,197 @@ public abstract class DbManager extends RoomDatabase {
     };
 
 
+    static final Migration MIGRATION_6_7 = new Migration(6, 7) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL(
+                    "CREATE TABLE IF NOT EXISTS `meal_catalog` (" +
+                            "`meal_id` TEXT NOT NULL, `name` TEXT, `alternate_name` TEXT, " +
+                            "`category` TEXT, `area` TEXT, `instructions` TEXT, " +
+                            "`thumbnail_url` TEXT, `tags` TEXT, `youtube_url` TEXT, " +
+                            "`source_url` TEXT, `image_source` TEXT, " +
+                            "`creative_commons_confirmed` TEXT, `date_modified` TEXT, " +
+                            "`ingredients_json` TEXT, `first_letter` TEXT, " +
+                            "`updated_at` INTEGER NOT NULL, PRIMARY KEY(`meal_id`))"
+            );
+            database.execSQL(
+                    "CREATE INDEX IF NOT EXISTS `index_meal_catalog_first_letter` " +
+                            "ON `meal_catalog` (`first_letter`)"
+            );
+        }
+    };
+
+
+    static final Migration MIGRATION_7_8 = new Migration(7, 8) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL(
+                    "ALTER TABLE meal_catalog ADD COLUMN ingredients_text TEXT"
+            );
+            backfillCatalogIngredientsText(database);
+
+            String ftsColumns = "`name`, `category`, `area`, `tags`, `ingredients_text`, `instructions`";
+            String newValues = "NEW.`name`, NEW.`category`, NEW.`area`, NEW.`tags`, " +
+                    "NEW.`ingredients_text`, NEW.`instructions`";
+
+            database.execSQL(
+                    "CREATE VIRTUAL TABLE IF NOT EXISTS `meal_catalog_fts` USING FTS4(" +
+                            "`name` TEXT, `category` TEXT, `area` TEXT, `tags` TEXT, " +
+                            "`ingredients_text` TEXT, `instructions` TEXT, content=`meal_catalog`)"
+            );
+            database.execSQL(
+                    "CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_meal_catalog_fts_BEFORE_UPDATE " +
+                            "BEFORE UPDATE ON `meal_catalog` BEGIN " +
+                            "DELETE FROM `meal_catalog_fts` WHERE `docid`=OLD.`rowid`; END"
+            );
+            database.execSQL(
+                    "CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_meal_catalog_fts_BEFORE_DELETE " +
+                            "BEFORE DELETE ON `meal_catalog` BEGIN " +
+                            "DELETE FROM `meal_catalog_fts` WHERE `docid`=OLD.`rowid`; END"
+            );
+            database.execSQL(
+                    "CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_meal_catalog_fts_AFTER_UPDATE " +
+                            "AFTER UPDATE ON `meal_catalog` BEGIN " +
+                            "INSERT INTO `meal_catalog_fts`(`docid`, " + ftsColumns + ") " +
+                            "VALUES (NEW.`rowid`, " + newValues + "); END"
+            );
+            database.execSQL(
+                    "CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_meal_catalog_fts_AFTER_INSERT " +
+                            "AFTER INSERT ON `meal_catalog` BEGIN " +
+                            "INSERT INTO `meal_catalog_fts`(`docid`, " + ftsColumns + ") " +
+                            "VALUES (NEW.`rowid`, " + newValues + "); END"
+            );
+            database.execSQL(
+                    "INSERT INTO `meal_catalog_fts`(`meal_catalog_fts`) VALUES('rebuild')"
+            );
+        }
+    };
+
+    static final Migration MIGRATION_8_9 = new Migration(8, 9) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL(
+                    "CREATE TABLE IF NOT EXISTS `favorite_outbox` (" +
+                            "`user_id` TEXT NOT NULL, `meal_id` TEXT NOT NULL, " +
+                            "`firebase_uid` TEXT, `operation` TEXT NOT NULL, " +
+                            "`updated_at` INTEGER NOT NULL, `attempt_count` INTEGER NOT NULL, " +
+                            "`last_error` TEXT, PRIMARY KEY(`user_id`, `meal_id`))"
+            );
+        }
+    };
+
+    static final Migration MIGRATION_9_10 = new Migration(9, 10) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL(
+                    "ALTER TABLE meal_plans ADD COLUMN pending_delete INTEGER NOT NULL DEFAULT 0"
+            );
+        }
+    };
+
+    static final Migration MIGRATION_10_11 = new Migration(10, 11) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            String columns = "`meal_id`, `user_id`, `name`, `alternate_name`, `category`, " +
+                    "`area`, `instructions`, `thumbnail_url`, `tags`, `youtube_url`, " +
+                    "`source_url`, `image_source`, `creative_commons_confirmed`, " +
+                    "`date_modified`, `created_at`";
+
+            List<ContentValues> ingredientRows = readFavoriteIngredientRows(database);
+
+            database.execSQL(
+                    "CREATE TABLE IF NOT EXISTS `favorite_meals_new` (" +
+                            "`meal_id` TEXT NOT NULL, `user_id` TEXT NOT NULL, `name` TEXT, " +
+                            "`alternate_name` TEXT, `category` TEXT, `area` TEXT, " +
+                            "`instructions` TEXT, `thumbnail_url` TEXT, `tags` TEXT, " +
+                            "`youtube_url` TEXT, `source_url` TEXT, `image_source` TEXT, " +
+                            "`creative_commons_confirmed` TEXT, `date_modified` TEXT, " +
+                            "`created_at` INTEGER NOT NULL, PRIMARY KEY(`meal_id`, `user_id`), " +
+                            "FOREIGN KEY(`user_id`) REFERENCES `users`(`id`) " +
+                            "ON UPDATE NO ACTION ON DELETE CASCADE )"
+            );
+            database.execSQL(
+                    "INSERT INTO `favorite_meals_new` (" + columns + ") " +
+                            "SELECT " + columns + " FROM `favorite_meals`"
+            );
+            database.execSQL("DROP TABLE `favorite_meals`");
+            database.execSQL("ALTER TABLE `favorite_meals_new` RENAME TO `favorite_meals`");
+            database.execSQL(
+                    "CREATE INDEX IF NOT EXISTS `index_favorite_meals_user_id` " +
+                            "ON `favorite_meals` (`user_id`)"
+            );
+            database.execSQL(
+                    "CREATE INDEX IF NOT EXISTS `index_favorite_meals_meal_id` " +
+                            "ON `favorite_meals` (`meal_id`)"
+            );
+
+            database.execSQL(
+                    "CREATE TABLE IF NOT EXISTS `favorite_meal_ingredients` (" +
+                            "`meal_id` TEXT NOT NULL, `user_id` TEXT NOT NULL, " +
+                            "`position` INTEGER NOT NULL, `name` TEXT NOT NULL, `measure` TEXT, " +
+                            "PRIMARY KEY(`meal_id`, `user_id`, `position`), " +
+                            "FOREIGN KEY(`meal_id`, `user_id`) " +
+                            "REFERENCES `favorite_meals`(`meal_id`, `user_id`) " +
+                            "ON UPDATE NO ACTION ON DELETE CASCADE )"
+            );
+            for (ContentValues values : ingredientRows) {
+                database.insert("favorite_meal_ingredients",
+                        SQLiteDatabase.CONFLICT_REPLACE, values);
+            }
+        }
+    };
+
+    // Declared after the migrations it lists so they are initialised first.
+    static final Migration[] MIGRATIONS = {
+            MIGRATION_3_4,
+            MIGRATION_4_5,
+            MIGRATION_3_5,
+            MIGRATION_6_7,
+            MIGRATION_7_8,
+            MIGRATION_8_9,
+            MIGRATION_9_10,
+            MIGRATION_10_11
+    };
+
+    // Read before favorite_meals is rebuilt, since the new table no longer has
+    // the ingredients_json column.
+    private static List<ContentValues> readFavoriteIngredientRows(SupportSQLiteDatabase database) {
+        List<ContentValues> rows = new ArrayList<>();
+        try (Cursor cursor = database.query(
+                "SELECT meal_id, user_id, ingredients_json FROM favorite_meals")) {
+            while (cursor.moveToNext()) {
+                List<FavoriteIngredientEntity> ingredients =
+                        MealMapper.favoriteIngredientsFromJson(cursor.getString(2));
+                for (FavoriteIngredientEntity ingredient : ingredients) {
+                    ContentValues values = new ContentValues();
+                    values.put("meal_id", cursor.getString(0));
+                    values.put("user_id", cursor.getString(1));
+                    values.put("position", ingredient.getPosition());
+                    values.put("name", ingredient.getName());
+                    values.put("measure", ingredient.getMeasure());
+                    rows.add(values);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static void backfillCatalogIngredientsText(SupportSQLiteDatabase database) {
+        try (Cursor cursor = database.query(
+                "SELECT meal_id, ingredients_json FROM meal_catalog")) {
+            while (cursor.moveToNext()) {
+                String text = MealMapper.ingredientsTextFromJson(cursor.getString(1));
+                if (text == null) continue;
+
+                ContentValues values = new ContentValues();
+                values.put("ingredients_text", text);
+                database.update("meal_catalog", SQLiteDatabase.CONFLICT_NONE, values,
+                        "meal_id = ?", new Object[]{cursor.getString(0)});
+            }
+        }
+    }
+
+
     public static DbManager getInstance(Context context) {
         if (INSTANCE == null) {
             synchronized (DbManager.class) {
@@ -117,19 +353,40 @@ public abstract class DbManager extends RoomDatabase {
                                     DbManager.class,
                                     DATABASE_NAME
                             )
-                            .addMigrations(
-                                    MIGRATION_3_4,
-                                    MIGRATION_4_5,
-                                    MIGRATION_3_5
-                            )
+                            .addMigrations(MIGRATIONS)
                             .fallbackToDestructiveMigration()
-                            .build();
+                            .build()
+                            .trackCatalogWrites();
                 }
             }
         }
         return INSTANCE;
     }
 
+    /**
+     * Replaces the on-disk database with an in-memory one for every later
+     * {@link #getInstance(Context)} caller. For JVM tests only; calling it again
+     * keeps the in-memory database that is already installed.
+     */
+    @VisibleForTesting
+    public static DbManager useInMemoryDatabase(Context context) {
+        synchronized (DbManager.class) {
+            if (INSTANCE != null && INSTANCE.getOpenHelper().getDatabaseName() == null) {
+                return INSTANCE;
+            }
+            if (INSTANCE != null && INSTANCE.isOpen()) {
+                INSTANCE.close();
+            }
+            INSTANCE = Room.inMemoryDatabaseBuilder(
+                            context.getApplicationContext(),
+                            DbManager.class
+                    )
+                    .build()
+                    .trackCatalogWrites();
+            return INSTANCE;
+        }
+    }
+
     public static void closeDatabase() {
         if (INSTANCE != null) {
             synchronized (DbManager.class) {
@@ -0,0 +1,137 @@
+package com.example.recipe_android_project.core.config;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.example.recipe_android_project.core.helper.ConnectivityHub;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cache;
+import okhttp3.CacheControl;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Serves TheMealDB responses from the disk {@link Cache} first. A stale copy inside the
+ * policy's stale window is returned immediately and refreshed in the background; when
+ * the device is offline or the network call fails, any cached copy is used.
+ */
+public final class HttpCacheInterceptor implements Interceptor {
+
+    private static final String TAG = "HttpCacheInterceptor";
+    private static final String HEADER_REVALIDATE = "X-Cache-Revalidate";
+    private static final int HTTP_GATEWAY_TIMEOUT = 504;
+
+    private final ConnectivityHub connectivityHub;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+    private volatile OkHttpClient client;
+
+    public HttpCacheInterceptor(ConnectivityHub connectivityHub) {
+        this.connectivityHub = connectivityHub;
+    }
+
+    public void setClient(OkHttpClient client) {
+        this.client = client;
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Request request = chain.request();
+
+        if (request.header(HEADER_REVALIDATE) != null) {
+            return chain.proceed(request.newBuilder()
+                    .removeHeader(HEADER_REVALIDATE)
+                    .build());
+        }
+
+        HttpCachePolicy policy = HttpCachePolicy.forPath(request.url().encodedPath());
+        if (policy == null || !"GET".equals(request.method())) {
+            return chain.proceed(request);
+        }
+
+        boolean online = connectivityHub.isNetworkAvailable();
+        long maxStaleSeconds = online ? policy.getStaleWindowSeconds() : Integer.MAX_VALUE;
+
+        Response cached = readFromCache(chain, request, maxStaleSeconds);
+        if (cached != null) {
+            long ageMs = System.currentTimeMillis() - cached.receivedResponseAtMillis();
+            if (online && ageMs > TimeUnit.SECONDS.toMillis(policy.getTtlSeconds())) {
+                revalidateInBackground(request);
+            }
+            return cached;
+        }
+
+        try {
+            return chain.proceed(request);
+        } catch (IOException e) {
+            Response stale = readFromCache(chain, request, Integer.MAX_VALUE);
+            if (stale != null) {
+                return stale;
+            }
+            throw e;
+        }
+    }
+
+    private Response readFromCache(Chain chain, Request request, long maxStaleSeconds)
+            throws IOException {
+        Request cacheOnly = request.newBuilder()
+                .cacheControl(new CacheControl.Builder()
+                        .onlyIfCached()
+                        .maxStale((int) Math.min(maxStaleSeconds, Integer.MAX_VALUE),
+                                TimeUnit.SECONDS)
+                        .build())
+                .build();
+
+        Response response = chain.proceed(cacheOnly);
+        if (response.code() == HTTP_GATEWAY_TIMEOUT && response.cacheResponse() == null) {
+            response.close();
+            return null;
+        }
+        return response;
+    }
+
+    private void revalidateInBackground(Request request) {
+        OkHttpClient currentClient = client;
+        String key = request.url().toString();
+        if (currentClient == null || !revalidating.add(key)) {
+            return;
+        }
+
+        Request refresh = request.newBuilder()
+                .cacheControl(CacheControl.FORCE_NETWORK)
+                .header(HEADER_REVALIDATE, "1")
+                .build();
+
+        currentClient.newCall(refresh).enqueue(new Callback() {
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                try {
+                    if (response.body() != null) {
+                        response.body().string();
+                    }
+                } catch (IOException e) {
+                    Log.w(TAG, "Revalidation read failed: " + e.getMessage());
+                } finally {
+                    response.close();
+                    revalidating.remove(key);
+                }
+            }
+
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                revalidating.remove(key);
+                Log.w(TAG, "Revalidation failed: " + e.getMessage());
+            }
+        });
+    }
+}
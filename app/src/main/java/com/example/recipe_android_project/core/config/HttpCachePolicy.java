@@ -0,0 +1,44 @@
+package com.example.recipe_android_project.core.config;
+
+import java.util.concurrent.TimeUnit;
+
+public final class HttpCachePolicy {
+
+    private static final HttpCachePolicy CATEGORIES = new HttpCachePolicy(
+            TimeUnit.DAYS.toSeconds(7), TimeUnit.DAYS.toSeconds(30));
+    private static final HttpCachePolicy LISTS = new HttpCachePolicy(
+            TimeUnit.DAYS.toSeconds(7), TimeUnit.DAYS.toSeconds(30));
+    private static final HttpCachePolicy LOOKUP = new HttpCachePolicy(
+            TimeUnit.DAYS.toSeconds(1), TimeUnit.DAYS.toSeconds(14));
+    private static final HttpCachePolicy FILTER = new HttpCachePolicy(
+            TimeUnit.HOURS.toSeconds(12), TimeUnit.DAYS.toSeconds(7));
+    private static final HttpCachePolicy SEARCH = new HttpCachePolicy(
+            TimeUnit.HOURS.toSeconds(1), TimeUnit.DAYS.toSeconds(1));
+
+    private final long ttlSeconds;
+    private final long staleWindowSeconds;
+
+    private HttpCachePolicy(long ttlSeconds, long staleWindowSeconds) {
+        this.ttlSeconds = ttlSeconds;
+        this.staleWindowSeconds = staleWindowSeconds;
+    }
+
+    public static HttpCachePolicy forPath(String encodedPath) {
+        if (encodedPath == null) return null;
+
+        if (encodedPath.endsWith("/categories.php")) return CATEGORIES;
+        if (encodedPath.endsWith("/list.php")) return LISTS;
+        if (encodedPath.endsWith("/lookup.php")) return LOOKUP;
+        if (encodedPath.endsWith("/filter.php")) return FILTER;
+        if (encodedPath.endsWith("/search.php")) return SEARCH;
+        return null;
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public long getStaleWindowSeconds() {
+        return staleWindowSeconds;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.recipe_android_project.core.config;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.bumptech.glide.GlideBuilder;
+import com.bumptech.glide.annotation.GlideModule;
+import com.bumptech.glide.load.engine.bitmap_recycle.LruBitmapPool;
+import com.bumptech.glide.load.engine.cache.InternalCacheDiskCacheFactory;
+import com.bumptech.glide.load.engine.cache.LruResourceCache;
+import com.bumptech.glide.load.engine.cache.MemorySizeCalculator;
+import com.bumptech.glide.module.AppGlideModule;
+
+/**
+ * App-wide Glide setup. Lists only show small thumbnails, so the memory cache
+ * and bitmap pool are sized for two and three screens of them instead of
+ * Glide's defaults. Resized thumbnails are kept on disk so that scrolling back
+ * does not decode the originals again.
+ */
+@GlideModule
+public final class RecipeGlideModule extends AppGlideModule {
+
+    private static final float MEMORY_CACHE_SCREENS = 2f;
+    private static final float BITMAP_POOL_SCREENS = 3f;
+    private static final String DISK_CACHE_DIR = "image_cache";
+    private static final long DISK_CACHE_BYTES = 150L * 1024 * 1024;
+
+    @Override
+    public void applyOptions(@NonNull Context context, @NonNull GlideBuilder builder) {
+        MemorySizeCalculator calculator = new MemorySizeCalculator.Builder(context)
+                .setMemoryCacheScreens(MEMORY_CACHE_SCREENS)
+                .setBitmapPoolScreens(BITMAP_POOL_SCREENS)
+                .build();
+
+        builder.setMemoryCache(new LruResourceCache(calculator.getMemoryCacheSize()))
+                .setBitmapPool(new LruBitmapPool(calculator.getBitmapPoolSize()))
+                .setDiskCache(new InternalCacheDiskCacheFactory(
+                        context, DISK_CACHE_DIR, DISK_CACHE_BYTES))
+                .setLogLevel(Log.ERROR);
+    }
+
+    @Override
+    public boolean isManifestParsingEnabled() {
+        return false;
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.recipe_android_project.core.config;
 
+import android.content.Context;
+
+import com.example.recipe_android_project.core.helper.ConnectivityHub;
 import com.example.recipe_android_project.features.home.data.datasource.remote.MealApiService;
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseDto;
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseTypeAdapter;
 import com.example.recipe_android_project.features.meal_detail.data.datasource.remote.MealDetailApiService;
 import com.example.recipe_android_project.features.search.data.datasource.remote.SearchApiService;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 
+import java.io.File;
 import java.util.concurrent.TimeUnit;
 
+import okhttp3.Cache;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
@@ -15,6 +24,10 @@ import retrofit2.converter.gson.GsonConverterFactory;
 public final class RetrofitClient {
 
     private static final String BASE_URL = "https://www.themealdb.com/api/json/v1/1/";
+    private static final String HTTP_CACHE_DIR = "http_cache";
+    private static final long HTTP_CACHE_SIZE_BYTES = 20L * 1024 * 1024;
+
+    private static volatile Context appContext;
 
     private static volatile Retrofit retrofit;
     private static volatile MealApiService mealApiService;
@@ -24,6 +37,10 @@ public final class RetrofitClient {
     private RetrofitClient() {
     }
 
+    public static void init(Context context) {
+        appContext = context.getApplicationContext();
+    }
+
     private static Retrofit getInstance() {
         if (retrofit == null) {
             synchronized (RetrofitClient.class) {
@@ -32,24 +49,55 @@ public final class RetrofitClient {
                     HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
                     logging.setLevel(HttpLoggingInterceptor.Level.BODY);
 
-                    OkHttpClient okHttpClient = new OkHttpClient.Builder()
+                    OkHttpClient.Builder builder = new OkHttpClient.Builder()
                             .connectTimeout(20, TimeUnit.SECONDS)
                             .readTimeout(30, TimeUnit.SECONDS)
-                            .writeTimeout(30, TimeUnit.SECONDS)
+                            .writeTimeout(30, TimeUnit.SECONDS);
+
+                    HttpCacheInterceptor cacheInterceptor = null;
+                    if (appContext != null) {
+                        cacheInterceptor = new HttpCacheInterceptor(ConnectivityHub.getInstance(appContext));
+                        builder.cache(new Cache(
+                                        new File(appContext.getCacheDir(), HTTP_CACHE_DIR),
+                                        HTTP_CACHE_SIZE_BYTES))
+                                .addInterceptor(cacheInterceptor)
+                                .addNetworkInterceptor(new CacheHeaderInterceptor());
+                    }
+
+                    OkHttpClient okHttpClient = builder
                             .addInterceptor(logging)
                             .build();
 
-                    retrofit = new Retrofit.Builder()
-                            .baseUrl(BASE_URL)
-                            .client(okHttpClient)
-                            .addConverterFactory(GsonConverterFactory.create())
-                            .addCallAdapterFactory(RxJava3CallAdapterFactory.create())
-                            .build();
+                    if (cacheInterceptor != null) {
+                        cacheInterceptor.setClient(okHttpClient);
+                    }
+
+                    retrofit = create(BASE_URL, okHttpClient);
                 }
             }
         }
         return retrofit;
     }
+
+    /**
+     * A Retrofit instance with the app's converters and call adapter, pointed at
+     * {@code baseUrl}. Lets tests talk to a local stand-in for TheMealDB.
+     */
+    public static Retrofit create(String baseUrl, OkHttpClient client) {
+        return new Retrofit.Builder()
+                .baseUrl(baseUrl)
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create(createGson()))
+                .addCallAdapterFactory(RxJava3CallAdapterFactory.create())
+                .build();
+    }
+
+    private static Gson createGson() {
+        return new GsonBuilder()
+                .registerTypeAdapter(MealResponseDto.class, new MealResponseTypeAdapter())
+                .create();
+    }
+
     public static MealApiService getMealApiService() {
         if (mealApiService == null) {
             synchronized (RetrofitClient.class) {
@@ -0,0 +1,120 @@
+package com.example.recipe_android_project.core.helper;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.subjects.BehaviorSubject;
+
+/**
+ * Process-wide view of connectivity. Registers a single default-network
+ * callback and keeps the last known state in memory, so checking for a
+ * connection is a field read instead of a ConnectivityManager round trip.
+ */
+public class ConnectivityHub {
+
+    private static final int NETWORK_LOST_DELAY_MS = 300;
+
+    private static volatile ConnectivityHub instance;
+
+    private final ConnectivityManager connectivityManager;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final AtomicBoolean available = new AtomicBoolean(false);
+    private final BehaviorSubject<Boolean> stateSubject;
+    private final Runnable lostRunnable = () -> publish(false);
+
+    private ConnectivityHub(Context context) {
+        this.connectivityManager = (ConnectivityManager)
+                context.getApplicationContext().getSystemService(Context.CONNECTIVITY_SERVICE);
+
+        available.set(queryCurrentState());
+        stateSubject = BehaviorSubject.createDefault(available.get());
+        registerCallback();
+    }
+
+    public static ConnectivityHub getInstance(Context context) {
+        if (instance == null) {
+            synchronized (ConnectivityHub.class) {
+                if (instance == null) {
+                    instance = new ConnectivityHub(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isNetworkAvailable() {
+        return available.get();
+    }
+
+    /**
+     * Emits the current state on subscription and then every change. Values are
+     * delivered on the main thread.
+     */
+    public Observable<Boolean> observeNetworkState() {
+        return stateSubject.distinctUntilChanged();
+    }
+
+    private void registerCallback() {
+        if (connectivityManager == null) return;
+
+        try {
+            connectivityManager.registerDefaultNetworkCallback(
+                    new ConnectivityManager.NetworkCallback() {
+                        @Override
+                        public void onCapabilitiesChanged(@NonNull Network network,
+                                                          @NonNull NetworkCapabilities caps) {
+                            if (isValidated(caps)) {
+                                mainHandler.removeCallbacks(lostRunnable);
+                                mainHandler.post(() -> publish(true));
+                            } else {
+                                scheduleLost();
+                            }
+                        }
+
+                        @Override
+                        public void onLost(@NonNull Network network) {
+                            scheduleLost();
+                        }
+                    });
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    // Switching between networks reports a loss right before the new default
+    // arrives, so only publish "offline" if nothing replaces it shortly after.
+    private void scheduleLost() {
+        mainHandler.removeCallbacks(lostRunnable);
+        mainHandler.postDelayed(lostRunnable, NETWORK_LOST_DELAY_MS);
+    }
+
+    private void publish(boolean isAvailable) {
+        if (available.getAndSet(isAvailable) != isAvailable) {
+            stateSubject.onNext(isAvailable);
+        }
+    }
+
+    private boolean queryCurrentState() {
+        if (connectivityManager == null) return false;
+
+        Network network = connectivityManager.getActiveNetwork();
+        if (network == null) return false;
+
+        NetworkCapabilities caps = connectivityManager.getNetworkCapabilities(network);
+        return caps != null && isValidated(caps);
+    }
+
+    private static boolean isValidated(NetworkCapabilities caps) {
+        return caps.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
+                && caps.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED);
+    }
+}
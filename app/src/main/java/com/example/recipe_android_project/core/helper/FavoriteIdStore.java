@@ -0,0 +1,176 @@
+package com.example.recipe_android_project.core.helper;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealDao;
+import com.example.recipe_android_project.features.home.model.Meal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.BehaviorSubject;
+
+/**
+ * In-memory set of the signed-in user's favourite meal ids. It is kept current
+ * by a {@code SELECT meal_id} observation on favorite_meals and patched in
+ * place when the user toggles a favourite, so favourite checks never query
+ * Room or load full favourite rows.
+ *
+ * <p>TheMealDB ids are numeric, so they are held as {@code Long}s.
+ */
+public class FavoriteIdStore {
+
+    private static final String TAG = "FavoriteIdStore";
+
+    private static volatile FavoriteIdStore instance;
+
+    private final MealDao mealDao;
+
+    private volatile Set<Long> ids = ConcurrentHashMap.newKeySet();
+    private String boundUserId;
+    private Disposable observation;
+    private BehaviorSubject<Boolean> loaded = BehaviorSubject.createDefault(false);
+
+    private FavoriteIdStore(Context context) {
+        this.mealDao = DbManager.getInstance(context).favoriteMealDao();
+    }
+
+    public static FavoriteIdStore getInstance(Context context) {
+        if (instance == null) {
+            synchronized (FavoriteIdStore.class) {
+                if (instance == null) {
+                    instance = new FavoriteIdStore(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Completes once the ids of {@code userId} are in memory. Only the first
+     * call for a user waits on Room; later calls complete immediately.
+     */
+    public Completable awaitLoaded(String userId) {
+        return Completable.defer(() -> bind(userId)
+                .filter(Boolean::booleanValue)
+                .firstOrError()
+                .ignoreElement());
+    }
+
+    public boolean isFavorite(String mealId) {
+        long key = toKey(mealId);
+        return key >= 0 && ids.contains(key);
+    }
+
+    public boolean isFavorite(long mealId) {
+        return ids.contains(mealId);
+    }
+
+    public Single<Boolean> isFavorite(String userId, String mealId) {
+        return awaitLoaded(userId).andThen(Single.fromCallable(() -> isFavorite(mealId)));
+    }
+
+    /**
+     * Sets {@link Meal#isFavorite()} on every meal from the in-memory set.
+     */
+    public Single<List<Meal>> applyFavoriteStatus(String userId, List<Meal> meals) {
+        return awaitLoaded(userId).andThen(Single.fromCallable(() -> {
+            for (Meal meal : meals) {
+                meal.setFavorite(isFavorite(meal.getId()));
+            }
+            return meals;
+        }));
+    }
+
+    public Single<Set<Long>> getFavoriteIds(String userId) {
+        return awaitLoaded(userId)
+                .andThen(Single.fromCallable(() -> Collections.unmodifiableSet(ids)));
+    }
+
+    /**
+     * Applies a local toggle right away, ahead of the Room observation.
+     */
+    public void setFavorite(String mealId, boolean favorite) {
+        long key = toKey(mealId);
+        if (key < 0) return;
+        if (favorite) {
+            ids.add(key);
+        } else {
+            ids.remove(key);
+        }
+    }
+
+    /**
+     * Forgets the bound user. Callers still waiting in {@link #awaitLoaded}
+     * are released against the now empty set rather than left on a subject
+     * that will never load.
+     */
+    public synchronized void clear() {
+        if (observation != null) {
+            observation.dispose();
+            observation = null;
+        }
+        boundUserId = null;
+        ids = ConcurrentHashMap.newKeySet();
+        BehaviorSubject<Boolean> previous = loaded;
+        loaded = BehaviorSubject.createDefault(false);
+        previous.onNext(true);
+        previous.onComplete();
+    }
+
+    private synchronized BehaviorSubject<Boolean> bind(String userId) {
+        if (userId == null || userId.isEmpty()) {
+            clear();
+            // Nobody signed in: nothing is a favourite, and there is nothing to wait for.
+            return BehaviorSubject.createDefault(true);
+        }
+        if (userId.equals(boundUserId) && observation != null && !observation.isDisposed()) {
+            return loaded;
+        }
+
+        clear();
+        boundUserId = userId;
+        loaded = BehaviorSubject.createDefault(false);
+        BehaviorSubject<Boolean> subject = loaded;
+        observation = mealDao.observeFavoriteIds(userId)
+                .subscribeOn(Schedulers.io())
+                .subscribe(
+                        mealIds -> {
+                            ids = toKeys(mealIds);
+                            subject.onNext(true);
+                        },
+                        error -> {
+                            Log.e(TAG, "Favourite id observation failed: " + error.getMessage());
+                            subject.onNext(true);
+                        });
+        return subject;
+    }
+
+    private static Set<Long> toKeys(List<String> mealIds) {
+        Set<Long> keys = ConcurrentHashMap.newKeySet(Math.max(16, mealIds.size() * 2));
+        for (String mealId : mealIds) {
+            long key = toKey(mealId);
+            if (key >= 0) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static long toKey(String mealId) {
+        if (mealId == null || mealId.isEmpty()) return -1;
+        try {
+            return Long.parseLong(mealId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
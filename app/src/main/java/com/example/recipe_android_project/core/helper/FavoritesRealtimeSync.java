@@ -0,0 +1,139 @@
+package com.example.recipe_android_project.core.helper;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.os.Bundle;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.recipe_android_project.features.favourites.data.repository.FavouritesRepository;
+
+import io.reactivex.rxjava3.disposables.Disposable;
+
+/**
+ * Opt-in live mirroring of the signed-in user's Firestore favourites into Room.
+ * The snapshot listener only runs while the app has a started activity; it is
+ * dropped when the app goes to the background and re-attached on return, where
+ * Firestore's resume token keeps the catch-up read to the changed documents.
+ */
+public class FavoritesRealtimeSync implements Application.ActivityLifecycleCallbacks {
+
+    private static final String TAG = "FavoritesRealtimeSync";
+    private static final String KEY_ENABLED = "favorites_realtime_enabled";
+
+    private static volatile FavoritesRealtimeSync instance;
+
+    private final Context context;
+    private final SharedPreferencesManager prefsManager;
+    private final UserSessionManager sessionManager;
+    private FavouritesRepository favouritesRepository;
+    private Disposable listenerDisposable;
+    private int startedActivities = 0;
+
+    private FavoritesRealtimeSync(Context context) {
+        this.context = context.getApplicationContext();
+        this.prefsManager = SharedPreferencesManager.getInstance(this.context);
+        this.sessionManager = UserSessionManager.getInstance(this.context);
+    }
+
+    public static FavoritesRealtimeSync getInstance(Context context) {
+        if (instance == null) {
+            synchronized (FavoritesRealtimeSync.class) {
+                if (instance == null) {
+                    instance = new FavoritesRealtimeSync(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    private FavouritesRepository getFavouritesRepository() {
+        if (favouritesRepository == null) {
+            favouritesRepository = new FavouritesRepository(context);
+        }
+        return favouritesRepository;
+    }
+
+    public boolean isEnabled() {
+        return prefsManager.getBoolean(KEY_ENABLED, false);
+    }
+
+    public void setEnabled(boolean enabled) {
+        prefsManager.putBoolean(KEY_ENABLED, enabled);
+        if (enabled) {
+            startIfNeeded();
+        } else {
+            stop();
+        }
+    }
+
+    /**
+     * Re-attaches the listener for the current session, e.g. after sign-in or
+     * sign-out changed which Firestore user it should follow.
+     */
+    public void onSessionChanged() {
+        stop();
+        startIfNeeded();
+    }
+
+    private synchronized void startIfNeeded() {
+        if (!isEnabled() || startedActivities == 0 || !sessionManager.hasValidSession()) {
+            return;
+        }
+        if (listenerDisposable != null && !listenerDisposable.isDisposed()) {
+            return;
+        }
+
+        listenerDisposable = getFavouritesRepository().observeRemoteFavoriteChanges()
+                .subscribe(
+                        () -> Log.d(TAG, "Favorites listener finished"),
+                        error -> Log.e(TAG, "Favorites listener error: " + error.getMessage())
+                );
+    }
+
+    public synchronized void stop() {
+        if (listenerDisposable != null) {
+            listenerDisposable.dispose();
+            listenerDisposable = null;
+        }
+    }
+
+    @Override
+    public void onActivityStarted(@NonNull Activity activity) {
+        startedActivities++;
+        if (startedActivities == 1) {
+            startIfNeeded();
+        }
+    }
+
+    @Override
+    public void onActivityStopped(@NonNull Activity activity) {
+        startedActivities = Math.max(0, startedActivities - 1);
+        if (startedActivities == 0) {
+            stop();
+        }
+    }
+
+    @Override
+    public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+    }
+
+    @Override
+    public void onActivityResumed(@NonNull Activity activity) {
+    }
+
+    @Override
+    public void onActivityPaused(@NonNull Activity activity) {
+    }
+
+    @Override
+    public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+    }
+
+    @Override
+    public void onActivityDestroyed(@NonNull Activity activity) {
+    }
+}
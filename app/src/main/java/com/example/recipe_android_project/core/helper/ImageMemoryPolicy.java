@@ -0,0 +1,116 @@
+package com.example.recipe_android_project.core.helper;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.MemoryCategory;
+
+/**
+ * Shrinks Glide's memory budget while the system is short on memory and gives
+ * it back once the pressure has passed. Glide trims its own caches on the same
+ * callbacks; this only moves the category.
+ *
+ * <p>The budget is never raised while the app is in the background, where it is
+ * most at risk of being killed. It is restored when no running-memory trim has
+ * arrived for {@link #RESTORE_DELAY_MS} while in the foreground, or on the next
+ * return to the foreground.
+ */
+public class ImageMemoryPolicy implements Application.ActivityLifecycleCallbacks {
+
+    private static final long RESTORE_DELAY_MS = 60_000;
+
+    private static volatile ImageMemoryPolicy instance;
+
+    private final Context context;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable restoreRunnable = this::restoreIfForeground;
+    private int startedActivities = 0;
+    private boolean reduced = false;
+
+    private ImageMemoryPolicy(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    public static ImageMemoryPolicy getInstance(Context context) {
+        if (instance == null) {
+            synchronized (ImageMemoryPolicy.class) {
+                if (instance == null) {
+                    instance = new ImageMemoryPolicy(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Forwarded from {@link Application#onTrimMemory(int)}.
+     */
+    public void onTrimMemory(int level) {
+        if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            reduce();
+            Glide.get(context).clearMemory();
+        } else if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE) {
+            reduce();
+        }
+    }
+
+    private void reduce() {
+        Glide.get(context).setMemoryCategory(MemoryCategory.LOW);
+        reduced = true;
+        // Trims keep arriving while the pressure lasts; restore once they stop.
+        mainHandler.removeCallbacks(restoreRunnable);
+        mainHandler.postDelayed(restoreRunnable, RESTORE_DELAY_MS);
+    }
+
+    private void restoreIfForeground() {
+        if (!reduced || startedActivities == 0) {
+            return;
+        }
+        Glide.get(context).setMemoryCategory(MemoryCategory.NORMAL);
+        reduced = false;
+    }
+
+    @Override
+    public void onActivityStarted(@NonNull Activity activity) {
+        startedActivities++;
+        if (startedActivities == 1) {
+            mainHandler.removeCallbacks(restoreRunnable);
+            restoreIfForeground();
+        }
+    }
+
+    @Override
+    public void onActivityStopped(@NonNull Activity activity) {
+        startedActivities = Math.max(0, startedActivities - 1);
+    }
+
+    @Override
+    public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+    }
+
+    @Override
+    public void onActivityResumed(@NonNull Activity activity) {
+    }
+
+    @Override
+    public void onActivityPaused(@NonNull Activity activity) {
+    }
+
+    @Override
+    public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+    }
+
+    @Override
+    public void onActivityDestroyed(@NonNull Activity activity) {
+    }
+}
@@ -0,0 +1,300 @@
+package com.example.recipe_android_project.core.helper;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.bumptech.glide.Glide;
+import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.core.utils.ImageUrlPolicy;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealCatalogDao;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealDao;
+import com.example.recipe_android_project.features.home.data.entities.MealIngredientsTuple;
+import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
+import com.example.recipe_android_project.features.home.model.Ingredient;
+import com.example.recipe_android_project.features.home.model.Meal;
+import com.example.recipe_android_project.features.plan.data.datasource.local.MealPlanDao;
+import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+
+/**
+ * Keeps the images of favourite meals and of today's and upcoming meal plans
+ * on disk under {@code files/pinned_images}, outside Glide's LRU disk cache, so
+ * those screens render offline and without a network round trip.
+ *
+ * <p>Each meal pins its full hero image, the favourites-list thumbnail variant
+ * and its ingredient icons at the sizes the screens request them. Files are
+ * named by a hash of their URL; {@link #resolve(String)} hands Glide the local
+ * file instead of the URL once it exists.
+ *
+ * <p>Nothing tracks which meal owns which file. {@link #reconcile()} recomputes
+ * the wanted URLs from Room, deletes everything else and fetches what is
+ * missing, which covers unfavouriting, removed plans and plans whose date has
+ * passed alike. It runs on start-up, when a session starts and after the
+ * favourites and plans are pulled on login. Sign-out keeps the files, as Room
+ * keeps the rows they belong to. All work runs on one background thread so a
+ * reconcile never races a download.
+ */
+public class ImagePinStore {
+
+    private static final String TAG = "ImagePinStore";
+    private static final String DIR_NAME = "pinned_images";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int DOWNLOAD_TIMEOUT_SECONDS = 30;
+
+    private static volatile ImagePinStore instance;
+
+    private final Context appContext;
+    private final File pinDir;
+    private final MealDao mealDao;
+    private final MealPlanDao mealPlanDao;
+    private final MealCatalogDao catalogDao;
+    private final UserSessionManager sessionManager;
+    private final ConnectivityHub connectivityHub;
+    private final Scheduler pinScheduler;
+    private final int heroThumbPx;
+    private final int ingredientThumbPx;
+
+    private final Set<String> pinnedNames = ConcurrentHashMap.newKeySet();
+
+    private ImagePinStore(Context context) {
+        this.appContext = context.getApplicationContext();
+        this.pinDir = new File(appContext.getFilesDir(), DIR_NAME);
+        DbManager db = DbManager.getInstance(appContext);
+        this.mealDao = db.favoriteMealDao();
+        this.mealPlanDao = db.mealPlanDao();
+        this.catalogDao = db.mealCatalogDao();
+        this.sessionManager = UserSessionManager.getInstance(appContext);
+        this.connectivityHub = ConnectivityHub.getInstance(appContext);
+        this.pinScheduler = Schedulers.from(Executors.newSingleThreadExecutor());
+        this.heroThumbPx = appContext.getResources().getDimensionPixelSize(R.dimen.meal_thumb_size);
+        this.ingredientThumbPx =
+                appContext.getResources().getDimensionPixelSize(R.dimen.ingredient_thumb_size);
+
+        run(this::loadPinnedNames, "Loading pinned images failed");
+    }
+
+    public static ImagePinStore getInstance(Context context) {
+        if (instance == null) {
+            synchronized (ImagePinStore.class) {
+                if (instance == null) {
+                    instance = new ImagePinStore(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the pinned file for {@code url} when there is one, otherwise the
+     * url itself. Either is a valid Glide model.
+     */
+    public Object resolve(String url) {
+        if (url == null || url.isEmpty()) return url;
+        String name = fileName(url);
+        return pinnedNames.contains(name) ? new File(pinDir, name) : url;
+    }
+
+    /**
+     * Downloads the images of a meal that was just favourited or planned.
+     */
+    public void pin(Meal meal) {
+        if (meal == null) return;
+        run(() -> {
+            Set<String> urls = new LinkedHashSet<>();
+            addMealUrls(urls, meal.getThumbnailUrl());
+            if (meal.getIngredients() != null && !meal.getIngredients().isEmpty()) {
+                for (Ingredient ingredient : meal.getIngredients()) {
+                    addIngredientUrl(urls, ingredient.getName());
+                }
+            } else if (meal.getId() != null) {
+                // List rows carry no ingredients; use the catalog copy if it has one.
+                addCatalogIngredientUrls(urls, Collections.singletonList(meal.getId()));
+            }
+            download(urls);
+        }, "Pinning meal " + meal.getId() + " failed");
+    }
+
+    /**
+     * Drops pinned images nothing refers to anymore and fetches the ones that
+     * are missing. Call after a favourite or plan is removed, on start-up and
+     * once a session starts or its data is pulled. Does nothing while signed
+     * out, so the files survive until the next user's reconcile.
+     */
+    public void reconcile() {
+        run(() -> {
+            String userId = sessionManager.getCurrentUserIdOrNull();
+            if (userId == null) return;
+
+            Set<String> wanted = collectWantedUrls(userId);
+            Set<String> wantedNames = new LinkedHashSet<>();
+            for (String url : wanted) {
+                wantedNames.add(fileName(url));
+            }
+            release(wantedNames);
+            download(wanted);
+        }, "Reconciling pinned images failed");
+    }
+
+    private Set<String> collectWantedUrls(String userId) {
+        Set<String> urls = new LinkedHashSet<>();
+        for (String thumbnail : mealDao.findFavoriteThumbnails(userId)) {
+            addMealUrls(urls, thumbnail);
+        }
+        for (String name : mealDao.findFavoriteIngredientNames(userId)) {
+            addIngredientUrl(urls, name);
+        }
+
+        List<String> mealIds = new ArrayList<>(mealDao.findFavoriteIdList(userId));
+        for (MealPlanEntity plan : mealPlanDao.findUpcomingMealPlans(userId, today())) {
+            addMealUrls(urls, plan.getMealThumbnail());
+            mealIds.add(plan.getMealId());
+        }
+        if (mealIds.isEmpty()) return urls;
+
+        // Plans, and favourites saved from list rows, carry no ingredients;
+        // the catalog copy fills them in.
+        addCatalogIngredientUrls(urls, mealIds);
+        return urls;
+    }
+
+    private void addCatalogIngredientUrls(Set<String> urls, List<String> mealIds) {
+        for (MealIngredientsTuple row : catalogDao.findMealIngredients(mealIds)) {
+            for (String name : MealMapper.ingredientNamesFromJson(row.getIngredientsJson())) {
+                addIngredientUrl(urls, name);
+            }
+        }
+    }
+
+    private void addMealUrls(Set<String> urls, String thumbnailUrl) {
+        if (thumbnailUrl == null || thumbnailUrl.isEmpty()) return;
+        urls.add(thumbnailUrl);
+        urls.add(ImageUrlPolicy.mealThumbnail(thumbnailUrl, heroThumbPx));
+    }
+
+    private void addIngredientUrl(Set<String> urls, String name) {
+        String url = ImageUrlPolicy.ingredientImage(name, ingredientThumbPx);
+        if (!url.isEmpty()) {
+            urls.add(url);
+        }
+    }
+
+    private void download(Set<String> urls) {
+        if (urls.isEmpty() || !connectivityHub.isNetworkAvailable()) return;
+        if (!pinDir.exists() && !pinDir.mkdirs()) {
+            Log.e(TAG, "Cannot create " + pinDir);
+            return;
+        }
+
+        for (String url : urls) {
+            String name = fileName(url);
+            if (pinnedNames.contains(name)) continue;
+            try {
+                // Goes through Glide so an image that is already in its disk
+                // cache is copied rather than fetched again.
+                File source = Glide.with(appContext)
+                        .asFile()
+                        .load(url)
+                        .submit()
+                        .get(DOWNLOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                File temp = new File(pinDir, name + TEMP_SUFFIX);
+                copy(source, temp);
+                if (temp.renameTo(new File(pinDir, name))) {
+                    pinnedNames.add(name);
+                } else {
+                    temp.delete();
+                }
+            } catch (Exception e) {
+                Log.w(TAG, "Could not pin " + url + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void release(Set<String> wantedNames) {
+        File[] files = pinDir.listFiles();
+        if (files == null) return;
+        for (File file : files) {
+            String name = file.getName();
+            if (!wantedNames.contains(name) && file.delete()) {
+                pinnedNames.remove(name);
+            }
+        }
+    }
+
+    private void loadPinnedNames() {
+        File[] files = pinDir.listFiles();
+        if (files == null) return;
+        for (File file : files) {
+            if (file.getName().endsWith(TEMP_SUFFIX)) {
+                // Left behind by a download that was interrupted.
+                file.delete();
+            } else {
+                pinnedNames.add(file.getName());
+            }
+        }
+    }
+
+    private void run(Runnable work, String errorMessage) {
+        Completable.fromAction(work::run)
+                .subscribeOn(pinScheduler)
+                .subscribe(
+                        () -> { },
+                        error -> Log.e(TAG, errorMessage + ": " + error.getMessage()));
+    }
+
+    private static void copy(File source, File target) throws IOException {
+        try (InputStream in = new FileInputStream(source);
+             OutputStream out = new FileOutputStream(target)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private static String today() {
+        Calendar today = Calendar.getInstance();
+        return String.format(Locale.US, "%04d-%02d-%02d",
+                today.get(Calendar.YEAR),
+                today.get(Calendar.MONTH) + 1,
+                today.get(Calendar.DAY_OF_MONTH));
+    }
+
+    private static String fileName(String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1")
+                    .digest(url.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                name.append(String.format(Locale.US, "%02x", b));
+            }
+            return name.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(url.hashCode());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.recipe_android_project.core.helper;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.core.config.RetrofitClient;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealCatalogDao;
+import com.example.recipe_android_project.features.home.data.datasource.remote.MealApiService;
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogEntity;
+import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+
+/**
+ * Walks {@code search.php?f=a..z} in the background and upserts every meal into the
+ * {@code meal_catalog} table. Finished letters are persisted so an interrupted crawl
+ * resumes where it stopped; a full pass is repeated once it is older than a week.
+ */
+public class MealCatalogCrawler {
+
+    private static final String TAG = "MealCatalogCrawler";
+    private static final String KEY_DONE_LETTERS = "catalog_crawl_done_letters";
+    private static final String KEY_COMPLETED_AT = "catalog_crawl_completed_at";
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+    private static final int MAX_CONCURRENCY = 3;
+    private static final int LETTER_TIMEOUT_SECONDS = 30;
+    private static final long RECRAWL_INTERVAL_MS = TimeUnit.DAYS.toMillis(7);
+
+    private static volatile MealCatalogCrawler instance;
+
+    private final MealCatalogDao catalogDao;
+    private final MealApiService mealApiService;
+    private final SharedPreferencesManager prefsManager;
+    private volatile Disposable crawlDisposable;
+
+    private MealCatalogCrawler(Context context) {
+        Context appContext = context.getApplicationContext();
+        this.catalogDao = DbManager.getInstance(appContext).mealCatalogDao();
+        this.mealApiService = RetrofitClient.getMealApiService();
+        this.prefsManager = SharedPreferencesManager.getInstance(appContext);
+    }
+
+    public static MealCatalogCrawler getInstance(Context context) {
+        if (instance == null) {
+            synchronized (MealCatalogCrawler.class) {
+                if (instance == null) {
+                    instance = new MealCatalogCrawler(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+
+        long completedAt = prefsManager.getLong(KEY_COMPLETED_AT, 0L);
+        if (completedAt > 0 && System.currentTimeMillis() - completedAt < RECRAWL_INTERVAL_MS) {
+            return;
+        }
+        if (completedAt > 0) {
+            prefsManager.remove(KEY_DONE_LETTERS);
+            prefsManager.remove(KEY_COMPLETED_AT);
+        }
+
+        List<String> remaining = getRemainingLetters();
+        if (remaining.isEmpty()) {
+            prefsManager.putLong(KEY_COMPLETED_AT, System.currentTimeMillis());
+            return;
+        }
+
+        crawlDisposable = Flowable.fromIterable(remaining)
+                .flatMapCompletable(this::crawlLetter, true, MAX_CONCURRENCY)
+                .subscribeOn(Schedulers.io())
+                .subscribe(
+                        () -> {
+                            prefsManager.putLong(KEY_COMPLETED_AT, System.currentTimeMillis());
+                            Log.d(TAG, "Catalog crawl completed");
+                        },
+                        error -> Log.w(TAG, "Catalog crawl interrupted: " + error.getMessage())
+                );
+    }
+
+    public synchronized void stop() {
+        if (crawlDisposable != null && !crawlDisposable.isDisposed()) {
+            crawlDisposable.dispose();
+        }
+        crawlDisposable = null;
+    }
+
+    public boolean isRunning() {
+        return crawlDisposable != null && !crawlDisposable.isDisposed();
+    }
+
+    public boolean isCatalogComplete() {
+        return prefsManager.getLong(KEY_COMPLETED_AT, 0L) > 0;
+    }
+
+    public boolean isLetterCrawled(String letter) {
+        if (letter == null || letter.isEmpty()) return false;
+        return prefsManager.getString(KEY_DONE_LETTERS, "")
+                .contains(letter.substring(0, 1).toLowerCase());
+    }
+
+    private Completable crawlLetter(String letter) {
+        return mealApiService.getMealsByFirstLetter(letter)
+                .timeout(LETTER_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .flatMapCompletable(response -> {
+                    List<MealCatalogEntity> entities =
+                            MealMapper.toCatalogEntityList(response.getMeals());
+                    if (entities.isEmpty()) {
+                        return Completable.complete();
+                    }
+                    return catalogDao.upsertAll(entities);
+                })
+                .doOnComplete(() -> markLetterDone(letter));
+    }
+
+    private List<String> getRemainingLetters() {
+        String done = prefsManager.getString(KEY_DONE_LETTERS, "");
+        List<String> remaining = new ArrayList<>();
+        for (int i = 0; i < LETTERS.length(); i++) {
+            char letter = LETTERS.charAt(i);
+            if (done.indexOf(letter) < 0) {
+                remaining.add(String.valueOf(letter));
+            }
+        }
+        return remaining;
+    }
+
+    private synchronized void markLetterDone(String letter) {
+        String done = prefsManager.getString(KEY_DONE_LETTERS, "");
+        if (!done.contains(letter)) {
+            prefsManager.putString(KEY_DONE_LETTERS, done + letter);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.recipe_android_project.core.helper;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.example.recipe_android_project.core.utils.PasswordHasher;
+
+import io.reactivex.rxjava3.core.Completable;
+
+/**
+ * Picks the BCrypt cost for this device once and remembers it.
+ *
+ * <p>One hash is timed at {@link PasswordHasher#MIN_COST}; every extra cost
+ * step doubles the work, so the chosen cost is the highest one whose
+ * projected time stays within {@link #LATENCY_BUDGET_MS}, clamped to
+ * {@code [MIN_COST, MAX_COST]}. The measurement runs on the hashing thread,
+ * so a sign-up made meanwhile simply waits for it and then uses the result.
+ */
+public class PasswordCostCalibrator {
+
+    private static final String TAG = "PasswordCostCalibrator";
+    private static final String KEY_BCRYPT_COST = "bcrypt_calibrated_cost";
+    private static final long LATENCY_BUDGET_MS = 500;
+    private static final String PROBE_PASSWORD = "Calibration-Probe-1";
+
+    private static volatile PasswordCostCalibrator instance;
+
+    private final SharedPreferencesManager prefsManager;
+    private boolean started;
+
+    private PasswordCostCalibrator(Context context) {
+        this.prefsManager = SharedPreferencesManager.getInstance(context.getApplicationContext());
+    }
+
+    public static PasswordCostCalibrator getInstance(Context context) {
+        if (instance == null) {
+            synchronized (PasswordCostCalibrator.class) {
+                if (instance == null) {
+                    instance = new PasswordCostCalibrator(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        int storedCost = prefsManager.getInt(KEY_BCRYPT_COST, 0);
+        if (storedCost > 0) {
+            PasswordHasher.setCost(storedCost);
+            return;
+        }
+
+        Completable.fromAction(this::calibrate)
+                .subscribeOn(PasswordHashExecutor.scheduler())
+                .subscribe(
+                        () -> Log.d(TAG, "BCrypt cost calibrated to " + PasswordHasher.getCost()),
+                        error -> Log.w(TAG, "BCrypt calibration failed: " + error.getMessage())
+                );
+    }
+
+    private void calibrate() {
+        // The first hash pays for class loading and JIT; time the second.
+        PasswordHasher.hashPassword(PROBE_PASSWORD, PasswordHasher.MIN_COST);
+
+        long startedAt = SystemClock.elapsedRealtime();
+        PasswordHasher.hashPassword(PROBE_PASSWORD, PasswordHasher.MIN_COST);
+        long baseMs = Math.max(1, SystemClock.elapsedRealtime() - startedAt);
+
+        int cost = PasswordHasher.MIN_COST;
+        long projectedMs = baseMs;
+        while (cost < PasswordHasher.MAX_COST && projectedMs * 2 <= LATENCY_BUDGET_MS) {
+            cost++;
+            projectedMs *= 2;
+        }
+
+        PasswordHasher.setCost(cost);
+        prefsManager.putInt(KEY_BCRYPT_COST, PasswordHasher.getCost());
+    }
+}
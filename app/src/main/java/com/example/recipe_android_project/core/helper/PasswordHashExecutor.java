@@ -0,0 +1,60 @@
+package com.example.recipe_android_project.core.helper;
+
+import com.example.recipe_android_project.core.utils.PasswordHasher;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+
+/**
+ * Runs BCrypt work on one dedicated thread instead of {@code Schedulers.io()},
+ * so a slow hash never holds up network or database threads and concurrent
+ * hashes cannot multiply CPU load. Results are handed back on
+ * {@code Schedulers.io()} for the Room calls that usually follow.
+ *
+ * <p>The queue is bounded; should it ever fill up, the hash runs on the
+ * calling thread rather than being dropped.
+ */
+public final class PasswordHashExecutor {
+
+    private static final int MAX_QUEUED = 16;
+    private static final String THREAD_NAME = "bcrypt";
+
+    private static final Scheduler scheduler = Schedulers.from(createExecutor());
+
+    private PasswordHashExecutor() {
+    }
+
+    public static Scheduler scheduler() {
+        return scheduler;
+    }
+
+    public static Single<String> hash(String plainPassword) {
+        return Single.fromCallable(() -> PasswordHasher.hashPassword(plainPassword))
+                .subscribeOn(scheduler)
+                .observeOn(Schedulers.io());
+    }
+
+    public static Single<Boolean> verify(String plainPassword, String hashedPassword) {
+        return Single.fromCallable(() -> PasswordHasher.verifyPassword(plainPassword, hashedPassword))
+                .subscribeOn(scheduler)
+                .observeOn(Schedulers.io());
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        return new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(MAX_QUEUED),
+                runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -2,52 +2,77 @@ package com.example.recipe_android_project.core.helper;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.net.ConnectivityManager;
-import android.net.Network;
-import android.net.NetworkCapabilities;
-import android.net.NetworkRequest;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
 
-import androidx.annotation.NonNull;
-
+import com.example.recipe_android_project.core.utils.RetryWithBackoff;
 import com.example.recipe_android_project.features.auth.data.repository.AuthRepository;
+import com.example.recipe_android_project.features.favourites.data.repository.FavouritesRepository;
+import com.example.recipe_android_project.features.plan.data.repository.MealPlanRepository;
 import com.example.recipe_android_project.features.profile.data.repository.ProfileRepository;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.disposables.CompositeDisposable;
 import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.functions.Supplier;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 
 public class SyncManager {
 
     private static final String TAG = "SyncManager";
     private static final int SYNC_DELAY_MS = 3000;
-    private static final int MAX_RETRY_ATTEMPTS = 3;
+    private static final int LOCAL_CHANGES_FLUSH_DELAY_MS = 2000;
+    private static final int MAX_ROUND_RETRIES = 5;
+    private static final long ROUND_RETRY_BASE_DELAY_MS = 5000;
+    private static final long ROUND_RETRY_MAX_DELAY_MS = 120_000;
+    private static final int PHASE_MAX_RETRIES = 2;
+    private static final long PHASE_RETRY_BASE_DELAY_MS = 1000;
+    private static final long PHASE_RETRY_MAX_DELAY_MS = 10_000;
+
+    private static final String PHASE_REGISTRATIONS = "registrations";
+    private static final String PHASE_PASSWORD_CHANGES = "password_changes";
+    private static final String PHASE_USER_UPDATES = "user_updates";
+    private static final String PHASE_FAVORITES = "favorites";
+    private static final String PHASE_MEAL_PLANS = "meal_plans";
 
     private static volatile SyncManager instance;
 
     private AuthRepository authRepository;
     private ProfileRepository profileRepository;
+    private FavouritesRepository favouritesRepository;
+    private MealPlanRepository mealPlanRepository;
     private final CompositeDisposable compositeDisposable;
     private final Context context;
-    private final ConnectivityManager connectivityManager;
+    private final ConnectivityHub connectivityHub;
     private final Handler mainHandler;
 
-    private ConnectivityManager.NetworkCallback networkCallback;
+    private Disposable networkDisposable;
     private volatile boolean isSyncing = false;
-    private volatile boolean isCallbackRegistered = false;
-    private int retryCount = 0;
+    private int roundRetryCount = 0;
+    private final Set<String> completedPhases = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, SyncPhaseStats> phaseStats = new ConcurrentHashMap<>();
     private Runnable pendingSyncRunnable;
+    private final Runnable localChangesFlushRunnable = this::flushLocalChanges;
+    private volatile boolean isFlushingLocalChanges = false;
+    private volatile boolean localChangesFlushPending = false;
 
     private SyncManager(Context context) {
 
         this.context = context.getApplicationContext();
         this.compositeDisposable = new CompositeDisposable();
-        this.connectivityManager = (ConnectivityManager)
-                context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        this.connectivityHub = ConnectivityHub.getInstance(context);
         this.mainHandler = new Handler(Looper.getMainLooper());
 
     }
@@ -83,6 +108,26 @@ public class SyncManager {
         }
         return profileRepository;
     }
+    private FavouritesRepository getFavouritesRepository() {
+        if (favouritesRepository == null) {
+            synchronized (this) {
+                if (favouritesRepository == null) {
+                    favouritesRepository = new FavouritesRepository(context);
+                }
+            }
+        }
+        return favouritesRepository;
+    }
+    private MealPlanRepository getMealPlanRepository() {
+        if (mealPlanRepository == null) {
+            synchronized (this) {
+                if (mealPlanRepository == null) {
+                    mealPlanRepository = new MealPlanRepository(context);
+                }
+            }
+        }
+        return mealPlanRepository;
+    }
 
     public void startListening() {
         registerNetworkCallback();
@@ -94,63 +139,30 @@ public class SyncManager {
 
     private void registerNetworkCallback() {
 
-        if (isCallbackRegistered) {
+        if (networkDisposable != null && !networkDisposable.isDisposed()) {
             return;
         }
 
-        if (connectivityManager == null) {
-            return;
-        }
-
-        networkCallback = new ConnectivityManager.NetworkCallback() {
-            @Override
-            public void onAvailable(@NonNull Network network) {
-
-                scheduleSyncWithDelay();
-            }
-
-            @Override
-            public void onLost(@NonNull Network network) {
-
-                isSyncing = false;
-                cancelPendingSync();
-            }
-
-            @Override
-            public void onCapabilitiesChanged(@NonNull Network network,
-                                              @NonNull NetworkCapabilities caps) {
-                boolean hasInternet = caps.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET);
-                boolean validated = caps.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED);
-
-                if (hasInternet && validated && !isSyncing) {
-                    scheduleSyncWithDelay();
-                }
-            }
-        };
-
-        try {
-            NetworkRequest request = new NetworkRequest.Builder()
-                    .addCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
-                    .build();
-
-            connectivityManager.registerNetworkCallback(request, networkCallback);
-            isCallbackRegistered = true;
-
-        } catch (Exception e) {
-            e.printStackTrace();
-            isCallbackRegistered = false;
-        }
+        // The hub replays the current state first; startListening() already
+        // handles that case, so only react to transitions.
+        networkDisposable = connectivityHub.observeNetworkState()
+                .skip(1)
+                .subscribe(isAvailable -> {
+                    if (isAvailable) {
+                        roundRetryCount = 0;
+                        scheduleSyncWithDelay();
+                    } else {
+                        isSyncing = false;
+                        cancelPendingSync();
+                    }
+                });
     }
 
     private void unregisterNetworkCallback() {
-        if (networkCallback != null && connectivityManager != null && isCallbackRegistered) {
-            try {
-                connectivityManager.unregisterNetworkCallback(networkCallback);
-            } catch (Exception e) {
-            }
+        if (networkDisposable != null) {
+            networkDisposable.dispose();
+            networkDisposable = null;
         }
-        networkCallback = null;
-        isCallbackRegistered = false;
     }
 
     private void scheduleSyncWithDelay() {
@@ -168,20 +180,19 @@ public class SyncManager {
     }
 
     private boolean isNetworkReallyAvailable() {
-        if (connectivityManager == null) return false;
-
-        Network network = connectivityManager.getActiveNetwork();
-        if (network == null) return false;
-
-        NetworkCapabilities caps = connectivityManager.getNetworkCapabilities(network);
-        if (caps == null) return false;
-
-        boolean result = caps.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET) &&
-                caps.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED);
-
-        return result;
+        return connectivityHub.isNetworkAvailable();
     }
 
+    /**
+     * Runs one sync round. Registrations go first so a user created offline has
+     * a Firebase account before their other changes are pushed; the remaining
+     * phases are independent and run concurrently. A registration that keeps
+     * failing only holds back that user's own changes, which stay pending, so
+     * the other phases still run and the round reports every failure at the
+     * end. A phase is only done once its pending count is back to zero; phases
+     * that finished stay done for the round, so a retry after a failure resumes
+     * with whatever is still outstanding.
+     */
     @SuppressLint("CheckResult")
     public void syncAllPendingData() {
 
@@ -194,6 +205,8 @@ public class SyncManager {
             return;
         }
 
+        MealCatalogCrawler.getInstance(context).start();
+
         boolean loggedIn = false;
         try {
             loggedIn = getAuthRepository().isSessionLoggedIn();
@@ -208,61 +221,241 @@ public class SyncManager {
 
         isSyncing = true;
 
-        Disposable disposable = syncPendingRegistrations()
-                .doOnComplete(() -> Log.e(TAG, "✓ Registrations synced"))
-                .andThen(syncPendingPasswordChanges())
-                .doOnComplete(() -> Log.e(TAG, "✓ Passwords synced"))
-                .andThen(syncPendingUserUpdates())
-                .doOnComplete(() -> Log.e(TAG, "✓ User updates synced"))
+        Disposable disposable = Completable.concatArrayDelayError(
+                        runPhaseOnce(registrationsPhase()),
+                        Completable.mergeArrayDelayError(
+                                runPhaseOnce(passwordChangesPhase()),
+                                runPhaseOnce(userUpdatesPhase()),
+                                runPhaseOnce(favoritesPhase()),
+                                runPhaseOnce(mealPlansPhase())
+                        ))
                 .subscribeOn(Schedulers.io())
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(
                         () -> {
                             isSyncing = false;
+                            completedPhases.clear();
+                            roundRetryCount = 0;
                         },
                         error -> {
                             isSyncing = false;
-
-                            if (retryCount < MAX_RETRY_ATTEMPTS && isNetworkReallyAvailable()) {
-                                retryCount++;
-                                mainHandler.postDelayed(this::syncAllPendingData, 5000);
-                            }
+                            Log.e(TAG, "Sync round incomplete: " + error.getMessage());
+                            scheduleRoundRetry();
                         }
                 );
 
         compositeDisposable.add(disposable);
     }
 
+    private void scheduleRoundRetry() {
+        if (roundRetryCount >= MAX_ROUND_RETRIES || !isNetworkReallyAvailable()) {
+            return;
+        }
+        roundRetryCount++;
+        long delay = RetryWithBackoff.delayFor(roundRetryCount,
+                ROUND_RETRY_BASE_DELAY_MS, ROUND_RETRY_MAX_DELAY_MS, true);
+
+        cancelPendingSync();
+        pendingSyncRunnable = this::syncAllPendingData;
+        mainHandler.postDelayed(pendingSyncRunnable, delay);
+    }
+
+    /**
+     * Snapshot of the per-phase counters, keyed by phase name.
+     */
+    public Map<String, SyncPhaseStats> getPhaseStats() {
+        return Collections.unmodifiableMap(new HashMap<>(phaseStats));
+    }
+
     public void forceSyncNow() {
         isSyncing = false;
+        roundRetryCount = 0;
         cancelPendingSync();
         syncAllPendingData();
     }
 
-    private Completable syncPendingRegistrations() {
-        return Completable.defer(() -> {
-            if (!isNetworkReallyAvailable()) return Completable.complete();
-            return getAuthRepository().syncPendingRegistrations().onErrorComplete();
-        });
+    /**
+     * Called after every local favourite toggle. Flushes are debounced so a burst
+     * of toggles goes out as a single Firestore batch.
+     */
+    public void requestFavoritesSync() {
+        scheduleLocalChangesFlush();
+    }
+
+    /**
+     * Called after a meal plan is added or removed locally; shares the
+     * debounced flush with favourites.
+     */
+    public void requestMealPlansSync() {
+        scheduleLocalChangesFlush();
+    }
+
+    private void scheduleLocalChangesFlush() {
+        mainHandler.removeCallbacks(localChangesFlushRunnable);
+        mainHandler.postDelayed(localChangesFlushRunnable, LOCAL_CHANGES_FLUSH_DELAY_MS);
+    }
+
+    @SuppressLint("CheckResult")
+    private void flushLocalChanges() {
+        if (isFlushingLocalChanges) {
+            localChangesFlushPending = true;
+            return;
+        }
+
+        if (!isNetworkReallyAvailable()) {
+            return;
+        }
+
+        isFlushingLocalChanges = true;
+        localChangesFlushPending = false;
+
+        Disposable disposable = Completable.mergeArrayDelayError(
+                        runPhase(favoritesPhase()),
+                        runPhase(mealPlansPhase()))
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(
+                        this::onLocalChangesFlushFinished,
+                        error -> {
+                            Log.e(TAG, "Local changes flush failed: " + error.getMessage());
+                            onLocalChangesFlushFinished();
+                        }
+                );
+
+        compositeDisposable.add(disposable);
     }
 
-    private Completable syncPendingPasswordChanges() {
+    private void onLocalChangesFlushFinished() {
+        isFlushingLocalChanges = false;
+        if (localChangesFlushPending) {
+            scheduleLocalChangesFlush();
+        }
+    }
+
+    private SyncPhase registrationsPhase() {
+        AuthRepository repository = getAuthRepository();
+        return new SyncPhase(PHASE_REGISTRATIONS,
+                repository::syncPendingRegistrations,
+                repository::getPendingRegistrationCount);
+    }
+
+    private SyncPhase passwordChangesPhase() {
+        ProfileRepository repository = getProfileRepository();
+        return new SyncPhase(PHASE_PASSWORD_CHANGES,
+                repository::syncPendingPasswordChanges,
+                repository::getPendingPasswordChangeCount);
+    }
+
+    private SyncPhase userUpdatesPhase() {
+        ProfileRepository repository = getProfileRepository();
+        return new SyncPhase(PHASE_USER_UPDATES,
+                repository::syncAllPendingUserUpdates,
+                repository::getPendingUserUpdateCount);
+    }
+
+    private SyncPhase favoritesPhase() {
+        FavouritesRepository repository = getFavouritesRepository();
+        return new SyncPhase(PHASE_FAVORITES,
+                repository::syncPendingFavorites,
+                repository::getPendingChangeCount);
+    }
+
+    private SyncPhase mealPlansPhase() {
+        MealPlanRepository repository = getMealPlanRepository();
+        return new SyncPhase(PHASE_MEAL_PLANS,
+                repository::syncPendingMealPlans,
+                repository::getPendingMealPlanCount);
+    }
+
+    /**
+     * Runs a phase unless it already completed in the current round.
+     */
+    private Completable runPhaseOnce(SyncPhase phase) {
         return Completable.defer(() -> {
-            if (!isNetworkReallyAvailable()) return Completable.complete();
-            return getProfileRepository().syncPendingPasswordChanges().onErrorComplete();
+            if (completedPhases.contains(phase.name)) {
+                return Completable.complete();
+            }
+            return runPhase(phase)
+                    .doOnComplete(() -> completedPhases.add(phase.name));
         });
     }
 
-    private Completable syncPendingUserUpdates() {
+    /**
+     * Runs a phase with jittered exponential backoff and records its stats. The
+     * repositories log and swallow per-item failures, so success is judged by
+     * the pending count afterwards rather than by the phase's own result.
+     */
+    private Completable runPhase(SyncPhase phase) {
         return Completable.defer(() -> {
-            if (!isNetworkReallyAvailable()) return Completable.complete();
-            return getProfileRepository().syncAllPendingUserUpdates().onErrorComplete();
+            long startedAt = SystemClock.elapsedRealtime();
+            AtomicInteger attempts = new AtomicInteger();
+            AtomicInteger synced = new AtomicInteger();
+            AtomicInteger remaining = new AtomicInteger();
+
+            Completable attempt = Completable.defer(() -> {
+                attempts.incrementAndGet();
+                if (!isNetworkReallyAvailable()) {
+                    return Completable.error(new IllegalStateException("Network unavailable"));
+                }
+                return phase.pendingCount.get()
+                        .flatMapCompletable(before -> phase.work.get()
+                                .andThen(phase.pendingCount.get())
+                                .flatMapCompletable(after -> {
+                                    synced.addAndGet(Math.max(0, before - after));
+                                    remaining.set(after);
+                                    if (after > 0) {
+                                        return Completable.error(new IllegalStateException(
+                                                after + " item(s) still pending"));
+                                    }
+                                    return Completable.complete();
+                                }));
+            });
+
+            SyncPhaseStats stats = getStats(phase.name);
+            return RetryWithBackoff.apply(attempt, PHASE_MAX_RETRIES,
+                            PHASE_RETRY_BASE_DELAY_MS, PHASE_RETRY_MAX_DELAY_MS, true)
+                    .doOnComplete(() -> {
+                        stats.recordSuccess(SystemClock.elapsedRealtime() - startedAt,
+                                attempts.get(), synced.get());
+                        Log.d(TAG, "✓ " + stats);
+                    })
+                    .doOnError(error -> {
+                        stats.recordFailure(SystemClock.elapsedRealtime() - startedAt,
+                                attempts.get(), synced.get(), remaining.get(), error);
+                        Log.e(TAG, "✗ " + stats);
+                    });
         });
     }
 
+    private SyncPhaseStats getStats(String phaseName) {
+        SyncPhaseStats stats = phaseStats.get(phaseName);
+        if (stats == null) {
+            SyncPhaseStats created = new SyncPhaseStats(phaseName);
+            stats = phaseStats.putIfAbsent(phaseName, created);
+            if (stats == null) {
+                stats = created;
+            }
+        }
+        return stats;
+    }
+
+    private static final class SyncPhase {
+        final String name;
+        final Supplier<Completable> work;
+        final Supplier<Single<Integer>> pendingCount;
+
+        SyncPhase(String name, Supplier<Completable> work, Supplier<Single<Integer>> pendingCount) {
+            this.name = name;
+            this.work = work;
+            this.pendingCount = pendingCount;
+        }
+    }
+
     public void dispose() {
         compositeDisposable.clear();
         cancelPendingSync();
+        mainHandler.removeCallbacks(localChangesFlushRunnable);
+        isFlushingLocalChanges = false;
         unregisterNetworkCallback();
         isSyncing = false;
     }
@@ -0,0 +1,96 @@
+package com.example.recipe_android_project.core.helper;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Running counters for one {@link SyncManager} phase. Values describe the most
+ * recent run except for the totals.
+ */
+public class SyncPhaseStats {
+
+    private final String name;
+    private int runs;
+    private int failures;
+    private int totalItemsSynced;
+    private long lastDurationMs;
+    private int lastAttempts;
+    private int lastItemsSynced;
+    private int lastItemsRemaining;
+    private String lastError;
+    private long lastRunAt;
+
+    public SyncPhaseStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void recordSuccess(long durationMs, int attempts, int itemsSynced) {
+        record(durationMs, attempts, itemsSynced, 0);
+        lastError = null;
+    }
+
+    synchronized void recordFailure(long durationMs, int attempts, int itemsSynced,
+                                    int itemsRemaining, Throwable error) {
+        record(durationMs, attempts, itemsSynced, itemsRemaining);
+        failures++;
+        lastError = error != null ? error.getMessage() : null;
+    }
+
+    private void record(long durationMs, int attempts, int itemsSynced, int itemsRemaining) {
+        runs++;
+        totalItemsSynced += itemsSynced;
+        lastDurationMs = durationMs;
+        lastAttempts = attempts;
+        lastItemsSynced = itemsSynced;
+        lastItemsRemaining = itemsRemaining;
+        lastRunAt = System.currentTimeMillis();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getRuns() {
+        return runs;
+    }
+
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    public synchronized int getTotalItemsSynced() {
+        return totalItemsSynced;
+    }
+
+    public synchronized long getLastDurationMs() {
+        return lastDurationMs;
+    }
+
+    public synchronized int getLastAttempts() {
+        return lastAttempts;
+    }
+
+    public synchronized int getLastItemsSynced() {
+        return lastItemsSynced;
+    }
+
+    public synchronized int getLastItemsRemaining() {
+        return lastItemsRemaining;
+    }
+
+    public synchronized String getLastError() {
+        return lastError;
+    }
+
+    public synchronized long getLastRunAt() {
+        return lastRunAt;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        return name + ": " + lastItemsSynced + " synced, " + lastItemsRemaining
+                + " remaining in " + lastDurationMs + "ms (" + lastAttempts + " attempts, "
+                + failures + "/" + runs + " runs failed"
+                + (lastError != null ? ", last error: " + lastError : "") + ")";
+    }
+}
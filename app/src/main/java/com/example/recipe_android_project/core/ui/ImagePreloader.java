@@ -0,0 +1,34 @@
+package com.example.recipe_android_project.core.ui;
+
+import androidx.annotation.DimenRes;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.integration.recyclerview.RecyclerViewPreloader;
+import com.bumptech.glide.util.FixedPreloadSizeProvider;
+
+/**
+ * Loads list thumbnails a few rows ahead of the scroll so they are already in
+ * memory when their rows are bound. The adapter builds the same request for
+ * preloading and binding, which is what lets the preloaded bitmap be reused.
+ */
+public final class ImagePreloader {
+
+    private static final int MAX_PRELOAD = 8;
+
+    private ImagePreloader() {
+    }
+
+    public static <T> void attach(@NonNull RecyclerView recyclerView,
+                                  @NonNull ListPreloader.PreloadModelProvider<T> provider,
+                                  @DimenRes int thumbSizeRes) {
+        int size = recyclerView.getResources().getDimensionPixelSize(thumbSizeRes);
+        recyclerView.addOnScrollListener(new RecyclerViewPreloader<>(
+                Glide.with(recyclerView),
+                provider,
+                new FixedPreloadSizeProvider<>(size, size),
+                MAX_PRELOAD));
+    }
+}
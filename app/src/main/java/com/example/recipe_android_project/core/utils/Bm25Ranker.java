@@ -0,0 +1,62 @@
+package com.example.recipe_android_project.core.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Okapi BM25 scoring over an FTS4 {@code matchinfo(table, 'pcnalx')} blob, since FTS4
+ * has no built-in ranking function.
+ */
+public final class Bm25Ranker {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private Bm25Ranker() {
+    }
+
+    public static double score(byte[] matchInfo, double[] columnWeights) {
+        if (matchInfo == null || matchInfo.length < 12) {
+            return 0;
+        }
+
+        IntBuffer info = ByteBuffer.wrap(matchInfo)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+
+        int phraseCount = info.get(0);
+        int columnCount = info.get(1);
+        int totalDocs = info.get(2);
+        int avgLengthOffset = 3;
+        int lengthOffset = avgLengthOffset + columnCount;
+        int hitsOffset = lengthOffset + columnCount;
+
+        if (info.limit() < hitsOffset + 3 * phraseCount * columnCount) {
+            return 0;
+        }
+
+        double score = 0;
+        for (int phrase = 0; phrase < phraseCount; phrase++) {
+            for (int column = 0; column < columnCount; column++) {
+                double weight = column < columnWeights.length ? columnWeights[column] : 1.0;
+                if (weight == 0) continue;
+
+                int base = hitsOffset + 3 * (phrase * columnCount + column);
+                int termFrequency = info.get(base);
+                if (termFrequency == 0) continue;
+
+                int docsWithHits = info.get(base + 2);
+                double idf = Math.log(1.0
+                        + (totalDocs - docsWithHits + 0.5) / (docsWithHits + 0.5));
+
+                double avgLength = Math.max(1, info.get(avgLengthOffset + column));
+                double length = info.get(lengthOffset + column);
+                double norm = K1 * (1 - B + B * (length / avgLength));
+
+                score += weight * idf * (termFrequency * (K1 + 1)) / (termFrequency + norm);
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.recipe_android_project.core.utils;
+
+import java.util.Locale;
+
+/**
+ * Picks the smallest server-side image variant that still covers the view it
+ * is drawn into, so list thumbnails download and decode a fraction of the
+ * full-size image.
+ *
+ * <ul>
+ *   <li>TheMealDB meal thumbnails: {@code /small} (250px), {@code /medium}
+ *       (500px), otherwise the 700px original.</li>
+ *   <li>TheMealDB ingredients: {@code -Small.png} (100px), {@code -Medium.png}
+ *       (250px), otherwise the full {@code .png}.</li>
+ *   <li>flagcdn flags: the narrowest fixed width whose height still covers a
+ *       square target, taking flags as 3:2.</li>
+ * </ul>
+ *
+ * Category images have a single size and are returned unchanged.
+ */
+public final class ImageUrlPolicy {
+
+    private static final String MEAL_IMAGE_PATH = "/images/media/meals/";
+    private static final String INGREDIENT_IMAGE_BASE_URL =
+            "https://www.themealdb.com/images/ingredients/";
+    private static final String FLAG_BASE_URL = "https://flagcdn.com/";
+
+    private static final int MEAL_SMALL_PX = 250;
+    private static final int MEAL_MEDIUM_PX = 500;
+
+    private static final int INGREDIENT_SMALL_PX = 100;
+    private static final int INGREDIENT_MEDIUM_PX = 250;
+
+    private static final int[] FLAG_WIDTHS_PX = {20, 40, 80, 160, 320, 640, 1280};
+
+    private ImageUrlPolicy() {
+    }
+
+    public static String mealThumbnail(String url, int targetPx) {
+        if (url == null || !url.contains(MEAL_IMAGE_PATH) || !hasImageExtension(url)) {
+            // Unknown host, or a variant was already chosen.
+            return url;
+        }
+        if (targetPx <= MEAL_SMALL_PX) return url + "/small";
+        if (targetPx <= MEAL_MEDIUM_PX) return url + "/medium";
+        return url;
+    }
+
+    public static String ingredientImage(String name, int targetPx) {
+        if (name == null || name.trim().isEmpty()) return "";
+
+        String base = INGREDIENT_IMAGE_BASE_URL + name.trim();
+        if (targetPx <= INGREDIENT_SMALL_PX) return base + "-Small.png";
+        if (targetPx <= INGREDIENT_MEDIUM_PX) return base + "-Medium.png";
+        return base + ".png";
+    }
+
+    public static String flag(String countryCode, int targetPx) {
+        if (countryCode == null || countryCode.isEmpty()) return null;
+
+        int minWidth = targetPx * 3 / 2;
+        int width = FLAG_WIDTHS_PX[FLAG_WIDTHS_PX.length - 1];
+        for (int candidate : FLAG_WIDTHS_PX) {
+            if (candidate >= minWidth) {
+                width = candidate;
+                break;
+            }
+        }
+        return FLAG_BASE_URL + "w" + width + "/" + countryCode + ".png";
+    }
+
+    private static boolean hasImageExtension(String url) {
+        String lower = url.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".jpg") || lower.endsWith(".jpeg") || lower.endsWith(".png");
+    }
+}
@@ -1,13 +1,59 @@
 package com.example.recipe_android_project.core.utils;
 
 
+import androidx.collection.LruCache;
+
 import com.example.recipe_android_project.features.meal_detail.domain.model.InstructionStep;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * Turns TheMealDB's free-text {@code strInstructions} into numbered steps.
+ *
+ * <p>Three layouts are recognised, in order:
+ * <ol>
+ *   <li>step numbers on their own line ({@code "1\r\nChop...\r\n2\r\n..."});</li>
+ *   <li>blank-line separated paragraphs, one step each;</li>
+ *   <li>otherwise one step per sentence.</li>
+ * </ol>
+ *
+ * Every layout is read in a single pass over the characters, with no regex
+ * and no exceptions for control flow; text is copied once, when a step is
+ * emitted. Results for a meal are memoized by id and {@code dateModified}.
+ */
 public class InstructionParser {
 
+    private static final int CACHE_SIZE = 64;
+    private static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    private static final LruCache<String, CachedSteps> cache = new LruCache<>(CACHE_SIZE);
+
+    /**
+     * Memoized {@link #parseInstructions(String)}. The returned list is shared
+     * and must not be modified.
+     */
+    public static List<InstructionStep> parseInstructions(String mealId, String dateModified,
+                                                          String rawInstructions) {
+        if (mealId == null) {
+            return parseInstructions(rawInstructions);
+        }
+
+        String key = mealId + '|' + dateModified;
+        CachedSteps cached = cache.get(key);
+        // dateModified is often missing from the API, so the text is compared as well.
+        if (cached != null && cached.rawInstructions.equals(rawInstructions)) {
+            return cached.steps;
+        }
+
+        List<InstructionStep> steps =
+                Collections.unmodifiableList(parseInstructions(rawInstructions));
+        if (rawInstructions != null) {
+            cache.put(key, new CachedSteps(rawInstructions, steps));
+        }
+        return steps;
+    }
 
     public static List<InstructionStep> parseInstructions(String rawInstructions) {
         List<InstructionStep> steps = new ArrayList<>();
@@ -16,81 +62,251 @@ public class InstructionParser {
             return steps;
         }
 
-        String[] parts = rawInstructions.split("\\r\\n|\\r|\\n");
-
+        String text = rawInstructions;
+        int length = text.length();
         int stepNumber = 0;
         StringBuilder currentInstruction = new StringBuilder();
 
-        for (String part : parts) {
-            String trimmedPart = part.trim();
-
-            if (trimmedPart.isEmpty()) {
-                continue;
-            }
+        int lineStart = 0;
+        while (lineStart <= length) {
+            int lineEnd = lineEnd(text, lineStart);
+            int start = trimStart(text, lineStart, lineEnd);
+            int end = trimEnd(text, start, lineEnd);
 
-            if (isStepNumber(trimmedPart)) {
-                if (stepNumber > 0 && currentInstruction.length() > 0) {
-                    steps.add(new InstructionStep(stepNumber, currentInstruction.toString().trim()));
-                    currentInstruction = new StringBuilder();
-                }
-                stepNumber = Integer.parseInt(trimmedPart);
-            } else {
-                if (currentInstruction.length() > 0) {
-                    currentInstruction.append(" ");
+            if (start < end) {
+                long number = parseStepNumber(text, start, end);
+                if (number != NOT_A_NUMBER) {
+                    if (stepNumber > 0 && currentInstruction.length() > 0) {
+                        steps.add(new InstructionStep(stepNumber, currentInstruction.toString()));
+                        currentInstruction.setLength(0);
+                    }
+                    stepNumber = (int) number;
+                } else {
+                    if (currentInstruction.length() > 0) {
+                        currentInstruction.append(' ');
+                    }
+                    currentInstruction.append(text, start, end);
                 }
-                currentInstruction.append(trimmedPart);
             }
+
+            lineStart = nextLineStart(text, lineEnd);
         }
 
         if (stepNumber > 0 && currentInstruction.length() > 0) {
-            steps.add(new InstructionStep(stepNumber, currentInstruction.toString().trim()));
+            steps.add(new InstructionStep(stepNumber, currentInstruction.toString()));
         }
 
         if (steps.isEmpty()) {
-            steps = parseAlternativeFormat(rawInstructions);
+            steps = parseAlternativeFormat(text);
         }
 
         return steps;
     }
 
+    /**
+     * Index of the first line break at or after {@code from}, or the text length.
+     */
+    private static int lineEnd(String text, int from) {
+        return lineEnd(text, from, text.length());
+    }
 
-    private static boolean isStepNumber(String text) {
-        try {
-            Integer.parseInt(text);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
+    /**
+     * Index of the first line break in {@code text[from, limit)}, or {@code limit}.
+     */
+    private static int lineEnd(String text, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') return i;
         }
+        return limit;
     }
 
-    private static List<InstructionStep> parseAlternativeFormat(String rawInstructions) {
-        List<InstructionStep> steps = new ArrayList<>();
+    /**
+     * Start of the line after the break at {@code lineEnd}; {@code \r\n} counts
+     * as one break. Past the end of the text once the last line is consumed.
+     */
+    private static int nextLineStart(String text, int lineEnd) {
+        if (lineEnd >= text.length()) return text.length() + 1;
+        if (text.charAt(lineEnd) == '\r'
+                && lineEnd + 1 < text.length() && text.charAt(lineEnd + 1) == '\n') {
+            return lineEnd + 2;
+        }
+        return lineEnd + 1;
+    }
+
+    /**
+     * Reads {@code text[start, end)} the way {@link Integer#parseInt} would,
+     * returning {@link #NOT_A_NUMBER} where it would throw.
+     */
+    private static long parseStepNumber(String text, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+            if (i == end) return NOT_A_NUMBER;
+        }
+
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0) return NOT_A_NUMBER;
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) return NOT_A_NUMBER;
+        }
+
+        value = negative ? -value : value;
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? NOT_A_NUMBER : value;
+    }
+
+    private static List<InstructionStep> parseAlternativeFormat(String text) {
+        List<InstructionStep> steps = parseParagraphs(text);
+        return steps != null ? steps : parseSentences(text);
+    }
 
-        String[] paragraphs = rawInstructions.split("\\r\\n\\r\\n|\\n\\n");
+    /**
+     * One step per blank-line separated paragraph, numbered by paragraph
+     * position. Returns null when there is only one paragraph.
+     */
+    private static List<InstructionStep> parseParagraphs(String text) {
+        List<InstructionStep> steps = new ArrayList<>();
+        int length = text.length();
 
-        if (paragraphs.length > 1) {
-            for (int i = 0; i < paragraphs.length; i++) {
-                String paragraph = paragraphs[i].trim();
-                if (!paragraph.isEmpty()) {
-                    paragraph = paragraph.replaceAll("\\r\\n|\\r|\\n", " ").trim();
-                    steps.add(new InstructionStep(i + 1, paragraph));
+        // String.split semantics: paragraphs are numbered by position, empty
+        // ones included, but empty trailing ones do not count as paragraphs.
+        int paragraphIndex = 0;
+        int lastNonEmptyIndex = -1;
+        int start = 0;
+        int i = 0;
+        while (i <= length) {
+            int separator = i < length ? paragraphSeparatorLength(text, i) : 0;
+            if (separator > 0 || i == length) {
+                if (start < i) {
+                    lastNonEmptyIndex = paragraphIndex;
                 }
-            }
-        } else {
-            String[] sentences = rawInstructions.split("(?<=\\.)\\s+(?=[A-Z])");
-
-            for (int i = 0; i < sentences.length; i++) {
-                String sentence = sentences[i].trim();
-                if (!sentence.isEmpty()) {
-                    sentence = sentence.replaceAll("\\r\\n|\\r|\\n", " ").trim();
-                    if (!sentence.endsWith(".")) {
-                        sentence += ".";
-                    }
-                    steps.add(new InstructionStep(i + 1, sentence));
+                String step = flattened(text, start, i);
+                if (step != null) {
+                    steps.add(new InstructionStep(paragraphIndex + 1, step));
                 }
+                paragraphIndex++;
+                i += Math.max(separator, 1);
+                start = i;
+            } else {
+                i++;
             }
         }
 
+        return lastNonEmptyIndex > 0 ? steps : null;
+    }
+
+    /**
+     * Length of a {@code \r\n\r\n} or {@code \n\n} separator at {@code i}, or 0.
+     */
+    private static int paragraphSeparatorLength(String text, int i) {
+        if (text.startsWith("\r\n\r\n", i)) return 4;
+        if (text.startsWith("\n\n", i)) return 2;
+        return 0;
+    }
+
+    /**
+     * Splits after a full stop where whitespace is followed by a capital letter.
+     */
+    private static List<InstructionStep> parseSentences(String text) {
+        List<InstructionStep> steps = new ArrayList<>();
+        int length = text.length();
+
+        int sentenceIndex = 0;
+        int start = 0;
+        int i = 0;
+        while (i < length) {
+            if (text.charAt(i) == '.' && i + 1 < length && isRegexWhitespace(text.charAt(i + 1))) {
+                int next = i + 1;
+                while (next < length && isRegexWhitespace(text.charAt(next))) {
+                    next++;
+                }
+                if (next < length && text.charAt(next) >= 'A' && text.charAt(next) <= 'Z') {
+                    addSentence(steps, ++sentenceIndex, text, start, i + 1);
+                    start = next;
+                }
+                i = next;
+            } else {
+                i++;
+            }
+        }
+        addSentence(steps, ++sentenceIndex, text, start, length);
         return steps;
     }
+
+    private static void addSentence(List<InstructionStep> steps, int number,
+                                    String text, int start, int end) {
+        String sentence = flattened(text, start, end);
+        if (sentence == null) return;
+        if (!sentence.endsWith(".")) {
+            sentence += ".";
+        }
+        steps.add(new InstructionStep(number, sentence));
+    }
+
+    /**
+     * Trims {@code text[start, end)} and turns each line break inside it into
+     * a single space. Returns null when nothing is left.
+     */
+    private static String flattened(String text, int start, int end) {
+        start = trimStart(text, start, end);
+        end = trimEnd(text, start, end);
+        if (start >= end) return null;
+
+        // Bounded by end: run-on text has no breaks, and scanning to the end of
+        // the whole text for every sentence would make the fallback quadratic.
+        int firstBreak = lineEnd(text, start, end);
+        if (firstBreak == end) {
+            return text.substring(start, end);
+        }
+
+        StringBuilder builder = new StringBuilder(end - start);
+        builder.append(text, start, firstBreak);
+        for (int i = firstBreak; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '\r') {
+                builder.append(' ');
+                if (i + 1 < end && text.charAt(i + 1) == '\n') i++;
+            } else if (c == '\n') {
+                builder.append(' ');
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Same characters as {@link String#trim()}.
+     */
+    private static int trimStart(String text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') start++;
+        return start;
+    }
+
+    private static int trimEnd(String text, int start, int end) {
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        return end;
+    }
+
+    /**
+     * The {@code \s} class: space, tab, line breaks, vertical tab and form feed.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static final class CachedSteps {
+        final String rawInstructions;
+        final List<InstructionStep> steps;
+
+        CachedSteps(String rawInstructions, List<InstructionStep> steps) {
+            this.rawInstructions = rawInstructions;
+            this.steps = steps;
+        }
+    }
 }
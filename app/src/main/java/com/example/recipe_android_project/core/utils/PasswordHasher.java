@@ -4,15 +4,35 @@ import at.favre.lib.crypto.bcrypt.BCrypt;
 
 public class PasswordHasher {
 
-    private static final int BCRYPT_COST = 12;
+    public static final int DEFAULT_COST = 12;
+    public static final int MIN_COST = 10;
+    public static final int MAX_COST = 14;
+
+    /**
+     * Cost used for new hashes. Starts at {@link #DEFAULT_COST} and is replaced
+     * by the device-calibrated value once it is known.
+     */
+    private static volatile int bcryptCost = DEFAULT_COST;
 
 
     public static String hashPassword(String plainPassword) {
+        return hashPassword(plainPassword, bcryptCost);
+    }
+
+    public static String hashPassword(String plainPassword, int cost) {
         if (plainPassword == null || plainPassword.isEmpty()) {
             throw new IllegalArgumentException("Password cannot be null or empty");
         }
 
-        return BCrypt.withDefaults().hashToString(BCRYPT_COST, plainPassword.toCharArray());
+        return BCrypt.withDefaults().hashToString(cost, plainPassword.toCharArray());
+    }
+
+    public static int getCost() {
+        return bcryptCost;
+    }
+
+    public static void setCost(int cost) {
+        bcryptCost = Math.max(MIN_COST, Math.min(MAX_COST, cost));
     }
 
 
@@ -33,7 +53,7 @@ public class PasswordHasher {
 
         try {
             int currentCost = extractCostFactor(hashedPassword);
-            return currentCost < BCRYPT_COST;
+            return currentCost < bcryptCost;
         } catch (Exception e) {
             return true;
         }
@@ -0,0 +1,56 @@
+package com.example.recipe_android_project.core.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+
+/**
+ * Retries a {@link Completable} with exponentially growing delays
+ * (base, 2 x base, 4 x base, ...) and gives up with the last error once
+ * {@code maxRetries} retries have failed. Every subscription gets its own
+ * attempt counter. With jitter enabled each delay is drawn from the upper half
+ * of its slot, so clients that failed together do not retry in lockstep.
+ */
+public final class RetryWithBackoff {
+
+    private static final int MAX_SHIFT = 30;
+
+    private RetryWithBackoff() {
+    }
+
+    public static Completable apply(Completable source, int maxRetries, long baseDelayMs) {
+        return apply(source, maxRetries, baseDelayMs, Long.MAX_VALUE, false);
+    }
+
+    public static Completable apply(Completable source, int maxRetries, long baseDelayMs,
+                                    long maxDelayMs, boolean jitter) {
+        return Completable.defer(() -> {
+            AtomicInteger attempts = new AtomicInteger();
+            return source.retryWhen(errors -> errors.flatMap(error -> {
+                int attempt = attempts.incrementAndGet();
+                if (attempt > maxRetries) {
+                    return Flowable.error(error);
+                }
+                long delay = delayFor(attempt, baseDelayMs, maxDelayMs, jitter);
+                return Flowable.timer(delay, TimeUnit.MILLISECONDS);
+            }));
+        });
+    }
+
+    /**
+     * Delay before retry number {@code attempt} (1-based), capped at
+     * {@code maxDelayMs}.
+     */
+    public static long delayFor(int attempt, long baseDelayMs, long maxDelayMs, boolean jitter) {
+        int shift = Math.min(Math.max(attempt - 1, 0), MAX_SHIFT);
+        long delay = Math.min(baseDelayMs << shift, maxDelayMs);
+        if (!jitter || delay < 2) {
+            return delay;
+        }
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.recipe_android_project.core.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.functions.Supplier;
+
+/**
+ * Shares one in-flight {@link Single} per key among concurrent subscribers.
+ * The first subscriber for a key starts the source; everyone arriving before
+ * it terminates receives the same result, and the next call after that starts
+ * a fresh request. Nothing is cached beyond the lifetime of the flight.
+ */
+public final class SingleFlight<K, T> {
+
+    private static final AtomicLong totalCoalesced = new AtomicLong();
+
+    private final ConcurrentMap<K, Single<T>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong executed = new AtomicLong();
+
+    public Single<T> execute(K key, Supplier<Single<T>> source) {
+        return Single.defer(() -> {
+            Single<T> existing = inFlight.get(key);
+            if (existing != null) {
+                return join(existing);
+            }
+
+            AtomicReference<Single<T>> self = new AtomicReference<>();
+            Single<T> flight = Single.defer(source)
+                    .doFinally(() -> inFlight.remove(key, self.get()))
+                    .cache();
+            self.set(flight);
+
+            existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                return join(existing);
+            }
+            executed.incrementAndGet();
+            return flight;
+        });
+    }
+
+    private Single<T> join(Single<T> flight) {
+        coalesced.incrementAndGet();
+        totalCoalesced.incrementAndGet();
+        return flight;
+    }
+
+    /** Calls that piggybacked on a request already in flight. */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /** Calls that actually subscribed to the source. */
+    public long getExecutedCount() {
+        return executed.get();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /** Coalesced calls across every {@code SingleFlight} in the process. */
+    public static long getTotalCoalescedCount() {
+        return totalCoalesced.get();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.recipe_android_project.core.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Folds text for matching: accents are stripped ("Crème brûlée" becomes
+ * "creme brulee"), case is folded, apostrophes are dropped and every other run
+ * of punctuation or whitespace becomes a single space.
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) return "";
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK
+                    || c == '\'' || c == '\u2019') {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && folded.length() > 0) {
+                    folded.append(' ');
+                }
+                pendingSpace = false;
+                folded.append(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+}
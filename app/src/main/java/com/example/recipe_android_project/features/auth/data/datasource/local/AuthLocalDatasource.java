@@ -4,16 +4,24 @@ import android.content.Context;
 import android.util.Log;
 
 import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.core.helper.PasswordHashExecutor;
+import com.example.recipe_android_project.core.helper.SharedPreferencesManager;
 import com.example.recipe_android_project.core.helper.UserSessionManager;
 import com.example.recipe_android_project.core.utils.PasswordHasher;
 import com.example.recipe_android_project.core.utils.PasswordHasher.PasswordValidationResult;
 import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
+import com.example.recipe_android_project.features.favourites.data.datasource.local.FavoriteOutboxDao;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealCatalogDao;
 import com.example.recipe_android_project.features.home.data.datasource.local.MealDao;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
 import com.example.recipe_android_project.features.plan.data.datasource.local.MealPlanDao;
 import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import io.reactivex.rxjava3.core.Completable;
@@ -21,18 +29,26 @@ import io.reactivex.rxjava3.core.Single;
 
 public class AuthLocalDatasource {
 
+    private static final String TAG = "AuthLocalDatasource";
+    private static final String KEY_FAVORITES_WATERMARK = "favorites_pull_watermark_";
 
     private final UserDao userDao;
     private final MealDao mealDao;
+    private final MealCatalogDao catalogDao;
     private final MealPlanDao mealPlanDao;
+    private final FavoriteOutboxDao outboxDao;
     private final UserSessionManager sessionManager;
+    private final SharedPreferencesManager prefsManager;
 
     public AuthLocalDatasource(Context context) {
         DbManager dbManager = DbManager.getInstance(context);
         this.userDao = dbManager.userDao();
         this.mealDao = dbManager.favoriteMealDao();
+        this.catalogDao = dbManager.mealCatalogDao();
         this.mealPlanDao = dbManager.mealPlanDao();
+        this.outboxDao = dbManager.favoriteOutboxDao();
         this.sessionManager = UserSessionManager.getInstance(context);
+        this.prefsManager = SharedPreferencesManager.getInstance(context);
     }
 
 
@@ -55,12 +71,14 @@ public class AuthLocalDatasource {
                             return Single.error(new Exception("Email already registered"));
                         }
 
-                        String hashedPassword = PasswordHasher.hashPassword(password);
+                        return PasswordHashExecutor.hash(password)
+                                .flatMap(hashedPassword -> {
+                                    UserEntity user = createUserEntity(
+                                            userId, fullName, email, hashedPassword);
+                                    user.setPendingRegistrationSync(false);
 
-                        UserEntity user = createUserEntity(userId, fullName, email, hashedPassword);
-                        user.setPendingRegistrationSync(false);
-
-                        return insertAndCreateSession(user);
+                                    return insertAndCreateSession(user);
+                                });
                     });
         });
     }
@@ -78,14 +96,17 @@ public class AuthLocalDatasource {
                             return Single.error(new Exception("Email already registered"));
                         }
 
-                        String hashedPassword = PasswordHasher.hashPassword(password);
-                        String tempId = UUID.randomUUID().toString();
+                        return PasswordHashExecutor.hash(password)
+                                .flatMap(hashedPassword -> {
+                                    String tempId = UUID.randomUUID().toString();
 
-                        UserEntity user = createUserEntity(tempId, fullName, email, hashedPassword);
-                        user.setPendingRegistrationSync(true);
-                        user.setPendingPlainPassword(password);
+                                    UserEntity user = createUserEntity(
+                                            tempId, fullName, email, hashedPassword);
+                                    user.setPendingRegistrationSync(true);
+                                    user.setPendingPlainPassword(password);
 
-                        return insertAndCreateSession(user);
+                                    return insertAndCreateSession(user);
+                                });
                     });
         });
     }
@@ -94,23 +115,19 @@ public class AuthLocalDatasource {
     public Single<UserEntity> login(String email, String password) {
         return userDao.getUserByEmail(email)
                 .switchIfEmpty(Single.error(new Exception("Invalid email or password")))
+                .flatMap(user -> PasswordHashExecutor.verify(password, user.getPassword())
+                        .flatMap(isValid -> {
+                            if (!isValid) {
+                                return Single.error(new Exception("Invalid email or password"));
+                            }
+                            return Single.just(user);
+                        }))
                 .flatMap(user -> {
-                    boolean isValid = PasswordHasher.verifyPassword(password, user.getPassword());
-                    if (!isValid) {
-                        return Single.error(new Exception("Invalid email or password"));
-                    }
-
-                    Single<Integer> rehashSingle;
                     if (PasswordHasher.needsRehash(user.getPassword())) {
-                        String newHash = PasswordHasher.hashPassword(password);
-                        rehashSingle = userDao.updatePassword(
-                                user.getId(), newHash, System.currentTimeMillis());
-                    } else {
-                        rehashSingle = Single.just(0);
+                        rehashInBackground(user.getId(), password);
                     }
 
-                    return rehashSingle
-                            .flatMap(ignored -> userDao.logoutAllUsers())
+                    return userDao.logoutAllUsers()
                             .flatMap(ignored -> userDao.updateLoginStatus(
                                     user.getId(), true, System.currentTimeMillis()))
                             .map(ignored -> {
@@ -129,6 +146,19 @@ public class AuthLocalDatasource {
                 });
     }
 
+    /**
+     * Moves a stored hash up to the current cost without delaying sign-in.
+     */
+    private void rehashInBackground(String userId, String password) {
+        PasswordHashExecutor.hash(password)
+                .flatMap(newHash -> userDao.updatePassword(
+                        userId, newHash, System.currentTimeMillis()))
+                .subscribe(
+                        rows -> Log.d(TAG, "Password rehashed at cost " + PasswordHasher.getCost()),
+                        error -> Log.w(TAG, "Password rehash failed: " + error.getMessage())
+                );
+    }
+
 
     public Completable logout() {
         return userDao.logoutAllUsers()
@@ -153,18 +183,61 @@ public class AuthLocalDatasource {
     }
 
 
-    public Completable mergeFavoritesFromFirestore(List<FavoriteMealEntity> favorites) {
+    /**
+     * Stores one page of pulled favourites. Meals with a local change still
+     * waiting in the outbox are skipped, so the pull cannot bring back a
+     * favourite whose removal has not been uploaded yet.
+     */
+    public Completable mergeFavoritesFromFirestore(String userId, List<FavoriteMealEntity> favorites) {
         if (favorites == null || favorites.isEmpty()) {
             return Completable.complete();
         }
-        return mealDao.insertAllFavorites(favorites);
+        return outboxDao.getPendingMealIds(userId)
+                .flatMapCompletable(pendingIds -> {
+                    Set<String> pending = new HashSet<>(pendingIds);
+                    List<FavoriteMealEntity> merged = new ArrayList<>(favorites.size());
+                    for (FavoriteMealEntity favorite : favorites) {
+                        if (!pending.contains(favorite.getMealId())) {
+                            merged.add(favorite);
+                        }
+                    }
+                    if (merged.isEmpty()) {
+                        return Completable.complete();
+                    }
+                    return mealDao.insertAllFavorites(merged)
+                            .andThen(catalogDao.insertAllIfAbsent(
+                                            MealMapper.toCatalogEntityListFromFavorites(merged))
+                                    .onErrorComplete());
+                });
+    }
+
+    /**
+     * Newest Firestore {@code updatedAt} already merged for this account pair,
+     * or 0 when the favourites have never been pulled or none are stored
+     * locally. The watermark lives in SharedPreferences and outlives a wiped
+     * or destructively migrated database, so an empty table always means a
+     * full pull. Queries Room; call off the main thread.
+     */
+    public long getFavoritesWatermark(String firebaseUid, String localUserId) {
+        if (mealDao.countFavorites(localUserId) == 0) {
+            return 0;
+        }
+        return prefsManager.getLong(favoritesWatermarkKey(firebaseUid, localUserId), 0);
+    }
+
+    public void saveFavoritesWatermark(String firebaseUid, String localUserId, long watermark) {
+        prefsManager.putLong(favoritesWatermarkKey(firebaseUid, localUserId), watermark);
+    }
+
+    private String favoritesWatermarkKey(String firebaseUid, String localUserId) {
+        return KEY_FAVORITES_WATERMARK + firebaseUid + "_" + localUserId;
     }
 
     public Completable mergeMealPlansFromFirestore(List<MealPlanEntity> mealPlans) {
         if (mealPlans == null || mealPlans.isEmpty()) {
             return Completable.complete();
         }
-        return mealPlanDao.insertAllMealPlans(mealPlans);
+        return Completable.fromAction(() -> mealPlanDao.mergeRemoteMealPlans(mealPlans));
     }
 
 
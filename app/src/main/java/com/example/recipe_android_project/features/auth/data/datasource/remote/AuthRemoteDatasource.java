@@ -2,23 +2,27 @@ package com.example.recipe_android_project.features.auth.data.datasource.remote;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.net.ConnectivityManager;
-import android.net.Network;
-import android.net.NetworkCapabilities;
 import android.util.Log;
 
+import com.example.recipe_android_project.core.helper.ConnectivityHub;
 import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
 import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
 import com.example.recipe_android_project.features.plan.data.mapper.MealPlanMapper;
+import com.google.firebase.Timestamp;
 import com.google.firebase.auth.AuthCredential;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.auth.GoogleAuthProvider;
+import com.google.firebase.firestore.CollectionReference;
 import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,35 +37,23 @@ public class AuthRemoteDatasource {
     private static final String USERS_COLLECTION = "users";
     private static final String FAVORITES_COLLECTION = "favorites";
     private static final String MEAL_PLANS_COLLECTION = "meal_plans";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
 
     private final FirebaseAuth firebaseAuth;
     private final FirebaseFirestore firestore;
     private final Context context;
-    private ConnectivityManager connectivityManager;
+    private final ConnectivityHub connectivityHub;
 
     public AuthRemoteDatasource(Context context) {
         this.context = context;
+        this.connectivityHub = ConnectivityHub.getInstance(context);
         this.firebaseAuth = FirebaseAuth.getInstance();
         this.firestore = FirebaseFirestore.getInstance();
     }
 
 
     public boolean isNetworkAvailable() {
-        if (connectivityManager == null) {
-            connectivityManager = (ConnectivityManager)
-                    context.getSystemService(Context.CONNECTIVITY_SERVICE);
-        }
-
-        if (connectivityManager == null) return false;
-
-        Network network = connectivityManager.getActiveNetwork();
-        if (network == null) return false;
-
-        NetworkCapabilities capabilities = connectivityManager.getNetworkCapabilities(network);
-        if (capabilities == null) return false;
-
-        return capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
-                && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED);
+        return connectivityHub.isNetworkAvailable();
     }
 
 
@@ -237,28 +229,57 @@ public class AuthRemoteDatasource {
     }
 
 
-    public Single<List<FavoriteMealEntity>> getFavoritesFromFirestore(String userId) {
+    /**
+     * Fetches one page of the user's favourites. With a watermark only documents
+     * whose server-side {@code updatedAt} is newer are returned, ordered by that
+     * field; without one the whole collection is paged in document-id order.
+     * Pass the previous page's last document as {@code startAfter} to continue.
+     */
+    public Single<FavoritesPage> getFavoritesPage(String userId, long updatedAfter,
+                                                  DocumentSnapshot startAfter, int pageSize) {
         return Single.create(emitter -> {
             if (userId == null || userId.isEmpty()) {
-                emitter.onSuccess(new ArrayList<>());
+                emitter.onSuccess(new FavoritesPage(new ArrayList<>(), null, 0, false));
                 return;
             }
 
-            firestore.collection(USERS_COLLECTION)
+            CollectionReference favorites = firestore.collection(USERS_COLLECTION)
                     .document(userId)
-                    .collection(FAVORITES_COLLECTION)
+                    .collection(FAVORITES_COLLECTION);
+            Query query = updatedAfter > 0
+                    ? favorites.whereGreaterThan(FIELD_UPDATED_AT, new Timestamp(new Date(updatedAfter)))
+                            .orderBy(FIELD_UPDATED_AT)
+                    : favorites.orderBy(FieldPath.documentId());
+            if (startAfter != null) {
+                query = query.startAfter(startAfter);
+            }
+
+            query.limit(pageSize)
                     .get()
                     .addOnSuccessListener(querySnapshot -> {
-                        List<FavoriteMealEntity> favorites = new ArrayList<>();
-                        for (DocumentSnapshot doc : querySnapshot.getDocuments()) {
+                        if (emitter.isDisposed()) return;
+
+                        List<DocumentSnapshot> documents = querySnapshot.getDocuments();
+                        List<FavoriteMealEntity> page = new ArrayList<>();
+                        long maxUpdatedAt = 0;
+                        for (DocumentSnapshot doc : documents) {
                             FavoriteMealEntity entity = documentToFavoriteEntity(doc, userId);
                             if (entity != null) {
-                                favorites.add(entity);
+                                page.add(entity);
                             }
+                            maxUpdatedAt = Math.max(maxUpdatedAt, getUpdatedAtMillis(doc));
                         }
-                        emitter.onSuccess(favorites);
+                        DocumentSnapshot last = documents.isEmpty()
+                                ? null : documents.get(documents.size() - 1);
+                        emitter.onSuccess(new FavoritesPage(page, last, maxUpdatedAt,
+                                documents.size() == pageSize));
                     })
-                    .addOnFailureListener(e -> emitter.onSuccess(new ArrayList<>()));
+                    .addOnFailureListener(e -> {
+                        if (!emitter.isDisposed()) {
+                            emitter.onError(new Exception(
+                                    "Failed to fetch favorites: " + e.getMessage()));
+                        }
+                    });
         });
     }
 
@@ -328,34 +349,18 @@ public class AuthRemoteDatasource {
 
     private FavoriteMealEntity documentToFavoriteEntity(DocumentSnapshot doc, String userId) {
         if (doc == null || !doc.exists()) return null;
+        return MealMapper.fromFirestoreData(doc.getId(), doc.getData(), userId);
+    }
 
-        FavoriteMealEntity entity = new FavoriteMealEntity();
-
-        String mealId = doc.getString("mealId");
-        if (mealId == null || mealId.isEmpty()) {
-            mealId = doc.getId();
+    private long getUpdatedAtMillis(DocumentSnapshot doc) {
+        Object value = doc.get(FIELD_UPDATED_AT);
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toDate().getTime();
         }
-
-        entity.setMealId(mealId);
-        entity.setUserId(userId);
-        entity.setName(doc.getString("name"));
-        entity.setAlternateName(doc.getString("alternateName"));
-        entity.setCategory(doc.getString("category"));
-        entity.setArea(doc.getString("area"));
-        entity.setInstructions(doc.getString("instructions"));
-        entity.setThumbnailUrl(doc.getString("thumbnailUrl"));
-        entity.setTags(doc.getString("tags"));
-        entity.setYoutubeUrl(doc.getString("youtubeUrl"));
-        entity.setSourceUrl(doc.getString("sourceUrl"));
-        entity.setImageSource(doc.getString("imageSource"));
-        entity.setCreativeCommonsConfirmed(doc.getString("creativeCommonsConfirmed"));
-        entity.setDateModified(doc.getString("dateModified"));
-        entity.setIngredientsJson(doc.getString("ingredientsJson"));
-
-        Long createdAt = doc.getLong("createdAt");
-        entity.setCreatedAt(createdAt != null ? createdAt : System.currentTimeMillis());
-
-        return entity;
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return 0;
     }
 
     private MealPlanEntity documentToMealPlanEntity(DocumentSnapshot doc, String userId) {
@@ -0,0 +1,38 @@
+package com.example.recipe_android_project.features.auth.data.datasource.remote;
+
+import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.google.firebase.firestore.DocumentSnapshot;
+
+import java.util.List;
+
+public class FavoritesPage {
+
+    private final List<FavoriteMealEntity> favorites;
+    private final DocumentSnapshot lastDocument;
+    private final long maxUpdatedAt;
+    private final boolean hasMore;
+
+    public FavoritesPage(List<FavoriteMealEntity> favorites, DocumentSnapshot lastDocument,
+                         long maxUpdatedAt, boolean hasMore) {
+        this.favorites = favorites;
+        this.lastDocument = lastDocument;
+        this.maxUpdatedAt = maxUpdatedAt;
+        this.hasMore = hasMore;
+    }
+
+    public List<FavoriteMealEntity> getFavorites() {
+        return favorites;
+    }
+
+    public DocumentSnapshot getLastDocument() {
+        return lastDocument;
+    }
+
+    public long getMaxUpdatedAt() {
+        return maxUpdatedAt;
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+}
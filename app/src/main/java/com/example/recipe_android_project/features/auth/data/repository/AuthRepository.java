@@ -4,6 +4,9 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.util.Log;
 
+import com.example.recipe_android_project.core.helper.FavoriteIdStore;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
+import com.example.recipe_android_project.core.helper.FavoritesRealtimeSync;
 import com.example.recipe_android_project.core.helper.UserSessionManager;
 import com.example.recipe_android_project.features.auth.data.datasource.local.AuthLocalDatasource;
 import com.example.recipe_android_project.features.auth.data.datasource.remote.AuthRemoteDatasource;
@@ -12,6 +15,7 @@ import com.example.recipe_android_project.features.auth.data.mapper.UserMapper;
 import com.example.recipe_android_project.features.auth.domain.model.User;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
 import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
+import com.google.firebase.firestore.DocumentSnapshot;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -26,15 +30,22 @@ public class AuthRepository {
 
     private static final String TAG = "AuthRepository";
     private static final int FIREBASE_TIMEOUT_SECONDS = 10;
+    private static final int FAVORITES_PAGE_SIZE = 50;
 
     private final AuthLocalDatasource localDatasource;
     private final AuthRemoteDatasource remoteDatasource;
     private final UserSessionManager sessionManager;
+    private final FavoritesRealtimeSync realtimeSync;
+    private final FavoriteIdStore favoriteIdStore;
+    private final ImagePinStore imagePinStore;
 
     public AuthRepository(Context context) {
         this.localDatasource = new AuthLocalDatasource(context);
         this.remoteDatasource = new AuthRemoteDatasource(context);
         this.sessionManager = UserSessionManager.getInstance(context);
+        this.realtimeSync = FavoritesRealtimeSync.getInstance(context);
+        this.favoriteIdStore = FavoriteIdStore.getInstance(context);
+        this.imagePinStore = ImagePinStore.getInstance(context);
     }
 
 
@@ -55,7 +66,8 @@ public class AuthRepository {
                 return registerOffline(fullName, email, password)
                         .map(UserMapper::toDomain);
             }
-        }).subscribeOn(Schedulers.io());
+        }).doOnSuccess(user -> imagePinStore.reconcile())
+                .subscribeOn(Schedulers.io());
     }
 
     private Single<UserEntity> registerWithFirebase(String fullName, String email, String password) {
@@ -121,7 +133,8 @@ public class AuthRepository {
                 return loginOffline(email, password)
                         .map(UserMapper::toDomain);
             }
-        }).subscribeOn(Schedulers.io());
+        }).doOnSuccess(user -> imagePinStore.reconcile())
+                .subscribeOn(Schedulers.io());
     }
 
     private Single<UserEntity> loginWithFirebase(String email, String password) {
@@ -229,6 +242,8 @@ public class AuthRepository {
             Completable localLogout = localDatasource.logout()
                     .doOnComplete(() -> {
                         sessionManager.clearSession();
+                        realtimeSync.stop();
+                        favoriteIdStore.clear();
                     });
 
             if (isNetworkAvailable()) {
@@ -249,6 +264,12 @@ public class AuthRepository {
                 .subscribeOn(Schedulers.io());
     }
 
+    public Single<Integer> getPendingRegistrationCount() {
+        return localDatasource.getPendingRegistrationSyncUsers()
+                .map(List::size)
+                .subscribeOn(Schedulers.io());
+    }
+
     public Completable syncPendingRegistrations() {
         return Completable.defer(() -> {
             if (!isNetworkAvailable()) {
@@ -295,6 +316,13 @@ public class AuthRepository {
     }
 
 
+    /**
+     * Pulls favourites changed since the last successful pull, page by page,
+     * inserting each page before fetching the next. The first pull for an
+     * account, and any pull while no favourites are stored locally, walks the
+     * whole collection. The watermark only moves forward once every page has
+     * been stored.
+     */
     public Completable syncFavoritesFromFirestore(String firebaseUid, String localUserId) {
         return Completable.defer(() -> {
             if (firebaseUid == null || firebaseUid.isEmpty() || !isNetworkAvailable()) {
@@ -302,24 +330,36 @@ public class AuthRepository {
             }
 
             final String userId = (localUserId != null) ? localUserId : firebaseUid;
+            long watermark = localDatasource.getFavoritesWatermark(firebaseUid, userId);
 
-            return remoteDatasource.getFavoritesFromFirestore(firebaseUid)
-                    .timeout(FIREBASE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
-                    .flatMapCompletable(favorites -> {
-                        if (favorites.isEmpty()) {
-                            return Completable.complete();
-                        }
-
-                        for (FavoriteMealEntity entity : favorites) {
-                            entity.setUserId(userId);
-                        }
-
-                        return localDatasource.mergeFavoritesFromFirestore(favorites);
-                    })
+            return pullFavoritesPage(firebaseUid, userId, watermark, null, watermark)
+                    .doOnSuccess(newWatermark -> localDatasource.saveFavoritesWatermark(
+                            firebaseUid, userId, Math.max(newWatermark, 1)))
+                    .ignoreElement()
                     .onErrorComplete();
         }).subscribeOn(Schedulers.io());
     }
 
+    private Single<Long> pullFavoritesPage(String firebaseUid, String userId, long watermark,
+                                           DocumentSnapshot cursor, long maxUpdatedAt) {
+        return remoteDatasource.getFavoritesPage(firebaseUid, watermark, cursor, FAVORITES_PAGE_SIZE)
+                .timeout(FIREBASE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .flatMap(page -> {
+                    for (FavoriteMealEntity entity : page.getFavorites()) {
+                        entity.setUserId(userId);
+                    }
+                    long newMax = Math.max(maxUpdatedAt, page.getMaxUpdatedAt());
+
+                    Completable save = localDatasource.mergeFavoritesFromFirestore(
+                            userId, page.getFavorites());
+                    if (!page.hasMore()) {
+                        return save.toSingleDefault(newMax);
+                    }
+                    return save.andThen(Single.defer(() -> pullFavoritesPage(
+                            firebaseUid, userId, watermark, page.getLastDocument(), newMax)));
+                });
+    }
+
 
     public Completable syncMealPlansFromFirestore(String firebaseUid, String localUserId) {
         return Completable.defer(() -> {
@@ -350,6 +390,8 @@ public class AuthRepository {
 
     @SuppressLint("CheckResult")
     private void syncDataOnLogin(String firebaseUid, String localUserId) {
+        realtimeSync.onSessionChanged();
+
         if (!isNetworkAvailable()) {
             Log.d(TAG, "Skipping login data sync - no network");
             return;
@@ -358,14 +400,20 @@ public class AuthRepository {
         syncFavoritesFromFirestore(firebaseUid, localUserId)
                 .subscribeOn(Schedulers.io())
                 .subscribe(
-                        () -> Log.d(TAG, "Favorites sync done"),
+                        () -> {
+                            Log.d(TAG, "Favorites sync done");
+                            imagePinStore.reconcile();
+                        },
                         e -> Log.e(TAG, "Favorites sync error: " + e.getMessage())
                 );
 
         syncMealPlansFromFirestore(firebaseUid, localUserId)
                 .subscribeOn(Schedulers.io())
                 .subscribe(
-                        () -> Log.d(TAG, "Meal plans sync done"),
+                        () -> {
+                            Log.d(TAG, "Meal plans sync done");
+                            imagePinStore.reconcile();
+                        },
                         e -> Log.e(TAG, "Meal plans sync error: " + e.getMessage())
                 );
     }
@@ -405,7 +453,8 @@ public class AuthRepository {
                                 });
                     })
                     .map(UserMapper::toDomain);
-        }).subscribeOn(Schedulers.io());
+        }).doOnSuccess(user -> imagePinStore.reconcile())
+                .subscribeOn(Schedulers.io());
     }
     private boolean isNetworkError(Throwable error) {
         if (error instanceof TimeoutException) return true;
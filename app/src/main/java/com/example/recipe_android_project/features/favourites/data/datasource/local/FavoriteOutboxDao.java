@@ -0,0 +1,52 @@
+package com.example.recipe_android_project.features.favourites.data.datasource.local;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
+
+import java.util.List;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Single;
+
+@Dao
+public interface FavoriteOutboxDao {
+
+    @Query("SELECT * FROM favorite_outbox WHERE firebase_uid IS NOT NULL " +
+            "ORDER BY user_id, updated_at")
+    Single<List<FavoriteOutboxEntity>> getPendingChanges();
+
+    @Query("SELECT meal_id FROM favorite_outbox WHERE user_id = :userId")
+    Single<List<String>> getPendingMealIds(String userId);
+
+    @Query("SELECT COUNT(*) FROM favorite_outbox WHERE firebase_uid IS NOT NULL")
+    Single<Integer> getPendingCount();
+
+    @Query("UPDATE favorite_outbox SET firebase_uid = :firebaseUid " +
+            "WHERE user_id = :userId AND firebase_uid IS NULL")
+    Completable assignFirebaseUid(String userId, String firebaseUid);
+
+    @Query("DELETE FROM favorite_outbox " +
+            "WHERE user_id = :userId AND meal_id = :mealId AND updated_at = :updatedAt")
+    int deleteIfUnchanged(String userId, String mealId, long updatedAt);
+
+    @Query("UPDATE favorite_outbox SET attempt_count = attempt_count + 1, last_error = :error " +
+            "WHERE user_id = :userId AND meal_id IN (:mealIds)")
+    Completable markFailed(String userId, List<String> mealIds, String error);
+
+    @Query("DELETE FROM favorite_outbox WHERE user_id = :userId")
+    Completable clearForUser(String userId);
+
+    /**
+     * Removes flushed changes, keeping any row that was toggled again while
+     * its batch was in flight.
+     */
+    @Transaction
+    default void deleteFlushed(List<FavoriteOutboxEntity> changes) {
+        for (FavoriteOutboxEntity change : changes) {
+            deleteIfUnchanged(change.getUserId(), change.getMealId(), change.getUpdatedAt());
+        }
+    }
+}
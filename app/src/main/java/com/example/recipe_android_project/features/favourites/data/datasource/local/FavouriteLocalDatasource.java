@@ -3,6 +3,10 @@ package com.example.recipe_android_project.features.favourites.data.datasource.l
 import android.content.Context;
 
 import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.features.favourites.data.datasource.remote.FavoriteChangeSet;
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealCatalogDao;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealDao;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
 import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
 import com.example.recipe_android_project.features.home.model.Meal;
@@ -11,17 +15,77 @@ import java.util.List;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
 
 public class FavouriteLocalDatasource {
     private final FavouriteDao favouriteDao;
+    private final FavoriteOutboxDao outboxDao;
+    private final MealDao mealDao;
+    private final MealCatalogDao catalogDao;
+    private final DbManager dbManager;
     public FavouriteLocalDatasource(Context context) {
-        this.favouriteDao = DbManager.getInstance(context).favouriteDao();
+        this.dbManager = DbManager.getInstance(context);
+        this.favouriteDao = dbManager.favouriteDao();
+        this.outboxDao = dbManager.favoriteOutboxDao();
+        this.mealDao = dbManager.favoriteMealDao();
+        this.catalogDao = dbManager.mealCatalogDao();
     }
     public Flowable<List<Meal>> getFavorites(String userId) {
         return favouriteDao.getAllFavoritesByUserId(userId)
                 .map(MealMapper::toDomainListFromEntities);
     }
-    public Completable removeFromFavorites(String mealId, String userId) {
-        return favouriteDao.deleteFavoriteByMealIdAndUserId(mealId, userId);
+    public Completable removeFromFavorites(FavoriteOutboxEntity change) {
+        return Completable.fromAction(() -> mealDao.deleteFavoriteAndEnqueue(change));
+    }
+    public Completable assignFirebaseUid(String userId, String firebaseUid) {
+        return outboxDao.assignFirebaseUid(userId, firebaseUid);
+    }
+    public Single<List<FavoriteOutboxEntity>> getPendingFavoriteChanges() {
+        return outboxDao.getPendingChanges();
+    }
+    public Single<Integer> getPendingFavoriteChangeCount() {
+        return outboxDao.getPendingCount();
+    }
+    public Single<List<FavoriteMealEntity>> getFavoritesByMealIds(String userId, List<String> mealIds) {
+        return mealDao.getFavoritesByMealIds(userId, mealIds);
+    }
+    public Completable removeFlushedChanges(List<FavoriteOutboxEntity> changes) {
+        return Completable.fromAction(() -> outboxDao.deleteFlushed(changes));
+    }
+    public Completable markChangesFailed(String userId, List<String> mealIds, String error) {
+        return outboxDao.markFailed(userId, mealIds, error);
+    }
+
+    /**
+     * Applies remote favourite changes in one Room transaction. Meals with a
+     * local change still waiting in the outbox are skipped so an older remote
+     * state cannot undo a newer local toggle.
+     */
+    public Completable applyRemoteFavoriteChanges(String userId, FavoriteChangeSet changes) {
+        return outboxDao.getPendingMealIds(userId)
+                .flatMapCompletable(pendingIds -> {
+                    changes.discard(pendingIds);
+                    if (changes.isEmpty()) {
+                        return Completable.complete();
+                    }
+
+                    List<FavoriteMealEntity> upserts = changes.getUpserts();
+                    List<String> removedIds = changes.getRemovedMealIds();
+                    for (FavoriteMealEntity entity : upserts) {
+                        entity.setUserId(userId);
+                    }
+
+                    Completable apply = Completable.fromAction(() -> dbManager.runInTransaction(() -> {
+                        if (!upserts.isEmpty()) {
+                            mealDao.insertAllFavorites(upserts).blockingAwait();
+                        }
+                        if (!removedIds.isEmpty()) {
+                            mealDao.deleteFavoritesByMealIds(userId, removedIds).blockingAwait();
+                        }
+                    }));
+                    return apply.andThen(catalogDao.insertAllIfAbsent(
+                                    MealMapper.toCatalogEntityListFromFavorites(upserts))
+                            .onErrorComplete());
+                });
     }
 }
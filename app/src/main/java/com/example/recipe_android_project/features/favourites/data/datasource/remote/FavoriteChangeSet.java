@@ -0,0 +1,59 @@
+package com.example.recipe_android_project.features.favourites.data.datasource.remote;
+
+import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Net effect of one or more Firestore favourites snapshots, keyed by meal id.
+ * A later change to the same meal replaces an earlier one, so a burst of
+ * snapshots collapses to at most one write per meal.
+ */
+public class FavoriteChangeSet {
+
+    private final Map<String, FavoriteMealEntity> upserts = new LinkedHashMap<>();
+    private final Map<String, Boolean> removals = new LinkedHashMap<>();
+
+    public void upsert(FavoriteMealEntity entity) {
+        removals.remove(entity.getMealId());
+        upserts.put(entity.getMealId(), entity);
+    }
+
+    public void remove(String mealId) {
+        upserts.remove(mealId);
+        removals.put(mealId, Boolean.TRUE);
+    }
+
+    public void discard(Collection<String> mealIds) {
+        for (String mealId : mealIds) {
+            upserts.remove(mealId);
+            removals.remove(mealId);
+        }
+    }
+
+    public FavoriteChangeSet mergeWith(FavoriteChangeSet later) {
+        for (String mealId : later.removals.keySet()) {
+            remove(mealId);
+        }
+        for (FavoriteMealEntity entity : later.upserts.values()) {
+            upsert(entity);
+        }
+        return this;
+    }
+
+    public List<FavoriteMealEntity> getUpserts() {
+        return new ArrayList<>(upserts.values());
+    }
+
+    public List<String> getRemovedMealIds() {
+        return new ArrayList<>(removals.keySet());
+    }
+
+    public boolean isEmpty() {
+        return upserts.isEmpty() && removals.isEmpty();
+    }
+}
@@ -1,49 +1,146 @@
 package com.example.recipe_android_project.features.favourites.data.datasource.remote;
 
 import android.content.Context;
-import android.net.ConnectivityManager;
-import android.net.NetworkInfo;
 
+import com.example.recipe_android_project.core.helper.ConnectivityHub;
+import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Observable;
 
 public class FavouriteRemoteDatasource {
     private static final String USERS_COLLECTION = "users";
     private static final String FAVORITES_COLLECTION = "favorites";
+    public static final int MAX_BATCH_OPERATIONS = 500;
     private final FirebaseFirestore firestore;
     private final Context context;
+    private final ConnectivityHub connectivityHub;
 
     public FavouriteRemoteDatasource(Context context) {
         this.firestore = FirebaseFirestore.getInstance();
         this.context = context;
+        this.connectivityHub = ConnectivityHub.getInstance(context);
     }
     public boolean isNetworkAvailable() {
-        ConnectivityManager cm = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
-        if (cm != null) {
-            NetworkInfo networkInfo = cm.getActiveNetworkInfo();
-            return networkInfo != null && networkInfo.isConnected();
-        }
-        return false;
+        return connectivityHub.isNetworkAvailable();
+    }
+
+
+    /**
+     * Streams the document changes of {@code users/{userId}/favorites} from a
+     * single snapshot listener. Documents that only echo this device's own
+     * pending writes are skipped; remote changes delivered in the same snapshot
+     * are still emitted. The listener is removed on dispose.
+     */
+    public Observable<FavoriteChangeSet> observeFavoriteChanges(String userId) {
+        return Observable.create(emitter -> {
+            ListenerRegistration registration = firestore.collection(USERS_COLLECTION)
+                    .document(userId)
+                    .collection(FAVORITES_COLLECTION)
+                    .addSnapshotListener((snapshot, error) -> {
+                        if (emitter.isDisposed()) return;
+                        if (error != null) {
+                            emitter.onError(new Exception(
+                                    "Favorites listener failed: " + error.getMessage()));
+                            return;
+                        }
+                        if (snapshot == null) {
+                            return;
+                        }
+
+                        FavoriteChangeSet changes = new FavoriteChangeSet();
+                        for (DocumentChange change : snapshot.getDocumentChanges()) {
+                            if (change.getDocument().getMetadata().hasPendingWrites()) {
+                                continue;
+                            }
+                            if (change.getType() == DocumentChange.Type.REMOVED) {
+                                changes.remove(change.getDocument().getId());
+                            } else {
+                                FavoriteMealEntity entity =
+                                        MealMapper.fromFirestoreData(change.getDocument().getId(),
+                                                change.getDocument().getData(), userId);
+                                if (entity != null) {
+                                    changes.upsert(entity);
+                                }
+                            }
+                        }
+                        if (!changes.isEmpty()) {
+                            emitter.onNext(changes);
+                        }
+                    });
+            emitter.setCancellable(registration::remove);
+        });
     }
 
-    public Completable removeFavoriteFromFirestore(String userId, String mealId) {
+    /**
+     * Writes every upsert and delete for one user in a single atomic batch.
+     * Firestore caps a batch at {@link #MAX_BATCH_OPERATIONS} writes.
+     */
+    public Completable commitFavoriteBatch(String userId,
+                                           List<FavoriteMealEntity> upserts,
+                                           List<String> deletedMealIds) {
         return Completable.create(emitter -> {
-            if (userId == null || userId.isEmpty() || mealId == null || mealId.isEmpty()) {
-                emitter.onError(new IllegalArgumentException("UserId and MealId are required"));
+            int operations = upserts.size() + deletedMealIds.size();
+            if (userId == null || userId.isEmpty() || operations == 0) {
+                emitter.onComplete();
+                return;
+            }
+            if (operations > MAX_BATCH_OPERATIONS) {
+                emitter.onError(new IllegalArgumentException(
+                        "Batch exceeds " + MAX_BATCH_OPERATIONS + " operations"));
                 return;
             }
 
-            firestore.collection(USERS_COLLECTION)
+            CollectionReference favorites = firestore.collection(USERS_COLLECTION)
                     .document(userId)
-                    .collection(FAVORITES_COLLECTION)
-                    .document(mealId)
-                    .delete()
+                    .collection(FAVORITES_COLLECTION);
+            WriteBatch batch = firestore.batch();
+            for (FavoriteMealEntity entity : upserts) {
+                batch.set(favorites.document(entity.getMealId()), entityToMap(entity, userId));
+            }
+            for (String mealId : deletedMealIds) {
+                batch.delete(favorites.document(mealId));
+            }
+
+            batch.commit()
                     .addOnSuccessListener(aVoid -> emitter.onComplete())
                     .addOnFailureListener(e ->
-                            emitter.onError(new Exception("Failed to remove favorite from Firestore: " + e.getMessage()))
+                            emitter.onError(new Exception("Failed to sync favorites to Firestore: " + e.getMessage()))
                     );
         });
     }
 
+    private Map<String, Object> entityToMap(FavoriteMealEntity entity, String userId) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("mealId", entity.getMealId());
+        map.put("userId", userId);
+        map.put("name", entity.getName());
+        map.put("alternateName", entity.getAlternateName());
+        map.put("category", entity.getCategory());
+        map.put("area", entity.getArea());
+        map.put("instructions", entity.getInstructions());
+        map.put("thumbnailUrl", entity.getThumbnailUrl());
+        map.put("tags", entity.getTags());
+        map.put("youtubeUrl", entity.getYoutubeUrl());
+        map.put("sourceUrl", entity.getSourceUrl());
+        map.put("imageSource", entity.getImageSource());
+        map.put("creativeCommonsConfirmed", entity.getCreativeCommonsConfirmed());
+        map.put("dateModified", entity.getDateModified());
+        map.put("ingredientsJson", MealMapper.favoriteIngredientsToJson(entity.getIngredients()));
+        map.put("createdAt", entity.getCreatedAt());
+        // Server time, so the incremental pull watermark is immune to device clock skew
+        map.put("updatedAt", FieldValue.serverTimestamp());
+        return map;
+    }
 }
@@ -0,0 +1,131 @@
+package com.example.recipe_android_project.features.favourites.data.entity;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+
+/**
+ * Pending favourite change waiting to be pushed to Firestore. One row per
+ * (user, meal): toggling the same meal again replaces the row, so only the
+ * final state is ever sent.
+ */
+@Entity(
+        tableName = "favorite_outbox",
+        primaryKeys = {"user_id", "meal_id"}
+)
+public class FavoriteOutboxEntity {
+
+    public static final String OP_UPSERT = "upsert";
+    public static final String OP_DELETE = "delete";
+
+    @NonNull
+    @ColumnInfo(name = "user_id")
+    private String userId;
+
+    @NonNull
+    @ColumnInfo(name = "meal_id")
+    private String mealId;
+
+    @Nullable
+    @ColumnInfo(name = "firebase_uid")
+    private String firebaseUid;
+
+    @NonNull
+    @ColumnInfo(name = "operation")
+    private String operation;
+
+    @ColumnInfo(name = "updated_at")
+    private long updatedAt;
+
+    @ColumnInfo(name = "attempt_count")
+    private int attemptCount;
+
+    @Nullable
+    @ColumnInfo(name = "last_error")
+    private String lastError;
+
+    public FavoriteOutboxEntity() {
+        this.userId = "";
+        this.mealId = "";
+        this.operation = OP_UPSERT;
+    }
+
+    @Ignore
+    public FavoriteOutboxEntity(@NonNull String userId, @NonNull String mealId,
+                                @Nullable String firebaseUid, @NonNull String operation) {
+        this.userId = userId;
+        this.mealId = mealId;
+        this.firebaseUid = firebaseUid;
+        this.operation = operation;
+        this.updatedAt = System.currentTimeMillis();
+    }
+
+    public boolean isDelete() {
+        return OP_DELETE.equals(operation);
+    }
+
+    // ==================== GETTERS & SETTERS ====================
+
+    @NonNull
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(@NonNull String userId) {
+        this.userId = userId;
+    }
+
+    @NonNull
+    public String getMealId() {
+        return mealId;
+    }
+
+    public void setMealId(@NonNull String mealId) {
+        this.mealId = mealId;
+    }
+
+    @Nullable
+    public String getFirebaseUid() {
+        return firebaseUid;
+    }
+
+    public void setFirebaseUid(@Nullable String firebaseUid) {
+        this.firebaseUid = firebaseUid;
+    }
+
+    @NonNull
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(@NonNull String operation) {
+        this.operation = operation;
+    }
+
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(long updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public void setAttemptCount(int attemptCount) {
+        this.attemptCount = attemptCount;
+    }
+
+    @Nullable
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(@Nullable String lastError) {
+        this.lastError = lastError;
+    }
+}
@@ -3,26 +3,48 @@ package com.example.recipe_android_project.features.favourites.data.repository;
 import android.content.Context;
 
 import com.airbnb.lottie.animation.content.Content;
+import com.example.recipe_android_project.core.helper.FavoriteIdStore;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
+import com.example.recipe_android_project.core.helper.SyncManager;
 import com.example.recipe_android_project.core.helper.UserSessionManager;
+import com.example.recipe_android_project.core.utils.RetryWithBackoff;
 import com.example.recipe_android_project.features.favourites.data.datasource.local.FavouriteLocalDatasource;
+import com.example.recipe_android_project.features.favourites.data.datasource.remote.FavoriteChangeSet;
 import com.example.recipe_android_project.features.favourites.data.datasource.remote.FavouriteRemoteDatasource;
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
+import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
 import com.example.recipe_android_project.features.home.model.Meal;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 
 public class FavouritesRepository {
+    private static final int MAX_BATCH_RETRIES = 3;
+    private static final long BATCH_RETRY_BASE_DELAY_MS = 1000;
+    private static final long REMOTE_CHANGES_WINDOW_MS = 500;
+
     private final FavouriteLocalDatasource favouriteLocalDatasource;
     private final FavouriteRemoteDatasource favouriteRemoteDatasource;
     private final UserSessionManager sessionManager;
+    private final SyncManager syncManager;
+    private final FavoriteIdStore favoriteIdStore;
+    private final ImagePinStore imagePinStore;
 
     public FavouritesRepository(Context context) {
         this.favouriteLocalDatasource = new FavouriteLocalDatasource(context);
         this.favouriteRemoteDatasource = new FavouriteRemoteDatasource(context);
         this.sessionManager = UserSessionManager.getInstance(context);
+        this.syncManager = SyncManager.getInstance(context);
+        this.favoriteIdStore = FavoriteIdStore.getInstance(context);
+        this.imagePinStore = ImagePinStore.getInstance(context);
     }
     private String getLocalUserId() {
         return sessionManager.getCurrentUserIdOrNull();
@@ -33,9 +55,6 @@ public class FavouritesRepository {
     private boolean isUserLoggedIn() {
         return sessionManager.hasValidSession();
     }
-    private boolean isNetworkAvailable() {
-        return favouriteRemoteDatasource.isNetworkAvailable();
-    }
     public Completable removeFromFavorites(String mealId) {
         if (mealId == null || mealId.isEmpty()) {
             return Completable.error(new IllegalArgumentException("MealId is required"));
@@ -48,20 +67,14 @@ public class FavouritesRepository {
             return Completable.error(new IllegalStateException("User not logged in"));
         }
 
-        // Remove from local DB first
-        Completable localRemove = favouriteLocalDatasource.removeFromFavorites(mealId, localUserId);
-
-        // Then sync to Firestore
-        Completable firestoreSync = Completable.defer(() -> {
-            if (firebaseUserId != null && isNetworkAvailable()) {
-                return favouriteRemoteDatasource.removeFavoriteFromFirestore(firebaseUserId, mealId)
-                        .onErrorComplete();
-            }
-            return Completable.complete();
-        });
+        // Removed and queued for upload in one transaction
+        FavoriteOutboxEntity change = new FavoriteOutboxEntity(localUserId, mealId,
+                firebaseUserId, FavoriteOutboxEntity.OP_DELETE);
 
-        return localRemove
-                .andThen(firestoreSync)
+        return favouriteLocalDatasource.removeFromFavorites(change)
+                .doOnComplete(() -> favoriteIdStore.setFavorite(mealId, false))
+                .doOnComplete(imagePinStore::reconcile)
+                .doOnComplete(syncManager::requestFavoritesSync)
                 .subscribeOn(Schedulers.io());
     }
     public Completable removeFromFavorites(Meal meal) {
@@ -77,4 +90,122 @@ public class FavouritesRepository {
         }
         return favouriteLocalDatasource.getFavorites(localUserId);
     }
+
+    public Single<Integer> getPendingChangeCount() {
+        return favouriteLocalDatasource.getPendingFavoriteChangeCount()
+                .subscribeOn(Schedulers.io());
+    }
+
+    /**
+     * Pushes the favourites outbox to Firestore, one WriteBatch per user and at
+     * most {@link FavouriteRemoteDatasource#MAX_BATCH_OPERATIONS} changes per
+     * batch. Each batch is retried with exponential backoff; a batch that still
+     * fails stays in the outbox for the next sync while the others go ahead.
+     */
+    public Completable syncPendingFavorites() {
+        return Completable.defer(() -> {
+            String localUserId = getLocalUserId();
+            String firebaseUserId = getFirebaseUserId();
+
+            Completable assignUid = localUserId != null && firebaseUserId != null
+                    ? favouriteLocalDatasource.assignFirebaseUid(localUserId, firebaseUserId)
+                    : Completable.complete();
+
+            return assignUid
+                    .andThen(favouriteLocalDatasource.getPendingFavoriteChanges())
+                    .flatMapCompletable(changes -> Flowable.fromIterable(toBatches(changes))
+                            .concatMapCompletableDelayError(this::flushBatch));
+        }).subscribeOn(Schedulers.io());
+    }
+
+    private List<List<FavoriteOutboxEntity>> toBatches(List<FavoriteOutboxEntity> changes) {
+        List<List<FavoriteOutboxEntity>> batches = new ArrayList<>();
+        List<FavoriteOutboxEntity> current = null;
+        for (FavoriteOutboxEntity change : changes) {
+            boolean sameUser = current != null
+                    && current.get(0).getUserId().equals(change.getUserId())
+                    && current.get(0).getFirebaseUid().equals(change.getFirebaseUid());
+            if (!sameUser || current.size() >= FavouriteRemoteDatasource.MAX_BATCH_OPERATIONS) {
+                current = new ArrayList<>();
+                batches.add(current);
+            }
+            current.add(change);
+        }
+        return batches;
+    }
+
+    private Completable flushBatch(List<FavoriteOutboxEntity> batch) {
+        String userId = batch.get(0).getUserId();
+        String firebaseUid = batch.get(0).getFirebaseUid();
+
+        List<String> mealIds = new ArrayList<>();
+        List<String> upsertIds = new ArrayList<>();
+        for (FavoriteOutboxEntity change : batch) {
+            mealIds.add(change.getMealId());
+            if (!change.isDelete()) {
+                upsertIds.add(change.getMealId());
+            }
+        }
+
+        Single<List<FavoriteMealEntity>> favorites = upsertIds.isEmpty()
+                ? Single.just(new ArrayList<>())
+                : favouriteLocalDatasource.getFavoritesByMealIds(userId, upsertIds);
+
+        return favorites
+                .flatMapCompletable(found -> {
+                    Map<String, FavoriteMealEntity> byId = new HashMap<>();
+                    for (FavoriteMealEntity entity : found) {
+                        byId.put(entity.getMealId(), entity);
+                    }
+
+                    // An upsert whose row is gone locally was undone; send its delete.
+                    List<FavoriteMealEntity> upserts = new ArrayList<>();
+                    List<String> deletes = new ArrayList<>();
+                    for (FavoriteOutboxEntity change : batch) {
+                        FavoriteMealEntity entity = change.isDelete()
+                                ? null : byId.get(change.getMealId());
+                        if (entity != null) {
+                            upserts.add(entity);
+                        } else {
+                            deletes.add(change.getMealId());
+                        }
+                    }
+                    return RetryWithBackoff.apply(
+                            favouriteRemoteDatasource.commitFavoriteBatch(firebaseUid, upserts, deletes),
+                            MAX_BATCH_RETRIES, BATCH_RETRY_BASE_DELAY_MS);
+                })
+                .andThen(favouriteLocalDatasource.removeFlushedChanges(batch))
+                .onErrorResumeNext(error -> favouriteLocalDatasource
+                        .markChangesFailed(userId, mealIds, error.getMessage())
+                        .onErrorComplete()
+                        .andThen(Completable.error(error)));
+    }
+
+    /**
+     * Mirrors remote favourite changes into Room while subscribed. A burst of
+     * snapshots is merged and written in one transaction once the listener has
+     * been quiet for a short window; nothing is scheduled while it is idle.
+     */
+    public Completable observeRemoteFavoriteChanges() {
+        return Completable.defer(() -> {
+            String localUserId = getLocalUserId();
+            String firebaseUserId = getFirebaseUserId();
+            if (localUserId == null || firebaseUserId == null) {
+                return Completable.complete();
+            }
+
+            return favouriteRemoteDatasource.observeFavoriteChanges(firebaseUserId)
+                    .publish(changes -> changes.buffer(
+                            changes.debounce(REMOTE_CHANGES_WINDOW_MS, TimeUnit.MILLISECONDS)))
+                    .map(batch -> {
+                        FavoriteChangeSet merged = new FavoriteChangeSet();
+                        for (FavoriteChangeSet changes : batch) {
+                            merged.mergeWith(changes);
+                        }
+                        return merged;
+                    })
+                    .concatMapCompletable(changes ->
+                            favouriteLocalDatasource.applyRemoteFavoriteChanges(localUserId, changes));
+        }).subscribeOn(Schedulers.io());
+    }
 }
@@ -2,9 +2,11 @@ package com.example.recipe_android_project.features.favourites.presentation.pres
 
 import android.content.Context;
 
+import com.example.recipe_android_project.core.utils.TextNormalizer;
 import com.example.recipe_android_project.features.favourites.data.repository.FavouritesRepository;
 import com.example.recipe_android_project.features.favourites.presentation.contract.FavouriteContract;
 import com.example.recipe_android_project.features.home.model.Meal;
+import com.example.recipe_android_project.features.search.data.index.TrigramIndex;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,7 +29,10 @@ public class FavouritePresenter implements FavouriteContract.Presenter {
     private final PublishSubject<String> searchSubject = PublishSubject.create();
     private static final long DEBOUNCE_TIMEOUT = 300;
 
+    private static final int FUZZY_RESULT_LIMIT = 20;
+
     private List<Meal> allFavorites = new ArrayList<>();
+    private TrigramIndex<Meal> fuzzyIndex;
 
     private Meal pendingRemoveMeal = null;
     private int pendingRemovePosition = -1;
@@ -93,6 +98,7 @@ public class FavouritePresenter implements FavouriteContract.Presenter {
                             if (isViewAttached()) {
                                 view.hideLoading();
                                 allFavorites = new ArrayList<>(meals);
+                                fuzzyIndex = null;
 
                                 for (Meal meal : allFavorites) {
                                     meal.setFavorite(true);
@@ -140,15 +146,19 @@ public class FavouritePresenter implements FavouriteContract.Presenter {
             return;
         }
 
-        String lowerQuery = query.toLowerCase().trim();
+        String normalizedQuery = TextNormalizer.normalize(query);
 
         List<Meal> filtered = new ArrayList<>();
         for (Meal meal : allFavorites) {
-            if (matchesQuery(meal, lowerQuery)) {
+            if (matchesQuery(meal, normalizedQuery)) {
                 filtered.add(meal);
             }
         }
 
+        if (filtered.isEmpty()) {
+            filtered = getFuzzyIndex().search(query, FUZZY_RESULT_LIMIT);
+        }
+
         if (filtered.isEmpty()) {
             view.showSearchEmpty(query);
         } else {
@@ -160,24 +170,28 @@ public class FavouritePresenter implements FavouriteContract.Presenter {
     private boolean matchesQuery(Meal meal, String query) {
         if (meal == null) return false;
 
-        if (meal.getName() != null
-                && meal.getName().toLowerCase().contains(query)) {
+        if (TextNormalizer.normalize(meal.getName()).contains(query)) {
             return true;
         }
 
-        if (meal.getCategory() != null
-                && meal.getCategory().toLowerCase().contains(query)) {
+        if (TextNormalizer.normalize(meal.getCategory()).contains(query)) {
             return true;
         }
 
-        if (meal.getArea() != null
-                && meal.getArea().toLowerCase().contains(query)) {
+        if (TextNormalizer.normalize(meal.getArea()).contains(query)) {
             return true;
         }
 
         return false;
     }
 
+    private TrigramIndex<Meal> getFuzzyIndex() {
+        if (fuzzyIndex == null) {
+            fuzzyIndex = TrigramIndex.build(allFavorites, Meal::getName);
+        }
+        return fuzzyIndex;
+    }
+
 
     @Override
     public void removeFromFavorites(Meal meal) {
@@ -201,6 +215,7 @@ public class FavouritePresenter implements FavouriteContract.Presenter {
         isRemovingLastItem = wasLastItem;
 
         allFavorites.remove(pendingRemovePosition);
+        fuzzyIndex = null;
 
         if (wasLastItem) {
             view.showEmptyState();
@@ -257,6 +272,7 @@ public class FavouritePresenter implements FavouriteContract.Presenter {
         } else {
             allFavorites.add(0, restoredMeal);
         }
+        fuzzyIndex = null;
 
         if (isViewAttached()) {
             filterFavorites(currentQuery);
@@ -293,6 +309,7 @@ public class FavouritePresenter implements FavouriteContract.Presenter {
                             isRemovingLastItem = false;
                             if (isViewAttached()) {
                                 allFavorites.add(0, mealToRemove);
+                                fuzzyIndex = null;
                                 filterFavorites(currentQuery);
                                 view.onRemoveError(
                                         getErrorMessage(throwable,
@@ -9,67 +9,75 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.airbnb.lottie.LottieAnimationView;
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
 import com.bumptech.glide.load.DataSource;
 import com.bumptech.glide.load.engine.GlideException;
 import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.target.Target;
 import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.config.ImageRequestOptions;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
+import com.example.recipe_android_project.core.utils.ImageUrlPolicy;
 import com.example.recipe_android_project.features.home.model.Meal;
+import com.example.recipe_android_project.features.home.presentation.view.MealDiffCallback;
 import com.google.android.material.card.MaterialCardView;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-public class FavouriteAdapter extends RecyclerView.Adapter<FavouriteAdapter.VH> {
+public class FavouriteAdapter extends ListAdapter<Meal, FavouriteAdapter.VH>
+        implements ListPreloader.PreloadModelProvider<Meal> {
 
     public interface OnFavouriteItemListener {
         void onItemClick(Meal meal, int position);
         void onRemoveClick(Meal meal, int position);
     }
 
-    private List<Meal> items = new ArrayList<>();
     private final OnFavouriteItemListener listener;
+    private RequestManager requestManager;
+    private ImagePinStore imagePinStore;
+    private int thumbSizePx;
 
     private static final int COLOR_FAVORITE_BG = 0xFFFF7A1A;
     private static final int COLOR_FAVORITE_ICON = 0xFFFFFFFF;
 
     public FavouriteAdapter(OnFavouriteItemListener listener) {
+        super(new MealDiffCallback());
         this.listener = listener;
+        setHasStableIds(true);
     }
 
     public void setItems(List<Meal> newItems) {
-        if (newItems == null) {
-            newItems = new ArrayList<>();
-        }
-
-        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new MealDiffCallback(items, newItems));
-        items = new ArrayList<>(newItems);
-        diffResult.dispatchUpdatesTo(this);
+        submitList(newItems != null ? new ArrayList<>(newItems) : new ArrayList<>());
     }
 
-    public void setItemsImmediate(List<Meal> newItems) {
-        if (newItems == null) {
-            newItems = new ArrayList<>();
-        }
-        items = new ArrayList<>(newItems);
-        notifyDataSetChanged();
-    }
+    /**
+     * Submitting null skips the diff, so the list empties right away.
+     */
     public void clearItemsImmediate() {
-        items.clear();
-        notifyDataSetChanged();
+        submitList(null);
     }
 
     public boolean isEmpty() {
-        return items.isEmpty();
+        return getItemCount() == 0;
     }
 
     public int getSize() {
-        return items.size();
+        return getItemCount();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        Meal meal = getItem(position);
+        return meal != null ? MealDiffCallback.stableId(meal.getId()) : RecyclerView.NO_ID;
     }
 
     @NonNull
@@ -82,7 +90,7 @@ public class FavouriteAdapter extends RecyclerView.Adapter<FavouriteAdapter.VH>
 
     @Override
     public void onBindViewHolder(@NonNull VH holder, int position) {
-        Meal meal = items.get(position);
+        Meal meal = getItem(position);
         if (meal == null) return;
 
         holder.tvTitle.setText(meal.getName() != null ? meal.getName() : "");
@@ -98,9 +106,7 @@ public class FavouriteAdapter extends RecyclerView.Adapter<FavouriteAdapter.VH>
         holder.imgLoader.setVisibility(View.VISIBLE);
         holder.imgLoader.playAnimation();
 
-        Glide.with(holder.itemView.getContext())
-                .load(meal.getThumbnailUrl())
-                .centerCrop()
+        thumbnailRequest(Glide.with(holder.itemView.getContext()), meal)
                 .error(R.drawable.ic_error)
                 .listener(new RequestListener<Drawable>() {
                     @Override
@@ -150,8 +156,33 @@ public class FavouriteAdapter extends RecyclerView.Adapter<FavouriteAdapter.VH>
     }
 
     @Override
-    public int getItemCount() {
-        return items.size();
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        requestManager = Glide.with(recyclerView);
+        imagePinStore = ImagePinStore.getInstance(recyclerView.getContext());
+        thumbSizePx = recyclerView.getResources().getDimensionPixelSize(R.dimen.meal_thumb_size);
+    }
+
+    @NonNull
+    @Override
+    public List<Meal> getPreloadItems(int position) {
+        if (position < 0 || position >= getItemCount()) return Collections.emptyList();
+        Meal item = getItem(position);
+        return item != null ? Collections.singletonList(item) : Collections.emptyList();
+    }
+
+    @Nullable
+    @Override
+    public RequestBuilder<?> getPreloadRequestBuilder(@NonNull Meal item) {
+        return requestManager != null ? thumbnailRequest(requestManager, item) : null;
+    }
+
+    private RequestBuilder<Drawable> thumbnailRequest(RequestManager glide, Meal item) {
+        return glide
+                .load(imagePinStore.resolve(
+                        ImageUrlPolicy.mealThumbnail(item.getThumbnailUrl(), thumbSizePx)))
+                .centerCrop()
+                .apply(ImageRequestOptions.listThumbnail());
     }
 
     @Override
@@ -178,45 +209,4 @@ public class FavouriteAdapter extends RecyclerView.Adapter<FavouriteAdapter.VH>
             imgLoader = itemView.findViewById(R.id.lottieImgLoading);
         }
     }
-
-    private static class MealDiffCallback extends DiffUtil.Callback {
-        private final List<Meal> oldList;
-        private final List<Meal> newList;
-
-        MealDiffCallback(List<Meal> oldList, List<Meal> newList) {
-            this.oldList = oldList;
-            this.newList = newList;
-        }
-
-        @Override
-        public int getOldListSize() {
-            return oldList.size();
-        }
-
-        @Override
-        public int getNewListSize() {
-            return newList.size();
-        }
-
-        @Override
-        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
-            Meal oldMeal = oldList.get(oldItemPosition);
-            Meal newMeal = newList.get(newItemPosition);
-
-            if (oldMeal == null || newMeal == null) return false;
-            if (oldMeal.getId() == null || newMeal.getId() == null) return false;
-
-            return oldMeal.getId().equals(newMeal.getId());
-        }
-
-        @Override
-        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
-            Meal oldMeal = oldList.get(oldItemPosition);
-            Meal newMeal = newList.get(newItemPosition);
-
-            if (oldMeal == null || newMeal == null) return false;
-
-            return oldMeal.equals(newMeal);
-        }
-    }
 }
@@ -24,6 +24,7 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.airbnb.lottie.LottieAnimationView;
 import com.example.recipe_android_project.R;
 import com.example.recipe_android_project.core.ui.AlertDialogHelper;
+import com.example.recipe_android_project.core.ui.ImagePreloader;
 import com.example.recipe_android_project.core.ui.SnackbarHelper;
 import com.example.recipe_android_project.features.favourites.presentation.contract.FavouriteContract;
 import com.example.recipe_android_project.features.favourites.presentation.presenter.FavouritePresenter;
@@ -98,6 +99,7 @@ public class FavouriteFragment extends Fragment implements
         rvFavorites.setItemAnimator(null); // DISABLE item animator to prevent flicker
         adapter = new FavouriteAdapter(this);
         rvFavorites.setAdapter(adapter);
+        ImagePreloader.attach(rvFavorites, adapter, R.dimen.meal_thumb_size);
     }
 
     private void setupSearch() {
@@ -176,7 +178,7 @@ public class FavouriteFragment extends Fragment implements
 
         rvFavorites.setVisibility(View.VISIBLE);
 
-        adapter.setItemsImmediate(meals);
+        adapter.setItems(meals);
 
         updateFavoritesCount(meals.size());
     }
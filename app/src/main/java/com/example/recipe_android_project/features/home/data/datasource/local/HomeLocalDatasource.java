@@ -3,7 +3,9 @@ package com.example.recipe_android_project.features.home.data.datasource.local;
 import android.content.Context;
 
 import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogEntity;
 import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
 import com.example.recipe_android_project.features.home.model.Meal;
 
@@ -16,37 +18,34 @@ import io.reactivex.rxjava3.core.Single;
 public class HomeLocalDatasource {
 
     private final MealDao mealDao;
+    private final MealCatalogDao catalogDao;
 
     public HomeLocalDatasource(Context context) {
         DbManager dbManager = DbManager.getInstance(context);
         this.mealDao = dbManager.favoriteMealDao();
+        this.catalogDao = dbManager.mealCatalogDao();
     }
-    public Completable addToFavorites(FavoriteMealEntity entity) {
-        return mealDao.insertFavorite(entity);
+    public Completable addToFavorites(FavoriteMealEntity entity, FavoriteOutboxEntity change) {
+        return Completable.fromAction(() -> mealDao.upsertFavoriteAndEnqueue(entity, change))
+                .andThen(catalogDao.insertIfAbsent(MealMapper.toCatalogEntity(entity))
+                        .onErrorComplete());
     }
 
-    public Completable addToFavorites(Meal meal, String userId) {
-        FavoriteMealEntity entity = MealMapper.toEntity(meal, userId);
-        if (entity == null) {
-            return Completable.error(new IllegalArgumentException("Invalid meal or userId"));
-        }
-        return mealDao.insertFavorite(entity);
-    }
-    public Completable removeFromFavorites(FavoriteMealEntity entity) {
-        return mealDao.deleteFavorite(entity);
-    }
-
-    public Completable removeFromFavorites(String mealId, String userId) {
-        return mealDao.deleteFavoriteByMealIdAndUserId(mealId, userId);
-    }
-    public Single<List<FavoriteMealEntity>> getFavoriteEntitiesSingle(String userId) {
-        return mealDao.getAllFavoritesByUserIdSingle(userId);
+    public Completable removeFromFavorites(FavoriteOutboxEntity change) {
+        return Completable.fromAction(() -> mealDao.deleteFavoriteAndEnqueue(change));
     }
     public Flowable<List<Meal>> getFavorites(String userId) {
         return mealDao.getAllFavoritesByUserId(userId)
                 .map(MealMapper::toDomainListFromEntities);
     }
-    public Single<Boolean> isFavorite(String mealId, String userId) {
-        return mealDao.isFavorite(mealId, userId);
+    public Single<List<Meal>> getCatalogMealsByFirstLetter(String firstLetter) {
+        return catalogDao.getMealsByFirstLetter(firstLetter)
+                .map(MealMapper::toDomainListFromCatalog);
+    }
+    public Completable saveToCatalog(List<MealCatalogEntity> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return Completable.complete();
+        }
+        return catalogDao.upsertAll(entities);
     }
 }
@@ -0,0 +1,60 @@
+package com.example.recipe_android_project.features.home.data.datasource.local;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Upsert;
+
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealIngredientsTuple;
+import com.example.recipe_android_project.features.home.data.entities.MealNameTuple;
+import com.example.recipe_android_project.features.home.data.entities.MealSearchMatch;
+
+import java.util.List;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+
+@Dao
+public interface MealCatalogDao {
+
+    @Upsert
+    Completable upsertAll(List<MealCatalogEntity> meals);
+
+    @Upsert
+    Completable upsert(MealCatalogEntity meal);
+
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    Completable insertIfAbsent(MealCatalogEntity meal);
+
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    Completable insertAllIfAbsent(List<MealCatalogEntity> meals);
+
+    @Query("SELECT * FROM meal_catalog WHERE meal_id = :mealId LIMIT 1")
+    Maybe<MealCatalogEntity> getMealById(String mealId);
+
+    @Query("SELECT * FROM meal_catalog WHERE first_letter = :firstLetter ORDER BY name")
+    Single<List<MealCatalogEntity>> getMealsByFirstLetter(String firstLetter);
+
+    @Query("SELECT meal_catalog.*, matchinfo(meal_catalog_fts, 'pcnalx') AS match_info " +
+            "FROM meal_catalog JOIN meal_catalog_fts ON meal_catalog.rowid = meal_catalog_fts.docid " +
+            "WHERE meal_catalog_fts MATCH :ftsQuery")
+    Single<List<MealSearchMatch>> searchFts(String ftsQuery);
+
+    @Query("SELECT * FROM meal_catalog WHERE meal_id IN (:mealIds)")
+    Single<List<MealCatalogEntity>> getMealsByIds(List<String> mealIds);
+
+    @Query("SELECT meal_id, ingredients_json FROM meal_catalog WHERE meal_id IN (:mealIds)")
+    List<MealIngredientsTuple> findMealIngredients(List<String> mealIds);
+
+    @Query("SELECT meal_id, ingredients_json FROM meal_catalog")
+    Single<List<MealIngredientsTuple>> getAllMealIngredients();
+
+    @Query("SELECT meal_id, name FROM meal_catalog WHERE name IS NOT NULL")
+    Single<List<MealNameTuple>> getAllMealNames();
+
+    @Query("SELECT COUNT(*) FROM meal_catalog")
+    Single<Integer> getCount();
+}
@@ -5,10 +5,18 @@ import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.rxjava3.EmptyResultSetException;
 
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
+import com.example.recipe_android_project.features.home.data.entities.FavoriteIngredientEntity;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
@@ -18,10 +26,70 @@ import io.reactivex.rxjava3.core.Single;
 public interface MealDao {
 
     @Insert(onConflict = OnConflictStrategy.REPLACE)
-    Completable insertFavorite(FavoriteMealEntity meal);
+    void insertFavoriteRows(List<FavoriteMealEntity> meals);
 
     @Insert(onConflict = OnConflictStrategy.REPLACE)
-    Completable insertAllFavorites(List<FavoriteMealEntity> meals);
+    void insertIngredientRows(List<FavoriteIngredientEntity> ingredients);
+
+    @Query("DELETE FROM favorite_meal_ingredients WHERE meal_id = :mealId AND user_id = :userId")
+    void deleteIngredientRows(String mealId, String userId);
+
+    /**
+     * Writes favourites together with their ingredient rows, replacing any
+     * ingredients stored for the same meal before.
+     */
+    @Transaction
+    default void upsertFavorites(List<FavoriteMealEntity> meals) {
+        insertFavoriteRows(meals);
+
+        List<FavoriteIngredientEntity> rows = new ArrayList<>();
+        for (FavoriteMealEntity meal : meals) {
+            deleteIngredientRows(meal.getMealId(), meal.getUserId());
+            List<FavoriteIngredientEntity> ingredients = meal.getIngredients();
+            if (ingredients == null) continue;
+
+            for (int i = 0; i < ingredients.size(); i++) {
+                FavoriteIngredientEntity row = ingredients.get(i);
+                row.setMealId(meal.getMealId());
+                row.setUserId(meal.getUserId());
+                row.setPosition(i);
+                rows.add(row);
+            }
+        }
+        if (!rows.isEmpty()) {
+            insertIngredientRows(rows);
+        }
+    }
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertOutboxRow(FavoriteOutboxEntity change);
+
+    @Query("DELETE FROM favorite_meals WHERE meal_id = :mealId AND user_id = :userId")
+    void deleteFavoriteRow(String mealId, String userId);
+
+    /**
+     * Saves a favourite and queues its upload in one transaction, so the row
+     * is never stored without the outbox entry that pushes it.
+     */
+    @Transaction
+    default void upsertFavoriteAndEnqueue(FavoriteMealEntity meal, FavoriteOutboxEntity change) {
+        upsertFavorites(Collections.singletonList(meal));
+        insertOutboxRow(change);
+    }
+
+    @Transaction
+    default void deleteFavoriteAndEnqueue(FavoriteOutboxEntity change) {
+        deleteFavoriteRow(change.getMealId(), change.getUserId());
+        insertOutboxRow(change);
+    }
+
+    default Completable insertFavorite(FavoriteMealEntity meal) {
+        return Completable.fromAction(() -> upsertFavorites(Collections.singletonList(meal)));
+    }
+
+    default Completable insertAllFavorites(List<FavoriteMealEntity> meals) {
+        return Completable.fromAction(() -> upsertFavorites(meals));
+    }
 
     @Delete
     Completable deleteFavorite(FavoriteMealEntity meal);
@@ -29,15 +97,76 @@ public interface MealDao {
     @Query("DELETE FROM favorite_meals WHERE meal_id = :mealId AND user_id = :userId")
     Completable deleteFavoriteByMealIdAndUserId(String mealId, String userId);
 
+    @Query("DELETE FROM favorite_meals WHERE user_id = :userId AND meal_id IN (:mealIds)")
+    Completable deleteFavoritesByMealIds(String userId, List<String> mealIds);
+
+    // List queries leave FavoriteMealEntity#getIngredients() null; screens
+    // showing favourites as cards never need them.
     @Query("SELECT * FROM favorite_meals WHERE user_id = :userId ORDER BY created_at DESC")
     Flowable<List<FavoriteMealEntity>> getAllFavoritesByUserId(String userId);
 
-    @Query("SELECT * FROM favorite_meals WHERE user_id = :userId ORDER BY created_at DESC")
-    Single<List<FavoriteMealEntity>> getAllFavoritesByUserIdSingle(String userId);
+    @Query("SELECT meal_id FROM favorite_meals WHERE user_id = :userId")
+    Flowable<List<String>> observeFavoriteIds(String userId);
+
+    @Query("SELECT meal_id FROM favorite_meals WHERE user_id = :userId")
+    List<String> findFavoriteIdList(String userId);
+
+    @Query("SELECT COUNT(*) FROM favorite_meals WHERE user_id = :userId")
+    int countFavorites(String userId);
+
+    @Query("SELECT thumbnail_url FROM favorite_meals " +
+            "WHERE user_id = :userId AND thumbnail_url IS NOT NULL")
+    List<String> findFavoriteThumbnails(String userId);
+
+    @Query("SELECT DISTINCT name FROM favorite_meal_ingredients WHERE user_id = :userId")
+    List<String> findFavoriteIngredientNames(String userId);
+
+    @Query("SELECT * FROM favorite_meals WHERE user_id = :userId AND meal_id IN (:mealIds)")
+    List<FavoriteMealEntity> findFavoriteRows(String userId, List<String> mealIds);
+
+    @Query("SELECT * FROM favorite_meal_ingredients " +
+            "WHERE user_id = :userId AND meal_id IN (:mealIds) ORDER BY meal_id, position")
+    List<FavoriteIngredientEntity> findIngredientRows(String userId, List<String> mealIds);
+
+    /**
+     * Loads favourites with their ingredients attached. Favourites are keyed by
+     * (meal_id, user_id), which a single-column {@code @Relation} cannot
+     * express, so the two reads are joined here inside one transaction.
+     */
+    @Transaction
+    default List<FavoriteMealEntity> loadFavoritesWithIngredients(String userId, List<String> mealIds) {
+        List<FavoriteMealEntity> meals = findFavoriteRows(userId, mealIds);
+        if (meals.isEmpty()) return meals;
+
+        Map<String, List<FavoriteIngredientEntity>> byMeal = new HashMap<>();
+        for (FavoriteIngredientEntity row : findIngredientRows(userId, mealIds)) {
+            List<FavoriteIngredientEntity> list = byMeal.get(row.getMealId());
+            if (list == null) {
+                list = new ArrayList<>();
+                byMeal.put(row.getMealId(), list);
+            }
+            list.add(row);
+        }
+        for (FavoriteMealEntity meal : meals) {
+            List<FavoriteIngredientEntity> ingredients = byMeal.get(meal.getMealId());
+            meal.setIngredients(ingredients != null ? ingredients : new ArrayList<>());
+        }
+        return meals;
+    }
+
+    default Single<List<FavoriteMealEntity>> getFavoritesByMealIds(String userId, List<String> mealIds) {
+        return Single.fromCallable(() -> loadFavoritesWithIngredients(userId, mealIds));
+    }
 
-    @Query("SELECT EXISTS(SELECT 1 FROM favorite_meals WHERE meal_id = :mealId AND user_id = :userId)")
-    Single<Boolean> isFavorite(String mealId, String userId);
-    @Query("SELECT * FROM favorite_meals WHERE meal_id = :mealId AND user_id = :userId LIMIT 1")
-    Single<FavoriteMealEntity> getFavoriteMealById(String mealId, String userId);
+    default Single<FavoriteMealEntity> getFavoriteMealById(String mealId, String userId) {
+        return Single.fromCallable(() -> {
+            List<FavoriteMealEntity> found =
+                    loadFavoritesWithIngredients(userId, Collections.singletonList(mealId));
+            if (found.isEmpty()) {
+                throw new EmptyResultSetException("No favourite " + mealId + " for user " + userId);
+            }
+            return found.get(0);
+        });
+    }
 
 }
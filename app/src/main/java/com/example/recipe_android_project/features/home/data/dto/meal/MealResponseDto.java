@@ -2,30 +2,31 @@ package com.example.recipe_android_project.features.home.data.dto.meal;
 
 import androidx.annotation.Nullable;
 
-import com.google.gson.annotations.Expose;
-import com.google.gson.annotations.SerializedName;
+import com.example.recipe_android_project.features.home.model.Meal;
 
 import java.io.Serializable;
 import java.util.List;
 
+/**
+ * Envelope for TheMealDB meal endpoints. Decoded by {@link MealResponseTypeAdapter},
+ * which is registered on the Retrofit Gson instance.
+ */
 public class MealResponseDto implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
-    @SerializedName("meals")
-    @Expose
     @Nullable
-    private List<MealDto> meals;
+    private List<Meal> meals;
 
     public MealResponseDto() {
     }
 
     @Nullable
-    public List<MealDto> getMeals() {
+    public List<Meal> getMeals() {
         return meals;
     }
 
-    public void setMeals(@Nullable List<MealDto> meals) {
+    public void setMeals(@Nullable List<Meal> meals) {
         this.meals = meals;
     }
 }
@@ -0,0 +1,232 @@
+package com.example.recipe_android_project.features.home.data.dto.meal;
+
+import com.example.recipe_android_project.features.home.model.Ingredient;
+import com.example.recipe_android_project.features.home.model.Meal;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Streams TheMealDB's {@code {"meals": [...]}} payload straight into {@link Meal} objects.
+ * The API flattens ingredients into {@code strIngredient1..20} / {@code strMeasure1..20};
+ * blank slots are skipped as they are read instead of being materialised first.
+ */
+public final class MealResponseTypeAdapter extends TypeAdapter<MealResponseDto> {
+
+    private static final String FIELD_MEALS = "meals";
+    private static final String PREFIX_INGREDIENT = "strIngredient";
+    private static final String PREFIX_MEASURE = "strMeasure";
+    private static final int MAX_INGREDIENT_SLOTS = 20;
+
+    @Override
+    public MealResponseDto read(JsonReader in) throws IOException {
+        MealResponseDto response = new MealResponseDto();
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return response;
+        }
+
+        in.beginObject();
+        while (in.hasNext()) {
+            if (FIELD_MEALS.equals(in.nextName()) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                response.setMeals(readMeals(in));
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return response;
+    }
+
+    private List<Meal> readMeals(JsonReader in) throws IOException {
+        List<Meal> meals = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            if (in.peek() == JsonToken.BEGIN_OBJECT) {
+                meals.add(readMeal(in));
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endArray();
+        return meals;
+    }
+
+    private Meal readMeal(JsonReader in) throws IOException {
+        Meal meal = new Meal();
+        String[] names = new String[MAX_INGREDIENT_SLOTS];
+        String[] measures = new String[MAX_INGREDIENT_SLOTS];
+        int namesRead = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+
+            int slot = slotIndex(field, PREFIX_INGREDIENT);
+            if (slot >= 0) {
+                names[slot] = nextTrimmedOrNull(in);
+                namesRead |= 1 << slot;
+                continue;
+            }
+            slot = slotIndex(field, PREFIX_MEASURE);
+            if (slot >= 0) {
+                // Measures follow their ingredients in the payload, so a measure
+                // for an empty slot can be skipped without reading it.
+                if (names[slot] == null && (namesRead & (1 << slot)) != 0) {
+                    in.skipValue();
+                } else {
+                    measures[slot] = nextTrimmedOrNull(in);
+                }
+                continue;
+            }
+
+            switch (field) {
+                case "idMeal":
+                    meal.setId(nextStringOrNull(in));
+                    break;
+                case "strMeal":
+                    meal.setName(nextStringOrNull(in));
+                    break;
+                case "strMealAlternate":
+                    meal.setAlternateName(nextStringOrNull(in));
+                    break;
+                case "strCategory":
+                    meal.setCategory(nextStringOrNull(in));
+                    break;
+                case "strArea":
+                    meal.setArea(nextStringOrNull(in));
+                    break;
+                case "strInstructions":
+                    meal.setInstructions(nextStringOrNull(in));
+                    break;
+                case "strMealThumb":
+                    meal.setThumbnailUrl(nextStringOrNull(in));
+                    break;
+                case "strTags":
+                    meal.setTags(nextStringOrNull(in));
+                    break;
+                case "strYoutube":
+                    meal.setYoutubeUrl(nextStringOrNull(in));
+                    break;
+                case "strSource":
+                    meal.setSourceUrl(nextStringOrNull(in));
+                    break;
+                case "strImageSource":
+                    meal.setImageSource(nextStringOrNull(in));
+                    break;
+                case "strCreativeCommonsConfirmed":
+                    meal.setCreativeCommonsConfirmed(nextStringOrNull(in));
+                    break;
+                case "dateModified":
+                    meal.setDateModified(nextStringOrNull(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+
+        List<Ingredient> ingredients = new ArrayList<>();
+        for (int i = 0; i < MAX_INGREDIENT_SLOTS; i++) {
+            if (names[i] != null) {
+                ingredients.add(new Ingredient(names[i], measures[i] != null ? measures[i] : ""));
+            }
+        }
+        meal.setIngredients(ingredients);
+        meal.setFavorite(false);
+        meal.setCreatedAt(System.currentTimeMillis());
+        return meal;
+    }
+
+    @Override
+    public void write(JsonWriter out, MealResponseDto response) throws IOException {
+        if (response == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name(FIELD_MEALS);
+        List<Meal> meals = response.getMeals();
+        if (meals == null) {
+            out.nullValue();
+        } else {
+            out.beginArray();
+            for (Meal meal : meals) {
+                writeMeal(out, meal);
+            }
+            out.endArray();
+        }
+        out.endObject();
+    }
+
+    private void writeMeal(JsonWriter out, Meal meal) throws IOException {
+        out.beginObject();
+        out.name("idMeal").value(meal.getId());
+        out.name("strMeal").value(meal.getName());
+        out.name("strMealAlternate").value(meal.getAlternateName());
+        out.name("strCategory").value(meal.getCategory());
+        out.name("strArea").value(meal.getArea());
+        out.name("strInstructions").value(meal.getInstructions());
+        out.name("strMealThumb").value(meal.getThumbnailUrl());
+        out.name("strTags").value(meal.getTags());
+        out.name("strYoutube").value(meal.getYoutubeUrl());
+
+        List<Ingredient> ingredients = meal.getIngredients() != null
+                ? meal.getIngredients() : Collections.emptyList();
+        int count = Math.min(ingredients.size(), MAX_INGREDIENT_SLOTS);
+        for (int i = 0; i < MAX_INGREDIENT_SLOTS; i++) {
+            out.name(PREFIX_INGREDIENT + (i + 1)).value(i < count ? ingredients.get(i).getName() : "");
+        }
+        for (int i = 0; i < MAX_INGREDIENT_SLOTS; i++) {
+            out.name(PREFIX_MEASURE + (i + 1)).value(i < count ? ingredients.get(i).getMeasure() : "");
+        }
+
+        out.name("strSource").value(meal.getSourceUrl());
+        out.name("strImageSource").value(meal.getImageSource());
+        out.name("strCreativeCommonsConfirmed").value(meal.getCreativeCommonsConfirmed());
+        out.name("dateModified").value(meal.getDateModified());
+        out.endObject();
+    }
+
+    /**
+     * Returns the zero-based slot for {@code strIngredientN} / {@code strMeasureN}, or -1.
+     * Parsed in place to avoid a substring per field.
+     */
+    private static int slotIndex(String field, String prefix) {
+        int length = field.length();
+        int start = prefix.length();
+        if (length <= start || length > start + 2 || !field.startsWith(prefix)) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < length; i++) {
+            char c = field.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value >= 1 && value <= MAX_INGREDIENT_SLOTS ? value - 1 : -1;
+    }
+
+    private static String nextStringOrNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    private static String nextTrimmedOrNull(JsonReader in) throws IOException {
+        String value = nextStringOrNull(in);
+        if (value == null) return null;
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+}
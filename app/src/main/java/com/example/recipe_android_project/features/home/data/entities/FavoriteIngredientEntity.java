@@ -0,0 +1,108 @@
+package com.example.recipe_android_project.features.home.data.entities;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Ignore;
+
+import java.io.Serializable;
+
+/**
+ * One ingredient line of a favourite meal. Rows are removed together with
+ * their {@link FavoriteMealEntity}; {@code position} keeps the recipe order.
+ */
+@Entity(
+        tableName = "favorite_meal_ingredients",
+        primaryKeys = {"meal_id", "user_id", "position"},
+        foreignKeys = @ForeignKey(
+                entity = FavoriteMealEntity.class,
+                parentColumns = {"meal_id", "user_id"},
+                childColumns = {"meal_id", "user_id"},
+                onDelete = ForeignKey.CASCADE
+        )
+)
+public class FavoriteIngredientEntity implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NonNull
+    @ColumnInfo(name = "meal_id")
+    private String mealId;
+
+    @NonNull
+    @ColumnInfo(name = "user_id")
+    private String userId;
+
+    @ColumnInfo(name = "position")
+    private int position;
+
+    @NonNull
+    @ColumnInfo(name = "name")
+    private String name;
+
+    @Nullable
+    @ColumnInfo(name = "measure")
+    private String measure;
+
+    public FavoriteIngredientEntity() {
+        this.mealId = "";
+        this.userId = "";
+        this.name = "";
+    }
+
+    @Ignore
+    public FavoriteIngredientEntity(@NonNull String mealId, @NonNull String userId, int position,
+                                    @NonNull String name, @Nullable String measure) {
+        this.mealId = mealId;
+        this.userId = userId;
+        this.position = position;
+        this.name = name;
+        this.measure = measure;
+    }
+
+    @NonNull
+    public String getMealId() {
+        return mealId;
+    }
+
+    public void setMealId(@NonNull String mealId) {
+        this.mealId = mealId;
+    }
+
+    @NonNull
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(@NonNull String userId) {
+        this.userId = userId;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    public void setName(@NonNull String name) {
+        this.name = name;
+    }
+
+    @Nullable
+    public String getMeasure() {
+        return measure;
+    }
+
+    public void setMeasure(@Nullable String measure) {
+        this.measure = measure;
+    }
+}
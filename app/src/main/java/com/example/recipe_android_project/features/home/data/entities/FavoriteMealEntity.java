@@ -5,12 +5,14 @@ import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.ForeignKey;
+import androidx.room.Ignore;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
 import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
 
 import java.io.Serializable;
+import java.util.List;
 
 @Entity(
         tableName = "favorite_meals",
@@ -86,9 +88,10 @@ public class FavoriteMealEntity implements Serializable {
     @ColumnInfo(name = "date_modified")
     private String dateModified;
 
+    // Stored in favorite_meal_ingredients; only populated when a query asks for it.
+    @Ignore
     @Nullable
-    @ColumnInfo(name = "ingredients_json")
-    private String ingredientsJson;
+    private List<FavoriteIngredientEntity> ingredients;
 
     @ColumnInfo(name = "created_at")
     private long createdAt;
@@ -236,12 +239,12 @@ public class FavoriteMealEntity implements Serializable {
     }
 
     @Nullable
-    public String getIngredientsJson() {
-        return ingredientsJson;
+    public List<FavoriteIngredientEntity> getIngredients() {
+        return ingredients;
     }
 
-    public void setIngredientsJson(@Nullable String ingredientsJson) {
-        this.ingredientsJson = ingredientsJson;
+    public void setIngredients(@Nullable List<FavoriteIngredientEntity> ingredients) {
+        this.ingredients = ingredients;
     }
 
     public long getCreatedAt() {
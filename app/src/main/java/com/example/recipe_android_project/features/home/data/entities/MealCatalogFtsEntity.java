@@ -0,0 +1,91 @@
+package com.example.recipe_android_project.features.home.data.entities;
+
+import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+
+@Fts4(contentEntity = MealCatalogEntity.class)
+@Entity(tableName = "meal_catalog_fts")
+public class MealCatalogFtsEntity {
+
+    @Nullable
+    @ColumnInfo(name = "name")
+    private String name;
+
+    @Nullable
+    @ColumnInfo(name = "category")
+    private String category;
+
+    @Nullable
+    @ColumnInfo(name = "area")
+    private String area;
+
+    @Nullable
+    @ColumnInfo(name = "tags")
+    private String tags;
+
+    @Nullable
+    @ColumnInfo(name = "ingredients_text")
+    private String ingredientsText;
+
+    @Nullable
+    @ColumnInfo(name = "instructions")
+    private String instructions;
+
+    // ==================== GETTERS & SETTERS ====================
+
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
+    public void setName(@Nullable String name) {
+        this.name = name;
+    }
+
+    @Nullable
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(@Nullable String category) {
+        this.category = category;
+    }
+
+    @Nullable
+    public String getArea() {
+        return area;
+    }
+
+    public void setArea(@Nullable String area) {
+        this.area = area;
+    }
+
+    @Nullable
+    public String getTags() {
+        return tags;
+    }
+
+    public void setTags(@Nullable String tags) {
+        this.tags = tags;
+    }
+
+    @Nullable
+    public String getIngredientsText() {
+        return ingredientsText;
+    }
+
+    public void setIngredientsText(@Nullable String ingredientsText) {
+        this.ingredientsText = ingredientsText;
+    }
+
+    @Nullable
+    public String getInstructions() {
+        return instructions;
+    }
+
+    public void setInstructions(@Nullable String instructions) {
+        this.instructions = instructions;
+    }
+}
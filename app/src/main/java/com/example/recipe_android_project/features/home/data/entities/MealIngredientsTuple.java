@@ -0,0 +1,35 @@
+package com.example.recipe_android_project.features.home.data.entities;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+
+public class MealIngredientsTuple {
+
+    @NonNull
+    @ColumnInfo(name = "meal_id")
+    private String mealId;
+
+    @ColumnInfo(name = "ingredients_json")
+    private String ingredientsJson;
+
+    public MealIngredientsTuple() {
+        this.mealId = "";
+    }
+
+    @NonNull
+    public String getMealId() {
+        return mealId;
+    }
+
+    public void setMealId(@NonNull String mealId) {
+        this.mealId = mealId;
+    }
+
+    public String getIngredientsJson() {
+        return ingredientsJson;
+    }
+
+    public void setIngredientsJson(String ingredientsJson) {
+        this.ingredientsJson = ingredientsJson;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.recipe_android_project.features.home.data.entities;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+
+public class MealNameTuple {
+
+    @NonNull
+    @ColumnInfo(name = "meal_id")
+    private String mealId;
+
+    @ColumnInfo(name = "name")
+    private String name;
+
+    public MealNameTuple() {
+        this.mealId = "";
+    }
+
+    @NonNull
+    public String getMealId() {
+        return mealId;
+    }
+
+    public void setMealId(@NonNull String mealId) {
+        this.mealId = mealId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
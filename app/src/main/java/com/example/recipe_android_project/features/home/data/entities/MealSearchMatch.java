@@ -0,0 +1,36 @@
+package com.example.recipe_android_project.features.home.data.entities;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Embedded;
+
+public class MealSearchMatch {
+
+    @NonNull
+    @Embedded
+    private MealCatalogEntity meal;
+
+    @ColumnInfo(name = "match_info")
+    private byte[] matchInfo;
+
+    public MealSearchMatch() {
+        this.meal = new MealCatalogEntity();
+    }
+
+    @NonNull
+    public MealCatalogEntity getMeal() {
+        return meal;
+    }
+
+    public void setMeal(@NonNull MealCatalogEntity meal) {
+        this.meal = meal;
+    }
+
+    public byte[] getMatchInfo() {
+        return matchInfo;
+    }
+
+    public void setMatchInfo(byte[] matchInfo) {
+        this.matchInfo = matchInfo;
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.recipe_android_project.features.home.data.mapper;
 
+import com.example.recipe_android_project.features.home.data.entities.FavoriteIngredientEntity;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
-import com.example.recipe_android_project.features.home.data.dto.meal.MealDto;
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogEntity;
 import com.example.recipe_android_project.features.home.model.Ingredient;
 import com.example.recipe_android_project.features.home.model.Meal;
 import com.google.gson.Gson;
@@ -10,6 +11,8 @@ import com.google.gson.reflect.TypeToken;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 public class MealMapper {
 
@@ -36,73 +39,11 @@ public class MealMapper {
         meal.setCreativeCommonsConfirmed(entity.getCreativeCommonsConfirmed());
         meal.setDateModified(entity.getDateModified());
         meal.setFavorite(true); // It's from favorites, so it IS a favorite
-
-        // Parse ingredients from JSON
-        if (entity.getIngredientsJson() != null && !entity.getIngredientsJson().isEmpty()) {
-            try {
-                List<Ingredient> ingredients = parseIngredientsFromJson(entity.getIngredientsJson());
-                meal.setIngredients(ingredients);
-            } catch (Exception e) {
-                meal.setIngredients(new ArrayList<>());
-            }
-        }
-
-        return meal;
-    }
-
-    private static List<Ingredient> parseIngredientsFromJson(String json) {
-        List<Ingredient> ingredients = new ArrayList<>();
-        try {
-            org.json.JSONArray jsonArray = new org.json.JSONArray(json);
-            for (int i = 0; i < jsonArray.length(); i++) {
-                org.json.JSONObject obj = jsonArray.getJSONObject(i);
-                String name = obj.optString("name", "");
-                String measure = obj.optString("measure", "");
-                if (!name.isEmpty()) {
-                    ingredients.add(new Ingredient(name, measure));
-                }
-            }
-        } catch (org.json.JSONException e) {
-            e.printStackTrace();
-        }
-        return ingredients;
-    }
-    public static Meal toDomain(MealDto dto) {
-        if (dto == null) return null;
-
-        Meal meal = new Meal();
-        meal.setId(dto.getIdMeal());
-        meal.setName(dto.getStrMeal());
-        meal.setAlternateName(dto.getStrMealAlternate());
-        meal.setCategory(dto.getStrCategory());
-        meal.setArea(dto.getStrArea());
-        meal.setInstructions(dto.getStrInstructions());
-        meal.setThumbnailUrl(dto.getStrMealThumb());
-        meal.setTags(dto.getStrTags());
-        meal.setYoutubeUrl(dto.getStrYoutube());
-        meal.setSourceUrl(dto.getStrSource());
-        meal.setImageSource(dto.getStrImageSource());
-        meal.setCreativeCommonsConfirmed(dto.getStrCreativeCommonsConfirmed());
-        meal.setDateModified(dto.getDateModified());
-        meal.setIngredients(extractIngredients(dto));
-        meal.setFavorite(false);
-        meal.setCreatedAt(System.currentTimeMillis());
+        meal.setIngredients(fromFavoriteIngredients(entity.getIngredients()));
 
         return meal;
     }
 
-    public static List<Meal> toDomainList(List<MealDto> dtos) {
-        List<Meal> meals = new ArrayList<>();
-        if (dtos != null) {
-            for (MealDto dto : dtos) {
-                Meal meal = toDomain(dto);
-                if (meal != null) {
-                    meals.add(meal);
-                }
-            }
-        }
-        return meals;
-    }
     public static Meal toDomain(FavoriteMealEntity entity) {
         if (entity == null) return null;
 
@@ -120,7 +61,7 @@ public class MealMapper {
         meal.setImageSource(entity.getImageSource());
         meal.setCreativeCommonsConfirmed(entity.getCreativeCommonsConfirmed());
         meal.setDateModified(entity.getDateModified());
-        meal.setIngredients(jsonToIngredients(entity.getIngredientsJson()));
+        meal.setIngredients(fromFavoriteIngredients(entity.getIngredients()));
         meal.setFavorite(true);
         meal.setCreatedAt(entity.getCreatedAt());
 
@@ -156,7 +97,7 @@ public class MealMapper {
         entity.setImageSource(meal.getImageSource());
         entity.setCreativeCommonsConfirmed(meal.getCreativeCommonsConfirmed());
         entity.setDateModified(meal.getDateModified());
-        entity.setIngredientsJson(ingredientsToJson(meal.getIngredients()));
+        entity.setIngredients(toFavoriteIngredients(meal.getIngredients()));
         entity.setCreatedAt(System.currentTimeMillis());
 
         return entity;
@@ -173,61 +114,193 @@ public class MealMapper {
         }
         return entities;
     }
-    public static FavoriteMealEntity toEntity(MealDto dto, String userId) {
-        if (dto == null || userId == null || userId.isEmpty()) return null;
 
-        FavoriteMealEntity entity = new FavoriteMealEntity();
-        entity.setMealId(dto.getIdMeal() != null ? dto.getIdMeal() : "");
-        entity.setUserId(userId);
-        entity.setName(dto.getStrMeal());
-        entity.setAlternateName(dto.getStrMealAlternate());
-        entity.setCategory(dto.getStrCategory());
-        entity.setArea(dto.getStrArea());
-        entity.setInstructions(dto.getStrInstructions());
-        entity.setThumbnailUrl(dto.getStrMealThumb());
-        entity.setTags(dto.getStrTags());
-        entity.setYoutubeUrl(dto.getStrYoutube());
-        entity.setSourceUrl(dto.getStrSource());
-        entity.setImageSource(dto.getStrImageSource());
-        entity.setCreativeCommonsConfirmed(dto.getStrCreativeCommonsConfirmed());
-        entity.setDateModified(dto.getDateModified());
-        entity.setIngredientsJson(ingredientsToJson(extractIngredients(dto)));
-        entity.setCreatedAt(System.currentTimeMillis());
+    public static MealCatalogEntity toCatalogEntity(Meal meal) {
+        if (meal == null || meal.getId() == null || meal.getId().isEmpty()) return null;
+
+        MealCatalogEntity entity = new MealCatalogEntity();
+        entity.setMealId(meal.getId());
+        entity.setName(meal.getName());
+        entity.setAlternateName(meal.getAlternateName());
+        entity.setCategory(meal.getCategory());
+        entity.setArea(meal.getArea());
+        entity.setInstructions(meal.getInstructions());
+        entity.setThumbnailUrl(meal.getThumbnailUrl());
+        entity.setTags(meal.getTags());
+        entity.setYoutubeUrl(meal.getYoutubeUrl());
+        entity.setSourceUrl(meal.getSourceUrl());
+        entity.setImageSource(meal.getImageSource());
+        entity.setCreativeCommonsConfirmed(meal.getCreativeCommonsConfirmed());
+        entity.setDateModified(meal.getDateModified());
+        entity.setIngredientsJson(ingredientsToJson(meal.getIngredients()));
+        entity.setIngredientsText(ingredientsToText(meal.getIngredients()));
+        entity.setFirstLetter(firstLetterOf(meal.getName()));
+        entity.setUpdatedAt(System.currentTimeMillis());
 
         return entity;
     }
 
-    private static List<Ingredient> extractIngredients(MealDto dto) {
-        List<Ingredient> ingredients = new ArrayList<>();
+    public static MealCatalogEntity toCatalogEntity(FavoriteMealEntity favorite) {
+        if (favorite == null || favorite.getMealId().isEmpty()) return null;
 
-        addIngredient(ingredients, dto.getStrIngredient1(), dto.getStrMeasure1());
-        addIngredient(ingredients, dto.getStrIngredient2(), dto.getStrMeasure2());
-        addIngredient(ingredients, dto.getStrIngredient3(), dto.getStrMeasure3());
-        addIngredient(ingredients, dto.getStrIngredient4(), dto.getStrMeasure4());
-        addIngredient(ingredients, dto.getStrIngredient5(), dto.getStrMeasure5());
-        addIngredient(ingredients, dto.getStrIngredient6(), dto.getStrMeasure6());
-        addIngredient(ingredients, dto.getStrIngredient7(), dto.getStrMeasure7());
-        addIngredient(ingredients, dto.getStrIngredient8(), dto.getStrMeasure8());
-        addIngredient(ingredients, dto.getStrIngredient9(), dto.getStrMeasure9());
-        addIngredient(ingredients, dto.getStrIngredient10(), dto.getStrMeasure10());
-        addIngredient(ingredients, dto.getStrIngredient11(), dto.getStrMeasure11());
-        addIngredient(ingredients, dto.getStrIngredient12(), dto.getStrMeasure12());
-        addIngredient(ingredients, dto.getStrIngredient13(), dto.getStrMeasure13());
-        addIngredient(ingredients, dto.getStrIngredient14(), dto.getStrMeasure14());
-        addIngredient(ingredients, dto.getStrIngredient15(), dto.getStrMeasure15());
-        addIngredient(ingredients, dto.getStrIngredient16(), dto.getStrMeasure16());
-        addIngredient(ingredients, dto.getStrIngredient17(), dto.getStrMeasure17());
-        addIngredient(ingredients, dto.getStrIngredient18(), dto.getStrMeasure18());
-        addIngredient(ingredients, dto.getStrIngredient19(), dto.getStrMeasure19());
-        addIngredient(ingredients, dto.getStrIngredient20(), dto.getStrMeasure20());
+        MealCatalogEntity entity = new MealCatalogEntity();
+        entity.setMealId(favorite.getMealId());
+        entity.setName(favorite.getName());
+        entity.setAlternateName(favorite.getAlternateName());
+        entity.setCategory(favorite.getCategory());
+        entity.setArea(favorite.getArea());
+        entity.setInstructions(favorite.getInstructions());
+        entity.setThumbnailUrl(favorite.getThumbnailUrl());
+        entity.setTags(favorite.getTags());
+        entity.setYoutubeUrl(favorite.getYoutubeUrl());
+        entity.setSourceUrl(favorite.getSourceUrl());
+        entity.setImageSource(favorite.getImageSource());
+        entity.setCreativeCommonsConfirmed(favorite.getCreativeCommonsConfirmed());
+        entity.setDateModified(favorite.getDateModified());
+        List<Ingredient> ingredients = fromFavoriteIngredients(favorite.getIngredients());
+        entity.setIngredientsJson(ingredientsToJson(ingredients));
+        entity.setIngredientsText(ingredientsToText(ingredients));
+        entity.setFirstLetter(firstLetterOf(favorite.getName()));
+        entity.setUpdatedAt(System.currentTimeMillis());
 
-        return ingredients;
+        return entity;
+    }
+
+    public static List<MealCatalogEntity> toCatalogEntityListFromFavorites(
+            List<FavoriteMealEntity> favorites) {
+        List<MealCatalogEntity> entities = new ArrayList<>();
+        if (favorites != null) {
+            for (FavoriteMealEntity favorite : favorites) {
+                MealCatalogEntity entity = toCatalogEntity(favorite);
+                if (entity != null) {
+                    entities.add(entity);
+                }
+            }
+        }
+        return entities;
+    }
+
+    public static List<MealCatalogEntity> toCatalogEntityList(List<Meal> meals) {
+        List<MealCatalogEntity> entities = new ArrayList<>();
+        if (meals != null) {
+            for (Meal meal : meals) {
+                MealCatalogEntity entity = toCatalogEntity(meal);
+                if (entity != null) {
+                    entities.add(entity);
+                }
+            }
+        }
+        return entities;
+    }
+
+    public static Meal fromCatalogEntity(MealCatalogEntity entity) {
+        if (entity == null) return null;
+
+        Meal meal = new Meal();
+        meal.setId(entity.getMealId());
+        meal.setName(entity.getName());
+        meal.setAlternateName(entity.getAlternateName());
+        meal.setCategory(entity.getCategory());
+        meal.setArea(entity.getArea());
+        meal.setInstructions(entity.getInstructions());
+        meal.setThumbnailUrl(entity.getThumbnailUrl());
+        meal.setTags(entity.getTags());
+        meal.setYoutubeUrl(entity.getYoutubeUrl());
+        meal.setSourceUrl(entity.getSourceUrl());
+        meal.setImageSource(entity.getImageSource());
+        meal.setCreativeCommonsConfirmed(entity.getCreativeCommonsConfirmed());
+        meal.setDateModified(entity.getDateModified());
+        meal.setIngredients(jsonToIngredients(entity.getIngredientsJson()));
+        meal.setFavorite(false);
+
+        return meal;
     }
 
-    private static void addIngredient(List<Ingredient> list, String name, String measure) {
-        if (name != null && !name.trim().isEmpty()) {
-            list.add(new Ingredient(name.trim(), measure != null ? measure.trim() : ""));
+    public static List<Meal> toDomainListFromCatalog(List<MealCatalogEntity> entities) {
+        List<Meal> meals = new ArrayList<>();
+        if (entities != null) {
+            for (MealCatalogEntity entity : entities) {
+                Meal meal = fromCatalogEntity(entity);
+                if (meal != null) {
+                    meals.add(meal);
+                }
+            }
+        }
+        return meals;
+    }
+
+    public static String ingredientsTextFromJson(String json) {
+        return ingredientsToText(jsonToIngredients(json));
+    }
+
+    public static List<String> ingredientNamesFromJson(String json) {
+        List<String> names = new ArrayList<>();
+        for (Ingredient ingredient : jsonToIngredients(json)) {
+            if (ingredient.getName() != null && !ingredient.getName().trim().isEmpty()) {
+                names.add(ingredient.getName().trim());
+            }
+        }
+        return names;
+    }
+
+    private static String ingredientsToText(List<Ingredient> ingredients) {
+        if (ingredients == null || ingredients.isEmpty()) return null;
+
+        StringBuilder text = new StringBuilder();
+        for (Ingredient ingredient : ingredients) {
+            if (ingredient.getName() == null || ingredient.getName().isEmpty()) continue;
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(ingredient.getName());
         }
+        return text.toString();
+    }
+
+    private static String firstLetterOf(String name) {
+        if (name == null || name.trim().isEmpty()) return null;
+        return name.trim().substring(0, 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Firestore keeps favourite ingredients as the same JSON array the catalog
+     * uses, so the remote document format is unchanged.
+     */
+    public static String favoriteIngredientsToJson(List<FavoriteIngredientEntity> rows) {
+        return ingredientsToJson(fromFavoriteIngredients(rows));
+    }
+
+    public static List<FavoriteIngredientEntity> favoriteIngredientsFromJson(String json) {
+        return toFavoriteIngredients(jsonToIngredients(json));
+    }
+
+    private static List<FavoriteIngredientEntity> toFavoriteIngredients(List<Ingredient> ingredients) {
+        List<FavoriteIngredientEntity> rows = new ArrayList<>();
+        if (ingredients == null) return rows;
+
+        for (Ingredient ingredient : ingredients) {
+            if (ingredient == null || ingredient.getName() == null
+                    || ingredient.getName().trim().isEmpty()) {
+                continue;
+            }
+            FavoriteIngredientEntity row = new FavoriteIngredientEntity();
+            row.setPosition(rows.size());
+            row.setName(ingredient.getName());
+            row.setMeasure(ingredient.getMeasure());
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<Ingredient> fromFavoriteIngredients(List<FavoriteIngredientEntity> rows) {
+        List<Ingredient> ingredients = new ArrayList<>();
+        if (rows == null) return ingredients;
+
+        for (FavoriteIngredientEntity row : rows) {
+            ingredients.add(new Ingredient(row.getName(),
+                    row.getMeasure() != null ? row.getMeasure() : ""));
+        }
+        return ingredients;
     }
 
     private static String ingredientsToJson(List<Ingredient> ingredients) {
@@ -249,42 +322,47 @@ public class MealMapper {
             return new ArrayList<>();
         }
     }
-    public static List<String> getMealIds(List<FavoriteMealEntity> entities) {
-        List<String> ids = new ArrayList<>();
-        if (entities != null) {
-            for (FavoriteMealEntity entity : entities) {
-                if (entity.getMealId() != null && !entity.getMealId().isEmpty()) {
-                    ids.add(entity.getMealId());
-                }
-            }
-        }
-        return ids;
-    }
 
-    public static boolean isMealInFavorites(String mealId, List<FavoriteMealEntity> favorites) {
-        if (mealId == null || favorites == null) return false;
-        for (FavoriteMealEntity entity : favorites) {
-            if (mealId.equals(entity.getMealId())) {
-                return true;
-            }
-        }
-        return false;
-    }
+    /**
+     * Builds a favourite from the fields of a Firestore favourites document.
+     * Takes the raw field map so the mapper stays free of Firebase types.
+     */
+    public static FavoriteMealEntity fromFirestoreData(String documentId, Map<String, Object> data,
+                                                       String userId) {
+        if (data == null) return null;
 
-    public static List<Meal> markFavorites(List<Meal> meals, List<FavoriteMealEntity> favorites) {
-        if (meals == null) return new ArrayList<>();
-        if (favorites == null || favorites.isEmpty()) return meals;
+        FavoriteMealEntity entity = new FavoriteMealEntity();
 
-        List<String> favoriteIds = getMealIds(favorites);
-        for (Meal meal : meals) {
-            meal.setFavorite(favoriteIds.contains(meal.getId()));
+        String mealId = getString(data, "mealId");
+        if (mealId == null || mealId.isEmpty()) {
+            mealId = documentId;
         }
-        return meals;
+
+        entity.setMealId(mealId);
+        entity.setUserId(userId);
+        entity.setName(getString(data, "name"));
+        entity.setAlternateName(getString(data, "alternateName"));
+        entity.setCategory(getString(data, "category"));
+        entity.setArea(getString(data, "area"));
+        entity.setInstructions(getString(data, "instructions"));
+        entity.setThumbnailUrl(getString(data, "thumbnailUrl"));
+        entity.setTags(getString(data, "tags"));
+        entity.setYoutubeUrl(getString(data, "youtubeUrl"));
+        entity.setSourceUrl(getString(data, "sourceUrl"));
+        entity.setImageSource(getString(data, "imageSource"));
+        entity.setCreativeCommonsConfirmed(getString(data, "creativeCommonsConfirmed"));
+        entity.setDateModified(getString(data, "dateModified"));
+        entity.setIngredients(favoriteIngredientsFromJson(getString(data, "ingredientsJson")));
+
+        Object createdAt = data.get("createdAt");
+        entity.setCreatedAt(createdAt instanceof Number
+                ? ((Number) createdAt).longValue() : System.currentTimeMillis());
+
+        return entity;
     }
 
-    public static Meal markFavorite(Meal meal, List<FavoriteMealEntity> favorites) {
-        if (meal == null) return null;
-        meal.setFavorite(isMealInFavorites(meal.getId(), favorites));
-        return meal;
+    private static String getString(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        return value instanceof String ? (String) value : null;
     }
 }
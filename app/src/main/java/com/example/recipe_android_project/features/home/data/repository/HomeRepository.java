@@ -2,7 +2,13 @@ package com.example.recipe_android_project.features.home.data.repository;
 
 import android.content.Context;
 
+import com.example.recipe_android_project.core.helper.FavoriteIdStore;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
+import com.example.recipe_android_project.core.helper.MealCatalogCrawler;
+import com.example.recipe_android_project.core.helper.SyncManager;
 import com.example.recipe_android_project.core.helper.UserSessionManager;
+import com.example.recipe_android_project.core.utils.SingleFlight;
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
 import com.example.recipe_android_project.features.home.data.datasource.local.HomeLocalDatasource;
 import com.example.recipe_android_project.features.home.data.datasource.remote.HomeRemoteDatasource;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
@@ -23,14 +29,34 @@ import io.reactivex.rxjava3.schedulers.Schedulers;
 
 public class HomeRepository {
 
+    private static final String MEAL_OF_THE_DAY_KEY = "random";
+    private static final String CATEGORIES_KEY = "categories";
+
+    private static final SingleFlight<String, Meal> MEAL_OF_THE_DAY_FLIGHT = new SingleFlight<>();
+    private static final SingleFlight<String, List<Category>> CATEGORIES_FLIGHT = new SingleFlight<>();
+    private static final SingleFlight<String, List<Meal>> MEALS_BY_LETTER_FLIGHT = new SingleFlight<>();
+    private static final SingleFlight<String, List<Meal>> MEALS_BY_CATEGORY_FLIGHT = new SingleFlight<>();
+
     private final HomeRemoteDatasource remote;
     private final HomeLocalDatasource local;
     private final UserSessionManager sessionManager;
+    private final SyncManager syncManager;
+    private final FavoriteIdStore favoriteIdStore;
+    private final ImagePinStore imagePinStore;
+    private final MealCatalogCrawler catalogCrawler;
 
     public HomeRepository(Context context) {
-        this.remote = new HomeRemoteDatasource(context);
+        this(context, new HomeRemoteDatasource(context));
+    }
+
+    public HomeRepository(Context context, HomeRemoteDatasource remote) {
+        this.remote = remote;
         this.local = new HomeLocalDatasource(context);
         this.sessionManager = UserSessionManager.getInstance(context);
+        this.syncManager = SyncManager.getInstance(context);
+        this.favoriteIdStore = FavoriteIdStore.getInstance(context);
+        this.imagePinStore = ImagePinStore.getInstance(context);
+        this.catalogCrawler = MealCatalogCrawler.getInstance(context);
     }
 
     private String getLocalUserId() {
@@ -45,17 +71,17 @@ public class HomeRepository {
         return sessionManager.hasValidSession();
     }
 
-    private boolean isNetworkAvailable() {
-        return remote.isNetworkAvailable();
+    public Single<Meal> getMealOfTheDay() {
+        return MEAL_OF_THE_DAY_FLIGHT.execute(MEAL_OF_THE_DAY_KEY, this::fetchMealOfTheDay);
     }
 
-    public Single<Meal> getMealOfTheDay() {
+    private Single<Meal> fetchMealOfTheDay() {
         return remote.getMealOfTheDay()
                 .flatMap(response -> {
                     if (response == null || response.getMeals() == null || response.getMeals().isEmpty()) {
                         return Single.error(new Exception("No meal found."));
                     }
-                    Meal meal = MealMapper.toDomain(response.getMeals().get(0));
+                    Meal meal = response.getMeals().get(0);
                     if (meal == null) {
                         return Single.error(new Exception("Meal mapping failed."));
                     }
@@ -64,26 +90,49 @@ public class HomeRepository {
     }
 
     public Single<List<Category>> getCategories() {
-        return remote.getCategories()
-                .map(response -> {
-                    if (response == null || response.getCategories() == null) {
-                        return new ArrayList<Category>();
-                    }
-                    return CategoryMapper.toDomainList(response.getCategories());
-                });
+        return CATEGORIES_FLIGHT.execute(CATEGORIES_KEY, () -> remote.getCategories()
+                        .map(response -> {
+                            if (response == null || response.getCategories() == null) {
+                                return new ArrayList<Category>();
+                            }
+                            return CategoryMapper.toDomainList(response.getCategories());
+                        }))
+                .map(ArrayList::new);
     }
 
     public Single<List<Meal>> getMealsByFirstLetter(String firstLetter) {
         if (firstLetter == null || firstLetter.trim().isEmpty()) {
             return Single.error(new IllegalArgumentException("firstLetter is required"));
         }
-        String f = firstLetter.trim().substring(0, 1);
-        return remote.getMealsByFirstLetter(f)
-                .map(response -> {
+        String f = firstLetter.trim().substring(0, 1).toLowerCase();
+        return MEALS_BY_LETTER_FLIGHT.execute(f, () -> {
+                    // Search and detail also write to the catalog, so until the
+                    // crawl has stored this letter its rows are only a subset.
+                    if (!catalogCrawler.isLetterCrawled(f)) {
+                        return getMealsByFirstLetterFromRemote(f);
+                    }
+                    return local.getCatalogMealsByFirstLetter(f)
+                            .onErrorReturnItem(new ArrayList<>())
+                            .flatMap(cached -> {
+                                if (!cached.isEmpty()) {
+                                    return Single.just(cached);
+                                }
+                                return getMealsByFirstLetterFromRemote(f);
+                            });
+                })
+                .map(ArrayList::new);
+    }
+
+    private Single<List<Meal>> getMealsByFirstLetterFromRemote(String firstLetter) {
+        return remote.getMealsByFirstLetter(firstLetter)
+                .flatMap(response -> {
                     if (response == null || response.getMeals() == null) {
-                        return new ArrayList<Meal>();
+                        return Single.just(new ArrayList<Meal>());
                     }
-                    return MealMapper.toDomainList(response.getMeals());
+                    List<Meal> meals = response.getMeals();
+                    return local.saveToCatalog(MealMapper.toCatalogEntityList(meals))
+                            .onErrorComplete()
+                            .toSingleDefault(meals);
                 });
     }
 
@@ -92,6 +141,12 @@ public class HomeRepository {
             return Single.error(new IllegalArgumentException("categoryName is required"));
         }
         String trimmedCategory = categoryName.trim();
+        return MEALS_BY_CATEGORY_FLIGHT.execute(trimmedCategory,
+                        () -> fetchMealsByCategory(trimmedCategory))
+                .map(ArrayList::new);
+    }
+
+    private Single<List<Meal>> fetchMealsByCategory(String trimmedCategory) {
         return remote.getMealsByCategory(trimmedCategory)
                 .flatMap(response -> {
                     List<FilterResult> results = FilterResultMapper.toDomainList(response);
@@ -128,19 +183,13 @@ public class HomeRepository {
             return Completable.error(new IllegalArgumentException("Failed to create favorite entity"));
         }
 
-        Completable localSave = local.addToFavorites(entity);
+        FavoriteOutboxEntity change = new FavoriteOutboxEntity(localUserId, entity.getMealId(),
+                firebaseUserId, FavoriteOutboxEntity.OP_UPSERT);
 
-        Completable firestoreSync = Completable.defer(() -> {
-            if (firebaseUserId != null && isNetworkAvailable()) {
-                FavoriteMealEntity firestoreEntity = MealMapper.toEntity(meal, firebaseUserId);
-                return remote.addFavoriteToFirestore(firestoreEntity)
-                        .onErrorComplete();
-            }
-            return Completable.complete();
-        });
-
-        return localSave
-                .andThen(firestoreSync)
+        return local.addToFavorites(entity, change)
+                .doOnComplete(() -> favoriteIdStore.setFavorite(entity.getMealId(), true))
+                .doOnComplete(() -> imagePinStore.pin(meal))
+                .doOnComplete(syncManager::requestFavoritesSync)
                 .subscribeOn(Schedulers.io());
     }
 
@@ -156,18 +205,13 @@ public class HomeRepository {
             return Completable.error(new IllegalStateException("User not logged in"));
         }
 
-        Completable localRemove = local.removeFromFavorites(mealId, localUserId);
-
-        Completable firestoreSync = Completable.defer(() -> {
-            if (firebaseUserId != null && isNetworkAvailable()) {
-                return remote.removeFavoriteFromFirestore(firebaseUserId, mealId)
-                        .onErrorComplete();
-            }
-            return Completable.complete();
-        });
+        FavoriteOutboxEntity change = new FavoriteOutboxEntity(localUserId, mealId,
+                firebaseUserId, FavoriteOutboxEntity.OP_DELETE);
 
-        return localRemove
-                .andThen(firestoreSync)
+        return local.removeFromFavorites(change)
+                .doOnComplete(() -> favoriteIdStore.setFavorite(mealId, false))
+                .doOnComplete(imagePinStore::reconcile)
+                .doOnComplete(syncManager::requestFavoritesSync)
                 .subscribeOn(Schedulers.io());
     }
 
@@ -196,7 +240,7 @@ public class HomeRepository {
             return Single.just(false);
         }
 
-        return local.isFavorite(mealId, localUserId);
+        return favoriteIdStore.isFavorite(localUserId, mealId);
     }
 
     public Single<List<Meal>> getMealsByCategoryWithFavoriteStatus(String categoryName) {
@@ -206,8 +250,7 @@ public class HomeRepository {
                     if (localUserId == null || meals.isEmpty()) {
                         return Single.just(meals);
                     }
-                    return local.getFavoriteEntitiesSingle(localUserId)
-                            .map(favorites -> MealMapper.markFavorites(meals, favorites));
+                    return favoriteIdStore.applyFavoriteStatus(localUserId, meals);
                 });
     }
 
@@ -219,7 +262,7 @@ public class HomeRepository {
                         meal.setFavorite(false);
                         return Single.just(meal);
                     }
-                    return local.isFavorite(meal.getId(), localUserId)
+                    return favoriteIdStore.isFavorite(localUserId, meal.getId())
                             .map(isFav -> {
                                 meal.setFavorite(isFav);
                                 return meal;
@@ -234,8 +277,7 @@ public class HomeRepository {
                     if (localUserId == null || meals.isEmpty()) {
                         return Single.just(meals);
                     }
-                    return local.getFavoriteEntitiesSingle(localUserId)
-                            .map(favorites -> MealMapper.markFavorites(meals, favorites));
+                    return favoriteIdStore.applyFavoriteStatus(localUserId, meals);
                 });
     }
 
@@ -2,7 +2,7 @@ package com.example.recipe_android_project.features.home.presentation.presenter;
 
 import android.content.Context;
 
-import com.example.recipe_android_project.core.helper.NetworkMonitor;
+import com.example.recipe_android_project.core.helper.ConnectivityHub;
 import com.example.recipe_android_project.features.home.data.repository.HomeRepository;
 import com.example.recipe_android_project.features.home.model.Category;
 import com.example.recipe_android_project.features.home.model.Meal;
@@ -15,17 +15,15 @@ import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.disposables.CompositeDisposable;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
-import io.reactivex.rxjava3.subjects.PublishSubject;
 
 public class HomePresenter implements HomeContract.Presenter {
 
     private HomeContract.View view;
 
     private final HomeRepository repository;
-    private final NetworkMonitor networkMonitor;
+    private final ConnectivityHub connectivityHub;
     private final CompositeDisposable disposables = new CompositeDisposable();
 
-    private final PublishSubject<Boolean> networkSubject = PublishSubject.create();
     private Disposable networkDisposable;
 
     private Disposable categoryDisposable;
@@ -42,7 +40,7 @@ public class HomePresenter implements HomeContract.Presenter {
 
     public HomePresenter(Context context) {
         this.repository = new HomeRepository(context);
-        this.networkMonitor = new NetworkMonitor(context);
+        this.connectivityHub = ConnectivityHub.getInstance(context);
     }
 
 
@@ -61,7 +59,7 @@ public class HomePresenter implements HomeContract.Presenter {
 
     public void startNetworkMonitoring() {
 
-        networkDisposable = networkSubject
+        networkDisposable = connectivityHub.observeNetworkState()
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(isAvailable -> {
                     if (!isViewAttached()) return;
@@ -73,19 +71,6 @@ public class HomePresenter implements HomeContract.Presenter {
                     }
                 });
         disposables.add(networkDisposable);
-
-        networkMonitor.setListener(new NetworkMonitor.NetworkCallback() {
-            @Override
-            public void onNetworkAvailable() {
-                networkSubject.onNext(true);
-            }
-
-            @Override
-            public void onNetworkLost() {
-                networkSubject.onNext(false);
-            }
-        });
-        networkMonitor.startMonitoring();
     }
 
     private void handleNetworkAvailable() {
@@ -112,7 +97,6 @@ public class HomePresenter implements HomeContract.Presenter {
     }
 
     public void stopNetworkMonitoring() {
-        networkMonitor.stopMonitoring();
         if (networkDisposable != null
                 && !networkDisposable.isDisposed()) {
             networkDisposable.dispose();
@@ -120,7 +104,7 @@ public class HomePresenter implements HomeContract.Presenter {
     }
 
     public boolean isNetworkCurrentlyAvailable() {
-        return networkMonitor.isNetworkAvailable();
+        return connectivityHub.isNetworkAvailable();
     }
 
 
@@ -12,47 +12,95 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.airbnb.lottie.LottieAnimationView;
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
 import com.bumptech.glide.load.DataSource;
 import com.bumptech.glide.load.engine.GlideException;
 import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.target.Target;
 import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.config.ImageRequestOptions;
 import com.example.recipe_android_project.features.home.model.Category;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
-public class CategoryAdapter extends RecyclerView.Adapter<CategoryAdapter.VH> {
+public class CategoryAdapter extends ListAdapter<Category, CategoryAdapter.VH>
+        implements ListPreloader.PreloadModelProvider<Category> {
 
-    private final List<Category> items;
-    private int selectedIndex = -1;
+    // Tracked by id rather than position so a re-diffed list keeps the selection.
+    private String selectedId;
+    // setItems diffs off the main thread, so an index set right after it would
+    // be read against the old list; it is held until the new list is committed.
+    private int pendingSelection = RecyclerView.NO_POSITION;
+    private boolean listPending = false;
+    private int listGeneration = 0;
     private OnCategoryClickListener listener;
+    private RequestManager requestManager;
 
     private static final int COLOR_WHITE = 0xFFFFFFFF;
     private static final int COLOR_TEXT_DARK = 0xFF1A1A1A;
 
+    private static final String PAYLOAD_SELECTION = "selection";
+
+    private static final DiffUtil.ItemCallback<Category> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<Category>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull Category oldItem,
+                                               @NonNull Category newItem) {
+                    return oldItem.getId() != null && oldItem.getId().equals(newItem.getId());
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull Category oldItem,
+                                                  @NonNull Category newItem) {
+                    return Objects.equals(oldItem.getName(), newItem.getName())
+                            && Objects.equals(oldItem.getThumbnailUrl(), newItem.getThumbnailUrl());
+                }
+            };
+
     public interface OnCategoryClickListener {
         void onCategoryClick(Category item, int position);
     }
     public void resetSelection() {
-        int oldIndex = selectedIndex;
-        selectedIndex = -1;
-        if (oldIndex != -1) {
-            notifyItemChanged(oldIndex);
-        }
+        pendingSelection = RecyclerView.NO_POSITION;
+        select(RecyclerView.NO_POSITION);
     }
     public CategoryAdapter(List<Category> items, OnCategoryClickListener listener) {
-        this.items = items;
+        super(DIFF_CALLBACK);
         this.listener = listener;
+        setHasStableIds(true);
+        setItems(items);
     }
 
     public void setItems(List<Category> newItems) {
-        items.clear();
-        items.addAll(newItems);
-        notifyDataSetChanged();
+        int generation = ++listGeneration;
+        listPending = true;
+        submitList(newItems != null ? new ArrayList<>(newItems) : null, () -> {
+            // A newer list supersedes this one; its own callback applies the selection.
+            if (generation != listGeneration) return;
+            listPending = false;
+            if (pendingSelection != RecyclerView.NO_POSITION) {
+                int index = pendingSelection;
+                pendingSelection = RecyclerView.NO_POSITION;
+                select(index);
+            }
+        });
+    }
+
+    @Override
+    public long getItemId(int position) {
+        String id = getItem(position).getId();
+        return id != null ? id.hashCode() : RecyclerView.NO_ID;
     }
 
     @NonNull
@@ -65,30 +113,16 @@ public class CategoryAdapter extends RecyclerView.Adapter<CategoryAdapter.VH> {
 
     @Override
     public void onBindViewHolder(@NonNull VH holder, int position) {
-        Category item = items.get(position);
+        Category item = getItem(position);
 
         holder.tv.setText(item.getName());
 
-        boolean isSelected = position == selectedIndex;
-
-        if (isSelected) {
-            holder.container.setBackgroundResource(R.drawable.bg_category_selected);
-            holder.iconContainer.setBackgroundResource(R.drawable.bg_icon_circle_selected);
-            holder.tv.setTextColor(COLOR_WHITE);
-            holder.itemView.setElevation(8f);
-        } else {
-            holder.container.setBackgroundResource(R.drawable.bg_category_unselected);
-            holder.iconContainer.setBackgroundResource(R.drawable.bg_icon_circle_unselected);
-            holder.tv.setTextColor(COLOR_TEXT_DARK);
-            holder.itemView.setElevation(0f);
-        }
+        updateSelection(holder, isSelected(item));
 
         holder.imgLoader.setVisibility(View.VISIBLE);
         holder.imgLoader.playAnimation();
 
-        Glide.with(holder.img)
-                .load(item.getThumbnailUrl())
-                .centerCrop()
+        iconRequest(Glide.with(holder.img), item)
                 .error(R.drawable.ic_error)
                 .listener(new RequestListener<Drawable>() {
                     @Override
@@ -112,29 +146,97 @@ public class CategoryAdapter extends RecyclerView.Adapter<CategoryAdapter.VH> {
 
 
         holder.itemView.setOnClickListener(v -> {
-            int oldIndex = selectedIndex;
             int newIndex = holder.getAdapterPosition();
             if (newIndex == RecyclerView.NO_POSITION) return;
 
-            selectedIndex = newIndex;
-
-            if (oldIndex != -1) notifyItemChanged(oldIndex);
-            notifyItemChanged(selectedIndex);
+            select(newIndex);
 
             if (listener != null) listener.onCategoryClick(item, newIndex);
         });
     }
 
     @Override
-    public int getItemCount() {
-        return items != null ? items.size() : 0;
+    public void onBindViewHolder(@NonNull VH holder, int position, @NonNull List<Object> payloads) {
+        if (payloads.contains(PAYLOAD_SELECTION) && payloads.size() == 1) {
+            updateSelection(holder, isSelected(getItem(position)));
+        } else {
+            onBindViewHolder(holder, position);
+        }
+    }
+
+    private void updateSelection(VH holder, boolean isSelected) {
+        if (isSelected) {
+            holder.container.setBackgroundResource(R.drawable.bg_category_selected);
+            holder.iconContainer.setBackgroundResource(R.drawable.bg_icon_circle_selected);
+            holder.tv.setTextColor(COLOR_WHITE);
+            holder.itemView.setElevation(8f);
+        } else {
+            holder.container.setBackgroundResource(R.drawable.bg_category_unselected);
+            holder.iconContainer.setBackgroundResource(R.drawable.bg_icon_circle_unselected);
+            holder.tv.setTextColor(COLOR_TEXT_DARK);
+            holder.itemView.setElevation(0f);
+        }
     }
 
     public void setSelectedIndex(int index) {
-        int oldIndex = selectedIndex;
-        selectedIndex = index;
-        notifyItemChanged(oldIndex);
-        notifyItemChanged(selectedIndex);
+        if (listPending) {
+            pendingSelection = index;
+            return;
+        }
+        select(index);
+    }
+
+    private boolean isSelected(Category item) {
+        return selectedId != null && selectedId.equals(item.getId());
+    }
+
+    private void select(int position) {
+        int oldPosition = indexOf(selectedId);
+        boolean inRange = position >= 0 && position < getItemCount();
+        selectedId = inRange ? getItem(position).getId() : null;
+
+        if (oldPosition != RecyclerView.NO_POSITION) {
+            notifyItemChanged(oldPosition, PAYLOAD_SELECTION);
+        }
+        if (inRange && position != oldPosition) {
+            notifyItemChanged(position, PAYLOAD_SELECTION);
+        }
+    }
+
+    private int indexOf(String categoryId) {
+        if (categoryId == null) return RecyclerView.NO_POSITION;
+        List<Category> current = getCurrentList();
+        for (int i = 0; i < current.size(); i++) {
+            if (categoryId.equals(current.get(i).getId())) return i;
+        }
+        return RecyclerView.NO_POSITION;
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        requestManager = Glide.with(recyclerView);
+    }
+
+    @NonNull
+    @Override
+    public List<Category> getPreloadItems(int position) {
+        if (position < 0 || position >= getItemCount()) return Collections.emptyList();
+        return Collections.singletonList(getItem(position));
+    }
+
+    @Nullable
+    @Override
+    public RequestBuilder<?> getPreloadRequestBuilder(@NonNull Category item) {
+        return requestManager != null ? iconRequest(requestManager, item) : null;
+    }
+
+    // Category images come in one size only, so there is no variant to pick.
+    private RequestBuilder<Drawable> iconRequest(RequestManager glide, Category item) {
+        return glide
+                .load(item.getThumbnailUrl())
+                .centerCrop()
+                .apply(ImageRequestOptions.listThumbnail());
     }
 
     @Override
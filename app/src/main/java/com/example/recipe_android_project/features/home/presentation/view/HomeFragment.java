@@ -28,6 +28,7 @@ import com.bumptech.glide.request.target.Target;
 import com.example.recipe_android_project.R;
 import com.example.recipe_android_project.core.listeners.OnMealClickListener;
 import com.example.recipe_android_project.core.ui.AlertDialogHelper;
+import com.example.recipe_android_project.core.ui.ImagePreloader;
 import com.example.recipe_android_project.core.ui.SnackbarHelper;
 import com.example.recipe_android_project.features.auth.presentation.view.AuthActivity;
 import com.example.recipe_android_project.features.home.model.Category;
@@ -201,11 +202,13 @@ public class HomeFragment extends Fragment
             presenter.onCategorySelected(item);
         });
         rvCategories.setAdapter(categoryAdapter);
+        ImagePreloader.attach(rvCategories, categoryAdapter, R.dimen.category_icon_size);
 
         rvMeals.setLayoutManager(
                 new LinearLayoutManager(requireContext()));
         mealAdapter = new MealAdapter(new ArrayList<>(), this);
         rvMeals.setAdapter(mealAdapter);
+        ImagePreloader.attach(rvMeals, mealAdapter, R.dimen.meal_thumb_size);
     }
 
     private void setupClickListeners() {
@@ -9,25 +9,38 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.airbnb.lottie.LottieAnimationView;
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
 import com.bumptech.glide.load.DataSource;
 import com.bumptech.glide.load.engine.GlideException;
 import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.target.Target;
 import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.config.ImageRequestOptions;
+import com.example.recipe_android_project.core.utils.ImageUrlPolicy;
 import com.example.recipe_android_project.core.listeners.OnMealClickListener;
 import com.example.recipe_android_project.features.home.model.Meal;
 import com.google.android.material.card.MaterialCardView;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
-public class MealAdapter extends RecyclerView.Adapter<MealAdapter.VH> {
+public class MealAdapter extends ListAdapter<Meal, MealAdapter.VH>
+        implements ListPreloader.PreloadModelProvider<Meal> {
 
-    private List<Meal> items;
     private final OnMealClickListener listener;
+    private RequestManager requestManager;
+    private int thumbSizePx;
+    private final Map<String, Integer> positionById = new HashMap<>();
 
     private static final int COLOR_FAVORITE_BG = 0xFFE27036;
     private static final int COLOR_UNFAVORITE_BG = 0xFFFFF5F0;
@@ -35,28 +48,52 @@ public class MealAdapter extends RecyclerView.Adapter<MealAdapter.VH> {
     private static final int COLOR_UNFAVORITE_ICON = 0xFFE27036;
 
     public MealAdapter(List<Meal> items, OnMealClickListener listener) {
-        this.items = items;
+        super(new MealDiffCallback());
         this.listener = listener;
+        setHasStableIds(true);
+        setItems(items);
     }
 
+    /**
+     * Diffs against the shown list off the main thread. A copy is submitted
+     * because callers reuse and mutate their lists, and ListAdapter ignores
+     * a list instance it already holds.
+     */
     public void setItems(List<Meal> items) {
-        this.items = items;
-        notifyDataSetChanged();
+        submitList(items != null ? new ArrayList<>(items) : null);
     }
 
     public void updateMealFavoriteStatus(String mealId, boolean isFavorite) {
-        if (items == null || mealId == null) return;
-
-        for (int i = 0; i < items.size(); i++) {
-            Meal meal = items.get(i);
-            if (meal != null && mealId.equals(meal.getId())) {
-                meal.setFavorite(isFavorite);
-                notifyItemChanged(i, "favorite");
-                break;
+        if (mealId == null) return;
+
+        Integer position = positionById.get(mealId);
+        if (position == null) return;
+
+        Meal meal = getItem(position);
+        if (meal != null) {
+            meal.setFavorite(isFavorite);
+            notifyItemChanged(position, MealDiffCallback.PAYLOAD_FAVORITE);
+        }
+    }
+
+    @Override
+    public void onCurrentListChanged(@NonNull List<Meal> previousList,
+                                     @NonNull List<Meal> currentList) {
+        positionById.clear();
+        for (int i = 0; i < currentList.size(); i++) {
+            Meal meal = currentList.get(i);
+            if (meal != null && meal.getId() != null) {
+                positionById.put(meal.getId(), i);
             }
         }
     }
 
+    @Override
+    public long getItemId(int position) {
+        Meal meal = getItem(position);
+        return meal != null ? MealDiffCallback.stableId(meal.getId()) : RecyclerView.NO_ID;
+    }
+
     @NonNull
     @Override
     public VH onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -67,7 +104,7 @@ public class MealAdapter extends RecyclerView.Adapter<MealAdapter.VH> {
 
     @Override
     public void onBindViewHolder(@NonNull VH holder, int position) {
-        Meal meal = items.get(position);
+        Meal meal = getItem(position);
         if (meal == null) return;
 
         holder.tvTitle.setText(meal.getName() != null ? meal.getName() : "");
@@ -82,9 +119,7 @@ public class MealAdapter extends RecyclerView.Adapter<MealAdapter.VH> {
         holder.imgLoader.setVisibility(View.VISIBLE);
         holder.imgLoader.playAnimation();
 
-        Glide.with(holder.itemView.getContext())
-                .load(meal.getThumbnailUrl())
-                .centerCrop()
+        thumbnailRequest(Glide.with(holder.itemView.getContext()), meal)
                 .error(R.drawable.ic_error)
                 .listener(new RequestListener<Drawable>() {
                     @Override
@@ -134,8 +169,8 @@ public class MealAdapter extends RecyclerView.Adapter<MealAdapter.VH> {
             onBindViewHolder(holder, position);
         } else {
             for (Object payload : payloads) {
-                if ("favorite".equals(payload)) {
-                    Meal meal = items.get(position);
+                if (MealDiffCallback.PAYLOAD_FAVORITE.equals(payload)) {
+                    Meal meal = getItem(position);
                     if (meal != null) {
                         updateFavoriteIcon(holder, meal.isFavorite());
                     }
@@ -157,8 +192,31 @@ public class MealAdapter extends RecyclerView.Adapter<MealAdapter.VH> {
     }
 
     @Override
-    public int getItemCount() {
-        return items != null ? items.size() : 0;
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        requestManager = Glide.with(recyclerView);
+        thumbSizePx = recyclerView.getResources().getDimensionPixelSize(R.dimen.meal_thumb_size);
+    }
+
+    @NonNull
+    @Override
+    public List<Meal> getPreloadItems(int position) {
+        if (position < 0 || position >= getItemCount()) return Collections.emptyList();
+        Meal item = getItem(position);
+        return item != null ? Collections.singletonList(item) : Collections.emptyList();
+    }
+
+    @Nullable
+    @Override
+    public RequestBuilder<?> getPreloadRequestBuilder(@NonNull Meal item) {
+        return requestManager != null ? thumbnailRequest(requestManager, item) : null;
+    }
+
+    private RequestBuilder<Drawable> thumbnailRequest(RequestManager glide, Meal item) {
+        return glide
+                .load(ImageUrlPolicy.mealThumbnail(item.getThumbnailUrl(), thumbSizePx))
+                .centerCrop()
+                .apply(ImageRequestOptions.listThumbnail());
     }
 
     @Override
@@ -0,0 +1,54 @@
+package com.example.recipe_android_project.features.home.presentation.view;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.example.recipe_android_project.features.home.model.Meal;
+
+import java.util.Objects;
+
+/**
+ * Diffs meal rows by id. When only the favourite flag changed the row is
+ * rebound with {@link #PAYLOAD_FAVORITE}, so the heart updates without
+ * reloading the thumbnail.
+ */
+public final class MealDiffCallback extends DiffUtil.ItemCallback<Meal> {
+
+    public static final String PAYLOAD_FAVORITE = "favorite";
+
+    @Override
+    public boolean areItemsTheSame(@NonNull Meal oldMeal, @NonNull Meal newMeal) {
+        return oldMeal.getId() != null && oldMeal.getId().equals(newMeal.getId());
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull Meal oldMeal, @NonNull Meal newMeal) {
+        return sameDisplay(oldMeal, newMeal) && oldMeal.isFavorite() == newMeal.isFavorite();
+    }
+
+    @Nullable
+    @Override
+    public Object getChangePayload(@NonNull Meal oldMeal, @NonNull Meal newMeal) {
+        return sameDisplay(oldMeal, newMeal) ? PAYLOAD_FAVORITE : null;
+    }
+
+    private static boolean sameDisplay(Meal oldMeal, Meal newMeal) {
+        return Objects.equals(oldMeal.getName(), newMeal.getName())
+                && Objects.equals(oldMeal.getCategory(), newMeal.getCategory())
+                && Objects.equals(oldMeal.getThumbnailUrl(), newMeal.getThumbnailUrl());
+    }
+
+    /**
+     * TheMealDB ids are numeric; anything else falls back to its hash.
+     */
+    public static long stableId(String mealId) {
+        if (mealId == null) return RecyclerView.NO_ID;
+        try {
+            return Long.parseLong(mealId);
+        } catch (NumberFormatException e) {
+            return mealId.hashCode();
+        }
+    }
+}
@@ -3,8 +3,12 @@ package com.example.recipe_android_project.features.meal_detail.data.datasource.
 import android.content.Context;
 
 import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealCatalogDao;
 import com.example.recipe_android_project.features.home.data.datasource.local.MealDao;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogEntity;
+import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
 import com.example.recipe_android_project.features.plan.data.datasource.local.MealPlanDao;
 import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
 
@@ -12,29 +16,30 @@ import java.util.List;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.Single;
 
 public class MealDetailLocalDatasource {
     private final MealDao mealDao;
     private final MealPlanDao mealPlanDao;
+    private final MealCatalogDao catalogDao;
 
     public MealDetailLocalDatasource(Context context) {
         DbManager dbManager = DbManager.getInstance(context);
         this.mealDao = dbManager.favoriteMealDao();
         this.mealPlanDao = dbManager.mealPlanDao();
+        this.catalogDao = dbManager.mealCatalogDao();
     }
 
 
-    public Completable addToFavorites(FavoriteMealEntity entity) {
-        return mealDao.insertFavorite(entity);
+    public Completable addToFavorites(FavoriteMealEntity entity, FavoriteOutboxEntity change) {
+        return Completable.fromAction(() -> mealDao.upsertFavoriteAndEnqueue(entity, change))
+                .andThen(catalogDao.insertIfAbsent(MealMapper.toCatalogEntity(entity))
+                        .onErrorComplete());
     }
 
-    public Completable removeFromFavorites(String mealId, String userId) {
-        return mealDao.deleteFavoriteByMealIdAndUserId(mealId, userId);
-    }
-
-    public Single<Boolean> isFavorite(String mealId, String userId) {
-        return mealDao.isFavorite(mealId, userId);
+    public Completable removeFromFavorites(FavoriteOutboxEntity change) {
+        return Completable.fromAction(() -> mealDao.deleteFavoriteAndEnqueue(change));
     }
 
 
@@ -48,7 +53,7 @@ public class MealDetailLocalDatasource {
     }
 
     public Completable removeMealPlan(String userId, String date, String mealType) {
-        return mealPlanDao.deleteMealPlanByKey(userId, date, mealType);
+        return mealPlanDao.markMealPlanDeleted(userId, date, mealType, System.currentTimeMillis());
     }
 
     public Single<MealPlanEntity> getMealPlan(String userId, String date, String mealType) {
@@ -60,8 +65,14 @@ public class MealDetailLocalDatasource {
         return mealPlanDao.getMealPlanByMealId(mealId, userId);
     }
 
-    public Completable updateMealPlanSyncStatus(String userId, String date,
-                                                String mealType, boolean isSynced) {
-        return mealPlanDao.updateSyncStatus(userId, date, mealType, isSynced);
+    public Maybe<MealCatalogEntity> getCatalogMealById(String mealId) {
+        return catalogDao.getMealById(mealId);
+    }
+
+    public Completable saveToCatalog(MealCatalogEntity entity) {
+        if (entity == null) {
+            return Completable.complete();
+        }
+        return catalogDao.upsert(entity);
     }
 }
@@ -2,7 +2,12 @@ package com.example.recipe_android_project.features.meal_detail.data.repository;
 
 import android.content.Context;
 
+import com.example.recipe_android_project.core.helper.FavoriteIdStore;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
+import com.example.recipe_android_project.core.helper.SyncManager;
 import com.example.recipe_android_project.core.helper.UserSessionManager;
+import com.example.recipe_android_project.core.utils.SingleFlight;
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
 import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
 import com.example.recipe_android_project.features.home.model.Meal;
@@ -20,14 +25,26 @@ import io.reactivex.rxjava3.schedulers.Schedulers;
 
 public class MealDetailRepository {
 
+    private static final SingleFlight<String, Meal> MEAL_BY_ID_FLIGHT = new SingleFlight<>();
+
     private final MealDetailRemoteDatasource remote;
     private final MealDetailLocalDatasource local;
     private final UserSessionManager sessionManager;
+    private final SyncManager syncManager;
+    private final FavoriteIdStore favoriteIdStore;
+    private final ImagePinStore imagePinStore;
 
     public MealDetailRepository(Context context) {
-        this.remote = new MealDetailRemoteDatasource(context);
+        this(context, new MealDetailRemoteDatasource(context));
+    }
+
+    public MealDetailRepository(Context context, MealDetailRemoteDatasource remote) {
+        this.remote = remote;
         this.local = new MealDetailLocalDatasource(context);
         this.sessionManager = UserSessionManager.getInstance(context);
+        this.syncManager = SyncManager.getInstance(context);
+        this.favoriteIdStore = FavoriteIdStore.getInstance(context);
+        this.imagePinStore = ImagePinStore.getInstance(context);
     }
 
     private String getLocalUserId() {
@@ -42,26 +59,35 @@ public class MealDetailRepository {
         return sessionManager.hasValidSession();
     }
 
-    private boolean isNetworkAvailable() {
-        return remote.isNetworkAvailable();
-    }
-
     public boolean isUserAuthenticated() {
         return isUserLoggedIn();
     }
 
 
     public Single<Meal> getMealById(String id) {
+        return MEAL_BY_ID_FLIGHT.execute(id, () -> loadMealById(id));
+    }
+
+    private Single<Meal> loadMealById(String id) {
+        return local.getCatalogMealById(id)
+                .map(MealMapper::fromCatalogEntity)
+                .onErrorComplete()
+                .switchIfEmpty(getMealByIdFromRemote(id))
+                .subscribeOn(Schedulers.io());
+    }
+
+    private Single<Meal> getMealByIdFromRemote(String id) {
         return remote.getMealById(id)
                 .flatMap(response -> {
                     if (response == null || response.getMeals() == null
                             || response.getMeals().isEmpty()) {
                         return Single.error(new Exception("Meal not found"));
                     }
-                    return Single.just(
-                            MealMapper.toDomain(response.getMeals().get(0)));
-                })
-                .subscribeOn(Schedulers.io());
+                    Meal meal = response.getMeals().get(0);
+                    return local.saveToCatalog(MealMapper.toCatalogEntity(meal))
+                            .onErrorComplete()
+                            .toSingleDefault(meal);
+                });
     }
 
 
@@ -79,7 +105,7 @@ public class MealDetailRepository {
             meal.setFavorite(false);
             return Single.just(meal);
         }
-        return local.isFavorite(mealId, localUserId)
+        return favoriteIdStore.isFavorite(localUserId, mealId)
                 .map(isFav -> {
                     meal.setFavorite(isFav);
                     return meal;
@@ -170,20 +196,13 @@ public class MealDetailRepository {
                     new IllegalArgumentException("Failed to create favorite entity"));
         }
 
-        Completable localSave = local.addToFavorites(entity);
-
-        Completable firestoreSync = Completable.defer(() -> {
-            if (firebaseUserId != null && isNetworkAvailable()) {
-                FavoriteMealEntity firestoreEntity =
-                        MealMapper.toEntity(meal, firebaseUserId);
-                return remote.addFavoriteToFirestore(firestoreEntity)
-                        .onErrorComplete();
-            }
-            return Completable.complete();
-        });
+        FavoriteOutboxEntity change = new FavoriteOutboxEntity(localUserId, entity.getMealId(),
+                firebaseUserId, FavoriteOutboxEntity.OP_UPSERT);
 
-        return localSave
-                .andThen(firestoreSync)
+        return local.addToFavorites(entity, change)
+                .doOnComplete(() -> favoriteIdStore.setFavorite(entity.getMealId(), true))
+                .doOnComplete(() -> imagePinStore.pin(meal))
+                .doOnComplete(syncManager::requestFavoritesSync)
                 .subscribeOn(Schedulers.io());
     }
 
@@ -201,20 +220,13 @@ public class MealDetailRepository {
                     new IllegalStateException("User not logged in"));
         }
 
-        Completable localRemove =
-                local.removeFromFavorites(mealId, localUserId);
-
-        Completable firestoreSync = Completable.defer(() -> {
-            if (firebaseUserId != null && isNetworkAvailable()) {
-                return remote.removeFavoriteFromFirestore(
-                                firebaseUserId, mealId)
-                        .onErrorComplete();
-            }
-            return Completable.complete();
-        });
+        FavoriteOutboxEntity change = new FavoriteOutboxEntity(localUserId, mealId,
+                firebaseUserId, FavoriteOutboxEntity.OP_DELETE);
 
-        return localRemove
-                .andThen(firestoreSync)
+        return local.removeFromFavorites(change)
+                .doOnComplete(() -> favoriteIdStore.setFavorite(mealId, false))
+                .doOnComplete(imagePinStore::reconcile)
+                .doOnComplete(syncManager::requestFavoritesSync)
                 .subscribeOn(Schedulers.io());
     }
 
@@ -236,7 +248,7 @@ public class MealDetailRepository {
             return Single.just(false);
         }
 
-        return local.isFavorite(mealId, localUserId)
+        return favoriteIdStore.isFavorite(localUserId, mealId)
                 .subscribeOn(Schedulers.io());
     }
 
@@ -256,7 +268,6 @@ public class MealDetailRepository {
         }
 
         String localUserId = getLocalUserId();
-        String firebaseUserId = getFirebaseUserId();
 
         if (localUserId == null) {
             return Completable.error(
@@ -272,27 +283,9 @@ public class MealDetailRepository {
 
         Completable localSave = local.addMealPlan(localEntity);
 
-        Completable firestoreSync = Completable.defer(() -> {
-            if (firebaseUserId != null && isNetworkAvailable()) {
-                MealPlanEntity firestoreEntity =
-                        MealPlanMapper.createNewMealPlanEntity(
-                                firebaseUserId, date, mealType,
-                                meal.getId(), meal.getName(),
-                                meal.getThumbnailUrl(),
-                                meal.getCategory(), meal.getArea()
-                        );
-                firestoreEntity.setSynced(true);
-
-                return remote.addMealPlanToFirestore(firestoreEntity)
-                        .andThen(local.updateMealPlanSyncStatus(
-                                localUserId, date, mealType, true))
-                        .onErrorComplete();
-            }
-            return Completable.complete();
-        });
-
         return localSave
-                .andThen(firestoreSync)
+                .doOnComplete(() -> imagePinStore.pin(meal))
+                .doOnComplete(syncManager::requestMealPlansSync)
                 .subscribeOn(Schedulers.io());
     }
 
@@ -307,27 +300,19 @@ public class MealDetailRepository {
         }
 
         String localUserId = getLocalUserId();
-        String firebaseUserId = getFirebaseUserId();
 
         if (localUserId == null) {
             return Completable.error(
                     new IllegalStateException("User not logged in"));
         }
 
+        // Tombstone locally; the sync stage deletes the Firestore copy
         Completable localRemove =
                 local.removeMealPlan(localUserId, date, mealType);
 
-        Completable firestoreSync = Completable.defer(() -> {
-            if (firebaseUserId != null && isNetworkAvailable()) {
-                return remote.removeMealPlanFromFirestore(
-                                firebaseUserId, date, mealType)
-                        .onErrorComplete();
-            }
-            return Completable.complete();
-        });
-
         return localRemove
-                .andThen(firestoreSync)
+                .doOnComplete(imagePinStore::reconcile)
+                .doOnComplete(syncManager::requestMealPlansSync)
                 .subscribeOn(Schedulers.io());
     }
 
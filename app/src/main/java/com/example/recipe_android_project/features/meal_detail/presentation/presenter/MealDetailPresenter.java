@@ -95,6 +95,8 @@ public class MealDetailPresenter implements MealDetailContract.Presenter {
                                 } else {
                                     List<InstructionStep> instructions =
                                             InstructionParser.parseInstructions(
+                                                    meal.getId(),
+                                                    meal.getDateModified(),
                                                     meal.getInstructions());
                                     view.showInstructions(instructions);
                                 }
@@ -13,19 +13,30 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.airbnb.lottie.LottieAnimationView;
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
 import com.bumptech.glide.load.DataSource;
 import com.bumptech.glide.load.engine.GlideException;
 import com.bumptech.glide.load.resource.drawable.DrawableTransitionOptions;
 import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.target.Target;
 import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.config.ImageRequestOptions;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
+import com.example.recipe_android_project.core.utils.ImageUrlPolicy;
 import com.example.recipe_android_project.features.home.model.Ingredient;
 
+import java.util.Collections;
 import java.util.List;
 
-public class IngredientsAdapter extends RecyclerView.Adapter<IngredientsAdapter.ViewHolder> {
+public class IngredientsAdapter extends RecyclerView.Adapter<IngredientsAdapter.ViewHolder>
+        implements ListPreloader.PreloadModelProvider<Ingredient> {
 
     private List<Ingredient> ingredients;
+    private RequestManager requestManager;
+    private ImagePinStore imagePinStore;
+    private int thumbSizePx;
 
     public IngredientsAdapter(List<Ingredient> ingredients) {
         this.ingredients = ingredients;
@@ -49,8 +60,7 @@ public class IngredientsAdapter extends RecyclerView.Adapter<IngredientsAdapter.
 
         holder.showLoading();
 
-        Glide.with(holder.itemView.getContext())
-                .load(ingredient.getImageUrl())
+        imageRequest(Glide.with(holder.itemView.getContext()), ingredient)
                 .transition(DrawableTransitionOptions.withCrossFade(300))
                 .listener(new RequestListener<Drawable>() {
                     @Override
@@ -79,6 +89,36 @@ public class IngredientsAdapter extends RecyclerView.Adapter<IngredientsAdapter.
         return ingredients != null ? ingredients.size() : 0;
     }
 
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        requestManager = Glide.with(recyclerView);
+        imagePinStore = ImagePinStore.getInstance(recyclerView.getContext());
+        thumbSizePx = recyclerView.getResources()
+                .getDimensionPixelSize(R.dimen.ingredient_thumb_size);
+    }
+
+    @NonNull
+    @Override
+    public List<Ingredient> getPreloadItems(int position) {
+        if (position < 0 || position >= getItemCount()) return Collections.emptyList();
+        return Collections.singletonList(ingredients.get(position));
+    }
+
+    @Nullable
+    @Override
+    public RequestBuilder<?> getPreloadRequestBuilder(@NonNull Ingredient ingredient) {
+        return requestManager != null ? imageRequest(requestManager, ingredient) : null;
+    }
+
+    private RequestBuilder<Drawable> imageRequest(RequestManager glide, Ingredient ingredient) {
+        return glide
+                .load(imagePinStore.resolve(
+                        ImageUrlPolicy.ingredientImage(ingredient.getName(), thumbSizePx)))
+                .fitCenter()
+                .apply(ImageRequestOptions.listThumbnail());
+    }
+
     public void updateData(List<Ingredient> newIngredients) {
         this.ingredients = newIngredients;
         notifyDataSetChanged();
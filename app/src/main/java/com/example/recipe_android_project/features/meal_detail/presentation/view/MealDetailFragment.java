@@ -28,8 +28,10 @@ import com.bumptech.glide.load.resource.drawable.DrawableTransitionOptions;
 import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.target.Target;
 import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
 import com.example.recipe_android_project.core.ui.AddToPlanDialogHelper;
 import com.example.recipe_android_project.core.ui.AlertDialogHelper;
+import com.example.recipe_android_project.core.ui.ImagePreloader;
 import com.example.recipe_android_project.core.ui.SnackbarHelper;
 import com.example.recipe_android_project.features.auth.presentation.view.AuthActivity;
 import com.example.recipe_android_project.features.home.model.Ingredient;
@@ -160,6 +162,7 @@ public class MealDetailFragment extends Fragment implements MealDetailContract.V
         );
         ingredientsAdapter = new IngredientsAdapter(new ArrayList<>());
         rvIngredients.setAdapter(ingredientsAdapter);
+        ImagePreloader.attach(rvIngredients, ingredientsAdapter, R.dimen.ingredient_thumb_size);
 
         rvInstructions.setLayoutManager(new LinearLayoutManager(requireContext()));
         rvInstructions.setNestedScrollingEnabled(false);
@@ -310,7 +313,7 @@ public class MealDetailFragment extends Fragment implements MealDetailContract.V
         showImageLoading();
 
         Glide.with(this)
-                .load(imageUrl)
+                .load(ImagePinStore.getInstance(requireContext()).resolve(imageUrl))
                 .transition(DrawableTransitionOptions.withCrossFade(500))
                 .listener(new RequestListener<Drawable>() {
                     @Override
@@ -6,11 +6,13 @@ import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
 
 
 import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import io.reactivex.rxjava3.core.Completable;
@@ -27,11 +29,63 @@ public interface MealPlanDao {
     Completable updateSyncStatus(String userId, String date, String mealType, boolean isSynced);
     @Query("DELETE FROM meal_plans WHERE user_id = :userId AND date = :date AND meal_type = :mealType")
     Completable deleteMealPlanByKey(String userId, String date, String mealType);
-    @Query("SELECT * FROM meal_plans WHERE user_id = :userId AND date = :date AND meal_type = :mealType LIMIT 1")
+    @Query("UPDATE meal_plans SET pending_delete = 1, is_synced = 0, updated_at = :updatedAt WHERE user_id = :userId AND date = :date AND meal_type = :mealType")
+    Completable markMealPlanDeleted(String userId, String date, String mealType, long updatedAt);
+    @Query("SELECT * FROM meal_plans WHERE user_id = :userId AND date = :date AND meal_type = :mealType AND pending_delete = 0 LIMIT 1")
     Single<MealPlanEntity> getMealPlan(String userId, String date, String mealType);
-    @Query("SELECT * FROM meal_plans WHERE user_id = :userId AND date = :date ORDER BY CASE meal_type WHEN 'breakfast' THEN 1 WHEN 'lunch' THEN 2 WHEN 'dinner' THEN 3 END")
+    @Query("SELECT * FROM meal_plans WHERE user_id = :userId AND date = :date AND pending_delete = 0 ORDER BY CASE meal_type WHEN 'breakfast' THEN 1 WHEN 'lunch' THEN 2 WHEN 'dinner' THEN 3 END")
     Flowable<List<MealPlanEntity>> observeMealPlansByDate(String userId, String date);
-    @Query("SELECT * FROM meal_plans WHERE meal_id = :mealId AND user_id = :userId LIMIT 1")
+    @Query("SELECT * FROM meal_plans WHERE meal_id = :mealId AND user_id = :userId AND pending_delete = 0 LIMIT 1")
     Single<MealPlanEntity> getMealPlanByMealId(String mealId, String userId);
+    @Query("SELECT * FROM meal_plans WHERE user_id = :userId AND date >= :fromDate AND pending_delete = 0")
+    List<MealPlanEntity> findUpcomingMealPlans(String userId, String fromDate);
+    @Query("SELECT * FROM meal_plans WHERE user_id = :userId AND is_synced = 0 ORDER BY updated_at")
+    Single<List<MealPlanEntity>> getUnsyncedMealPlans(String userId);
+    @Query("SELECT COUNT(*) FROM meal_plans WHERE user_id = :userId AND is_synced = 0")
+    Single<Integer> countUnsyncedMealPlans(String userId);
+    @Query("UPDATE meal_plans SET is_synced = 1 WHERE user_id = :userId AND date = :date AND meal_type = :mealType AND updated_at = :updatedAt AND pending_delete = 0")
+    int markSyncedIfUnchanged(String userId, String date, String mealType, long updatedAt);
+    @Query("DELETE FROM meal_plans WHERE user_id = :userId AND date = :date AND meal_type = :mealType AND updated_at = :updatedAt AND pending_delete = 1")
+    int deleteTombstoneIfUnchanged(String userId, String date, String mealType, long updatedAt);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void replaceMealPlans(List<MealPlanEntity> mealPlans);
+    @Query("SELECT COUNT(*) FROM meal_plans WHERE user_id = :userId AND date = :date AND meal_type = :mealType AND (is_synced = 0 OR pending_delete = 1)")
+    int countLocalChanges(String userId, String date, String mealType);
+
+    /**
+     * Stores plans pulled from Firestore in one transaction. Slots with a local
+     * edit or tombstone that has not been pushed yet keep the local row; the
+     * push will overwrite the remote copy instead.
+     */
+    @Transaction
+    default void mergeRemoteMealPlans(List<MealPlanEntity> mealPlans) {
+        List<MealPlanEntity> accepted = new ArrayList<>(mealPlans.size());
+        for (MealPlanEntity plan : mealPlans) {
+            if (countLocalChanges(plan.getUserId(), plan.getDate(), plan.getMealType()) == 0) {
+                accepted.add(plan);
+            }
+        }
+        if (!accepted.isEmpty()) {
+            replaceMealPlans(accepted);
+        }
+    }
+
+    /**
+     * Marks a pushed batch as synced in one transaction. Tombstones are purged;
+     * rows edited again while the batch was in flight are left unsynced.
+     */
+    @Transaction
+    default void markPushed(List<MealPlanEntity> mealPlans) {
+        for (MealPlanEntity plan : mealPlans) {
+            if (plan.isPendingDelete()) {
+                deleteTombstoneIfUnchanged(plan.getUserId(), plan.getDate(),
+                        plan.getMealType(), plan.getUpdatedAt());
+            } else {
+                markSyncedIfUnchanged(plan.getUserId(), plan.getDate(),
+                        plan.getMealType(), plan.getUpdatedAt());
+            }
+        }
+    }
 
 }
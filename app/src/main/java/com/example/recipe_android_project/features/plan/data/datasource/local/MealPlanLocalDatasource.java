@@ -20,9 +20,18 @@ public class MealPlanLocalDatasource {
         this.mealPlanDao = DbManager.getInstance(context).mealPlanDao();
     }
     public Completable removeMealPlan(String userId, String date, String mealType) {
-        return mealPlanDao.deleteMealPlanByKey(userId, date, mealType);
+        return mealPlanDao.markMealPlanDeleted(userId, date, mealType, System.currentTimeMillis());
     }
     public Flowable<List<MealPlanEntity>> observeMealPlansByDate(String userId, String date) {
         return mealPlanDao.observeMealPlansByDate(userId, date);
     }
+    public Single<List<MealPlanEntity>> getUnsyncedMealPlans(String userId) {
+        return mealPlanDao.getUnsyncedMealPlans(userId);
+    }
+    public Single<Integer> countUnsyncedMealPlans(String userId) {
+        return mealPlanDao.countUnsyncedMealPlans(userId);
+    }
+    public Completable markMealPlansPushed(List<MealPlanEntity> mealPlans) {
+        return Completable.fromAction(() -> mealPlanDao.markPushed(mealPlans));
+    }
 }
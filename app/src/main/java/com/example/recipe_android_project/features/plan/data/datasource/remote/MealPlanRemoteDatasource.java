@@ -1,13 +1,14 @@
 package com.example.recipe_android_project.features.plan.data.datasource.remote;
 
 import android.content.Context;
-import android.net.ConnectivityManager;
-import android.net.NetworkInfo;
 
+import com.example.recipe_android_project.core.helper.ConnectivityHub;
 import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
 import com.example.recipe_android_project.features.plan.data.mapper.MealPlanMapper;
 import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.CollectionReference;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.WriteBatch;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,39 +20,56 @@ public class MealPlanRemoteDatasource {
 
     private static final String USERS_COLLECTION = "users";
     private static final String MEAL_PLANS_COLLECTION = "meal_plans";
+    public static final int MAX_BATCH_OPERATIONS = 500;
 
     private final FirebaseFirestore firestore;
     private final Context context;
+    private final ConnectivityHub connectivityHub;
 
     public MealPlanRemoteDatasource(Context context) {
         this.context = context;
+        this.connectivityHub = ConnectivityHub.getInstance(context);
         this.firestore = FirebaseFirestore.getInstance();
     }
 
 
     public boolean isNetworkAvailable() {
-        ConnectivityManager cm = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
-        if (cm != null) {
-            NetworkInfo networkInfo = cm.getActiveNetworkInfo();
-            return networkInfo != null && networkInfo.isConnected();
-        }
-        return false;
+        return connectivityHub.isNetworkAvailable();
     }
-    public Completable removeMealPlanFromFirestore(String userId, String date, String mealType) {
+
+    /**
+     * Writes every upsert and delete for one user in a single atomic batch.
+     * Firestore caps a batch at {@link #MAX_BATCH_OPERATIONS} writes.
+     */
+    public Completable commitMealPlanBatch(String userId,
+                                           List<MealPlanEntity> upserts,
+                                           List<MealPlanEntity> deletes) {
         return Completable.create(emitter -> {
-            if (userId == null || userId.isEmpty() || date == null || date.isEmpty() ||
-                    mealType == null || mealType.isEmpty()) {
-                emitter.onError(new IllegalArgumentException("UserId, Date, and MealType are required"));
+            int operations = upserts.size() + deletes.size();
+            if (userId == null || userId.isEmpty() || operations == 0) {
+                emitter.onComplete();
+                return;
+            }
+            if (operations > MAX_BATCH_OPERATIONS) {
+                emitter.onError(new IllegalArgumentException(
+                        "Batch exceeds " + MAX_BATCH_OPERATIONS + " operations"));
                 return;
             }
 
-            String documentId = MealPlanMapper.generateDocumentId(date, mealType);
-
-            firestore.collection(USERS_COLLECTION)
+            CollectionReference mealPlans = firestore.collection(USERS_COLLECTION)
                     .document(userId)
-                    .collection(MEAL_PLANS_COLLECTION)
-                    .document(documentId)
-                    .delete()
+                    .collection(MEAL_PLANS_COLLECTION);
+            WriteBatch batch = firestore.batch();
+            for (MealPlanEntity entity : upserts) {
+                Map<String, Object> data = MealPlanMapper.entityToMap(entity);
+                data.put("userId", userId);
+                batch.set(mealPlans.document(MealPlanMapper.generateDocumentId(entity)), data);
+            }
+            for (MealPlanEntity entity : deletes) {
+                batch.delete(mealPlans.document(MealPlanMapper.generateDocumentId(entity)));
+            }
+
+            batch.commit()
                     .addOnSuccessListener(aVoid -> {
                         if (!emitter.isDisposed()) {
                             emitter.onComplete();
@@ -59,7 +77,7 @@ public class MealPlanRemoteDatasource {
                     })
                     .addOnFailureListener(e -> {
                         if (!emitter.isDisposed()) {
-                            emitter.onError(new Exception("Failed to remove meal plan from Firestore: " + e.getMessage()));
+                            emitter.onError(new Exception("Failed to sync meal plans to Firestore: " + e.getMessage()));
                         }
                     });
         });
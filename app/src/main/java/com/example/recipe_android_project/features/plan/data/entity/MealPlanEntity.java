@@ -62,6 +62,9 @@ public class MealPlanEntity implements Serializable {
     @ColumnInfo(name = "is_synced", defaultValue = "0")
     private boolean isSynced;
 
+    @ColumnInfo(name = "pending_delete", defaultValue = "0")
+    private boolean pendingDelete;
+
     public MealPlanEntity() {
         this.userId = "";
         this.date = "";
@@ -179,4 +182,12 @@ public class MealPlanEntity implements Serializable {
     public void setSynced(boolean synced) {
         isSynced = synced;
     }
+
+    public boolean isPendingDelete() {
+        return pendingDelete;
+    }
+
+    public void setPendingDelete(boolean pendingDelete) {
+        this.pendingDelete = pendingDelete;
+    }
 }
@@ -2,23 +2,39 @@ package com.example.recipe_android_project.features.plan.data.repository;
 
 import android.content.Context;
 
+import com.example.recipe_android_project.core.helper.ImagePinStore;
+import com.example.recipe_android_project.core.helper.SyncManager;
+import com.example.recipe_android_project.core.helper.UserSessionManager;
+import com.example.recipe_android_project.core.utils.RetryWithBackoff;
 import com.example.recipe_android_project.features.meal_detail.domain.model.MealPlan;
 import com.example.recipe_android_project.features.plan.data.datasource.local.MealPlanLocalDatasource;
 import com.example.recipe_android_project.features.plan.data.datasource.remote.MealPlanRemoteDatasource;
+import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
 import com.example.recipe_android_project.features.plan.data.mapper.MealPlanMapper;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 
 public class MealPlanRepository {
+    private static final int MAX_BATCH_RETRIES = 3;
+    private static final long BATCH_RETRY_BASE_DELAY_MS = 1000;
+
     private final MealPlanLocalDatasource localDatasource;
     private final MealPlanRemoteDatasource remoteDatasource;
+    private final UserSessionManager sessionManager;
+    private final SyncManager syncManager;
+    private final ImagePinStore imagePinStore;
     public MealPlanRepository(Context context) {
         this.localDatasource = new MealPlanLocalDatasource(context);
         this.remoteDatasource = new MealPlanRemoteDatasource(context);
+        this.sessionManager = UserSessionManager.getInstance(context);
+        this.syncManager = SyncManager.getInstance(context);
+        this.imagePinStore = ImagePinStore.getInstance(context);
     }
     public Flowable<List<MealPlan>> getMealPlansByDate(String userId, String date) {
         if (userId == null || userId.isEmpty() || date == null || date.isEmpty()) {
@@ -35,17 +51,70 @@ public class MealPlanRepository {
             return Completable.error(new IllegalArgumentException("UserId, Date, and MealType are required"));
         }
 
-        Completable localRemove = localDatasource.removeMealPlan(userId, date, mealType);
-
-        if (remoteDatasource.isNetworkAvailable()) {
-            return localRemove
-                    .andThen(remoteDatasource.removeMealPlanFromFirestore(userId, date, mealType))
-                    .subscribeOn(Schedulers.io());
-        } else {
-            return localRemove.subscribeOn(Schedulers.io());
-        }
+        // Tombstone locally; the sync stage deletes the Firestore copy
+        return localDatasource.removeMealPlan(userId, date, mealType)
+                .doOnComplete(imagePinStore::reconcile)
+                .doOnComplete(syncManager::requestMealPlansSync)
+                .subscribeOn(Schedulers.io());
     }
     public boolean isNetworkAvailable() {
         return remoteDatasource.isNetworkAvailable();
     }
+
+    public Single<Integer> getPendingMealPlanCount() {
+        return Single.defer(() -> {
+            String localUserId = sessionManager.getCurrentUserIdOrNull();
+            if (localUserId == null || sessionManager.getFirebaseUidOrNull() == null) {
+                return Single.just(0);
+            }
+            return localDatasource.countUnsyncedMealPlans(localUserId);
+        }).subscribeOn(Schedulers.io());
+    }
+
+    /**
+     * Pushes every unsynced plan of the signed-in user, including tombstoned
+     * deletes, in Firestore batches of at most
+     * {@link MealPlanRemoteDatasource#MAX_BATCH_OPERATIONS} writes. Each pushed
+     * batch is marked synced in a single transaction.
+     */
+    public Completable syncPendingMealPlans() {
+        return Completable.defer(() -> {
+            String localUserId = sessionManager.getCurrentUserIdOrNull();
+            String firebaseUserId = sessionManager.getFirebaseUidOrNull();
+            if (localUserId == null || firebaseUserId == null) {
+                return Completable.complete();
+            }
+
+            return localDatasource.getUnsyncedMealPlans(localUserId)
+                    .flatMapCompletable(plans -> Flowable.fromIterable(toBatches(plans))
+                            .concatMapCompletableDelayError(batch ->
+                                    pushBatch(firebaseUserId, batch)));
+        }).subscribeOn(Schedulers.io());
+    }
+
+    private List<List<MealPlanEntity>> toBatches(List<MealPlanEntity> plans) {
+        List<List<MealPlanEntity>> batches = new ArrayList<>();
+        for (int i = 0; i < plans.size(); i += MealPlanRemoteDatasource.MAX_BATCH_OPERATIONS) {
+            int end = Math.min(i + MealPlanRemoteDatasource.MAX_BATCH_OPERATIONS, plans.size());
+            batches.add(new ArrayList<>(plans.subList(i, end)));
+        }
+        return batches;
+    }
+
+    private Completable pushBatch(String firebaseUserId, List<MealPlanEntity> batch) {
+        List<MealPlanEntity> upserts = new ArrayList<>();
+        List<MealPlanEntity> deletes = new ArrayList<>();
+        for (MealPlanEntity plan : batch) {
+            if (plan.isPendingDelete()) {
+                deletes.add(plan);
+            } else {
+                upserts.add(plan);
+            }
+        }
+
+        return RetryWithBackoff.apply(
+                        remoteDatasource.commitMealPlanBatch(firebaseUserId, upserts, deletes),
+                        MAX_BATCH_RETRIES, BATCH_RETRY_BASE_DELAY_MS)
+                .andThen(localDatasource.markMealPlansPushed(batch));
+    }
 }
@@ -21,6 +21,7 @@ import androidx.viewpager2.widget.ViewPager2;
 import com.airbnb.lottie.LottieAnimationView;
 import com.bumptech.glide.Glide;
 import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
 import com.example.recipe_android_project.core.ui.AlertDialogHelper;
 import com.example.recipe_android_project.core.ui.SnackbarHelper;
 import com.example.recipe_android_project.features.dashboard.presentation.view.TabNavigator;
@@ -386,7 +387,8 @@ public class PlanFragment extends Fragment implements
             }
             if (imgBreakfast != null && mealPlan.getMealThumbnail() != null) {
                 Glide.with(this)
-                        .load(mealPlan.getMealThumbnail())
+                        .load(ImagePinStore.getInstance(requireContext())
+                                .resolve(mealPlan.getMealThumbnail()))
                         .centerCrop()
                         .placeholder(R.drawable.onboarding_1)
                         .into(imgBreakfast);
@@ -407,7 +409,8 @@ public class PlanFragment extends Fragment implements
             }
             if (imgLunch != null && mealPlan.getMealThumbnail() != null) {
                 Glide.with(this)
-                        .load(mealPlan.getMealThumbnail())
+                        .load(ImagePinStore.getInstance(requireContext())
+                                .resolve(mealPlan.getMealThumbnail()))
                         .centerCrop()
                         .placeholder(R.drawable.onboarding_1)
                         .into(imgLunch);
@@ -428,7 +431,8 @@ public class PlanFragment extends Fragment implements
             }
             if (imgDinner != null && mealPlan.getMealThumbnail() != null) {
                 Glide.with(this)
-                        .load(mealPlan.getMealThumbnail())
+                        .load(ImagePinStore.getInstance(requireContext())
+                                .resolve(mealPlan.getMealThumbnail()))
                         .centerCrop()
                         .placeholder(R.drawable.onboarding_1)
                         .into(imgDinner);
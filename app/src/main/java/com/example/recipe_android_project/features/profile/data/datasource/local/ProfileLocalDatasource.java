@@ -4,8 +4,8 @@ import android.content.Context;
 import android.util.Log;
 
 import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.core.helper.PasswordHashExecutor;
 import com.example.recipe_android_project.core.helper.UserSessionManager;
-import com.example.recipe_android_project.core.utils.PasswordHasher;
 import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
 
 import java.util.List;
@@ -104,7 +104,7 @@ public class ProfileLocalDatasource {
     public Single<Boolean> verifyPassword(String userId, String password) {
         return profileDao.getUserById(userId)
                 .switchIfEmpty(Single.error(new Exception("User not found")))
-                .map(user -> PasswordHasher.verifyPassword(password, user.getPassword()));
+                .flatMap(user -> PasswordHashExecutor.verify(password, user.getPassword()));
     }
 
     public Single<Boolean> updatePassword(String userId, String hashedPassword) {
@@ -1,11 +1,9 @@
 package com.example.recipe_android_project.features.profile.data.datasource.remote;
 
 import android.content.Context;
-import android.net.ConnectivityManager;
-import android.net.Network;
-import android.net.NetworkCapabilities;
 import android.util.Log;
 
+import com.example.recipe_android_project.core.helper.ConnectivityHub;
 import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
 import com.google.firebase.auth.AuthCredential;
 import com.google.firebase.auth.EmailAuthProvider;
@@ -26,31 +24,18 @@ public class ProfileRemoteDatasource {
     private final FirebaseAuth firebaseAuth;
     private final FirebaseFirestore firestore;
     private final Context context;
-    private ConnectivityManager connectivityManager;
+    private final ConnectivityHub connectivityHub;
 
     public ProfileRemoteDatasource(Context context) {
         this.context = context;
+        this.connectivityHub = ConnectivityHub.getInstance(context);
         this.firebaseAuth = FirebaseAuth.getInstance();
         this.firestore = FirebaseFirestore.getInstance();
     }
 
 
     public boolean isNetworkAvailable() {
-        if (connectivityManager == null) {
-            connectivityManager = (ConnectivityManager)
-                    context.getSystemService(Context.CONNECTIVITY_SERVICE);
-        }
-
-        if (connectivityManager == null) return false;
-
-        Network network = connectivityManager.getActiveNetwork();
-        if (network == null) return false;
-
-        NetworkCapabilities capabilities = connectivityManager.getNetworkCapabilities(network);
-        if (capabilities == null) return false;
-
-        return capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
-                && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED);
+        return connectivityHub.isNetworkAvailable();
     }
 
 
@@ -5,8 +5,8 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.util.Log;
 
+import com.example.recipe_android_project.core.helper.PasswordHashExecutor;
 import com.example.recipe_android_project.core.helper.UserSessionManager;
-import com.example.recipe_android_project.core.utils.PasswordHasher;
 import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
 import com.example.recipe_android_project.features.auth.data.mapper.UserMapper;
 import com.example.recipe_android_project.features.auth.domain.model.PasswordChangeResult;
@@ -14,6 +14,7 @@ import com.example.recipe_android_project.features.auth.domain.model.User;
 import com.example.recipe_android_project.features.profile.data.datasource.local.ProfileLocalDatasource;
 import com.example.recipe_android_project.features.profile.data.datasource.remote.ProfileRemoteDatasource;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -128,6 +129,19 @@ public class ProfileRepository {
         ).subscribeOn(Schedulers.io());
     }
 
+    public Single<Integer> getPendingUserUpdateCount() {
+        return localDatasource.getAllPendingSyncUsers()
+                .map(List::size)
+                .subscribeOn(Schedulers.io());
+    }
+
+    public Single<Integer> getPendingPasswordChangeCount() {
+        return localDatasource.getPendingPasswordSyncUser()
+                .map(user -> user.isPendingPasswordSync() ? 1 : 0)
+                .defaultIfEmpty(0)
+                .subscribeOn(Schedulers.io());
+    }
+
     // ==================== SYNC PENDING USER UPDATES ====================
 
     public Completable syncAllPendingUserUpdates() {
@@ -263,18 +277,16 @@ public class ProfileRepository {
                                                               String newPassword) {
         return remoteDatasource.updatePassword(oldPassword, newPassword)
                 .timeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
-                .andThen(Single.defer(() -> {
-                    String hashed = PasswordHasher.hashPassword(newPassword);
-                    return localDatasource.updatePassword(userId, hashed)
-                            .map(success -> {
-                                if (success) {
-                                    Log.d(TAG, "Password changed online");
-                                    return PasswordChangeResult.success();
-                                }
-                                return PasswordChangeResult.failure(
-                                        "Failed to update local password");
-                            });
-                }))
+                .andThen(PasswordHashExecutor.hash(newPassword))
+                .flatMap(hashed -> localDatasource.updatePassword(userId, hashed)
+                        .map(success -> {
+                            if (success) {
+                                Log.d(TAG, "Password changed online");
+                                return PasswordChangeResult.success();
+                            }
+                            return PasswordChangeResult.failure(
+                                    "Failed to update local password");
+                        }))
                 .onErrorResumeNext(error -> {
                     Log.w(TAG, "Online password change failed: "
                             + error.getMessage());
@@ -290,17 +302,16 @@ public class ProfileRepository {
     private Single<PasswordChangeResult> changePasswordOffline(String userId,
                                                                String oldPassword,
                                                                String newPassword) {
-        String hashed = PasswordHasher.hashPassword(newPassword);
-
-        return localDatasource.updatePasswordWithPendingSync(
-                userId, hashed, oldPassword, newPassword
-        ).map(success -> {
-            if (success) {
-                Log.d(TAG, "Password changed offline with pending sync");
-                return PasswordChangeResult.successWithPendingSync();
-            }
-            return PasswordChangeResult.failure("Failed to update password");
-        });
+        return PasswordHashExecutor.hash(newPassword)
+                .flatMap(hashed -> localDatasource.updatePasswordWithPendingSync(
+                        userId, hashed, oldPassword, newPassword))
+                .map(success -> {
+                    if (success) {
+                        Log.d(TAG, "Password changed offline with pending sync");
+                        return PasswordChangeResult.successWithPendingSync();
+                    }
+                    return PasswordChangeResult.failure("Failed to update password");
+                });
     }
 
     // ==================== PRIVATE - HELPERS ====================
@@ -21,5 +21,7 @@ public interface ProfileContract {
         void logout();
         void changeLanguage(String languageCode);
         boolean isUserLoggedIn();
+        boolean isLiveFavoritesSyncEnabled();
+        void setLiveFavoritesSyncEnabled(boolean enabled);
     }
 }
@@ -2,6 +2,7 @@ package com.example.recipe_android_project.features.profile.presentation.present
 
 import android.content.Context;
 
+import com.example.recipe_android_project.core.helper.FavoritesRealtimeSync;
 import com.example.recipe_android_project.features.auth.data.repository.AuthRepository;
 import com.example.recipe_android_project.features.auth.domain.model.User;
 import com.example.recipe_android_project.features.profile.data.repository.ProfileRepository;
@@ -17,12 +18,14 @@ public class ProfilePresenter implements ProfileContract.Presenter {
     private ProfileContract.View view;
     private final ProfileRepository profileRepository;
     private final AuthRepository authRepository;
+    private final FavoritesRealtimeSync realtimeSync;
     private final CompositeDisposable disposables;
     private User currentUser;
 
     public ProfilePresenter(Context context) {
         this.profileRepository = new ProfileRepository(context);
         this.authRepository = new AuthRepository(context);
+        this.realtimeSync = FavoritesRealtimeSync.getInstance(context);
         this.disposables = new CompositeDisposable();
     }
 
@@ -117,6 +120,16 @@ public class ProfilePresenter implements ProfileContract.Presenter {
         view.showLanguageChanged(languageCode);
     }
 
+    @Override
+    public boolean isLiveFavoritesSyncEnabled() {
+        return realtimeSync.isEnabled();
+    }
+
+    @Override
+    public void setLiveFavoritesSyncEnabled(boolean enabled) {
+        realtimeSync.setEnabled(enabled);
+    }
+
     public User getCurrentUser() {
         return currentUser;
     }
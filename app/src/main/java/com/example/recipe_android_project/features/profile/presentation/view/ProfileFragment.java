@@ -20,6 +20,7 @@ import android.widget.Toast;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.appcompat.widget.SwitchCompat;
 import androidx.cardview.widget.CardView;
 import androidx.constraintlayout.widget.ConstraintLayout;
 import androidx.core.content.ContextCompat;
@@ -43,11 +44,12 @@ public class ProfileFragment extends Fragment implements ProfileContract.View {
     private CardView cardChangePhoto;
     private TextView tvUserName, tvUserEmail, tvCurrentLanguage;
     private ConstraintLayout layoutChangeLanguage, layoutEditUserInfo,
-            layoutChangePassword, layoutLogout;
+            layoutChangePassword, layoutLiveSync, layoutLogout;
+    private SwitchCompat switchLiveSync;
     private ProgressBar progressBar;
 
     // Views needed for guest mode toggling
-    private View divider1, divider2;
+    private View divider1, divider2, divider3;
     private FrameLayout frameProfileImage;
     private ImageView ivLogoutIcon;
     private TextView tvLogoutLabel;
@@ -99,10 +101,13 @@ public class ProfileFragment extends Fragment implements ProfileContract.View {
         layoutChangeLanguage = view.findViewById(R.id.layout_change_language);
         layoutEditUserInfo = view.findViewById(R.id.layout_edit_user_info);
         layoutChangePassword = view.findViewById(R.id.layout_change_password);
+        layoutLiveSync = view.findViewById(R.id.layout_live_sync);
+        switchLiveSync = view.findViewById(R.id.switch_live_sync);
         layoutLogout = view.findViewById(R.id.layout_logout);
 
         divider1 = view.findViewById(R.id.divider_1);
         divider2 = view.findViewById(R.id.divider_2);
+        divider3 = view.findViewById(R.id.divider_3);
 
         ivLogoutIcon = view.findViewById(R.id.iv_logout_icon);
         tvLogoutLabel = view.findViewById(R.id.tv_logout_label);
@@ -146,6 +151,11 @@ public class ProfileFragment extends Fragment implements ProfileContract.View {
         layoutChangeLanguage.setOnClickListener(v -> showLanguageDialog());
         layoutEditUserInfo.setOnClickListener(this::navigateToEditProfile);
 
+        switchLiveSync.setChecked(presenter.isLiveFavoritesSyncEnabled());
+        switchLiveSync.setOnCheckedChangeListener((buttonView, isChecked) ->
+                presenter.setLiveFavoritesSyncEnabled(isChecked));
+        layoutLiveSync.setOnClickListener(v -> switchLiveSync.toggle());
+
         layoutLogout.setOnClickListener(v -> {
             if (isLoggedIn) {
                 showLogoutDialog();
@@ -185,6 +195,13 @@ public class ProfileFragment extends Fragment implements ProfileContract.View {
             divider2.setVisibility(View.GONE);
         }
 
+        if (layoutLiveSync != null) {
+            layoutLiveSync.setVisibility(View.GONE);
+        }
+        if (divider3 != null) {
+            divider3.setVisibility(View.GONE);
+        }
+
         updateLoginButton();
     }
 
@@ -209,6 +226,13 @@ public class ProfileFragment extends Fragment implements ProfileContract.View {
             divider2.setVisibility(View.VISIBLE);
         }
 
+        if (layoutLiveSync != null) {
+            layoutLiveSync.setVisibility(View.VISIBLE);
+        }
+        if (divider3 != null) {
+            divider3.setVisibility(View.VISIBLE);
+        }
+
         updateLogoutButton();
     }
 
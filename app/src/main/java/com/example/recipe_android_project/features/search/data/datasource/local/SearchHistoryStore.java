@@ -0,0 +1,149 @@
+package com.example.recipe_android_project.features.search.data.datasource.local;
+
+import android.content.Context;
+
+import com.example.recipe_android_project.core.helper.SharedPreferencesManager;
+import com.example.recipe_android_project.features.search.data.index.PrefixIndex;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Frequency-weighted search history persisted in shared preferences. Each use
+ * of a query counts once and loses half its weight every {@link #HALF_LIFE_MS},
+ * so recent favourites outrank queries typed once a long time ago.
+ */
+public class SearchHistoryStore implements PrefixIndex.Booster {
+
+    private static final String KEY_HISTORY = "search_history";
+    private static final int MAX_ENTRIES = 200;
+    private static final long HALF_LIFE_MS = 14L * 24 * 60 * 60 * 1000;
+    private static final double BOOST_SCALE = 2.0;
+
+    private static volatile SearchHistoryStore instance;
+
+    private final SharedPreferencesManager prefsManager;
+    private final Gson gson = new Gson();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private SearchHistoryStore(Context context) {
+        this.prefsManager = SharedPreferencesManager.getInstance(context.getApplicationContext());
+        load();
+    }
+
+    public static SearchHistoryStore getInstance(Context context) {
+        if (instance == null) {
+            synchronized (SearchHistoryStore.class) {
+                if (instance == null) {
+                    instance = new SearchHistoryStore(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    public synchronized void record(String query) {
+        String key = PrefixIndex.normalize(query);
+        if (key.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(key, entry);
+        } else {
+            entry.weight = decayed(entry, now);
+        }
+        entry.query = query.trim();
+        entry.weight += 1;
+        entry.lastUsedAt = now;
+
+        if (entries.size() > MAX_ENTRIES) {
+            evictWeakest(now);
+        }
+        save();
+    }
+
+    @Override
+    public synchronized double boostFor(String normalizedName) {
+        Entry entry = entries.get(normalizedName);
+        if (entry == null) return 0;
+        return BOOST_SCALE * Math.log1p(decayed(entry, System.currentTimeMillis())) / Math.log(2);
+    }
+
+    /**
+     * Past queries starting with {@code prefix}, strongest first.
+     */
+    public synchronized List<String> getQueries(String prefix, int limit) {
+        String key = PrefixIndex.normalize(prefix);
+        long now = System.currentTimeMillis();
+
+        List<Map.Entry<String, Entry>> matches = new ArrayList<>();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            if (entry.getKey().startsWith(key)) {
+                matches.add(entry);
+            }
+        }
+        Collections.sort(matches, (a, b) ->
+                Double.compare(decayed(b.getValue(), now), decayed(a.getValue(), now)));
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            queries.add(matches.get(i).getValue().query);
+        }
+        return queries;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        prefsManager.remove(KEY_HISTORY);
+    }
+
+    private void evictWeakest(long now) {
+        List<Map.Entry<String, Entry>> sorted = new ArrayList<>(entries.entrySet());
+        Collections.sort(sorted, (a, b) ->
+                Double.compare(decayed(a.getValue(), now), decayed(b.getValue(), now)));
+        for (int i = 0; i < sorted.size() - MAX_ENTRIES; i++) {
+            entries.remove(sorted.get(i).getKey());
+        }
+    }
+
+    private static double decayed(Entry entry, long now) {
+        long age = Math.max(0, now - entry.lastUsedAt);
+        return entry.weight * Math.pow(0.5, (double) age / HALF_LIFE_MS);
+    }
+
+    private void load() {
+        String json = prefsManager.getString(KEY_HISTORY, null);
+        if (json == null || json.isEmpty()) return;
+        try {
+            Type type = new TypeToken<List<Entry>>() {}.getType();
+            List<Entry> saved = gson.fromJson(json, type);
+            if (saved == null) return;
+            for (Entry entry : saved) {
+                String key = PrefixIndex.normalize(entry.query);
+                if (!key.isEmpty()) {
+                    entries.put(key, entry);
+                }
+            }
+        } catch (Exception e) {
+            prefsManager.remove(KEY_HISTORY);
+        }
+    }
+
+    private void save() {
+        prefsManager.putString(KEY_HISTORY, gson.toJson(new ArrayList<>(entries.values())));
+    }
+
+    private static class Entry {
+        String query;
+        double weight;
+        long lastUsedAt;
+    }
+}
@@ -3,29 +3,128 @@ package com.example.recipe_android_project.features.search.data.datasource.local
 import android.content.Context;
 
 import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.core.utils.Bm25Ranker;
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealCatalogDao;
 import com.example.recipe_android_project.features.home.data.datasource.local.MealDao;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealIngredientsTuple;
+import com.example.recipe_android_project.features.home.data.entities.MealNameTuple;
+import com.example.recipe_android_project.features.home.data.entities.MealSearchMatch;
+import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
 
 public class SearchLocalDatasource {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    // name, category, area, tags, ingredients_text, instructions
+    private static final double[] FTS_COLUMN_WEIGHTS = {5.0, 1.5, 1.5, 2.0, 2.5, 1.0};
+
     private final MealDao mealDao;
+    private final MealCatalogDao catalogDao;
+    private final DbManager dbManager;
+
     public SearchLocalDatasource(Context context){
-        this.mealDao = DbManager.getInstance(context).favoriteMealDao();
+        DbManager dbManager = DbManager.getInstance(context);
+        this.mealDao = dbManager.favoriteMealDao();
+        this.catalogDao = dbManager.mealCatalogDao();
+        this.dbManager = dbManager;
+    }
+    public Completable addToFavorites(FavoriteMealEntity entity, FavoriteOutboxEntity change) {
+        return Completable.fromAction(() -> mealDao.upsertFavoriteAndEnqueue(entity, change))
+                .andThen(catalogDao.insertIfAbsent(MealMapper.toCatalogEntity(entity))
+                        .onErrorComplete());
+    }
+    public Completable removeFromFavorites(FavoriteOutboxEntity change) {
+        return Completable.fromAction(() -> mealDao.deleteFavoriteAndEnqueue(change));
+    }
+    public Completable saveToCatalog(List<MealCatalogEntity> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return Completable.complete();
+        }
+        return catalogDao.upsertAll(entities);
+    }
+    public Single<List<MealIngredientsTuple>> getCatalogIngredients() {
+        return catalogDao.getAllMealIngredients();
+    }
+    public Single<List<MealCatalogEntity>> getCatalogMealsByIds(List<String> mealIds) {
+        if (mealIds == null || mealIds.isEmpty()) {
+            return Single.just(new ArrayList<>());
+        }
+        return catalogDao.getMealsByIds(mealIds);
+    }
+    public Single<List<MealNameTuple>> getCatalogMealNames() {
+        return catalogDao.getAllMealNames();
     }
-    public Completable addToFavorites(FavoriteMealEntity entity) {
-        return mealDao.insertFavorite(entity);
+    public Single<Integer> getCatalogCount() {
+        return catalogDao.getCount();
     }
-    public Completable removeFromFavorites(String mealId, String userId) {
-        return mealDao.deleteFavoriteByMealIdAndUserId(mealId, userId);
+    public long getCatalogVersion() {
+        return dbManager.getCatalogVersion();
     }
-    public Single<Boolean> isFavorite(String mealId, String userId) {
-        return mealDao.isFavorite(mealId, userId);
+    public Single<List<MealCatalogEntity>> searchCatalog(String query, int limit) {
+        String ftsQuery = toFtsQuery(query);
+        if (ftsQuery == null) {
+            return Single.just(new ArrayList<>());
+        }
+        return catalogDao.searchFts(ftsQuery)
+                .map(matches -> rank(matches, limit));
     }
-    public Single<List<FavoriteMealEntity>> getFavoriteEntitiesSingle(String userId) {
-        return mealDao.getAllFavoritesByUserIdSingle(userId);
+
+    private List<MealCatalogEntity> rank(List<MealSearchMatch> matches, int limit) {
+        List<ScoredMeal> scored = new ArrayList<>(matches.size());
+        for (MealSearchMatch match : matches) {
+            scored.add(new ScoredMeal(match.getMeal(),
+                    Bm25Ranker.score(match.getMatchInfo(), FTS_COLUMN_WEIGHTS)));
+        }
+        Collections.sort(scored, (a, b) -> Double.compare(b.score, a.score));
+
+        List<MealCatalogEntity> ranked = new ArrayList<>(Math.min(limit, scored.size()));
+        for (int i = 0; i < scored.size() && i < limit; i++) {
+            ranked.add(scored.get(i).meal);
+        }
+        return ranked;
+    }
+
+    private static String toFtsQuery(String query) {
+        if (query == null) return null;
+
+        StringBuilder ftsQuery = new StringBuilder();
+        StringBuilder token = new StringBuilder();
+        String lower = query.toLowerCase(Locale.ROOT);
+
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c);
+            } else if (token.length() > 0) {
+                if (token.length() >= MIN_TOKEN_LENGTH) {
+                    if (ftsQuery.length() > 0) {
+                        ftsQuery.append(' ');
+                    }
+                    ftsQuery.append(token).append('*');
+                }
+                token.setLength(0);
+            }
+        }
+        return ftsQuery.length() > 0 ? ftsQuery.toString() : null;
+    }
+
+    private static final class ScoredMeal {
+        final MealCatalogEntity meal;
+        final double score;
+
+        ScoredMeal(MealCatalogEntity meal, double score) {
+            this.meal = meal;
+            this.score = score;
+        }
     }
 }
@@ -0,0 +1,211 @@
+package com.example.recipe_android_project.features.search.data.index;
+
+import com.example.recipe_android_project.core.utils.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matches a pantry (a handful of ingredient names) against every indexed meal.
+ * Each known ingredient gets a dense integer id and each meal stores its
+ * ingredient set as a fixed-width bitset, so a query is a popcount over a few
+ * longs per meal.
+ */
+public final class PantryIndex {
+
+    private final String[] ingredientNames;
+    private final String[] mealIds;
+    private final long[] mealBits;
+    private final int[] mealSizes;
+    private final int words;
+
+    private PantryIndex(String[] ingredientNames, String[] mealIds,
+                        long[] mealBits, int[] mealSizes, int words) {
+        this.ingredientNames = ingredientNames;
+        this.mealIds = mealIds;
+        this.mealBits = mealBits;
+        this.mealSizes = mealSizes;
+        this.words = words;
+    }
+
+    public int size() {
+        return mealIds.length;
+    }
+
+    public int ingredientCount() {
+        return ingredientNames.length;
+    }
+
+    /**
+     * Ranks meals by how few ingredients are missing from the pantry, then by how
+     * many pantry ingredients they use. Meals that use none of them are skipped.
+     */
+    public List<Match> query(Collection<String> pantry, int limit) {
+        long[] pantryBits = resolvePantry(pantry);
+        List<Match> matches = new ArrayList<>();
+        if (pantryBits == null) return matches;
+
+        for (int meal = 0; meal < mealIds.length; meal++) {
+            int offset = meal * words;
+            int matched = 0;
+            for (int w = 0; w < words; w++) {
+                matched += Long.bitCount(mealBits[offset + w] & pantryBits[w]);
+            }
+            if (matched > 0) {
+                matches.add(new Match(mealIds[meal], matched, mealSizes[meal] - matched));
+            }
+        }
+
+        matches.sort((a, b) -> {
+            if (a.missingCount != b.missingCount) {
+                return Integer.compare(a.missingCount, b.missingCount);
+            }
+            return Integer.compare(b.matchedCount, a.matchedCount);
+        });
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * A pantry term covers the ingredient with the same name and every ingredient
+     * containing it as a whole word, so "chicken" also covers "Chicken Breast".
+     */
+    private long[] resolvePantry(Collection<String> pantry) {
+        if (pantry == null || pantry.isEmpty() || words == 0) return null;
+
+        long[] bits = new long[words];
+        boolean any = false;
+        for (String raw : pantry) {
+            String term = normalize(raw);
+            if (term.isEmpty()) continue;
+
+            for (int id = 0; id < ingredientNames.length; id++) {
+                if (containsWord(ingredientNames[id], term)) {
+                    bits[id >>> 6] |= 1L << id;
+                    any = true;
+                }
+            }
+        }
+        return any ? bits : null;
+    }
+
+    private static boolean containsWord(String name, String term) {
+        int from = 0;
+        while (true) {
+            int index = name.indexOf(term, from);
+            if (index < 0) return false;
+            int end = index + term.length();
+            boolean startOk = index == 0 || name.charAt(index - 1) == ' ';
+            boolean endOk = end == name.length() || name.charAt(end) == ' ';
+            if (startOk && endOk) return true;
+            from = index + 1;
+        }
+    }
+
+    static String normalize(String name) {
+        return TextNormalizer.normalize(name);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Match {
+        private final String mealId;
+        private final int matchedCount;
+        private final int missingCount;
+
+        Match(String mealId, int matchedCount, int missingCount) {
+            this.mealId = mealId;
+            this.matchedCount = matchedCount;
+            this.missingCount = missingCount;
+        }
+
+        public String getMealId() {
+            return mealId;
+        }
+
+        public int getMatchedCount() {
+            return matchedCount;
+        }
+
+        public int getMissingCount() {
+            return missingCount;
+        }
+    }
+
+    public static final class Builder {
+        private final Map<String, Integer> ingredientIds = new HashMap<>();
+        private final List<String> ingredientNames = new ArrayList<>();
+        private final List<String> mealIds = new ArrayList<>();
+        private final List<int[]> mealIngredients = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder addIngredients(Collection<String> names) {
+            if (names == null) return this;
+            for (String name : names) {
+                idOf(name);
+            }
+            return this;
+        }
+
+        public Builder addMeal(String mealId, Collection<String> ingredients) {
+            if (mealId == null || ingredients == null) return this;
+
+            int[] ids = new int[ingredients.size()];
+            int count = 0;
+            for (String ingredient : ingredients) {
+                int id = idOf(ingredient);
+                if (id >= 0) {
+                    ids[count++] = id;
+                }
+            }
+            mealIds.add(mealId);
+            mealIngredients.add(Arrays.copyOf(ids, count));
+            return this;
+        }
+
+        private int idOf(String name) {
+            String key = normalize(name);
+            if (key.isEmpty()) return -1;
+
+            Integer id = ingredientIds.get(key);
+            if (id == null) {
+                id = ingredientNames.size();
+                ingredientIds.put(key, id);
+                ingredientNames.add(key);
+            }
+            return id;
+        }
+
+        public PantryIndex build() {
+            int words = (ingredientNames.size() + 63) >>> 6;
+            long[] bits = new long[mealIds.size() * words];
+            int[] sizes = new int[mealIds.size()];
+
+            for (int meal = 0; meal < mealIds.size(); meal++) {
+                int offset = meal * words;
+                for (int id : mealIngredients.get(meal)) {
+                    bits[offset + (id >>> 6)] |= 1L << id;
+                }
+                int size = 0;
+                for (int w = 0; w < words; w++) {
+                    size += Long.bitCount(bits[offset + w]);
+                }
+                sizes[meal] = size;
+            }
+
+            return new PantryIndex(
+                    ingredientNames.toArray(new String[0]),
+                    mealIds.toArray(new String[0]),
+                    bits,
+                    sizes,
+                    words);
+        }
+    }
+}
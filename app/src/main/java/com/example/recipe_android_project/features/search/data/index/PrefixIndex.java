@@ -0,0 +1,227 @@
+package com.example.recipe_android_project.features.search.data.index;
+
+import com.example.recipe_android_project.core.utils.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable prefix index over a list of names. Every word of a name is a key,
+ * so "brea" finds "Chicken Breast". Keys live in one sorted array and a lookup
+ * is a binary search followed by a bounded top-k selection over the matching
+ * range, so per-keystroke work only allocates the k-sized result.
+ */
+public final class PrefixIndex<T> {
+
+    public interface NameExtractor<T> {
+        String nameOf(T item);
+    }
+
+    public interface Booster {
+        double boostFor(String normalizedName);
+    }
+
+    private static final Booster NO_BOOST = name -> 0;
+
+    private final List<T> items;
+    private final String[] names;
+    private final String[] keys;
+    private final int[] owners;
+    private final boolean[] wholeName;
+
+    private PrefixIndex(List<T> items, String[] names, String[] keys,
+                        int[] owners, boolean[] wholeName) {
+        this.items = items;
+        this.names = names;
+        this.keys = keys;
+        this.owners = owners;
+        this.wholeName = wholeName;
+    }
+
+    public static <T> PrefixIndex<T> build(List<T> source, NameExtractor<T> extractor) {
+        List<T> items = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Key> entries = new ArrayList<>();
+
+        if (source != null) {
+            for (T item : source) {
+                if (item == null) continue;
+                String name = normalize(extractor.nameOf(item));
+                if (name.isEmpty()) continue;
+
+                int owner = items.size();
+                items.add(item);
+                names.add(name);
+                entries.add(new Key(name, owner, true));
+                int space = name.indexOf(' ');
+                while (space >= 0) {
+                    entries.add(new Key(name.substring(space + 1), owner, false));
+                    space = name.indexOf(' ', space + 1);
+                }
+            }
+        }
+
+        Collections.sort(entries, (a, b) -> a.text.compareTo(b.text));
+
+        String[] keys = new String[entries.size()];
+        int[] owners = new int[entries.size()];
+        boolean[] wholeName = new boolean[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            Key entry = entries.get(i);
+            keys[i] = entry.text;
+            owners[i] = entry.owner;
+            wholeName[i] = entry.wholeName;
+        }
+
+        return new PrefixIndex<>(Collections.unmodifiableList(items),
+                names.toArray(new String[0]), keys, owners, wholeName);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public List<T> topK(String prefix, int k) {
+        return topK(prefix, k, NO_BOOST);
+    }
+
+    /**
+     * Returns at most {@code k} items with a word starting with {@code prefix}.
+     * Exact names rank first, then names that start with the prefix, then
+     * word matches; {@code booster} (e.g. search history) is added on top and
+     * shorter names win ties.
+     */
+    public List<T> topK(String prefix, int k, Booster booster) {
+        String query = normalize(prefix);
+        if (query.isEmpty() || k <= 0 || keys.length == 0) {
+            return Collections.emptyList();
+        }
+
+        int[] topOwners = new int[k];
+        double[] topScores = new double[k];
+        int count = 0;
+
+        for (int i = lowerBound(query); i < keys.length && keys[i].startsWith(query); i++) {
+            int owner = owners[i];
+            double score = scoreOf(owner, i, query, booster);
+
+            int existing = indexOf(topOwners, count, owner);
+            if (existing >= 0) {
+                if (score <= topScores[existing]) continue;
+                System.arraycopy(topOwners, existing + 1, topOwners, existing, count - existing - 1);
+                System.arraycopy(topScores, existing + 1, topScores, existing, count - existing - 1);
+                count--;
+            }
+            if (count == k && !ranksAbove(owner, score, topOwners[k - 1], topScores[k - 1])) {
+                continue;
+            }
+
+            int position = count < k ? count : k - 1;
+            while (position > 0
+                    && ranksAbove(owner, score, topOwners[position - 1], topScores[position - 1])) {
+                topOwners[position] = topOwners[position - 1];
+                topScores[position] = topScores[position - 1];
+                position--;
+            }
+            topOwners[position] = owner;
+            topScores[position] = score;
+            if (count < k) count++;
+        }
+
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(items.get(topOwners[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Every item with a word starting with {@code prefix}, ranked as in
+     * {@link #topK(String, int, Booster)}. For lists that must not drop matches.
+     */
+    public List<T> matches(String prefix, Booster booster) {
+        String query = normalize(prefix);
+        if (query.isEmpty() || keys.length == 0) {
+            return Collections.emptyList();
+        }
+
+        double[] bestScores = new double[items.size()];
+        Arrays.fill(bestScores, Double.NaN);
+        List<Integer> matched = new ArrayList<>();
+        for (int i = lowerBound(query); i < keys.length && keys[i].startsWith(query); i++) {
+            int owner = owners[i];
+            double score = scoreOf(owner, i, query, booster);
+            if (Double.isNaN(bestScores[owner])) {
+                matched.add(owner);
+                bestScores[owner] = score;
+            } else if (score > bestScores[owner]) {
+                bestScores[owner] = score;
+            }
+        }
+
+        Collections.sort(matched, (a, b) -> {
+            if (ranksAbove(a, bestScores[a], b, bestScores[b])) return -1;
+            if (ranksAbove(b, bestScores[b], a, bestScores[a])) return 1;
+            return 0;
+        });
+        List<T> result = new ArrayList<>(matched.size());
+        for (int owner : matched) {
+            result.add(items.get(owner));
+        }
+        return result;
+    }
+
+    private double scoreOf(int owner, int keyIndex, String query, Booster booster) {
+        double score;
+        if (!wholeName[keyIndex]) {
+            score = 1;
+        } else if (names[owner].length() == query.length()) {
+            score = 3;
+        } else {
+            score = 2;
+        }
+        return score + booster.boostFor(names[owner]);
+    }
+
+    private boolean ranksAbove(int owner, double score, int otherOwner, double otherScore) {
+        if (score != otherScore) return score > otherScore;
+        int length = names[owner].length();
+        int otherLength = names[otherOwner].length();
+        if (length != otherLength) return length < otherLength;
+        return names[owner].compareTo(names[otherOwner]) < 0;
+    }
+
+    private static int indexOf(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) return i;
+        }
+        return -1;
+    }
+
+    private int lowerBound(String query) {
+        int index = Arrays.binarySearch(keys, query);
+        if (index >= 0) {
+            while (index > 0 && keys[index - 1].equals(query)) index--;
+            return index;
+        }
+        return -index - 1;
+    }
+
+    public static String normalize(String text) {
+        return TextNormalizer.normalize(text);
+    }
+
+    private static final class Key {
+        final String text;
+        final int owner;
+        final boolean wholeName;
+
+        Key(String text, int owner, boolean wholeName) {
+            this.text = text;
+            this.owner = owner;
+            this.wholeName = wholeName;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.recipe_android_project.features.search.data.index;
+
+import com.example.recipe_android_project.core.utils.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typo-tolerant lookup over accent- and case-folded names. Candidates come from
+ * a trigram inverted index, so only names sharing trigrams with the query are
+ * touched. They are then checked with a bounded edit distance against the
+ * best-aligned words of the name ("lasanga" finds "Lasagne Sandwiches").
+ */
+public final class TrigramIndex<T> {
+
+    private static final double MIN_CONTAINMENT = 0.4;
+
+    private final List<T> items;
+    private final String[] names;
+    private final String[][] words;
+    private final int[] trigramCounts;
+    private final Map<String, int[]> postings;
+
+    private TrigramIndex(List<T> items, String[] names, String[][] words,
+                         int[] trigramCounts, Map<String, int[]> postings) {
+        this.items = items;
+        this.names = names;
+        this.words = words;
+        this.trigramCounts = trigramCounts;
+        this.postings = postings;
+    }
+
+    public static <T> TrigramIndex<T> build(List<T> source, PrefixIndex.NameExtractor<T> extractor) {
+        List<T> items = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        Map<String, List<Integer>> lists = new HashMap<>();
+
+        if (source != null) {
+            for (T item : source) {
+                if (item == null) continue;
+                String name = TextNormalizer.normalize(extractor.nameOf(item));
+                if (name.isEmpty()) continue;
+
+                int id = items.size();
+                items.add(item);
+                names.add(name);
+                Set<String> grams = trigramsOf(name);
+                counts.add(grams.size());
+                for (String gram : grams) {
+                    List<Integer> list = lists.get(gram);
+                    if (list == null) {
+                        list = new ArrayList<>();
+                        lists.put(gram, list);
+                    }
+                    list.add(id);
+                }
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : lists.entrySet()) {
+            List<Integer> list = entry.getValue();
+            int[] ids = new int[list.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = list.get(i);
+            }
+            postings.put(entry.getKey(), ids);
+        }
+
+        String[] nameArray = names.toArray(new String[0]);
+        String[][] wordArray = new String[nameArray.length][];
+        int[] countArray = new int[nameArray.length];
+        for (int i = 0; i < nameArray.length; i++) {
+            wordArray[i] = nameArray[i].split(" ");
+            countArray[i] = counts.get(i);
+        }
+
+        return new TrigramIndex<>(Collections.unmodifiableList(items),
+                nameArray, wordArray, countArray, postings);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Items whose name is within the edit-distance budget of {@code query},
+     * closest first and then by trigram similarity.
+     */
+    public List<T> search(String query, int limit) {
+        String normalized = TextNormalizer.normalize(query);
+        if (normalized.isEmpty() || limit <= 0 || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<String> queryGrams = trigramsOf(normalized);
+        int[] shared = new int[items.size()];
+        List<Integer> touched = new ArrayList<>();
+        for (String gram : queryGrams) {
+            int[] ids = postings.get(gram);
+            if (ids == null) continue;
+            for (int id : ids) {
+                if (shared[id]++ == 0) {
+                    touched.add(id);
+                }
+            }
+        }
+
+        String[] queryWords = normalized.split(" ");
+        int maxDistance = maxDistanceFor(normalized.length());
+        List<Candidate> candidates = new ArrayList<>();
+        for (int id : touched) {
+            if ((double) shared[id] / queryGrams.size() < MIN_CONTAINMENT) continue;
+
+            int distance = bestWindowDistance(queryWords, normalized, words[id], maxDistance);
+            if (distance > maxDistance) continue;
+
+            double similarity = (double) shared[id]
+                    / (queryGrams.size() + trigramCounts[id] - shared[id]);
+            candidates.add(new Candidate(id, distance, similarity));
+        }
+
+        Collections.sort(candidates, (a, b) -> {
+            if (a.distance != b.distance) return Integer.compare(a.distance, b.distance);
+            if (a.similarity != b.similarity) return Double.compare(b.similarity, a.similarity);
+            return names[a.id].compareTo(names[b.id]);
+        });
+
+        List<T> result = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int i = 0; i < candidates.size() && i < limit; i++) {
+            result.add(items.get(candidates.get(i).id));
+        }
+        return result;
+    }
+
+    static int maxDistanceFor(int length) {
+        if (length <= 4) return 1;
+        if (length <= 8) return 2;
+        return 3;
+    }
+
+    private static int bestWindowDistance(String[] queryWords, String query,
+                                          String[] nameWords, int maxDistance) {
+        int windowSize = Math.min(queryWords.length, nameWords.length);
+        int best = maxDistance + 1;
+        for (int start = 0; start + windowSize <= nameWords.length; start++) {
+            String window = windowSize == 1
+                    ? nameWords[start]
+                    : join(nameWords, start, windowSize);
+            best = Math.min(best, boundedDistance(query, window, best - 1));
+            if (best == 0) break;
+        }
+        return best;
+    }
+
+    private static String join(String[] words, int start, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = start; i < start + count; i++) {
+            if (i > start) builder.append(' ');
+            builder.append(words[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent
+     * transpositions). Returns {@code max + 1} as soon as the budget is exceeded.
+     */
+    static int boundedDistance(String a, String b, int max) {
+        if (max < 0) return max + 1;
+        if (Math.abs(a.length() - b.length()) > max) return max + 1;
+
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1),
+                        previous[j - 1] + cost);
+                if (i > 1 && j > 1
+                        && a.charAt(i - 1) == b.charAt(j - 2)
+                        && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) return max + 1;
+
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    private static Set<String> trigramsOf(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : normalized.split(" ")) {
+            if (word.isEmpty()) continue;
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static final class Candidate {
+        final int id;
+        final int distance;
+        final double similarity;
+
+        Candidate(int id, int distance, double similarity) {
+            this.id = id;
+            this.distance = distance;
+            this.similarity = similarity;
+        }
+    }
+}
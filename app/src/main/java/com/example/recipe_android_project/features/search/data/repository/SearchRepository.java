@@ -3,15 +3,28 @@ package com.example.recipe_android_project.features.search.data.repository;
 import android.content.Context;
 
 import com.example.recipe_android_project.core.config.ResultCallback;
+import com.example.recipe_android_project.core.helper.FavoriteIdStore;
+import com.example.recipe_android_project.core.helper.ImagePinStore;
+import com.example.recipe_android_project.core.helper.MealCatalogCrawler;
+import com.example.recipe_android_project.core.helper.SyncManager;
 import com.example.recipe_android_project.core.helper.UserSessionManager;
+import com.example.recipe_android_project.core.utils.SingleFlight;
+import com.example.recipe_android_project.features.favourites.data.entity.FavoriteOutboxEntity;
 import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealIngredientsTuple;
+import com.example.recipe_android_project.features.home.data.entities.MealNameTuple;
 import com.example.recipe_android_project.features.home.data.mapper.AreaMapper;
 import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
 import com.example.recipe_android_project.features.home.model.Area;
 import com.example.recipe_android_project.features.home.model.AreaList;
 import com.example.recipe_android_project.features.home.model.Meal;
+import com.example.recipe_android_project.features.search.data.datasource.local.SearchHistoryStore;
 import com.example.recipe_android_project.features.search.data.datasource.local.SearchLocalDatasource;
 import com.example.recipe_android_project.features.search.data.datasource.remote.SearchRemoteDataSource;
+import com.example.recipe_android_project.features.search.data.index.PantryIndex;
+import com.example.recipe_android_project.features.search.data.index.PrefixIndex;
+import com.example.recipe_android_project.features.search.data.index.TrigramIndex;
 import com.example.recipe_android_project.features.search.data.mapper.FilterResultMapper;
 import com.example.recipe_android_project.features.search.data.mapper.IngredientMapper;
 import com.example.recipe_android_project.features.search.domain.model.FilterResultList;
@@ -19,7 +32,14 @@ import com.example.recipe_android_project.features.search.domain.model.Ingredien
 import com.example.recipe_android_project.features.search.domain.model.IngredientList;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Completable;
@@ -29,19 +49,52 @@ import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 
 public class SearchRepository {
+    private static final int LOCAL_SEARCH_LIMIT = 50;
+    private static final int PANTRY_RESULT_LIMIT = 50;
+    private static final int SUGGESTION_LIMIT = 8;
+    private static final String LIST_KEY = "list";
+
+    // Shared across repository instances so concurrent screens coalesce too.
+    private static final SingleFlight<String, IngredientList> INGREDIENT_LIST_FLIGHT =
+            new SingleFlight<>();
+    private static final SingleFlight<String, AreaList> AREA_LIST_FLIGHT = new SingleFlight<>();
+    private static final SingleFlight<String, Meal> MEAL_BY_ID_FLIGHT = new SingleFlight<>();
+    private static final SingleFlight<String, List<Meal>> MEAL_SEARCH_FLIGHT = new SingleFlight<>();
+
     private final UserSessionManager sessionManager;
+    private final SyncManager syncManager;
+    private final MealCatalogCrawler catalogCrawler;
+    private final SearchHistoryStore historyStore;
+    private final FavoriteIdStore favoriteIdStore;
+    private final ImagePinStore imagePinStore;
 
     private final SearchRemoteDataSource remoteDataSource;
     private final SearchLocalDatasource localDatasource;
-    private IngredientList cachedIngredients;
-    private AreaList cachedAreas;
+    private volatile IngredientList cachedIngredients;
+    private volatile AreaList cachedAreas;
+    private volatile PrefixIndex<Ingredient> ingredientIndex;
+    private volatile PrefixIndex<Area> areaIndex;
+    private volatile PrefixIndex<String> suggestionIndex;
+    private volatile long suggestionIndexCatalogVersion = -1;
+    private volatile long suggestionIndexListsVersion = -1;
+    private final AtomicLong listsVersion = new AtomicLong();
+    private volatile PantryIndex pantryIndex;
+    private volatile TrigramIndex<MealNameTuple> fuzzyIndex;
+    private volatile int fuzzyIndexCatalogSize = -1;
 
     public SearchRepository(Context context) {
+        this(context, new SearchRemoteDataSource(context));
+    }
+
+    public SearchRepository(Context context, SearchRemoteDataSource remoteDataSource) {
         this.sessionManager =  UserSessionManager.getInstance(context);
+        this.syncManager = SyncManager.getInstance(context);
+        this.catalogCrawler = MealCatalogCrawler.getInstance(context);
+        this.historyStore = SearchHistoryStore.getInstance(context);
+        this.favoriteIdStore = FavoriteIdStore.getInstance(context);
+        this.imagePinStore = ImagePinStore.getInstance(context);
             this.localDatasource = new SearchLocalDatasource(context);
-        this.remoteDataSource = new SearchRemoteDataSource(
-                context
-        );
+        this.remoteDataSource = remoteDataSource;
     }
     private String getLocalUserId() {
         return sessionManager.getCurrentUserIdOrNull();
@@ -80,22 +133,14 @@ public class SearchRepository {
             return Completable.error(new IllegalArgumentException("Failed to create favorite entity"));
         }
 
-        // Save to local DB first
-        Completable localSave = localDatasource.addToFavorites(entity);
+        // Saved and queued for upload in one transaction
+        FavoriteOutboxEntity change = new FavoriteOutboxEntity(localUserId, entity.getMealId(),
+                firebaseUserId, FavoriteOutboxEntity.OP_UPSERT);
 
-        // Then sync to Firestore using Firebase UID
-        Completable firestoreSync = Completable.defer(() -> {
-            if (firebaseUserId != null && isNetworkAvailable()) {
-                // Create entity with Firebase UID for Firestore
-                FavoriteMealEntity firestoreEntity = MealMapper.toEntity(meal, firebaseUserId);
-                return remoteDataSource.addFavoriteToFirestore(firestoreEntity)
-                        .onErrorComplete();
-            }
-            return Completable.complete();
-        });
-
-        return localSave
-                .andThen(firestoreSync)
+        return localDatasource.addToFavorites(entity, change)
+                .doOnComplete(() -> favoriteIdStore.setFavorite(entity.getMealId(), true))
+                .doOnComplete(() -> imagePinStore.pin(meal))
+                .doOnComplete(syncManager::requestFavoritesSync)
                 .subscribeOn(Schedulers.io());
     }
     public Completable removeFromFavorites(String mealId) {
@@ -110,20 +155,14 @@ public class SearchRepository {
             return Completable.error(new IllegalStateException("User not logged in"));
         }
 
-        // Remove from local DB first
-        Completable localRemove = localDatasource.removeFromFavorites(mealId, localUserId);
-
-        // Then sync to Firestore
-        Completable firestoreSync = Completable.defer(() -> {
-            if (firebaseUserId != null && isNetworkAvailable()) {
-                return remoteDataSource.removeFavoriteFromFirestore(firebaseUserId, mealId)
-                        .onErrorComplete();
-            }
-            return Completable.complete();
-        });
+        // Removed and queued for upload in one transaction
+        FavoriteOutboxEntity change = new FavoriteOutboxEntity(localUserId, mealId,
+                firebaseUserId, FavoriteOutboxEntity.OP_DELETE);
 
-        return localRemove
-                .andThen(firestoreSync)
+        return localDatasource.removeFromFavorites(change)
+                .doOnComplete(() -> favoriteIdStore.setFavorite(mealId, false))
+                .doOnComplete(imagePinStore::reconcile)
+                .doOnComplete(syncManager::requestFavoritesSync)
                 .subscribeOn(Schedulers.io());
     }
 
@@ -134,27 +173,205 @@ public class SearchRepository {
         return removeFromFavorites(meal.getId());
     }
     public Single<List<Meal>> searchMealsByName(String name) {
+        String key = name != null ? name.trim().toLowerCase(Locale.ROOT) : "";
+        return MEAL_SEARCH_FLIGHT.execute(key, () -> fetchMealsByName(name))
+                .map(ArrayList::new);
+    }
+
+    private Single<List<Meal>> fetchMealsByName(String name) {
         return remoteDataSource.searchMealsByName(name)
-                .map(response -> {
+                .flatMap(response -> {
                     if (response == null || response.getMeals() == null) {
-                        return new ArrayList<Meal>();
+                        return Single.just(new ArrayList<Meal>());
+                    }
+                    List<Meal> meals = response.getMeals();
+                    return localDatasource.saveToCatalog(MealMapper.toCatalogEntityList(meals))
+                            .onErrorComplete()
+                            .toSingleDefault(meals);
+                });
+    }
+
+    /**
+     * Full-text search over the catalog, falling back to typo-tolerant name
+     * matching when the full-text index has no hit ("chiken", "lasanga").
+     */
+    public Single<List<Meal>> searchLocalMeals(String query) {
+        return localDatasource.searchCatalog(query, LOCAL_SEARCH_LIMIT)
+                .flatMap(entities -> entities.isEmpty()
+                        ? searchCatalogFuzzy(query)
+                        : Single.just(entities))
+                .map(MealMapper::toDomainListFromCatalog)
+                .onErrorReturnItem(new ArrayList<>());
+    }
+
+    private Single<List<MealCatalogEntity>> searchCatalogFuzzy(String query) {
+        return getFuzzyIndex()
+                .flatMap(index -> {
+                    List<String> mealIds = new ArrayList<>();
+                    for (MealNameTuple match : index.search(query, LOCAL_SEARCH_LIMIT)) {
+                        mealIds.add(match.getMealId());
+                    }
+                    return localDatasource.getCatalogMealsByIds(mealIds)
+                            .map(entities -> orderByIds(entities, mealIds));
+                });
+    }
+
+    private Single<TrigramIndex<MealNameTuple>> getFuzzyIndex() {
+        return localDatasource.getCatalogCount()
+                .flatMap(count -> {
+                    TrigramIndex<MealNameTuple> index = fuzzyIndex;
+                    if (index != null && fuzzyIndexCatalogSize == count) {
+                        return Single.just(index);
+                    }
+                    return localDatasource.getCatalogMealNames()
+                            .map(names -> TrigramIndex.build(names, MealNameTuple::getName))
+                            .doOnSuccess(built -> {
+                                fuzzyIndex = built;
+                                fuzzyIndexCatalogSize = count;
+                            });
+                });
+    }
+
+    /**
+     * Searches the local full-text index first. The remote API is only consulted
+     * (and merged after the local hits) while the catalog crawl is incomplete or
+     * when nothing matched locally, and never when offline.
+     */
+    public Single<List<Meal>> searchMealsLocalFirst(String query) {
+        return searchLocalMeals(query)
+                .flatMap(localMeals -> {
+                    boolean needsRemote = localMeals.isEmpty()
+                            || !catalogCrawler.isCatalogComplete();
+                    if (!needsRemote || !isNetworkAvailable()) {
+                        return Single.just(localMeals);
+                    }
+                    return searchMealsByName(query)
+                            .onErrorReturn(error -> {
+                                if (localMeals.isEmpty()) throw error;
+                                return new ArrayList<>();
+                            })
+                            .map(remoteMeals -> mergeMeals(localMeals, remoteMeals));
+                })
+                .flatMap(this::attachFavoriteStatus);
+    }
+
+    /**
+     * Finds catalog meals that can be cooked from a comma-separated list of
+     * ingredients, ordered by fewest missing ingredients.
+     */
+    public Single<List<Meal>> findMealsForPantry(String query) {
+        List<String> pantry = parsePantry(query);
+        if (pantry.isEmpty()) {
+            return Single.just(new ArrayList<>());
+        }
+        return getPantryIndex()
+                .map(index -> index.query(pantry, PANTRY_RESULT_LIMIT))
+                .flatMap(matches -> {
+                    List<String> mealIds = new ArrayList<>();
+                    for (PantryIndex.Match match : matches) {
+                        mealIds.add(match.getMealId());
+                    }
+                    return localDatasource.getCatalogMealsByIds(mealIds)
+                            .map(entities -> orderByIds(entities, mealIds));
+                })
+                .map(MealMapper::toDomainListFromCatalog)
+                .flatMap(this::attachFavoriteStatus);
+    }
+
+    private List<String> parsePantry(String query) {
+        List<String> pantry = new ArrayList<>();
+        if (query == null) return pantry;
+        for (String item : query.split("[,،]")) {
+            if (!item.trim().isEmpty()) {
+                pantry.add(item.trim());
+            }
+        }
+        return pantry;
+    }
+
+    private List<MealCatalogEntity> orderByIds(List<MealCatalogEntity> entities,
+                                               List<String> mealIds) {
+        Map<String, MealCatalogEntity> byId = new HashMap<>();
+        for (MealCatalogEntity entity : entities) {
+            byId.put(entity.getMealId(), entity);
+        }
+        List<MealCatalogEntity> ordered = new ArrayList<>();
+        for (String mealId : mealIds) {
+            MealCatalogEntity entity = byId.get(mealId);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * The index is rebuilt whenever the catalog has grown since it was built,
+     * e.g. while the background crawl is still filling it.
+     */
+    private Single<PantryIndex> getPantryIndex() {
+        return localDatasource.getCatalogCount()
+                .flatMap(count -> {
+                    PantryIndex index = pantryIndex;
+                    if (index != null && index.size() == count) {
+                        return Single.just(index);
                     }
-                    return MealMapper.toDomainList(response.getMeals());
+                    return buildPantryIndex();
                 });
     }
+
+    private Single<PantryIndex> buildPantryIndex() {
+        Single<List<String>> knownIngredients = getIngredientsSource()
+                .map(list -> {
+                    List<String> names = new ArrayList<>();
+                    for (Ingredient ingredient : list.getIngredients()) {
+                        if (ingredient != null && ingredient.isValid()) {
+                            names.add(ingredient.getName());
+                        }
+                    }
+                    return names;
+                })
+                .onErrorReturnItem(new ArrayList<>());
+
+        return Single.zip(knownIngredients, localDatasource.getCatalogIngredients(),
+                        (names, rows) -> {
+                            PantryIndex.Builder builder = PantryIndex.builder()
+                                    .addIngredients(names);
+                            for (MealIngredientsTuple row : rows) {
+                                builder.addMeal(row.getMealId(),
+                                        MealMapper.ingredientNamesFromJson(row.getIngredientsJson()));
+                            }
+                            return builder.build();
+                        })
+                .doOnSuccess(index -> pantryIndex = index);
+    }
+
+    private List<Meal> mergeMeals(List<Meal> first, List<Meal> second) {
+        Map<String, Meal> merged = new LinkedHashMap<>();
+        for (Meal meal : first) {
+            merged.put(meal.getId(), meal);
+        }
+        for (Meal meal : second) {
+            if (!merged.containsKey(meal.getId())) {
+                merged.put(meal.getId(), meal);
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private Single<List<Meal>> attachFavoriteStatus(List<Meal> meals) {
+        String localUserId = getLocalUserId();
+        if (localUserId == null || meals.isEmpty()) {
+            return Single.just(meals);
+        }
+        return favoriteIdStore.applyFavoriteStatus(localUserId, meals);
+    }
     public boolean isUserAuthenticated() {
         return isUserLoggedIn();
     }
     public Single<List<Meal>> getSearchedMealsWithFavoriteStatus(String name) {
         return searchMealsByName(name)
-                .flatMap(meals -> {
-                    String localUserId = getLocalUserId();
-                    if (localUserId == null || meals.isEmpty()) {
-                        return Single.just(meals);
-                    }
-                    return localDatasource.getFavoriteEntitiesSingle(localUserId)
-                            .map(favorites -> MealMapper.markFavorites(meals, favorites));
-                });
+                .flatMap(this::attachFavoriteStatus);
     }
     public Single<Meal> getMealByIdWithFavoriteStatus(String id) {
         return getMealById(id)
@@ -164,7 +381,7 @@ public class SearchRepository {
                         meal.setFavorite(false);
                         return Single.just(meal);
                     }
-                    return localDatasource.isFavorite(id, localUserId)
+                    return favoriteIdStore.isFavorite(localUserId, id)
                             .map(isFav -> {
                                 meal.setFavorite(isFav);
                                 return meal;
@@ -204,15 +421,31 @@ public class SearchRepository {
             return Single.just(false);
         }
 
-        return localDatasource.isFavorite(mealId, localUserId);
+        return favoriteIdStore.isFavorite(localUserId, mealId);
+    }
+
+    /**
+     * Favourite meal ids of the signed-in user, for marking whole result lists
+     * without a lookup per item. Empty when nobody is signed in.
+     */
+    public Single<Set<Long>> getFavoriteIds() {
+        String localUserId = getLocalUserId();
+        if (localUserId == null) {
+            return Single.just(Collections.emptySet());
+        }
+        return favoriteIdStore.getFavoriteIds(localUserId);
     }
     public Single<Meal> getMealById(String id) {
+        return MEAL_BY_ID_FLIGHT.execute(id, () -> fetchMealById(id));
+    }
+
+    private Single<Meal> fetchMealById(String id) {
         return remoteDataSource.getMealById(id)
                 .flatMap(response -> {
                     if (response == null || response.getMeals() == null || response.getMeals().isEmpty()) {
                         return Single.error(new Exception("Meal not found"));
                     }
-                    return Single.just(MealMapper.toDomain(response.getMeals().get(0)));
+                    return Single.just(response.getMeals().get(0));
                 });
     }
 
@@ -227,63 +460,181 @@ public class SearchRepository {
     }
 
     public Single<List<Area>> getAllAreas() {
-        return remoteDataSource.getAllAreas()
-                .map(AreaMapper::toDomain)
-                .doOnSuccess(areaList -> cachedAreas = areaList)
+        return fetchAreas()
                 .map(AreaList::getAreas);
     }
 
     public Single<List<Ingredient>> getAllIngredients() {
-        return remoteDataSource.getAllIngredients()
-                .map(IngredientMapper::toDomain)
-                .doOnSuccess(ingredientList -> cachedIngredients = ingredientList)
+        return fetchIngredients()
                 .map(IngredientList::getIngredients);
     }
 
     public Single<List<Ingredient>> searchIngredientsByName(String query) {
-        String searchQuery = query.toLowerCase().trim();
-
-        return getIngredientsSource()
-                .flattenAsObservable(IngredientList::getIngredients)
-                .filter(ingredient ->
-                        ingredient != null &&
-                                ingredient.getName() != null &&
-                                ingredient.getName().toLowerCase().contains(searchQuery))
-                .toList();
+        return getIngredientIndex()
+                .map(index -> index.matches(query, historyStore));
     }
 
     public Single<List<Area>> searchAreasByName(String query) {
-        String searchQuery = query.toLowerCase().trim();
+        return getAreaIndex()
+                .map(index -> index.matches(query, historyStore));
+    }
+
+    /**
+     * Ranked autocomplete over meal names, ingredients and areas blended with
+     * the search history. Past queries that are not a known name fill any
+     * remaining slots.
+     */
+    public Single<List<String>> getSuggestions(String query) {
+        if (PrefixIndex.normalize(query).isEmpty()) {
+            return Single.just(new ArrayList<>());
+        }
+        return getSuggestionIndex()
+                .map(index -> {
+                    List<String> suggestions = new ArrayList<>(
+                            index.topK(query, SUGGESTION_LIMIT, historyStore));
+                    for (String past : historyStore.getQueries(query, SUGGESTION_LIMIT)) {
+                        if (suggestions.size() >= SUGGESTION_LIMIT) break;
+                        if (!containsIgnoreCase(suggestions, past)) {
+                            suggestions.add(past);
+                        }
+                    }
+                    return suggestions;
+                });
+    }
+
+    public void recordSearch(String query) {
+        historyStore.record(query);
+    }
+
+    private boolean containsIgnoreCase(List<String> values, String value) {
+        for (String existing : values) {
+            if (existing.equalsIgnoreCase(value)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Rebuilt only when the data behind it changes: a catalog write or a
+     * (re)load of the ingredient/area lists bumps a version the index was
+     * built against. Checking costs no query, so it runs on every keystroke.
+     */
+    private Single<PrefixIndex<String>> getSuggestionIndex() {
+        return Single.defer(() -> {
+            // Read before building, so a change made mid-build forces a rebuild.
+            long catalogVersion = localDatasource.getCatalogVersion();
+            long currentListsVersion = listsVersion.get();
+            PrefixIndex<String> index = suggestionIndex;
+            if (index != null
+                    && catalogVersion == suggestionIndexCatalogVersion
+                    && currentListsVersion == suggestionIndexListsVersion) {
+                return Single.just(index);
+            }
+            return buildSuggestionIndex(catalogVersion, currentListsVersion);
+        });
+    }
+
+    private Single<PrefixIndex<String>> buildSuggestionIndex(long catalogVersion,
+                                                             long currentListsVersion) {
+        Single<IngredientList> ingredients = getIngredientsSource()
+                .onErrorReturnItem(new IngredientList());
+        Single<AreaList> areas = getAreasSource()
+                .onErrorReturnItem(new AreaList(null));
+
+        return Single.zip(localDatasource.getCatalogMealNames(), ingredients, areas,
+                        (mealNames, ingredientList, areaList) -> {
+                            Map<String, String> names = new LinkedHashMap<>();
+                            for (MealNameTuple meal : mealNames) {
+                                names.putIfAbsent(PrefixIndex.normalize(meal.getName()),
+                                        meal.getName());
+                            }
+                            for (Ingredient ingredient : ingredientList.getIngredients()) {
+                                if (ingredient != null && ingredient.isValid()) {
+                                    names.putIfAbsent(PrefixIndex.normalize(ingredient.getName()),
+                                            ingredient.getName());
+                                }
+                            }
+                            for (Area area : areaList.getAreas()) {
+                                if (area != null && area.getName() != null) {
+                                    names.putIfAbsent(PrefixIndex.normalize(area.getName()),
+                                            area.getName());
+                                }
+                            }
+                            return PrefixIndex.build(new ArrayList<>(names.values()), name -> name);
+                        })
+                .doOnSuccess(index -> {
+                    suggestionIndex = index;
+                    suggestionIndexCatalogVersion = catalogVersion;
+                    suggestionIndexListsVersion = currentListsVersion;
+                });
+    }
 
+    private Single<PrefixIndex<Ingredient>> getIngredientIndex() {
+        PrefixIndex<Ingredient> index = ingredientIndex;
+        if (index != null) {
+            return Single.just(index);
+        }
+        return getIngredientsSource()
+                .map(list -> PrefixIndex.build(list.getIngredients(), Ingredient::getName));
+    }
+
+    private Single<PrefixIndex<Area>> getAreaIndex() {
+        PrefixIndex<Area> index = areaIndex;
+        if (index != null) {
+            return Single.just(index);
+        }
         return getAreasSource()
-                .flattenAsObservable(AreaList::getAreas)
-                .filter(area ->
-                        area != null &&
-                                area.getName() != null &&
-                                area.getName().toLowerCase().contains(searchQuery))
-                .toList();
+                .map(list -> PrefixIndex.build(list.getAreas(), Area::getName));
     }
 
     private Single<IngredientList> getIngredientsSource() {
         if (cachedIngredients != null && !cachedIngredients.isEmpty()) {
             return Single.just(cachedIngredients);
         }
-        return remoteDataSource.getAllIngredients()
-                .map(IngredientMapper::toDomain)
-                .doOnSuccess(ingredientList -> cachedIngredients = ingredientList);
+        return fetchIngredients();
     }
 
     private Single<AreaList> getAreasSource() {
         if (cachedAreas != null && !cachedAreas.isEmpty()) {
             return Single.just(cachedAreas);
         }
-        return remoteDataSource.getAllAreas()
-                .map(AreaMapper::toDomain)
-                .doOnSuccess(areaList -> cachedAreas = areaList);
+        return fetchAreas();
+    }
+
+    private Single<IngredientList> fetchIngredients() {
+        return INGREDIENT_LIST_FLIGHT.execute(LIST_KEY, () ->
+                        remoteDataSource.getAllIngredients()
+                                .map(IngredientMapper::toDomain))
+                .doOnSuccess(this::cacheIngredients);
+    }
+
+    private Single<AreaList> fetchAreas() {
+        return AREA_LIST_FLIGHT.execute(LIST_KEY, () ->
+                        remoteDataSource.getAllAreas()
+                                .map(AreaMapper::toDomain))
+                .doOnSuccess(this::cacheAreas);
+    }
+
+    private void cacheIngredients(IngredientList ingredientList) {
+        ingredientIndex = PrefixIndex.build(ingredientList.getIngredients(), Ingredient::getName);
+        cachedIngredients = ingredientList;
+        listsVersion.incrementAndGet();
+    }
+
+    private void cacheAreas(AreaList areaList) {
+        areaIndex = PrefixIndex.build(areaList.getAreas(), Area::getName);
+        cachedAreas = areaList;
+        listsVersion.incrementAndGet();
     }
 
     public void clearCache() {
         cachedIngredients = null;
         cachedAreas = null;
+        ingredientIndex = null;
+        areaIndex = null;
+        suggestionIndex = null;
+        listsVersion.incrementAndGet();
+        pantryIndex = null;
+        fuzzyIndex = null;
+        fuzzyIndexCatalogSize = -1;
     }
 }
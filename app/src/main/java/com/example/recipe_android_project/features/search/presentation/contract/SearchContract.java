@@ -19,6 +19,9 @@ public interface SearchContract {
 
         void clearMeals();
 
+        void showSuggestions(List<String> suggestions);
+        void hideSuggestions();
+
         void showEmptyMeals();
         void showEmptyIngredients();
         void showEmptyAreas();
@@ -47,6 +50,8 @@ public interface SearchContract {
         void detachView();
 
         void onSearchQueryChanged(String query);
+        void onSearchSubmitted(String query);
+        void onSuggestionClicked(String suggestion);
         void onTabChanged(int tabIndex);
         void loadInitialData();
 
@@ -2,7 +2,7 @@ package com.example.recipe_android_project.features.search.presentation.presente
 
 import android.content.Context;
 
-import com.example.recipe_android_project.core.helper.NetworkMonitor;
+import com.example.recipe_android_project.core.helper.ConnectivityHub;
 import com.example.recipe_android_project.features.search.data.repository.SearchRepository;
 import com.example.recipe_android_project.features.search.domain.model.FilterResult;
 import com.example.recipe_android_project.features.search.domain.model.FilterResultList;
@@ -15,16 +15,14 @@ import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.disposables.CompositeDisposable;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
-import io.reactivex.rxjava3.subjects.PublishSubject;
 
 public class FilterResultPresenter implements FilterResultContract.Presenter {
 
     private FilterResultContract.View view;
     private final SearchRepository repository;
-    private final NetworkMonitor networkMonitor;
+    private final ConnectivityHub connectivityHub;
     private final CompositeDisposable disposables = new CompositeDisposable();
 
-    private final PublishSubject<Boolean> networkSubject = PublishSubject.create();
     private Disposable networkDisposable;
 
     private Disposable currentLoadDisposable;
@@ -37,12 +35,12 @@ public class FilterResultPresenter implements FilterResultContract.Presenter {
     public FilterResultPresenter(SearchRepository repository,
                                  Context context) {
         this.repository = repository;
-        this.networkMonitor = new NetworkMonitor(context);
+        this.connectivityHub = ConnectivityHub.getInstance(context);
     }
 
 
     public void startNetworkMonitoring() {
-        networkDisposable = networkSubject
+        networkDisposable = connectivityHub.observeNetworkState()
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(isAvailable -> {
                     if (!isViewAttached()) return;
@@ -54,19 +52,6 @@ public class FilterResultPresenter implements FilterResultContract.Presenter {
                     }
                 });
         disposables.add(networkDisposable);
-
-        networkMonitor.setListener(new NetworkMonitor.NetworkCallback() {
-            @Override
-            public void onNetworkAvailable() {
-                networkSubject.onNext(true);
-            }
-
-            @Override
-            public void onNetworkLost() {
-                networkSubject.onNext(false);
-            }
-        });
-        networkMonitor.startMonitoring();
     }
 
     private void handleNetworkAvailable() {
@@ -88,7 +73,6 @@ public class FilterResultPresenter implements FilterResultContract.Presenter {
     }
 
     public void stopNetworkMonitoring() {
-        networkMonitor.stopMonitoring();
         if (networkDisposable != null
                 && !networkDisposable.isDisposed()) {
             networkDisposable.dispose();
@@ -96,7 +80,7 @@ public class FilterResultPresenter implements FilterResultContract.Presenter {
     }
 
     public boolean isNetworkCurrentlyAvailable() {
-        return networkMonitor.isNetworkAvailable();
+        return connectivityHub.isNetworkAvailable();
     }
 
 
@@ -198,22 +182,21 @@ public class FilterResultPresenter implements FilterResultContract.Presenter {
         if (!isViewAttached() || results == null
                 || results.isEmpty()) return;
 
-        for (FilterResult result : results) {
-            Disposable disposable = repository
-                    .isFavorite(String.valueOf(result.getId()))
-                    .subscribeOn(Schedulers.io())
-                    .observeOn(AndroidSchedulers.mainThread())
-                    .subscribe(
-                            isFavorite -> {
-                                if (isViewAttached()) {
-                                    view.updateFilterResultFavoriteStatus(
-                                            result.getId(), isFavorite);
-                                }
-                            },
-                            throwable -> { }
-                    );
-            disposables.add(disposable);
-        }
+        Disposable disposable = repository
+                .getFavoriteIds()
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(
+                        favoriteIds -> {
+                            if (!isViewAttached()) return;
+                            for (FilterResult result : results) {
+                                view.updateFilterResultFavoriteStatus(result.getId(),
+                                        favoriteIds.contains((long) result.getId()));
+                            }
+                        },
+                        throwable -> { }
+                );
+        disposables.add(disposable);
     }
 
 
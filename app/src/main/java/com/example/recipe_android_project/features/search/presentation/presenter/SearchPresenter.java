@@ -2,7 +2,7 @@ package com.example.recipe_android_project.features.search.presentation.presente
 
 import android.content.Context;
 
-import com.example.recipe_android_project.core.helper.NetworkMonitor;
+import com.example.recipe_android_project.core.helper.ConnectivityHub;
 import com.example.recipe_android_project.features.home.model.Area;
 import com.example.recipe_android_project.features.home.model.Meal;
 import com.example.recipe_android_project.features.search.data.repository.SearchRepository;
@@ -27,34 +27,36 @@ public class SearchPresenter implements SearchContract.Presenter {
     private static final int TAB_MEALS = 0;
     private static final int TAB_INGREDIENTS = 1;
     private static final int TAB_COUNTRY = 2;
+    private static final int TAB_PANTRY = 3;
 
     private SearchContract.View view;
     private final SearchRepository repository;
-    private final NetworkMonitor networkMonitor;
+    private final ConnectivityHub connectivityHub;
     private final CompositeDisposable disposables = new CompositeDisposable();
 
     private final PublishSubject<String> searchSubject = PublishSubject.create();
 
-    private final PublishSubject<Boolean> networkSubject = PublishSubject.create();
     private Disposable networkDisposable;
 
     private String currentQuery = "";
     private int currentTab = TAB_MEALS;
 
     private Disposable currentSearchDisposable;
+    private Disposable suggestionDisposable;
+    private String selectedSuggestion;
     private Disposable favoriteDisposable;
 
     private boolean needsReloadOnReconnect = false;
 
     public SearchPresenter(SearchRepository repository, Context context) {
         this.repository = repository;
-        this.networkMonitor = new NetworkMonitor(context);
+        this.connectivityHub = ConnectivityHub.getInstance(context);
         setupSearchDebounce();
     }
 
 
     public void startNetworkMonitoring() {
-        networkDisposable = networkSubject
+        networkDisposable = connectivityHub.observeNetworkState()
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(isAvailable -> {
                     if (!isViewAttached()) return;
@@ -66,19 +68,6 @@ public class SearchPresenter implements SearchContract.Presenter {
                     }
                 });
         disposables.add(networkDisposable);
-
-        networkMonitor.setListener(new NetworkMonitor.NetworkCallback() {
-            @Override
-            public void onNetworkAvailable() {
-                networkSubject.onNext(true);
-            }
-
-            @Override
-            public void onNetworkLost() {
-                networkSubject.onNext(false);
-            }
-        });
-        networkMonitor.startMonitoring();
     }
 
     private void handleNetworkAvailable() {
@@ -98,7 +87,6 @@ public class SearchPresenter implements SearchContract.Presenter {
     }
 
     public void stopNetworkMonitoring() {
-        networkMonitor.stopMonitoring();
         if (networkDisposable != null
                 && !networkDisposable.isDisposed()) {
             networkDisposable.dispose();
@@ -106,7 +94,7 @@ public class SearchPresenter implements SearchContract.Presenter {
     }
 
     public boolean isNetworkCurrentlyAvailable() {
-        return networkMonitor.isNetworkAvailable();
+        return connectivityHub.isNetworkAvailable();
     }
 
 
@@ -163,7 +151,7 @@ public class SearchPresenter implements SearchContract.Presenter {
 
         if (view == null) return;
 
-        if (!currentQuery.isEmpty() && !isNetworkCurrentlyAvailable()) {
+        if (!currentQuery.isEmpty() && !canSearchCurrentTab()) {
             view.showNoInternet();
             needsReloadOnReconnect = true;
             return;
@@ -171,6 +159,8 @@ public class SearchPresenter implements SearchContract.Presenter {
 
         if (currentQuery.isEmpty()) {
             cancelCurrentSearch();
+            cancelSuggestions();
+            view.hideSuggestions();
             view.hideLoading();
             view.hideEmptyState();
             resetToInitialState();
@@ -180,9 +170,63 @@ public class SearchPresenter implements SearchContract.Presenter {
         view.hideSearchPlaceholder();
         view.showLoading();
 
+        loadSuggestions(currentQuery);
         searchSubject.onNext(currentQuery);
     }
 
+    @Override
+    public void onSearchSubmitted(String query) {
+        if (query != null && !query.trim().isEmpty() && currentTab == TAB_MEALS) {
+            repository.recordSearch(query);
+        }
+        onSearchQueryChanged(query);
+    }
+
+    @Override
+    public void onSuggestionClicked(String suggestion) {
+        if (suggestion == null || suggestion.trim().isEmpty()) return;
+        repository.recordSearch(suggestion);
+        selectedSuggestion = suggestion.trim();
+        if (isViewAttached()) {
+            view.hideSuggestions();
+        }
+    }
+
+    private void loadSuggestions(String query) {
+        cancelSuggestions();
+        if (currentTab != TAB_MEALS || query.equalsIgnoreCase(selectedSuggestion)) {
+            view.hideSuggestions();
+            return;
+        }
+
+        suggestionDisposable = repository.getSuggestions(query)
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(
+                        suggestions -> {
+                            if (!isValidResult(query)) return;
+                            if (suggestions.isEmpty()) {
+                                view.hideSuggestions();
+                            } else {
+                                view.showSuggestions(suggestions);
+                            }
+                        },
+                        throwable -> {
+                            if (isViewAttached()) {
+                                view.hideSuggestions();
+                            }
+                        }
+                );
+        disposables.add(suggestionDisposable);
+    }
+
+    private void cancelSuggestions() {
+        if (suggestionDisposable != null
+                && !suggestionDisposable.isDisposed()) {
+            suggestionDisposable.dispose();
+        }
+    }
+
     private void resetToInitialState() {
         if (view == null) return;
 
@@ -199,6 +243,10 @@ public class SearchPresenter implements SearchContract.Presenter {
                 view.hideSearchPlaceholder();
                 loadAllAreas();
                 break;
+            case TAB_PANTRY:
+                view.showSearchPlaceholder();
+                view.clearMeals();
+                break;
         }
     }
 
@@ -209,6 +257,8 @@ public class SearchPresenter implements SearchContract.Presenter {
         if (view == null) return;
 
         cancelCurrentSearch();
+        cancelSuggestions();
+        view.hideSuggestions();
         view.hideEmptyState();
 
         if (currentQuery.isEmpty()) {
@@ -228,7 +278,7 @@ public class SearchPresenter implements SearchContract.Presenter {
             return;
         }
 
-        if (!isNetworkCurrentlyAvailable()) {
+        if (!canSearchCurrentTab()) {
             view.hideLoading();
             view.showNoInternet();
             needsReloadOnReconnect = true;
@@ -247,12 +297,32 @@ public class SearchPresenter implements SearchContract.Presenter {
             case TAB_COUNTRY:
                 searchAreas(query);
                 break;
+            case TAB_PANTRY:
+                searchPantry(query);
+                break;
         }
     }
 
+    private boolean canSearchCurrentTab() {
+        return currentTab == TAB_MEALS
+                || currentTab == TAB_PANTRY
+                || isNetworkCurrentlyAvailable();
+    }
+
     private void searchMeals(String query) {
         currentSearchDisposable = repository
-                .getSearchedMealsWithFavoriteStatus(query)
+                .searchMealsLocalFirst(query)
+                .subscribeOn(Schedulers.io())
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(
+                        meals -> handleMealsResult(query, meals),
+                        throwable -> handleSearchError(query, throwable)
+                );
+        disposables.add(currentSearchDisposable);
+    }
+
+    private void searchPantry(String query) {
+        currentSearchDisposable = repository.findMealsForPantry(query)
                 .subscribeOn(Schedulers.io())
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(
@@ -439,6 +509,9 @@ public class SearchPresenter implements SearchContract.Presenter {
     @Override
     public void onMealClicked(Meal meal) {
         if (view != null && meal != null) {
+            if (currentTab == TAB_MEALS && !currentQuery.isEmpty()) {
+                repository.recordSearch(currentQuery);
+            }
             view.navigateToMealDetail(meal.getId());
         }
     }
@@ -597,6 +670,7 @@ public class SearchPresenter implements SearchContract.Presenter {
     public void dispose() {
         stopNetworkMonitoring();
         cancelCurrentSearch();
+        cancelSuggestions();
         cancelFavoriteRequest();
         disposables.clear();
         repository.clearCache();
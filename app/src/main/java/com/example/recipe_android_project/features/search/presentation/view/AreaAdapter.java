@@ -7,29 +7,55 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.airbnb.lottie.LottieAnimationView;
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
 import com.bumptech.glide.load.DataSource;
 import com.bumptech.glide.load.engine.GlideException;
 import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.target.Target;
 import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.config.ImageRequestOptions;
+import com.example.recipe_android_project.core.utils.ImageUrlPolicy;
 import com.example.recipe_android_project.features.home.model.Area;
 import com.example.recipe_android_project.features.search.presentation.view.listeners.OnAreaClickListener;
 import com.google.android.material.card.MaterialCardView;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import android.graphics.drawable.Drawable;
 
-public class AreaAdapter extends RecyclerView.Adapter<AreaAdapter.AreaViewHolder> {
+public class AreaAdapter extends ListAdapter<Area, AreaAdapter.AreaViewHolder>
+        implements ListPreloader.PreloadModelProvider<Area> {
 
-    private List<Area> items;
     private final OnAreaClickListener listener;
+    private RequestManager requestManager;
+    private int thumbSizePx;
+
+    // An area is only its name, so equal names mean nothing to redraw.
+    private static final DiffUtil.ItemCallback<Area> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<Area>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull Area oldItem, @NonNull Area newItem) {
+                    return oldItem.equals(newItem);
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull Area oldItem, @NonNull Area newItem) {
+                    return oldItem.equals(newItem);
+                }
+            };
 
     private static final Map<String, String> COUNTRY_CODES = new HashMap<>();
     static {
@@ -76,8 +102,10 @@ public class AreaAdapter extends RecyclerView.Adapter<AreaAdapter.AreaViewHolder
 
 
     public AreaAdapter(List<Area> items, OnAreaClickListener listener) {
-        this.items = items;
+        super(DIFF_CALLBACK);
         this.listener = listener;
+        setHasStableIds(true);
+        updateItems(items);
     }
 
     @NonNull
@@ -90,18 +118,51 @@ public class AreaAdapter extends RecyclerView.Adapter<AreaAdapter.AreaViewHolder
 
     @Override
     public void onBindViewHolder(@NonNull AreaViewHolder holder, int position) {
-        Area item = items.get(position);
-        holder.bind(item, listener);
+        Area item = getItem(position);
+        holder.bind(item, listener, flagRequest(Glide.with(holder.itemView.getContext()), item));
     }
 
     @Override
-    public int getItemCount() {
-        return items != null ? items.size() : 0;
+    public long getItemId(int position) {
+        return getItem(position).hashCode();
     }
 
     public void updateItems(List<Area> newItems) {
-        this.items = newItems;
-        notifyDataSetChanged();
+        submitList(newItems != null ? new ArrayList<>(newItems) : null);
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        requestManager = Glide.with(recyclerView);
+        thumbSizePx = recyclerView.getResources()
+                .getDimensionPixelSize(R.dimen.grid_card_thumb_size);
+    }
+
+    @NonNull
+    @Override
+    public List<Area> getPreloadItems(int position) {
+        if (position < 0 || position >= getItemCount()) return Collections.emptyList();
+        return Collections.singletonList(getItem(position));
+    }
+
+    @Nullable
+    @Override
+    public RequestBuilder<?> getPreloadRequestBuilder(@NonNull Area item) {
+        return requestManager != null ? flagRequest(requestManager, item) : null;
+    }
+
+    /**
+     * Null when the area has no known flag.
+     */
+    @Nullable
+    private RequestBuilder<Drawable> flagRequest(RequestManager glide, Area item) {
+        String flagUrl = ImageUrlPolicy.flag(COUNTRY_CODES.get(item.getName()), thumbSizePx);
+        if (flagUrl == null) return null;
+        return glide
+                .load(flagUrl)
+                .centerCrop()
+                .apply(ImageRequestOptions.listThumbnail());
     }
 
     static class AreaViewHolder extends RecyclerView.ViewHolder {
@@ -118,19 +179,16 @@ public class AreaAdapter extends RecyclerView.Adapter<AreaAdapter.AreaViewHolder
             lottieLoadingThumb = itemView.findViewById(R.id.lottieLoadingThumb);
         }
 
-        public void bind(Area item, OnAreaClickListener listener) {
+        public void bind(Area item, OnAreaClickListener listener,
+                         @Nullable RequestBuilder<Drawable> flag) {
             tvTitle.setText(item.getName());
 
             lottieLoadingThumb.setVisibility(View.VISIBLE);
             lottieLoadingThumb.playAnimation();
             imgItem.setVisibility(View.INVISIBLE);
 
-            String countryCode = COUNTRY_CODES.get(item.getName());
-            if (countryCode != null) {
-                String flagUrl = "https://flagcdn.com/w160/" + countryCode + ".png";
-
-                Glide.with(itemView.getContext())
-                        .load(flagUrl)
+            if (flag != null) {
+                flag
                         .listener(new RequestListener<Drawable>() {
                             @Override
                             public boolean onLoadFailed(GlideException e, Object model,
@@ -10,24 +10,36 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.airbnb.lottie.LottieAnimationView;
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
 import com.bumptech.glide.load.DataSource;
 import com.bumptech.glide.load.engine.GlideException;
 import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.target.Target;
 import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.config.ImageRequestOptions;
+import com.example.recipe_android_project.core.utils.ImageUrlPolicy;
 import com.example.recipe_android_project.features.search.domain.model.FilterResult;
 import com.google.android.material.card.MaterialCardView;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
-public class FilterResultAdapter extends RecyclerView.Adapter<FilterResultAdapter.VH> {
+public class FilterResultAdapter extends ListAdapter<FilterResult, FilterResultAdapter.VH>
+        implements ListPreloader.PreloadModelProvider<FilterResult> {
 
     // Colors for favorite button states
     private static final int COLOR_FAVORITE_BG = 0xFFE27036;
@@ -35,24 +47,60 @@ public class FilterResultAdapter extends RecyclerView.Adapter<FilterResultAdapte
     private static final int COLOR_FAVORITE_ICON = 0xFFFFFFFF;
     private static final int COLOR_UNFAVORITE_ICON = 0xFFE27036;
 
+    private static final String PAYLOAD_FAVORITE = "favorite";
+    private static final String PAYLOAD_LOADING = "loading";
+
+    private static final DiffUtil.ItemCallback<FilterResult> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<FilterResult>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull FilterResult oldItem,
+                                               @NonNull FilterResult newItem) {
+                    return oldItem.getId() == newItem.getId();
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull FilterResult oldItem,
+                                                  @NonNull FilterResult newItem) {
+                    return Objects.equals(oldItem.getName(), newItem.getName())
+                            && Objects.equals(oldItem.getThumbnailUrl(), newItem.getThumbnailUrl());
+                }
+            };
+
     public interface OnFilterResultClickListener {
         void onMealClick(FilterResult filterResult, int position);
         void onFavoriteClick(FilterResult filterResult, int position, boolean isFavorite);
     }
 
-    private List<FilterResult> items = new ArrayList<>();
+    private final Map<Integer, Integer> positionById = new HashMap<>();
     private final Set<Integer> favoriteIds = new HashSet<>();
     private final Set<Integer> loadingIds = new HashSet<>();
     private final OnFilterResultClickListener listener;
+    private RequestManager requestManager;
+    private int thumbSizePx;
     private String filterTag = "";
 
     public FilterResultAdapter(OnFilterResultClickListener listener) {
+        super(DIFF_CALLBACK);
         this.listener = listener;
+        setHasStableIds(true);
     }
 
     public void setItems(List<FilterResult> items) {
-        this.items = items != null ? items : new ArrayList<>();
-        notifyDataSetChanged();
+        submitList(items != null ? new ArrayList<>(items) : new ArrayList<>());
+    }
+
+    @Override
+    public void onCurrentListChanged(@NonNull List<FilterResult> previousList,
+                                     @NonNull List<FilterResult> currentList) {
+        positionById.clear();
+        for (int i = 0; i < currentList.size(); i++) {
+            positionById.put(currentList.get(i).getId(), i);
+        }
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return getItem(position).getId();
     }
 
     public void setFilterTag(String filterTag) {
@@ -64,33 +112,24 @@ public class FilterResultAdapter extends RecyclerView.Adapter<FilterResultAdapte
         } else {
             favoriteIds.remove(mealId);
         }
-
-        for (int i = 0; i < items.size(); i++) {
-            if (items.get(i).getId() == mealId) {
-                notifyItemChanged(i, "favorite");
-                break;
-            }
-        }
+        notifyMealChanged(mealId, PAYLOAD_FAVORITE);
     }
     public boolean isFavorite(int mealId) {
         return favoriteIds.contains(mealId);
     }
     public void showLoading(int mealId) {
         loadingIds.add(mealId);
-        for (int i = 0; i < items.size(); i++) {
-            if (items.get(i).getId() == mealId) {
-                notifyItemChanged(i, "loading");
-                break;
-            }
-        }
+        notifyMealChanged(mealId, PAYLOAD_LOADING);
     }
     public void hideLoading(int mealId) {
         loadingIds.remove(mealId);
-        for (int i = 0; i < items.size(); i++) {
-            if (items.get(i).getId() == mealId) {
-                notifyItemChanged(i, "loading");
-                break;
-            }
+        notifyMealChanged(mealId, PAYLOAD_LOADING);
+    }
+
+    private void notifyMealChanged(int mealId, String payload) {
+        Integer position = positionById.get(mealId);
+        if (position != null) {
+            notifyItemChanged(position, payload);
         }
     }
     @NonNull
@@ -103,7 +142,7 @@ public class FilterResultAdapter extends RecyclerView.Adapter<FilterResultAdapte
 
     @Override
     public void onBindViewHolder(@NonNull VH holder, int position) {
-        FilterResult item = items.get(position);
+        FilterResult item = getItem(position);
 
         holder.tvTitle.setText(item.getName() != null ? item.getName() : "");
 
@@ -112,9 +151,7 @@ public class FilterResultAdapter extends RecyclerView.Adapter<FilterResultAdapte
         holder.imgLoader.setVisibility(View.VISIBLE);
         holder.imgLoader.playAnimation();
 
-        Glide.with(holder.itemView.getContext())
-                .load(item.getThumbnailUrl())
-                .centerCrop()
+        thumbnailRequest(Glide.with(holder.itemView.getContext()), item)
                 .error(R.drawable.ic_error)
                 .listener(new RequestListener<Drawable>() {
                     @Override
@@ -168,12 +205,12 @@ public class FilterResultAdapter extends RecyclerView.Adapter<FilterResultAdapte
         if (payloads.isEmpty()) {
             onBindViewHolder(holder, position);
         } else {
-            FilterResult item = items.get(position);
+            FilterResult item = getItem(position);
             for (Object payload : payloads) {
-                if ("favorite".equals(payload)) {
+                if (PAYLOAD_FAVORITE.equals(payload)) {
                     boolean isFavorite = favoriteIds.contains(item.getId());
                     updateFavoriteIcon(holder, isFavorite);
-                } else if ("loading".equals(payload)) {
+                } else if (PAYLOAD_LOADING.equals(payload)) {
                     boolean isLoading = loadingIds.contains(item.getId());
                     updateLoadingState(holder, isLoading);
                 }
@@ -202,8 +239,31 @@ public class FilterResultAdapter extends RecyclerView.Adapter<FilterResultAdapte
     }
 
     @Override
-    public int getItemCount() {
-        return items.size();
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        requestManager = Glide.with(recyclerView);
+        thumbSizePx = recyclerView.getResources().getDimensionPixelSize(R.dimen.meal_thumb_size);
+    }
+
+    @NonNull
+    @Override
+    public List<FilterResult> getPreloadItems(int position) {
+        if (position < 0 || position >= getItemCount()) return Collections.emptyList();
+        FilterResult item = getItem(position);
+        return item != null ? Collections.singletonList(item) : Collections.emptyList();
+    }
+
+    @Nullable
+    @Override
+    public RequestBuilder<?> getPreloadRequestBuilder(@NonNull FilterResult item) {
+        return requestManager != null ? thumbnailRequest(requestManager, item) : null;
+    }
+
+    private RequestBuilder<Drawable> thumbnailRequest(RequestManager glide, FilterResult item) {
+        return glide
+                .load(ImageUrlPolicy.mealThumbnail(item.getThumbnailUrl(), thumbSizePx))
+                .centerCrop()
+                .apply(ImageRequestOptions.listThumbnail());
     }
 
     @Override
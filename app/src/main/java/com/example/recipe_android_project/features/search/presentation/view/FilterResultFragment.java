@@ -19,6 +19,7 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.airbnb.lottie.LottieAnimationView;
 import com.example.recipe_android_project.R;
 import com.example.recipe_android_project.core.ui.AlertDialogHelper;
+import com.example.recipe_android_project.core.ui.ImagePreloader;
 import com.example.recipe_android_project.core.ui.SnackbarHelper;
 import com.example.recipe_android_project.features.auth.presentation.view.AuthActivity;
 import com.example.recipe_android_project.features.search.data.repository.SearchRepository;
@@ -132,6 +133,7 @@ public class FilterResultFragment extends Fragment
         rvFilterResults.setLayoutManager(
                 new LinearLayoutManager(requireContext()));
         rvFilterResults.setAdapter(adapter);
+        ImagePreloader.attach(rvFilterResults, adapter, R.dimen.meal_thumb_size);
     }
 
     private void setupPresenter() {
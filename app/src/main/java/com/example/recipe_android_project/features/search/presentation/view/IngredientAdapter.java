@@ -8,27 +8,35 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.airbnb.lottie.LottieAnimationView;
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
 import com.bumptech.glide.load.DataSource;
 import com.bumptech.glide.load.engine.GlideException;
 import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.target.Target;
 import com.example.recipe_android_project.R;
+import com.example.recipe_android_project.core.config.ImageRequestOptions;
+import com.example.recipe_android_project.core.utils.ImageUrlPolicy;
 import com.example.recipe_android_project.features.search.domain.model.Ingredient;
 import com.example.recipe_android_project.features.search.presentation.view.listeners.OnIngredientClickListener;
 import com.google.android.material.card.MaterialCardView;
 
+import java.util.Collections;
 import java.util.List;
 
-public class IngredientAdapter extends RecyclerView.Adapter<IngredientAdapter.IngredientViewHolder> {
-
-    private static final String INGREDIENT_IMAGE_BASE_URL = "https://www.themealdb.com/images/ingredients/";
+public class IngredientAdapter extends RecyclerView.Adapter<IngredientAdapter.IngredientViewHolder>
+        implements ListPreloader.PreloadModelProvider<Ingredient> {
 
     private List<Ingredient> items;
     private final OnIngredientClickListener listener;
+    private RequestManager requestManager;
+    private int thumbSizePx;
 
 
 
@@ -48,7 +56,7 @@ public class IngredientAdapter extends RecyclerView.Adapter<IngredientAdapter.In
     @Override
     public void onBindViewHolder(@NonNull IngredientViewHolder holder, int position) {
         Ingredient item = items.get(position);
-        holder.bind(item, listener);
+        holder.bind(item, listener, imageRequest(Glide.with(holder.itemView.getContext()), item));
     }
 
     @Override
@@ -56,6 +64,34 @@ public class IngredientAdapter extends RecyclerView.Adapter<IngredientAdapter.In
         return items != null ? items.size() : 0;
     }
 
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        requestManager = Glide.with(recyclerView);
+        thumbSizePx = recyclerView.getResources()
+                .getDimensionPixelSize(R.dimen.grid_card_thumb_size);
+    }
+
+    @NonNull
+    @Override
+    public List<Ingredient> getPreloadItems(int position) {
+        if (position < 0 || position >= getItemCount()) return Collections.emptyList();
+        return Collections.singletonList(items.get(position));
+    }
+
+    @Nullable
+    @Override
+    public RequestBuilder<?> getPreloadRequestBuilder(@NonNull Ingredient item) {
+        return requestManager != null ? imageRequest(requestManager, item) : null;
+    }
+
+    private RequestBuilder<Drawable> imageRequest(RequestManager glide, Ingredient item) {
+        return glide
+                .load(ImageUrlPolicy.ingredientImage(item.getName(), thumbSizePx))
+                .centerCrop()
+                .apply(ImageRequestOptions.listThumbnail());
+    }
+
     public void updateItems(List<Ingredient> newItems) {
         this.items = newItems;
         notifyDataSetChanged();
@@ -75,17 +111,15 @@ public class IngredientAdapter extends RecyclerView.Adapter<IngredientAdapter.In
             lottieLoadingThumb = itemView.findViewById(R.id.lottieLoadingThumb);
         }
 
-        public void bind(Ingredient item, OnIngredientClickListener listener) {
+        public void bind(Ingredient item, OnIngredientClickListener listener,
+                         RequestBuilder<Drawable> image) {
             tvTitle.setText(item.getName());
 
             lottieLoadingThumb.setVisibility(View.VISIBLE);
             lottieLoadingThumb.playAnimation();
             imgItem.setVisibility(View.INVISIBLE);
 
-            String imageUrl = INGREDIENT_IMAGE_BASE_URL + item.getName() + ".png";
-
-            Glide.with(itemView.getContext())
-                    .load(imageUrl)
+            image
                     .listener(new RequestListener<Drawable>() {
                         @Override
                         public boolean onLoadFailed(GlideException e, Object model,
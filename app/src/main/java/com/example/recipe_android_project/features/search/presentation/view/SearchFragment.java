@@ -31,6 +31,7 @@ import com.airbnb.lottie.LottieAnimationView;
 import com.example.recipe_android_project.R;
 import com.example.recipe_android_project.core.listeners.OnMealClickListener;
 import com.example.recipe_android_project.core.ui.AlertDialogHelper;
+import com.example.recipe_android_project.core.ui.ImagePreloader;
 import com.example.recipe_android_project.core.ui.SnackbarHelper;
 import com.example.recipe_android_project.features.auth.presentation.view.AuthActivity;
 import com.example.recipe_android_project.features.home.model.Area;
@@ -61,6 +62,7 @@ public class SearchFragment extends Fragment implements
     private static final int TAB_MEALS = 0;
     private static final int TAB_INGREDIENTS = 1;
     private static final int TAB_COUNTRY = 2;
+    private static final int TAB_PANTRY = 3;
 
     private SearchPresenter presenter;
 
@@ -74,9 +76,12 @@ public class SearchFragment extends Fragment implements
     private Chip chipMeals;
     private Chip chipIngredients;
     private Chip chipCountry;
+    private Chip chipPantry;
 
     private FrameLayout contentContainer;
     private LinearLayout mealsContent;
+    private View suggestionsScrollView;
+    private ChipGroup suggestionGroup;
     private LinearLayout searchPlaceholderContainer;
     private ImageView imgSearchPlaceholder;
     private RecyclerView rvMeals;
@@ -147,9 +152,12 @@ public class SearchFragment extends Fragment implements
         chipMeals = view.findViewById(R.id.chipMeals);
         chipIngredients = view.findViewById(R.id.chipIngredients);
         chipCountry = view.findViewById(R.id.chipCountry);
+        chipPantry = view.findViewById(R.id.chipPantry);
 
         contentContainer = view.findViewById(R.id.contentContainer);
         mealsContent = view.findViewById(R.id.mealsContent);
+        suggestionsScrollView = view.findViewById(R.id.suggestionsScrollView);
+        suggestionGroup = view.findViewById(R.id.suggestionGroup);
         searchPlaceholderContainer = view.findViewById(R.id.searchPlaceholderContainer);
         imgSearchPlaceholder = view.findViewById(R.id.imgSearchPlaceholder);
         rvMeals = view.findViewById(R.id.rvMeals);
@@ -182,10 +190,21 @@ public class SearchFragment extends Fragment implements
                 currentTab = TAB_COUNTRY;
                 showCountryContent();
                 presenter.onTabChanged(TAB_COUNTRY);
+            } else if (checkedIds.contains(R.id.chipPantry)) {
+                currentTab = TAB_PANTRY;
+                showMealsContent();
+                presenter.onTabChanged(TAB_PANTRY);
             }
+            updateSearchHint();
         });
     }
 
+    private void updateSearchHint() {
+        etSearch.setHint(currentTab == TAB_PANTRY
+                ? R.string.search_pantry_hint
+                : R.string.search_meals_ingredients_countries);
+    }
+
     private void showMealsContent() {
         mealsContent.setVisibility(View.VISIBLE);
         rvIngredients.setVisibility(View.GONE);
@@ -230,7 +249,7 @@ public class SearchFragment extends Fragment implements
         icSearch.setOnClickListener(v -> {
             String query = etSearch.getText().toString().trim();
             if (!query.isEmpty()) {
-                presenter.onSearchQueryChanged(query);
+                presenter.onSearchSubmitted(query);
             }
         });
 
@@ -238,7 +257,7 @@ public class SearchFragment extends Fragment implements
             if (actionId == EditorInfo.IME_ACTION_SEARCH) {
                 String query = etSearch.getText().toString().trim();
                 if (!query.isEmpty()) {
-                    presenter.onSearchQueryChanged(query);
+                    presenter.onSearchSubmitted(query);
                 }
                 return true;
             }
@@ -277,16 +296,19 @@ public class SearchFragment extends Fragment implements
                 new LinearLayoutManager(requireContext()));
         mealAdapter = new MealAdapter(mealsList, this);
         rvMeals.setAdapter(mealAdapter);
+        ImagePreloader.attach(rvMeals, mealAdapter, R.dimen.meal_thumb_size);
 
         rvIngredients.setLayoutManager(
                 new GridLayoutManager(requireContext(), 2));
         ingredientAdapter = new IngredientAdapter(ingredientsList, this);
         rvIngredients.setAdapter(ingredientAdapter);
+        ImagePreloader.attach(rvIngredients, ingredientAdapter, R.dimen.grid_card_thumb_size);
 
         rvCountry.setLayoutManager(
                 new GridLayoutManager(requireContext(), 2));
         areaAdapter = new AreaAdapter(areasList, this);
         rvCountry.setAdapter(areaAdapter);
+        ImagePreloader.attach(rvCountry, areaAdapter, R.dimen.grid_card_thumb_size);
     }
 
 
@@ -371,6 +393,35 @@ public class SearchFragment extends Fragment implements
         rvMeals.setVisibility(View.GONE);
     }
 
+    @Override
+    public void showSuggestions(List<String> suggestions) {
+        if (suggestionGroup == null) return;
+
+        suggestionGroup.removeAllViews();
+        for (String suggestion : suggestions) {
+            Chip chip = (Chip) getLayoutInflater()
+                    .inflate(R.layout.item_search_suggestion, suggestionGroup, false);
+            chip.setText(suggestion);
+            chip.setOnClickListener(v -> onSuggestionClick(suggestion));
+            suggestionGroup.addView(chip);
+        }
+        suggestionsScrollView.setVisibility(View.VISIBLE);
+    }
+
+    @Override
+    public void hideSuggestions() {
+        if (suggestionsScrollView == null) return;
+        suggestionsScrollView.setVisibility(View.GONE);
+        suggestionGroup.removeAllViews();
+    }
+
+    private void onSuggestionClick(String suggestion) {
+        presenter.onSuggestionClicked(suggestion);
+        etSearch.setText(suggestion);
+        etSearch.setSelection(suggestion.length());
+        hideKeyboard();
+    }
+
     @Override
     public void showEmptyMeals() {
         rvMeals.setVisibility(View.GONE);
@@ -622,8 +673,11 @@ public class SearchFragment extends Fragment implements
         chipMeals = null;
         chipIngredients = null;
         chipCountry = null;
+        chipPantry = null;
         contentContainer = null;
         mealsContent = null;
+        suggestionsScrollView = null;
+        suggestionGroup = null;
         searchPlaceholderContainer = null;
         imgSearchPlaceholder = null;
         rvMeals = null;
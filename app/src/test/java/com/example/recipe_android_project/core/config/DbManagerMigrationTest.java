@@ -0,0 +1,372 @@
+package com.example.recipe_android_project.core.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Application;
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteConstraintException;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+import androidx.room.Room;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteOpenHelper;
+import androidx.sqlite.db.framework.FrameworkSQLiteOpenHelperFactory;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs every migration from version 6, the last schema shipped before the
+ * meal catalog, on a database seeded with data, and checks what each step
+ * leaves behind. No schema JSON was exported for versions 6 to 10, so
+ * Room's MigrationTestHelper cannot create them; version 6 is built from its
+ * table definitions instead, and {@link #fullChain_opensWithRoomAndKeepsData()}
+ * lets Room validate the migrated schema against the current entities.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 35, application = Application.class)
+public class DbManagerMigrationTest {
+
+    private static final String DB_NAME = "migration-test";
+    private static final String USER_ID = "user-1";
+    private static final String INGREDIENTS_JSON =
+            "[{\"name\":\"Chicken\",\"measure\":\"1 whole\"},"
+                    + "{\"name\":\"Garlic\",\"measure\":\"2 cloves\"}]";
+
+    private static final String[] VERSION_6_SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS `users` (`id` TEXT NOT NULL, "
+                    + "`pending_old_password` TEXT, `full_name` TEXT, `email` TEXT, "
+                    + "`password` TEXT, `is_logged_in` INTEGER NOT NULL DEFAULT 0, "
+                    + "`pending_sync` INTEGER NOT NULL DEFAULT 0, `pending_sync_action` TEXT, "
+                    + "`last_synced_at` INTEGER NOT NULL DEFAULT 0, "
+                    + "`pending_password_sync` INTEGER NOT NULL DEFAULT 0, "
+                    + "`pending_new_password` TEXT, "
+                    + "`pending_registration_sync` INTEGER NOT NULL DEFAULT 0, "
+                    + "`pending_plain_password` TEXT, `created_at` INTEGER NOT NULL, "
+                    + "`updated_at` INTEGER NOT NULL, PRIMARY KEY(`id`))",
+            "CREATE UNIQUE INDEX IF NOT EXISTS `index_users_email` ON `users` (`email`)",
+            "CREATE TABLE IF NOT EXISTS `favorite_meals` (`meal_id` TEXT NOT NULL, "
+                    + "`user_id` TEXT NOT NULL, `name` TEXT, `alternate_name` TEXT, "
+                    + "`category` TEXT, `area` TEXT, `instructions` TEXT, "
+                    + "`thumbnail_url` TEXT, `tags` TEXT, `youtube_url` TEXT, "
+                    + "`source_url` TEXT, `image_source` TEXT, "
+                    + "`creative_commons_confirmed` TEXT, `date_modified` TEXT, "
+                    + "`ingredients_json` TEXT, `created_at` INTEGER NOT NULL, "
+                    + "PRIMARY KEY(`meal_id`, `user_id`), FOREIGN KEY(`user_id`) "
+                    + "REFERENCES `users`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )",
+            "CREATE INDEX IF NOT EXISTS `index_favorite_meals_user_id` "
+                    + "ON `favorite_meals` (`user_id`)",
+            "CREATE INDEX IF NOT EXISTS `index_favorite_meals_meal_id` "
+                    + "ON `favorite_meals` (`meal_id`)",
+            "CREATE TABLE IF NOT EXISTS `meal_plans` (`user_id` TEXT NOT NULL, "
+                    + "`date` TEXT NOT NULL, `meal_type` TEXT NOT NULL, "
+                    + "`meal_id` TEXT NOT NULL, `meal_name` TEXT, `meal_thumbnail` TEXT, "
+                    + "`meal_category` TEXT, `meal_area` TEXT, `created_at` INTEGER NOT NULL, "
+                    + "`updated_at` INTEGER NOT NULL, `is_synced` INTEGER NOT NULL DEFAULT 0, "
+                    + "PRIMARY KEY(`user_id`, `date`, `meal_type`))",
+            "CREATE INDEX IF NOT EXISTS `index_meal_plans_user_id_date` "
+                    + "ON `meal_plans` (`user_id`, `date`)",
+            "CREATE UNIQUE INDEX IF NOT EXISTS `index_meal_plans_user_id_date_meal_type` "
+                    + "ON `meal_plans` (`user_id`, `date`, `meal_type`)"
+    };
+
+    private Context context;
+    private SupportSQLiteOpenHelper helper;
+
+    @Before
+    public void setUp() {
+        context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(DB_NAME);
+    }
+
+    @After
+    public void tearDown() {
+        if (helper != null) {
+            helper.close();
+        }
+        context.deleteDatabase(DB_NAME);
+    }
+
+    @Test
+    public void migrate6To7_addsTheCatalogAndKeepsFavorites() {
+        SupportSQLiteDatabase db = createVersion6();
+        insertUser(db);
+        insertFavorite(db, "52772", INGREDIENTS_JSON);
+
+        DbManager.MIGRATION_6_7.migrate(db);
+
+        insertCatalogRow(db, "52772", "Teriyaki Chicken", null);
+        assertEquals(1, count(db, "SELECT COUNT(*) FROM meal_catalog"));
+        assertTrue(hasIndex(db, "index_meal_catalog_first_letter"));
+        assertEquals(1, count(db, "SELECT COUNT(*) FROM favorite_meals"));
+    }
+
+    @Test
+    public void migrate7To8_backfillsIngredientsTextAndIndexesIt() {
+        SupportSQLiteDatabase db = createVersion6();
+        DbManager.MIGRATION_6_7.migrate(db);
+        insertCatalogRow(db, "52772", "Teriyaki Chicken", INGREDIENTS_JSON);
+        insertCatalogRow(db, "52773", "Plain Rice", null);
+
+        DbManager.MIGRATION_7_8.migrate(db);
+
+        assertEquals("Chicken Garlic", string(db,
+                "SELECT ingredients_text FROM meal_catalog WHERE meal_id = ?", "52772"));
+        assertNull(string(db,
+                "SELECT ingredients_text FROM meal_catalog WHERE meal_id = ?", "52773"));
+        assertEquals(Collections.singletonList("52772"), ftsMatches(db, "garlic"));
+        assertEquals(Collections.singletonList("52773"), ftsMatches(db, "rice"));
+    }
+
+    @Test
+    public void migrate7To8_keepsTheFtsTableInSyncWithLaterWrites() {
+        SupportSQLiteDatabase db = createVersion6();
+        DbManager.MIGRATION_6_7.migrate(db);
+        DbManager.MIGRATION_7_8.migrate(db);
+
+        insertCatalogRow(db, "52774", "Beef Stew", null);
+        assertEquals(Collections.singletonList("52774"), ftsMatches(db, "stew"));
+
+        db.execSQL("UPDATE meal_catalog SET name = 'Beef Pie' WHERE meal_id = '52774'");
+        assertTrue(ftsMatches(db, "stew").isEmpty());
+        assertEquals(Collections.singletonList("52774"), ftsMatches(db, "pie"));
+
+        db.execSQL("DELETE FROM meal_catalog WHERE meal_id = '52774'");
+        assertTrue(ftsMatches(db, "pie").isEmpty());
+    }
+
+    @Test
+    public void migrate8To9_addsTheFavoriteOutbox() {
+        SupportSQLiteDatabase db = migratedTo(9);
+
+        ContentValues change = new ContentValues();
+        change.put("user_id", USER_ID);
+        change.put("meal_id", "52772");
+        change.put("operation", "ADD");
+        change.put("updated_at", 1L);
+        change.put("attempt_count", 0);
+        db.insert("favorite_outbox", SQLiteDatabase.CONFLICT_ABORT, change);
+
+        assertEquals(1, count(db, "SELECT COUNT(*) FROM favorite_outbox"));
+        // One pending change per user and meal.
+        assertThrows(SQLiteConstraintException.class,
+                () -> db.insert("favorite_outbox", SQLiteDatabase.CONFLICT_ABORT, change));
+    }
+
+    @Test
+    public void migrate9To10_marksExistingPlansAsNotPendingDelete() {
+        SupportSQLiteDatabase db = createVersion6();
+        insertPlan(db, "2026-01-05", "lunch");
+        migrate(db, DbManager.MIGRATION_6_7, DbManager.MIGRATION_7_8, DbManager.MIGRATION_8_9);
+
+        DbManager.MIGRATION_9_10.migrate(db);
+        insertPlan(db, "2026-01-06", "dinner");
+
+        assertEquals(2, count(db, "SELECT COUNT(*) FROM meal_plans WHERE pending_delete = 0"));
+    }
+
+    @Test
+    public void migrate10To11_movesIngredientsIntoTheirOwnTable() {
+        SupportSQLiteDatabase db = createVersion6();
+        insertUser(db);
+        insertFavorite(db, "52772", "[{\"name\":\"Chicken\",\"measure\":\"1 whole\"},"
+                + "{\"name\":\" \",\"measure\":\"unused\"},"
+                + "{\"name\":\"Garlic\",\"measure\":\"2 cloves\"}]");
+        insertFavorite(db, "52773", null);
+        migrate(db, DbManager.MIGRATION_6_7, DbManager.MIGRATION_7_8,
+                DbManager.MIGRATION_8_9, DbManager.MIGRATION_9_10);
+
+        DbManager.MIGRATION_10_11.migrate(db);
+
+        assertFalse(columnsOf(db, "favorite_meals").contains("ingredients_json"));
+        assertEquals(2, count(db, "SELECT COUNT(*) FROM favorite_meals"));
+        assertEquals("Teriyaki Chicken", string(db,
+                "SELECT name FROM favorite_meals WHERE meal_id = ?", "52772"));
+        assertEquals(Arrays.asList("0|Chicken|1 whole", "1|Garlic|2 cloves"), strings(db,
+                "SELECT position || '|' || name || '|' || measure FROM favorite_meal_ingredients "
+                        + "WHERE meal_id = ? ORDER BY position", "52772"));
+        assertEquals(0, count(db,
+                "SELECT COUNT(*) FROM favorite_meal_ingredients WHERE meal_id = '52773'"));
+        assertTrue(hasIndex(db, "index_favorite_meals_user_id"));
+        assertTrue(hasIndex(db, "index_favorite_meals_meal_id"));
+
+        db.execSQL("PRAGMA foreign_keys = ON");
+        db.execSQL("DELETE FROM favorite_meals WHERE meal_id = '52772'");
+        assertEquals(0, count(db, "SELECT COUNT(*) FROM favorite_meal_ingredients"));
+    }
+
+    @Test
+    public void fullChain_opensWithRoomAndKeepsData() {
+        SupportSQLiteDatabase seed = createVersion6();
+        insertUser(seed);
+        insertFavorite(seed, "52772", INGREDIENTS_JSON);
+        insertPlan(seed, "2026-01-05", "lunch");
+        helper.close();
+        helper = null;
+
+        // No destructive fallback: a missing step or a schema that does not
+        // match the entities fails the open instead of wiping the data.
+        DbManager room = Room.databaseBuilder(context, DbManager.class, DB_NAME)
+                .addMigrations(DbManager.MIGRATIONS)
+                .allowMainThreadQueries()
+                .build();
+        try {
+            SupportSQLiteDatabase db = room.getOpenHelper().getWritableDatabase();
+
+            assertEquals(11, db.getVersion());
+            assertEquals(1, room.favoriteMealDao().countFavorites(USER_ID));
+            assertEquals(Arrays.asList("Chicken", "Garlic"),
+                    sorted(room.favoriteMealDao().findFavoriteIngredientNames(USER_ID)));
+            assertEquals(1, count(db, "SELECT COUNT(*) FROM meal_plans WHERE pending_delete = 0"));
+        } finally {
+            room.close();
+        }
+    }
+
+    private SupportSQLiteDatabase createVersion6() {
+        SupportSQLiteOpenHelper.Configuration configuration =
+                SupportSQLiteOpenHelper.Configuration.builder(context)
+                        .name(DB_NAME)
+                        .callback(new SupportSQLiteOpenHelper.Callback(6) {
+                            @Override
+                            public void onCreate(@NonNull SupportSQLiteDatabase db) {
+                                for (String sql : VERSION_6_SCHEMA) {
+                                    db.execSQL(sql);
+                                }
+                            }
+
+                            @Override
+                            public void onUpgrade(@NonNull SupportSQLiteDatabase db,
+                                                  int oldVersion, int newVersion) {
+                            }
+                        })
+                        .build();
+        helper = new FrameworkSQLiteOpenHelperFactory().create(configuration);
+        return helper.getWritableDatabase();
+    }
+
+    private SupportSQLiteDatabase migratedTo(int version) {
+        SupportSQLiteDatabase db = createVersion6();
+        for (Migration migration : DbManager.MIGRATIONS) {
+            if (migration.startVersion >= 6 && migration.endVersion <= version) {
+                migration.migrate(db);
+            }
+        }
+        return db;
+    }
+
+    private static void migrate(SupportSQLiteDatabase db, Migration... steps) {
+        for (Migration step : steps) {
+            step.migrate(db);
+        }
+    }
+
+    private static void insertUser(SupportSQLiteDatabase db) {
+        ContentValues user = new ContentValues();
+        user.put("id", USER_ID);
+        user.put("email", "cook@example.com");
+        user.put("created_at", 1L);
+        user.put("updated_at", 1L);
+        db.insert("users", SQLiteDatabase.CONFLICT_ABORT, user);
+    }
+
+    private static void insertFavorite(SupportSQLiteDatabase db, String mealId, String ingredientsJson) {
+        ContentValues favorite = new ContentValues();
+        favorite.put("meal_id", mealId);
+        favorite.put("user_id", USER_ID);
+        favorite.put("name", "Teriyaki Chicken");
+        favorite.put("ingredients_json", ingredientsJson);
+        favorite.put("created_at", 1L);
+        db.insert("favorite_meals", SQLiteDatabase.CONFLICT_ABORT, favorite);
+    }
+
+    private static void insertPlan(SupportSQLiteDatabase db, String date, String mealType) {
+        ContentValues plan = new ContentValues();
+        plan.put("user_id", USER_ID);
+        plan.put("date", date);
+        plan.put("meal_type", mealType);
+        plan.put("meal_id", "52772");
+        plan.put("created_at", 1L);
+        plan.put("updated_at", 1L);
+        db.insert("meal_plans", SQLiteDatabase.CONFLICT_ABORT, plan);
+    }
+
+    private static void insertCatalogRow(SupportSQLiteDatabase db, String mealId, String name,
+                                         String ingredientsJson) {
+        ContentValues meal = new ContentValues();
+        meal.put("meal_id", mealId);
+        meal.put("name", name);
+        meal.put("ingredients_json", ingredientsJson);
+        meal.put("first_letter", name.substring(0, 1).toLowerCase(Locale.ROOT));
+        meal.put("updated_at", 1L);
+        db.insert("meal_catalog", SQLiteDatabase.CONFLICT_ABORT, meal);
+    }
+
+    private static List<String> ftsMatches(SupportSQLiteDatabase db, String query) {
+        return strings(db, "SELECT meal_catalog.meal_id FROM meal_catalog "
+                + "JOIN meal_catalog_fts ON meal_catalog.rowid = meal_catalog_fts.docid "
+                + "WHERE meal_catalog_fts MATCH ? ORDER BY meal_catalog.meal_id", query);
+    }
+
+    private static boolean hasIndex(SupportSQLiteDatabase db, String name) {
+        return count(db, "SELECT COUNT(*) FROM sqlite_master WHERE type = 'index' AND name = ?",
+                name) == 1;
+    }
+
+    private static List<String> columnsOf(SupportSQLiteDatabase db, String table) {
+        List<String> columns = new ArrayList<>();
+        try (Cursor cursor = db.query("PRAGMA table_info(`" + table + "`)")) {
+            int nameColumn = cursor.getColumnIndexOrThrow("name");
+            while (cursor.moveToNext()) {
+                columns.add(cursor.getString(nameColumn));
+            }
+        }
+        return columns;
+    }
+
+    private static long count(SupportSQLiteDatabase db, String sql, Object... args) {
+        try (Cursor cursor = db.query(sql, args)) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        }
+    }
+
+    private static String string(SupportSQLiteDatabase db, String sql, Object... args) {
+        List<String> values = strings(db, sql, args);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static List<String> strings(SupportSQLiteDatabase db, String sql, Object... args) {
+        List<String> values = new ArrayList<>();
+        try (Cursor cursor = db.query(sql, args)) {
+            while (cursor.moveToNext()) {
+                values.add(cursor.getString(0));
+            }
+        }
+        return values;
+    }
+
+    private static List<String> sorted(List<String> values) {
+        List<String> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.recipe_android_project.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class Bm25RankerTest {
+
+    private static final double[] EQUAL_WEIGHTS = {1.0, 1.0};
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void singleHit_matchesOkapiFormula() {
+        // 100 documents, 10 with the term; the term appears twice in a column
+        // of length 8 whose average length is 4.
+        byte[] info = matchInfo(1, 1, 100, new int[]{4}, new int[]{8}, 2, 2, 10);
+
+        double idf = Math.log(1.0 + (100 - 10 + 0.5) / (10 + 0.5));
+        double norm = 1.2 * (1 - 0.75 + 0.75 * (8.0 / 4.0));
+        double expected = idf * (2 * (1.2 + 1)) / (2 + norm);
+
+        assertEquals(expected, Bm25Ranker.score(info, new double[]{1.0}), DELTA);
+    }
+
+    @Test
+    public void moreHits_rankHigher() {
+        double once = Bm25Ranker.score(nameHit(1, 4, 10), EQUAL_WEIGHTS);
+        double thrice = Bm25Ranker.score(nameHit(3, 4, 10), EQUAL_WEIGHTS);
+
+        assertTrue(thrice > once);
+    }
+
+    @Test
+    public void shorterColumns_rankHigher() {
+        double shortName = Bm25Ranker.score(nameHit(1, 2, 10), EQUAL_WEIGHTS);
+        double longName = Bm25Ranker.score(nameHit(1, 12, 10), EQUAL_WEIGHTS);
+
+        assertTrue(shortName > longName);
+    }
+
+    @Test
+    public void rarerTerms_rankHigher() {
+        double rare = Bm25Ranker.score(nameHit(1, 4, 2), EQUAL_WEIGHTS);
+        double common = Bm25Ranker.score(nameHit(1, 4, 80), EQUAL_WEIGHTS);
+
+        assertTrue(rare > common);
+    }
+
+    @Test
+    public void columnWeights_scaleEachColumn() {
+        // Same hit in the first column and in the second.
+        byte[] inName = matchInfo(1, 2, 100, new int[]{4, 4}, new int[]{4, 4},
+                1, 1, 10, 0, 0, 0);
+        byte[] inTags = matchInfo(1, 2, 100, new int[]{4, 4}, new int[]{4, 4},
+                0, 0, 0, 1, 1, 10);
+        double[] weights = {3.0, 1.0};
+
+        double name = Bm25Ranker.score(inName, weights);
+        double tags = Bm25Ranker.score(inTags, weights);
+
+        assertEquals(3 * tags, name, DELTA);
+        assertEquals(0, Bm25Ranker.score(inTags, new double[]{1.0, 0}), DELTA);
+    }
+
+    @Test
+    public void columnsWithoutWeights_countOnce() {
+        byte[] inTags = matchInfo(1, 2, 100, new int[]{4, 4}, new int[]{4, 4},
+                0, 0, 0, 1, 1, 10);
+
+        assertEquals(Bm25Ranker.score(inTags, EQUAL_WEIGHTS),
+                Bm25Ranker.score(inTags, new double[]{1.0}), DELTA);
+    }
+
+    @Test
+    public void phrases_addUp() {
+        byte[] first = matchInfo(1, 1, 100, new int[]{4}, new int[]{4}, 1, 1, 10);
+        byte[] second = matchInfo(1, 1, 100, new int[]{4}, new int[]{4}, 2, 2, 30);
+        byte[] both = matchInfo(2, 1, 100, new int[]{4}, new int[]{4}, 1, 1, 10, 2, 2, 30);
+        double[] weights = {1.0};
+
+        assertEquals(Bm25Ranker.score(first, weights) + Bm25Ranker.score(second, weights),
+                Bm25Ranker.score(both, weights), DELTA);
+    }
+
+    @Test
+    public void missingOrTruncatedBlobs_scoreZero() {
+        byte[] truncated = new byte[nameHit(1, 4, 10).length - 4];
+        System.arraycopy(nameHit(1, 4, 10), 0, truncated, 0, truncated.length);
+
+        assertEquals(0, Bm25Ranker.score(null, EQUAL_WEIGHTS), DELTA);
+        assertEquals(0, Bm25Ranker.score(new byte[8], EQUAL_WEIGHTS), DELTA);
+        assertEquals(0, Bm25Ranker.score(truncated, EQUAL_WEIGHTS), DELTA);
+    }
+
+    /** One phrase over two columns, hitting only the first. */
+    private static byte[] nameHit(int hits, int length, int docsWithHits) {
+        return matchInfo(1, 2, 100, new int[]{4, 20}, new int[]{length, 20},
+                hits, hits, docsWithHits, 0, 0, 0);
+    }
+
+    /**
+     * Builds a {@code matchinfo(table, 'pcnalx')} blob: phrase count, column
+     * count, row count, average and current column lengths, then three hit
+     * counts per phrase and column.
+     */
+    private static byte[] matchInfo(int phrases, int columns, int rows,
+                                    int[] averageLengths, int[] lengths, int... hits) {
+        int ints = 3 + 2 * columns + hits.length;
+        ByteBuffer buffer = ByteBuffer.allocate(4 * ints).order(ByteOrder.nativeOrder());
+        buffer.putInt(phrases).putInt(columns).putInt(rows);
+        for (int length : averageLengths) buffer.putInt(length);
+        for (int length : lengths) buffer.putInt(length);
+        for (int hit : hits) buffer.putInt(hit);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.recipe_android_project.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.example.recipe_android_project.features.meal_detail.domain.model.InstructionStep;
+import com.example.recipe_android_project.testsupport.LegacyInstructionParser;
+import com.example.recipe_android_project.testsupport.MealDbFixtures;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Differential tests: the single-pass parser must produce exactly what the
+ * regex parser it replaced did, step numbers and text alike.
+ */
+public class InstructionParserTest {
+
+    private static final long SEED = 21L;
+    private static final int GENERATED_INPUTS = 50_000;
+
+    // Step numbers at and past int's range, signs, every kind of line break,
+    // the other \s characters, a control character String.trim() strips but
+    // \s does not match, and sentence ends with and without a capital after.
+    private static final String[] TOKENS = {
+            "1", "12", "-3", "+4", "+", "-", "0", "2147483647", "2147483648", "-2147483648",
+            "\r\n", "\n", "\r", "\r\n\r\n", "\n\n", " ", "  ", "\t", "\u000B", "\f", "\u001F",
+            ".", ". ", "Chop the onion", "add salt", "Bake", "A", "b", "crème fraîche"
+    };
+
+    @Test
+    public void fixtureCorpus_matchesLegacy() {
+        JsonObject response = JsonParser.parseString(MealDbFixtures.read(MealDbFixtures.MEALS))
+                .getAsJsonObject();
+        int checked = 0;
+        for (JsonElement meal : response.getAsJsonArray("meals")) {
+            JsonElement instructions = meal.getAsJsonObject().get("strInstructions");
+            if (instructions == null || instructions.isJsonNull()) continue;
+            assertSameSteps(instructions.getAsString());
+            checked++;
+        }
+        assertTrue(checked > 0);
+    }
+
+    @Test
+    public void generatedInputs_matchLegacy() {
+        Random random = new Random(SEED);
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < GENERATED_INPUTS; i++) {
+            input.setLength(0);
+            int tokens = 1 + random.nextInt(12);
+            for (int t = 0; t < tokens; t++) {
+                input.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            assertSameSteps(input.toString());
+        }
+    }
+
+    @Test
+    public void emptyInputs_giveNoSteps() {
+        assertEquals(0, InstructionParser.parseInstructions(null).size());
+        assertEquals(0, InstructionParser.parseInstructions("").size());
+        assertEquals(0, InstructionParser.parseInstructions(" \r\n\t").size());
+    }
+
+    /**
+     * Run-on text falls through to the sentence split. Quadratic work per
+     * sentence takes tens of seconds at this size; the timeout catches it.
+     */
+    @Test(timeout = 5_000)
+    public void longRunOnText_staysLinearAndMatchesLegacy() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            if (i > 0) text.append(' ');
+            text.append("Stir the sauce for ").append(i % 10 + 1).append(" mins until it thickens.");
+        }
+
+        List<InstructionStep> steps = InstructionParser.parseInstructions(text.toString());
+
+        assertEquals(50_000, steps.size());
+        assertSameSteps(LegacyInstructionParser.parseInstructions(text.toString()), steps, "run-on");
+    }
+
+    @Test
+    public void memoized_reusesStepsUntilTextChanges() {
+        List<InstructionStep> first = InstructionParser.parseInstructions("52772", null, "1\r\nBoil.");
+        List<InstructionStep> again = InstructionParser.parseInstructions("52772", null, "1\r\nBoil.");
+        List<InstructionStep> edited = InstructionParser.parseInstructions("52772", null, "1\r\nSimmer.");
+
+        assertSame(first, again);
+        assertNotSame(first, edited);
+        assertEquals("Simmer.", edited.get(0).getInstruction());
+    }
+
+    private static void assertSameSteps(String input) {
+        assertSameSteps(LegacyInstructionParser.parseInstructions(input),
+                InstructionParser.parseInstructions(input), input);
+    }
+
+    private static void assertSameSteps(List<InstructionStep> expected, List<InstructionStep> actual,
+                                        String input) {
+        String context = "for " + escape(input);
+        assertEquals("step count " + context, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("number of step " + i + " " + context,
+                    expected.get(i).getStepNumber(), actual.get(i).getStepNumber());
+            assertEquals("text of step " + i + " " + context,
+                    expected.get(i).getInstruction(), actual.get(i).getInstruction());
+        }
+    }
+
+    private static String escape(String input) {
+        if (input.length() > 200) {
+            input = input.substring(0, 200) + "...";
+        }
+        return '"' + input.replace("\r", "\\r").replace("\n", "\\n").replace("\t", "\\t") + '"';
+    }
+}
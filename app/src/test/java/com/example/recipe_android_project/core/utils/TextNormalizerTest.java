@@ -0,0 +1,42 @@
+package com.example.recipe_android_project.core.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class TextNormalizerTest {
+
+    @Test
+    public void accents_areStripped() {
+        assertEquals("creme brulee", TextNormalizer.normalize("Crème Brûlée"));
+        assertEquals("pate a choux", TextNormalizer.normalize("Pâte à choux"));
+        assertEquals("jalapeno", TextNormalizer.normalize("JALAPEÑO"));
+        assertEquals("istanbul", TextNormalizer.normalize("İstanbul"));
+    }
+
+    @Test
+    public void decomposedInput_foldsLikePrecomposed() {
+        assertEquals("creme fraiche", TextNormalizer.normalize("Cre\u0300me frai\u0302che"));
+        assertEquals("creme fraiche", TextNormalizer.normalize("Cr\u00e8me fra\u00eeche"));
+    }
+
+    @Test
+    public void apostrophes_areDropped() {
+        assertEquals("shepherds pie", TextNormalizer.normalize("Shepherd's Pie"));
+        assertEquals("shepherds pie", TextNormalizer.normalize("Shepherd\u2019s Pie"));
+    }
+
+    @Test
+    public void punctuationAndWhitespaceRuns_becomeOneSpace() {
+        assertEquals("beef mustard pie", TextNormalizer.normalize("  Beef & Mustard--Pie!  "));
+        assertEquals("rice peas", TextNormalizer.normalize("rice\t\n(peas)"));
+        assertEquals("20 minute ramen", TextNormalizer.normalize("20-Minute Ramen"));
+    }
+
+    @Test
+    public void emptyInputs_giveEmptyString() {
+        assertEquals("", TextNormalizer.normalize(null));
+        assertEquals("", TextNormalizer.normalize(""));
+        assertEquals("", TextNormalizer.normalize(" -'. "));
+    }
+}
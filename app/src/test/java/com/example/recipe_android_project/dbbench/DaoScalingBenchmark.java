@@ -0,0 +1,198 @@
+package com.example.recipe_android_project.dbbench;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import android.app.Application;
+import android.content.Context;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.features.auth.data.datasource.local.AuthLocalDatasource;
+import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
+import com.example.recipe_android_project.features.dashboard.data.datasource.local.DashboardDao;
+import com.example.recipe_android_project.features.home.data.datasource.local.MealDao;
+import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.plan.data.datasource.local.MealPlanDao;
+import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
+import com.example.recipe_android_project.testsupport.LatencyRecorder;
+import com.example.recipe_android_project.testsupport.SyntheticDataGenerator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+
+/**
+ * Grows the favourites and meal plan tables step by step and times the DAO
+ * calls the app depends on at each size: bulk insert, the favourites list,
+ * the dashboard count, the Firestore merge and the per-day plan query.
+ * Results are printed as a table, one row per operation and size
+ * ({@code favorites.list@5000}); nothing is asserted about timings.
+ *
+ * <p>Skipped unless run with {@code ./gradlew :app:testDebugUnitTest
+ * -PdaoBenchmarks --tests '*DaoScalingBenchmark'}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 35, application = Application.class)
+public class DaoScalingBenchmark {
+
+    private static final long SEED = 25L;
+    private static final int[] FAVORITE_STEPS = {500, 2_000, 5_000};
+    private static final int[] PLAN_STEPS = {5_000, 20_000, 50_000};
+    private static final int PLAN_USERS = 10;
+    private static final int MERGE_PAGE = 200;
+    private static final int SAMPLES = 30;
+
+    private DbManager db;
+    private MealDao mealDao;
+    private MealPlanDao mealPlanDao;
+    private DashboardDao dashboardDao;
+    private AuthLocalDatasource authLocalDatasource;
+    private SyntheticDataGenerator generator;
+    private LatencyRecorder recorder;
+
+    @Before
+    public void setUp() {
+        assumeTrue("Run with -PdaoBenchmarks", Boolean.getBoolean("daoBenchmarks"));
+
+        Context context = ApplicationProvider.getApplicationContext();
+        db = DbManager.useInMemoryDatabase(context);
+        onWorker(() -> {
+            db.clearAllTables();
+            return true;
+        });
+        mealDao = db.favoriteMealDao();
+        mealPlanDao = db.mealPlanDao();
+        dashboardDao = db.dashboardDao();
+        authLocalDatasource = new AuthLocalDatasource(context);
+        generator = new SyntheticDataGenerator(SEED);
+        recorder = new LatencyRecorder();
+    }
+
+    @After
+    public void tearDown() {
+        if (recorder != null) {
+            System.out.println(recorder.report());
+        }
+    }
+
+    @Test
+    public void favorites() {
+        List<UserEntity> users = generator.users(1);
+        insertUsers(users);
+        String userId = users.get(0).getId();
+
+        int stored = 0;
+        for (int size : FAVORITE_STEPS) {
+            String step = "@" + size;
+
+            // Insert up to half a page below the target; the merged page brings
+            // the rest and rewrites as many favourites that are already stored.
+            int mergeFrom = size - MERGE_PAGE / 2;
+            List<FavoriteMealEntity> batch = generator.favorites(userId, stored, mergeFrom - stored);
+            time("favorites.insert" + step, () -> mealDao.upsertFavorites(batch));
+
+            List<FavoriteMealEntity> page = generator.favorites(userId, size - MERGE_PAGE, MERGE_PAGE);
+            time("favorites.merge" + step,
+                    () -> authLocalDatasource.mergeFavoritesFromFirestore(userId, page).blockingAwait());
+            // The second pull after a sign-in: every row already exists.
+            time("favorites.remerge" + step,
+                    () -> authLocalDatasource.mergeFavoritesFromFirestore(userId, page).blockingAwait());
+            stored = size;
+
+            for (int i = 0; i < SAMPLES; i++) {
+                int listed = time("favorites.list" + step,
+                        () -> mealDao.getAllFavoritesByUserId(userId).blockingFirst().size());
+                assertEquals(size, listed);
+                int counted = time("favorites.count" + step,
+                        () -> dashboardDao.getFavoritesCountFlowable(userId).blockingFirst());
+                assertEquals(size, counted);
+            }
+        }
+    }
+
+    @Test
+    public void mealPlans() {
+        List<UserEntity> users = generator.users(PLAN_USERS);
+        insertUsers(users);
+
+        int finalPerUser = PLAN_STEPS[PLAN_STEPS.length - 1] / PLAN_USERS;
+        List<List<MealPlanEntity>> plansByUser = new ArrayList<>();
+        for (UserEntity user : users) {
+            plansByUser.add(generator.mealPlans(user.getId(), finalPerUser));
+        }
+
+        Random random = new Random(SEED);
+        int storedPerUser = 0;
+        for (int size : PLAN_STEPS) {
+            String step = "@" + size;
+            int perUser = size / PLAN_USERS;
+
+            List<MealPlanEntity> batch = new ArrayList<>();
+            for (List<MealPlanEntity> plans : plansByUser) {
+                batch.addAll(plans.subList(storedPerUser, perUser));
+            }
+            time("plans.insert" + step, () -> mealPlanDao.insertAllMealPlans(batch).blockingAwait());
+            storedPerUser = perUser;
+
+            for (int i = 0; i < SAMPLES; i++) {
+                List<MealPlanEntity> plans = plansByUser.get(random.nextInt(PLAN_USERS));
+                MealPlanEntity planned = plans.get(random.nextInt(perUser));
+                String userId = planned.getUserId();
+                String date = planned.getDate();
+
+                time("plans.byDate" + step,
+                        () -> mealPlanDao.observeMealPlansByDate(userId, date).blockingFirst());
+                time("plans.upcoming" + step,
+                        () -> mealPlanDao.findUpcomingMealPlans(userId, date));
+            }
+        }
+    }
+
+    private void insertUsers(List<UserEntity> users) {
+        onWorker(() -> {
+            for (UserEntity user : users) {
+                db.userDao().insertUser(user).blockingGet();
+            }
+            return true;
+        });
+    }
+
+    private void time(String operation, Runnable work) {
+        time(operation, () -> {
+            work.run();
+            return true;
+        });
+    }
+
+    /**
+     * Room refuses main-thread queries and Robolectric runs tests on the main
+     * thread, so each call is made, and timed, on a worker thread.
+     */
+    private <T> T time(String operation, Callable<T> work) {
+        return onWorker(() -> {
+            long start = System.nanoTime();
+            T result = work.call();
+            recorder.record(operation, System.nanoTime() - start, true);
+            return result;
+        });
+    }
+
+    private static <T> T onWorker(Callable<T> work) {
+        return Single.fromCallable(work)
+                .subscribeOn(Schedulers.single())
+                .blockingGet();
+    }
+}
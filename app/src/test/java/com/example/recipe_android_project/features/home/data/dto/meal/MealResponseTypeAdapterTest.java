@@ -0,0 +1,157 @@
+package com.example.recipe_android_project.features.home.data.dto.meal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.example.recipe_android_project.features.home.model.Ingredient;
+import com.example.recipe_android_project.features.home.model.Meal;
+import com.example.recipe_android_project.testsupport.LegacyMealMapping;
+import com.example.recipe_android_project.testsupport.LegacyMealResponseDto;
+import com.example.recipe_android_project.testsupport.MealDbFixtures;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * The streaming adapter must decode exactly what the reflective DTO and its
+ * mapping step did, on the recorded corpus and on the payload shapes
+ * TheMealDB sends for empty results and unused ingredient slots.
+ */
+public class MealResponseTypeAdapterTest {
+
+    // Same registration as RetrofitClient.
+    private final Gson streamingGson = new GsonBuilder()
+            .registerTypeAdapter(MealResponseDto.class, new MealResponseTypeAdapter())
+            .create();
+    private final Gson reflectiveGson = new Gson();
+
+    @Test
+    public void fixtureCorpus_matchesReflectiveMapping() {
+        String json = MealDbFixtures.read(MealDbFixtures.MEALS);
+
+        List<Meal> actual = decode(json);
+
+        assertFalse(actual.isEmpty());
+        assertSameMeals(decodeLegacy(json), actual);
+    }
+
+    @Test
+    public void nullMeals_decodesToNoMeals() {
+        String json = "{\"meals\":null}";
+
+        MealResponseDto response = streamingGson.fromJson(json, MealResponseDto.class);
+
+        assertNull(response.getMeals());
+        assertTrue(decodeLegacy(json).isEmpty());
+    }
+
+    @Test
+    public void blankIngredientSlots_areSkipped() {
+        String json = "{\"meals\":[{\"idMeal\":\"1\",\"strMeal\":\"Soup\","
+                + "\"strIngredient1\":\" Salt \",\"strIngredient2\":\"\","
+                + "\"strIngredient3\":\"  \",\"strIngredient4\":null,"
+                + "\"strIngredient5\":\"Pepper\",\"strIngredient20\":\"Water\","
+                + "\"strMeasure1\":\" 1 tsp \",\"strMeasure2\":\"2 cups\","
+                + "\"strMeasure3\":\" \",\"strMeasure4\":\"pinch\","
+                + "\"strMeasure5\":null,\"strMeasure20\":\" \"}]}";
+
+        List<Meal> meals = decode(json);
+
+        List<Ingredient> ingredients = meals.get(0).getIngredients();
+        assertEquals(3, ingredients.size());
+        assertIngredient("Salt", "1 tsp", ingredients.get(0));
+        assertIngredient("Pepper", "", ingredients.get(1));
+        assertIngredient("Water", "", ingredients.get(2));
+        assertSameMeals(decodeLegacy(json), meals);
+    }
+
+    @Test
+    public void measuresBeforeIngredients_stillPairBySlot() {
+        String json = "{\"meals\":[{\"idMeal\":\"2\",\"strMeasure2\":\"3 cloves\","
+                + "\"strMeasure1\":\"1\",\"strIngredient1\":\"Onion\","
+                + "\"strIngredient2\":\"Garlic\"}]}";
+
+        List<Meal> meals = decode(json);
+
+        assertIngredient("Onion", "1", meals.get(0).getIngredients().get(0));
+        assertIngredient("Garlic", "3 cloves", meals.get(0).getIngredients().get(1));
+        assertSameMeals(decodeLegacy(json), meals);
+    }
+
+    @Test
+    public void unknownFieldsAndSlotsOutOfRange_areIgnored() {
+        String json = "{\"extra\":{\"a\":[1,2]},\"meals\":[null,{\"idMeal\":\"3\","
+                + "\"strDrinkAlternate\":null,\"strIngredient0\":\"Zero\","
+                + "\"strIngredient21\":\"TwentyOne\",\"strIngredientX\":\"X\","
+                + "\"strIngredient1\":\"Rice\"}]}";
+
+        List<Meal> meals = decode(json);
+
+        assertEquals(1, meals.size());
+        assertEquals("3", meals.get(0).getId());
+        assertEquals(1, meals.get(0).getIngredients().size());
+        assertIngredient("Rice", "", meals.get(0).getIngredients().get(0));
+    }
+
+    @Test
+    public void writtenMeals_readBackUnchanged() {
+        List<Meal> meals = decode(MealDbFixtures.read(MealDbFixtures.MEALS));
+        MealResponseDto response = new MealResponseDto();
+        response.setMeals(meals);
+
+        String json = streamingGson.toJson(response, MealResponseDto.class);
+
+        assertSameMeals(meals, decode(json));
+    }
+
+    private List<Meal> decode(String json) {
+        return streamingGson.fromJson(json, MealResponseDto.class).getMeals();
+    }
+
+    private List<Meal> decodeLegacy(String json) {
+        LegacyMealResponseDto response = reflectiveGson.fromJson(json, LegacyMealResponseDto.class);
+        return LegacyMealMapping.toDomainList(response.getMeals());
+    }
+
+    private static void assertSameMeals(List<Meal> expected, List<Meal> actual) {
+        assertEquals("meal count", expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Meal want = expected.get(i);
+            Meal got = actual.get(i);
+            String meal = "meal " + want.getId() + " ";
+            assertEquals(meal + "id", want.getId(), got.getId());
+            assertEquals(meal + "name", want.getName(), got.getName());
+            assertEquals(meal + "alternate name", want.getAlternateName(), got.getAlternateName());
+            assertEquals(meal + "category", want.getCategory(), got.getCategory());
+            assertEquals(meal + "area", want.getArea(), got.getArea());
+            assertEquals(meal + "instructions", want.getInstructions(), got.getInstructions());
+            assertEquals(meal + "thumbnail", want.getThumbnailUrl(), got.getThumbnailUrl());
+            assertEquals(meal + "tags", want.getTags(), got.getTags());
+            assertEquals(meal + "youtube", want.getYoutubeUrl(), got.getYoutubeUrl());
+            assertEquals(meal + "source", want.getSourceUrl(), got.getSourceUrl());
+            assertEquals(meal + "image source", want.getImageSource(), got.getImageSource());
+            assertEquals(meal + "creative commons", want.getCreativeCommonsConfirmed(),
+                    got.getCreativeCommonsConfirmed());
+            assertEquals(meal + "date modified", want.getDateModified(), got.getDateModified());
+            assertEquals(meal + "favorite", want.isFavorite(), got.isFavorite());
+
+            List<Ingredient> wantIngredients = want.getIngredients();
+            List<Ingredient> gotIngredients = got.getIngredients();
+            assertEquals(meal + "ingredient count", wantIngredients.size(), gotIngredients.size());
+            for (int j = 0; j < wantIngredients.size(); j++) {
+                assertIngredient(wantIngredients.get(j).getName(), wantIngredients.get(j).getMeasure(),
+                        gotIngredients.get(j));
+            }
+        }
+    }
+
+    private static void assertIngredient(String name, String measure, Ingredient actual) {
+        assertEquals(name, actual.getName());
+        assertEquals("measure of " + name, measure, actual.getMeasure());
+    }
+}
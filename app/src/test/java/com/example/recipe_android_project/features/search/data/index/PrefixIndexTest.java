@@ -0,0 +1,119 @@
+package com.example.recipe_android_project.features.search.data.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.recipe_android_project.testsupport.SyntheticNames;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class PrefixIndexTest {
+
+    private static final List<String> NAMES = Arrays.asList(
+            "Fried Chicken", "Chicken Breast", "Chicken", "Chicken Curry",
+            "Crème Fraîche", "Beef", "Rice and Rice");
+
+    private static final String[] MAIN_INGREDIENTS = {
+            "Chicken", "Chickpea", "Cheese", "Beef", "Bean", "Salmon", "Pork", "Lamb"
+    };
+
+    private final PrefixIndex<String> index = PrefixIndex.build(NAMES, name -> name);
+
+    @Test
+    public void anyWordPrefix_matches() {
+        assertEquals(Collections.singletonList("Chicken Breast"), index.topK("brea", 10));
+        assertEquals(Collections.singletonList("Crème Fraîche"), index.topK("frai", 10));
+    }
+
+    @Test
+    public void exactNames_thenNameStarts_thenWordMatches() {
+        List<String> expected = Arrays.asList(
+                "Chicken", "Chicken Curry", "Chicken Breast", "Fried Chicken");
+
+        assertEquals(expected, index.topK("chicken", 10));
+        assertEquals(expected, index.matches("chicken", name -> 0));
+    }
+
+    @Test
+    public void equalScores_preferShorterThenAlphabetical() {
+        PrefixIndex<String> ties = PrefixIndex.build(
+                Arrays.asList("Lamb Tagine", "Lamb Pie", "Lamb Stew"), name -> name);
+
+        assertEquals(Arrays.asList("Lamb Pie", "Lamb Stew", "Lamb Tagine"), ties.topK("lamb", 10));
+    }
+
+    @Test
+    public void accentsAndCase_areFolded() {
+        assertEquals(Collections.singletonList("Crème Fraîche"), index.topK("CREME", 10));
+        assertEquals(Collections.singletonList("Crème Fraîche"), index.topK("crè", 10));
+    }
+
+    @Test
+    public void namesMatchingOnSeveralWords_appearOnce() {
+        assertEquals(Collections.singletonList("Rice and Rice"), index.topK("ric", 10));
+        assertEquals(Collections.singletonList("Rice and Rice"), index.matches("ric", name -> 0));
+    }
+
+    @Test
+    public void booster_isAddedToTheRank() {
+        PrefixIndex.Booster history = name -> name.equals("fried chicken") ? 5 : 0;
+
+        assertEquals("Fried Chicken", index.topK("chicken", 1, history).get(0));
+        assertEquals("Fried Chicken", index.matches("chicken", history).get(0));
+    }
+
+    @Test
+    public void topK_isThePrefixOfAllMatches() {
+        Random random = new Random(14L);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            names.add(SyntheticNames.mealName(
+                    MAIN_INGREDIENTS[random.nextInt(MAIN_INGREDIENTS.length)], random));
+        }
+        PrefixIndex<String> large = PrefixIndex.build(names, name -> name);
+        PrefixIndex.Booster booster = name -> name.length() % 3 == 0 ? 0.5 : 0;
+
+        for (String query : Arrays.asList("c", "ch", "chick", "be", "s", "sal", "stir f", "p")) {
+            List<String> all = large.matches(query, booster);
+            assertTrue("no matches for " + query, !all.isEmpty());
+            for (int k = 1; k <= all.size() + 1; k++) {
+                assertEquals("top " + k + " for " + query,
+                        all.subList(0, Math.min(k, all.size())), large.topK(query, k, booster));
+            }
+        }
+    }
+
+    @Test
+    public void matches_isNotCapped() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            names.add("Salt " + i);
+        }
+
+        assertEquals(250, PrefixIndex.build(names, name -> name).matches("salt", name -> 0).size());
+    }
+
+    @Test
+    public void blankQueriesAndEmptyLimits_matchNothing() {
+        assertTrue(index.topK("", 10).isEmpty());
+        assertTrue(index.topK(" - ", 10).isEmpty());
+        assertTrue(index.topK("chicken", 0).isEmpty());
+        assertTrue(index.topK("zzz", 10).isEmpty());
+        assertTrue(index.matches(null, name -> 0).isEmpty());
+    }
+
+    @Test
+    public void nullItemsAndBlankNames_areNotIndexed() {
+        PrefixIndex<String> sparse = PrefixIndex.build(
+                Arrays.asList("Beef", null, " ", "Pork"), name -> name);
+
+        assertEquals(2, sparse.size());
+        assertEquals(0, PrefixIndex.<String>build(null, name -> name).size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.recipe_android_project.features.search.data.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TrigramIndexTest {
+
+    private static final List<String> NAMES = Arrays.asList(
+            "Lasagne Sandwiches", "Chicken Handi", "Chicken Karaage", "Crème Brûlée",
+            "Beef Wellington", "Pancakes", "Pad See Ew");
+
+    private final TrigramIndex<String> index = TrigramIndex.build(NAMES, name -> name);
+
+    @Test
+    public void misspelledWords_findTheName() {
+        assertEquals("Lasagne Sandwiches", index.search("lasanga", 10).get(0));
+        assertEquals("Beef Wellington", index.search("welington", 10).get(0));
+        assertEquals("Pancakes", index.search("pancaeks", 10).get(0));
+    }
+
+    @Test
+    public void accentsAndCase_areFolded() {
+        assertEquals(Collections.singletonList("Crème Brûlée"), index.search("CREME BRULE", 10));
+    }
+
+    @Test
+    public void closerNames_rankFirst() {
+        TrigramIndex<String> pies = TrigramIndex.build(Arrays.asList("Pies", "Pie"), name -> name);
+
+        assertEquals(Arrays.asList("Pie", "Pies"), pies.search("pie", 10));
+        assertEquals(Collections.singletonList("Chicken Karaage"), index.search("chicken karage", 10));
+    }
+
+    @Test
+    public void equalDistances_rankByTrigramSimilarity() {
+        // Both are one transposition from "chicken"; the shorter name shares
+        // a larger part of its trigrams with the query.
+        assertEquals(Arrays.asList("Chicken Handi", "Chicken Karaage"), index.search("chikcen", 10));
+    }
+
+    @Test
+    public void namesBeyondTheBudget_areNotReturned() {
+        assertTrue(index.search("pizza", 10).isEmpty());
+        assertTrue(index.search("xyz", 10).isEmpty());
+    }
+
+    @Test
+    public void limit_capsResults() {
+        assertEquals(1, index.search("chicken", 1).size());
+        assertEquals(2, index.search("chicken", 10).size());
+        assertTrue(index.search("chicken", 0).isEmpty());
+        assertTrue(index.search(" ", 10).isEmpty());
+    }
+
+    @Test
+    public void distanceBudget_growsWithQueryLength() {
+        assertEquals(1, TrigramIndex.maxDistanceFor(4));
+        assertEquals(2, TrigramIndex.maxDistanceFor(5));
+        assertEquals(2, TrigramIndex.maxDistanceFor(8));
+        assertEquals(3, TrigramIndex.maxDistanceFor(9));
+    }
+
+    @Test
+    public void boundedDistance_countsTranspositionsOnceAndStopsAtTheBudget() {
+        assertEquals(0, TrigramIndex.boundedDistance("beef", "beef", 1));
+        assertEquals(1, TrigramIndex.boundedDistance("beef", "ebef", 2));
+        assertEquals(1, TrigramIndex.boundedDistance("pancakes", "pancaeks", 2));
+        assertEquals(1, TrigramIndex.boundedDistance("rice", "ric", 1));
+        assertEquals(2, TrigramIndex.boundedDistance("rice", "pizza", 1));
+        assertEquals(3, TrigramIndex.boundedDistance("a", "abcdef", 2));
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.recipe_android_project.loadtest;
+
+import com.example.recipe_android_project.testsupport.MealDbFixtures;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * A local stand-in for TheMealDB's v1 API that replays the responses under
+ * {@code test/resources/themealdb}. Meal endpoints ({@code random}, {@code lookup},
+ * {@code search}, {@code filter}) are answered from the meal corpus so ids and
+ * names stay consistent between calls; the list and category endpoints replay
+ * their fixture as is.
+ *
+ * <p>Every response can be delayed by a fixed latency plus uniform jitter, and a
+ * share of requests can be failed with a 503, to see how the repositories
+ * behave when the API is slow or flaky. Requests are counted per endpoint.
+ */
+public final class FakeMealDbServer {
+
+    private static final String API_PATH = "/api/json/v1/1/";
+
+    private final MockWebServer server = new MockWebServer();
+    private final Random random;
+    private final Map<String, JsonObject> mealsById = new LinkedHashMap<>();
+    private final List<JsonObject> meals = new ArrayList<>();
+    private final String categories;
+    private final String ingredients;
+    private final String areas;
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger failedRequests = new AtomicInteger();
+
+    private volatile long latencyMs;
+    private volatile long jitterMs;
+    private volatile double errorRate;
+
+    public FakeMealDbServer(long seed) {
+        this.random = new Random(seed);
+        JsonArray corpus = JsonParser.parseString(MealDbFixtures.read(MealDbFixtures.MEALS))
+                .getAsJsonObject()
+                .getAsJsonArray("meals");
+        for (JsonElement element : corpus) {
+            JsonObject meal = element.getAsJsonObject();
+            meals.add(meal);
+            mealsById.put(meal.get("idMeal").getAsString(), meal);
+        }
+        this.categories = MealDbFixtures.read(MealDbFixtures.CATEGORIES);
+        this.ingredients = MealDbFixtures.read(MealDbFixtures.LIST_INGREDIENTS);
+        this.areas = MealDbFixtures.read(MealDbFixtures.LIST_AREAS);
+        server.setDispatcher(new MealDbDispatcher());
+    }
+
+    public void start() throws IOException {
+        server.start();
+    }
+
+    public void shutdown() throws IOException {
+        server.shutdown();
+    }
+
+    /**
+     * The base URL to hand to Retrofit, in the same shape as the real one.
+     */
+    public String baseUrl() {
+        return server.url(API_PATH).toString();
+    }
+
+    public void setLatency(long latencyMs, long jitterMs) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public List<String> mealIds() {
+        return new ArrayList<>(mealsById.keySet());
+    }
+
+    public int requestCount(String endpoint) {
+        AtomicInteger count = requestCounts.get(endpoint);
+        return count != null ? count.get() : 0;
+    }
+
+    public Map<String, Integer> requestCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, AtomicInteger> entry : requestCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        return counts;
+    }
+
+    public int totalRequests() {
+        int total = 0;
+        for (AtomicInteger count : requestCounts.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    public int failedRequests() {
+        return failedRequests.get();
+    }
+
+    public void resetCounts() {
+        requestCounts.clear();
+        failedRequests.set(0);
+    }
+
+    private final class MealDbDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            HttpUrl url = request.getRequestUrl();
+            String endpoint = url != null ? url.pathSegments().get(url.pathSize() - 1) : "";
+            requestCounts.computeIfAbsent(endpoint, key -> new AtomicInteger()).incrementAndGet();
+
+            MockResponse response;
+            if (random.nextDouble() < errorRate) {
+                failedRequests.incrementAndGet();
+                response = new MockResponse().setResponseCode(503).setBody("Service Unavailable");
+            } else {
+                String body = url != null ? respond(endpoint, url) : null;
+                response = body != null
+                        ? new MockResponse()
+                                .setHeader("Content-Type", "application/json")
+                                .setBody(body)
+                        : new MockResponse().setResponseCode(404);
+            }
+
+            long delay = latencyMs + (jitterMs > 0 ? (long) (random.nextDouble() * jitterMs) : 0);
+            return delay > 0 ? response.setHeadersDelay(delay, TimeUnit.MILLISECONDS) : response;
+        }
+    }
+
+    private String respond(String endpoint, HttpUrl url) {
+        switch (endpoint) {
+            case "random.php":
+                return mealsResponse(singleton(meals.get(random.nextInt(meals.size()))));
+            case "lookup.php":
+                JsonObject meal = mealsById.get(url.queryParameter("i"));
+                return mealsResponse(meal != null ? singleton(meal) : new ArrayList<>());
+            case "search.php":
+                return mealsResponse(search(url.queryParameter("s"), url.queryParameter("f")));
+            case "categories.php":
+                return categories;
+            case "filter.php":
+                return filterResponse(filter(url));
+            case "list.php":
+                if ("list".equals(url.queryParameter("i"))) return ingredients;
+                if ("list".equals(url.queryParameter("a"))) return areas;
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private List<JsonObject> search(String name, String firstLetter) {
+        List<JsonObject> matches = new ArrayList<>();
+        for (JsonObject meal : meals) {
+            String mealName = meal.get("strMeal").getAsString().toLowerCase(Locale.ROOT);
+            if (name != null && mealName.contains(name.toLowerCase(Locale.ROOT))) {
+                matches.add(meal);
+            } else if (firstLetter != null && mealName.startsWith(firstLetter.toLowerCase(Locale.ROOT))) {
+                matches.add(meal);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * {@code filter.php} takes one of {@code i}, {@code c} or {@code a} and,
+     * like the real API, matches the whole value ignoring case, with
+     * underscores standing for spaces.
+     */
+    private List<JsonObject> filter(HttpUrl url) {
+        List<JsonObject> matches = new ArrayList<>();
+        String ingredient = filterValue(url.queryParameter("i"));
+        String category = filterValue(url.queryParameter("c"));
+        String area = filterValue(url.queryParameter("a"));
+        for (JsonObject meal : meals) {
+            if (ingredient != null ? hasIngredient(meal, ingredient)
+                    : category != null ? category.equalsIgnoreCase(text(meal, "strCategory"))
+                    : area != null && area.equalsIgnoreCase(text(meal, "strArea"))) {
+                matches.add(meal);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean hasIngredient(JsonObject meal, String ingredient) {
+        for (int i = 1; i <= 20; i++) {
+            if (ingredient.equalsIgnoreCase(text(meal, "strIngredient" + i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String filterValue(String value) {
+        return value != null ? value.replace('_', ' ').trim() : null;
+    }
+
+    private static String text(JsonObject meal, String field) {
+        JsonElement value = meal.get(field);
+        return value != null && !value.isJsonNull() ? value.getAsString().trim() : "";
+    }
+
+    /**
+     * Filter results carry only the name, thumbnail and id of each meal.
+     */
+    private static String filterResponse(List<JsonObject> meals) {
+        List<JsonObject> rows = new ArrayList<>(meals.size());
+        for (JsonObject meal : meals) {
+            JsonObject row = new JsonObject();
+            row.add("strMeal", meal.get("strMeal"));
+            row.add("strMealThumb", meal.get("strMealThumb"));
+            row.add("idMeal", meal.get("idMeal"));
+            rows.add(row);
+        }
+        return mealsResponse(rows);
+    }
+
+    /**
+     * TheMealDB answers "nothing found" with {@code {"meals":null}}.
+     */
+    private static String mealsResponse(List<JsonObject> meals) {
+        if (meals.isEmpty()) {
+            return "{\"meals\":null}";
+        }
+        JsonArray array = new JsonArray();
+        for (JsonObject meal : meals) {
+            array.add(meal);
+        }
+        JsonObject body = new JsonObject();
+        body.add("meals", array);
+        return body.toString();
+    }
+
+    private static List<JsonObject> singleton(JsonObject meal) {
+        List<JsonObject> list = new ArrayList<>(1);
+        list.add(meal);
+        return list;
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.recipe_android_project.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Application;
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.NetworkCapabilities;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.recipe_android_project.core.config.DbManager;
+import com.example.recipe_android_project.core.config.RetrofitClient;
+import com.example.recipe_android_project.core.helper.FavoriteIdStore;
+import com.example.recipe_android_project.core.helper.UserSessionManager;
+import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
+import com.example.recipe_android_project.features.home.data.datasource.remote.HomeRemoteDatasource;
+import com.example.recipe_android_project.features.home.data.datasource.remote.MealApiService;
+import com.example.recipe_android_project.features.home.data.repository.HomeRepository;
+import com.example.recipe_android_project.features.meal_detail.data.datasource.remote.MealDetailApiService;
+import com.example.recipe_android_project.features.meal_detail.data.datasource.remote.MealDetailRemoteDatasource;
+import com.example.recipe_android_project.features.meal_detail.data.repository.MealDetailRepository;
+import com.example.recipe_android_project.features.search.data.datasource.remote.SearchApiService;
+import com.example.recipe_android_project.features.search.data.datasource.remote.SearchRemoteDataSource;
+import com.example.recipe_android_project.features.search.data.repository.SearchRepository;
+import com.example.recipe_android_project.testsupport.LatencyRecorder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowNetworkCapabilities;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+
+/**
+ * Drives the home, search and meal detail flows from many threads at once
+ * against {@link FakeMealDbServer} and an in-memory Room database, then prints
+ * p50/p99 latency per flow and the requests each endpoint received. The
+ * network is reported as available, so search goes to the API while the
+ * catalog crawl is incomplete, as it does on a fresh install.
+ *
+ * <p>Only the read paths are measured. Favouriting and planning write to Room
+ * and hand the upload to SyncManager and the images to ImagePinStore; Firestore
+ * and the image downloads have no stand-in here, so those flows are left out
+ * rather than measured with their sync half missing.
+ *
+ * <p>Skipped unless run with {@code ./gradlew :app:testDebugUnitTest
+ * -PloadTests --tests '*RepositoryLoadTest'}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 35, application = Application.class)
+public class RepositoryLoadTest {
+
+    private static final long SEED = 24L;
+    private static final int VIRTUAL_USERS = 12;
+    private static final int ITERATIONS_PER_USER = 15;
+    private static final long WORKLOAD_TIMEOUT_SECONDS = 120;
+    private static final String USER_ID = "load-test-user";
+
+    private static final String[] LETTERS = {"a", "b", "c", "t"};
+    private static final String[] QUERIES = {"chicken", "tart", "apple", "pie", "burek", "stew"};
+    private static final String[] INGREDIENTS = {"chicken", "butter", "onion", "salmon"};
+
+    private FakeMealDbServer server;
+    private LatencyRecorder recorder;
+    private HomeRepository homeRepository;
+    private SearchRepository searchRepository;
+    private MealDetailRepository detailRepository;
+    private List<String> mealIds;
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue("Run with -PloadTests", Boolean.getBoolean("loadTests"));
+
+        Context context = ApplicationProvider.getApplicationContext();
+
+        // ConnectivityHub wants a validated internet connection before the
+        // repositories go to the API.
+        ConnectivityManager connectivityManager =
+                (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        NetworkCapabilities capabilities = ShadowNetworkCapabilities.newInstance();
+        shadowOf(capabilities).addCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET);
+        shadowOf(capabilities).addCapability(NetworkCapabilities.NET_CAPABILITY_VALIDATED);
+        shadowOf(connectivityManager)
+                .setNetworkCapabilities(connectivityManager.getActiveNetwork(), capabilities);
+
+        DbManager db = DbManager.useInMemoryDatabase(context);
+        UserEntity user = new UserEntity();
+        user.setId(USER_ID);
+        user.setEmail("load-test@example.com");
+        user.setFullName("Load Test");
+        Completable.fromAction(db::clearAllTables)
+                .andThen(db.userDao().insertUser(user))
+                .subscribeOn(Schedulers.io())
+                .blockingGet();
+        FavoriteIdStore.getInstance(context).clear();
+        UserSessionManager.getInstance(context)
+                .createSession(USER_ID, USER_ID, user.getEmail(), user.getFullName());
+
+        server = new FakeMealDbServer(SEED);
+        server.start();
+        mealIds = server.mealIds();
+
+        Retrofit retrofit = RetrofitClient.create(server.baseUrl(), new OkHttpClient.Builder()
+                .readTimeout(10, TimeUnit.SECONDS)
+                .build());
+        homeRepository = new HomeRepository(context,
+                new HomeRemoteDatasource(context, retrofit.create(MealApiService.class)));
+        searchRepository = new SearchRepository(context,
+                new SearchRemoteDataSource(context, retrofit.create(SearchApiService.class)));
+        detailRepository = new MealDetailRepository(context,
+                new MealDetailRemoteDatasource(context, retrofit.create(MealDetailApiService.class)));
+
+        recorder = new LatencyRecorder();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (recorder == null) return;
+        System.out.println(recorder.report());
+        System.out.println("requests " + server.requestCounts()
+                + " total=" + server.totalRequests()
+                + " failed=" + server.failedRequests());
+        server.shutdown();
+    }
+
+    @Test
+    public void steadyLatency_allFlowsSucceed() throws Exception {
+        server.setLatency(20, 20);
+
+        runWorkload();
+
+        for (String operation : new String[]{"loadHome", "search", "filter", "mealDetail"}) {
+            assertEquals(operation + " failed", 0, recorder.failures(operation));
+        }
+        // Detail reads go to the catalog first, so each meal is fetched at most once.
+        assertTrue(server.requestCount("lookup.php") <= mealIds.size());
+    }
+
+    @Test
+    public void flakyApi_everyCallSettles() throws Exception {
+        server.setLatency(50, 50);
+        server.setErrorRate(0.2);
+
+        runWorkload();
+
+        int callsPerFlow = VIRTUAL_USERS * ITERATIONS_PER_USER / 3;
+        assertEquals(callsPerFlow, recorder.count("loadHome"));
+        assertEquals(callsPerFlow, recorder.count("search"));
+        assertEquals(callsPerFlow, recorder.count("mealDetail"));
+        assertTrue(server.failedRequests() > 0);
+        assertTrue(recorder.percentileMs("loadHome", 99) < 5_000);
+    }
+
+    /**
+     * Each virtual user cycles through the three flows, starting at a
+     * different one, so all of them overlap from the first iteration.
+     */
+    private void runWorkload() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(VIRTUAL_USERS);
+        CountDownLatch done = new CountDownLatch(VIRTUAL_USERS);
+        for (int u = 0; u < VIRTUAL_USERS; u++) {
+            int userIndex = u;
+            pool.execute(() -> {
+                Random random = new Random(SEED + userIndex);
+                try {
+                    for (int i = 0; i < ITERATIONS_PER_USER; i++) {
+                        switch ((userIndex + i) % 3) {
+                            case 0:
+                                loadHome(random);
+                                break;
+                            case 1:
+                                search(random);
+                                break;
+                            default:
+                                openMealDetail(random);
+                                break;
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        boolean finished = done.await(WORKLOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        pool.shutdownNow();
+        assertTrue("workload did not finish", finished);
+    }
+
+    /**
+     * The three requests HomePresenter.loadHome fires in parallel. The screen
+     * counts as loaded once all three have settled; any failure marks it failed.
+     */
+    private void loadHome(Random random) {
+        String letter = LETTERS[random.nextInt(LETTERS.length)];
+        recorder.time("loadHome", () -> {
+            boolean allLoaded = Single.zip(
+                            settled(homeRepository.getMealOfTheDayWithFavoriteStatus()),
+                            settled(homeRepository.getCategories()),
+                            settled(homeRepository.getMealsByFirstLetterWithFavoriteStatus(letter)),
+                            (meal, categories, meals) -> meal && categories && meals)
+                    .blockingGet();
+            if (!allLoaded) {
+                throw new IllegalStateException("home partially loaded");
+            }
+            return true;
+        });
+    }
+
+    private void search(Random random) {
+        String query = QUERIES[random.nextInt(QUERIES.length)];
+        // What SearchPresenter runs for the meals tab.
+        recorder.time("search",
+                () -> searchRepository.searchMealsLocalFirst(query).blockingGet());
+
+        String ingredient = INGREDIENTS[random.nextInt(INGREDIENTS.length)];
+        recorder.time("filter",
+                () -> searchRepository.filterMealsByIngredient(ingredient).blockingGet());
+    }
+
+    private void openMealDetail(Random random) {
+        String mealId = mealIds.get(random.nextInt(mealIds.size()));
+        recorder.time("mealDetail",
+                () -> detailRepository.getMealByIdWithFavoriteStatus(mealId).blockingGet());
+    }
+
+    private static <T> Single<Boolean> settled(Single<T> request) {
+        return request
+                .subscribeOn(Schedulers.io())
+                .map(result -> true)
+                .onErrorReturnItem(false);
+    }
+}
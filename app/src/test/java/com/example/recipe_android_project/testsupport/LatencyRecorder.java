@@ -0,0 +1,76 @@
+package com.example.recipe_android_project.testsupport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+
+/**
+ * Collects wall-clock latencies per operation from many threads and reports
+ * count, failures, p50 and p99. Failed calls are timed too, since a slow
+ * failure costs the user as much as a slow success.
+ */
+public final class LatencyRecorder {
+
+    private final Map<String, List<Long>> latenciesNanos = new TreeMap<>();
+    private final Map<String, Integer> failures = new TreeMap<>();
+
+    public <T> T time(String operation, Callable<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            record(operation, System.nanoTime() - start, true);
+            return result;
+        } catch (Exception e) {
+            record(operation, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    public synchronized void record(String operation, long nanos, boolean success) {
+        latenciesNanos.computeIfAbsent(operation, key -> new ArrayList<>()).add(nanos);
+        if (!success) {
+            failures.merge(operation, 1, Integer::sum);
+        }
+    }
+
+    public synchronized int count(String operation) {
+        List<Long> samples = latenciesNanos.get(operation);
+        return samples != null ? samples.size() : 0;
+    }
+
+    public synchronized int failures(String operation) {
+        Integer count = failures.get(operation);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds, or 0 with no samples.
+     */
+    public synchronized double percentileMs(String operation, double percentile) {
+        List<Long> samples = latenciesNanos.get(operation);
+        if (samples == null || samples.isEmpty()) return 0;
+
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1)) / 1_000_000.0;
+    }
+
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder(String.format(Locale.US,
+                "%-18s %7s %7s %9s %9s%n", "operation", "count", "failed", "p50 ms", "p99 ms"));
+        for (String operation : latenciesNanos.keySet()) {
+            report.append(String.format(Locale.US, "%-18s %7d %7d %9.1f %9.1f%n",
+                    operation,
+                    count(operation),
+                    failures(operation),
+                    percentileMs(operation, 50),
+                    percentileMs(operation, 99)));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.recipe_android_project.testsupport;
+
+
+import com.example.recipe_android_project.features.meal_detail.domain.model.InstructionStep;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The regex and exception based parser that shipped before the single-pass one.
+ * Kept as the reference InstructionParser must match, and as the baseline the
+ * benchmark module compares it against.
+ */
+public class LegacyInstructionParser {
+
+
+    public static List<InstructionStep> parseInstructions(String rawInstructions) {
+        List<InstructionStep> steps = new ArrayList<>();
+
+        if (rawInstructions == null || rawInstructions.trim().isEmpty()) {
+            return steps;
+        }
+
+        String[] parts = rawInstructions.split("\\r\\n|\\r|\\n");
+
+        int stepNumber = 0;
+        StringBuilder currentInstruction = new StringBuilder();
+
+        for (String part : parts) {
+            String trimmedPart = part.trim();
+
+            if (trimmedPart.isEmpty()) {
+                continue;
+            }
+
+            if (isStepNumber(trimmedPart)) {
+                if (stepNumber > 0 && currentInstruction.length() > 0) {
+                    steps.add(new InstructionStep(stepNumber, currentInstruction.toString().trim()));
+                    currentInstruction = new StringBuilder();
+                }
+                stepNumber = Integer.parseInt(trimmedPart);
+            } else {
+                if (currentInstruction.length() > 0) {
+                    currentInstruction.append(" ");
+                }
+                currentInstruction.append(trimmedPart);
+            }
+        }
+
+        if (stepNumber > 0 && currentInstruction.length() > 0) {
+            steps.add(new InstructionStep(stepNumber, currentInstruction.toString().trim()));
+        }
+
+        if (steps.isEmpty()) {
+            steps = parseAlternativeFormat(rawInstructions);
+        }
+
+        return steps;
+    }
+
+
+    private static boolean isStepNumber(String text) {
+        try {
+            Integer.parseInt(text);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static List<InstructionStep> parseAlternativeFormat(String rawInstructions) {
+        List<InstructionStep> steps = new ArrayList<>();
+
+        String[] paragraphs = rawInstructions.split("\\r\\n\\r\\n|\\n\\n");
+
+        if (paragraphs.length > 1) {
+            for (int i = 0; i < paragraphs.length; i++) {
+                String paragraph = paragraphs[i].trim();
+                if (!paragraph.isEmpty()) {
+                    paragraph = paragraph.replaceAll("\\r\\n|\\r|\\n", " ").trim();
+                    steps.add(new InstructionStep(i + 1, paragraph));
+                }
+            }
+        } else {
+            String[] sentences = rawInstructions.split("(?<=\\.)\\s+(?=[A-Z])");
+
+            for (int i = 0; i < sentences.length; i++) {
+                String sentence = sentences[i].trim();
+                if (!sentence.isEmpty()) {
+                    sentence = sentence.replaceAll("\\r\\n|\\r|\\n", " ").trim();
+                    if (!sentence.endsWith(".")) {
+                        sentence += ".";
+                    }
+                    steps.add(new InstructionStep(i + 1, sentence));
+                }
+            }
+        }
+
+        return steps;
+    }
+}
@@ -1,4 +1,5 @@
-package com.example.recipe_android_project.features.home.data.dto.meal;
+package com.example.recipe_android_project.testsupport;
+
 import androidx.annotation.Nullable;
 
 import com.google.gson.annotations.Expose;
@@ -6,7 +7,12 @@ import com.google.gson.annotations.SerializedName;
 
 import java.io.Serializable;
 
-public class MealDto implements Serializable {
+/**
+ * The reflective DTO that Retrofit decoded meals into before
+ * {@code MealResponseTypeAdapter}. Kept as the reference the adapter must
+ * match, and as the baseline for the parse benchmark.
+ */
+public class LegacyMealDto implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -277,7 +283,7 @@ public class MealDto implements Serializable {
     @Nullable
     private String strMeasure20;
 
-    public MealDto() {
+    public LegacyMealDto() {
     }
 
     // ==================== GETTERS & SETTERS ====================
@@ -0,0 +1,86 @@
+package com.example.recipe_android_project.testsupport;
+
+import com.example.recipe_android_project.features.home.model.Ingredient;
+import com.example.recipe_android_project.features.home.model.Meal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The DTO to {@link Meal} copy step that followed reflective decoding.
+ */
+public final class LegacyMealMapping {
+
+    private LegacyMealMapping() {
+    }
+
+    public static Meal toDomain(LegacyMealDto dto) {
+        if (dto == null) return null;
+
+        Meal meal = new Meal();
+        meal.setId(dto.getIdMeal());
+        meal.setName(dto.getStrMeal());
+        meal.setAlternateName(dto.getStrMealAlternate());
+        meal.setCategory(dto.getStrCategory());
+        meal.setArea(dto.getStrArea());
+        meal.setInstructions(dto.getStrInstructions());
+        meal.setThumbnailUrl(dto.getStrMealThumb());
+        meal.setTags(dto.getStrTags());
+        meal.setYoutubeUrl(dto.getStrYoutube());
+        meal.setSourceUrl(dto.getStrSource());
+        meal.setImageSource(dto.getStrImageSource());
+        meal.setCreativeCommonsConfirmed(dto.getStrCreativeCommonsConfirmed());
+        meal.setDateModified(dto.getDateModified());
+        meal.setIngredients(extractIngredients(dto));
+        meal.setFavorite(false);
+        meal.setCreatedAt(System.currentTimeMillis());
+
+        return meal;
+    }
+
+    public static List<Meal> toDomainList(List<LegacyMealDto> dtos) {
+        List<Meal> meals = new ArrayList<>();
+        if (dtos != null) {
+            for (LegacyMealDto dto : dtos) {
+                Meal meal = toDomain(dto);
+                if (meal != null) {
+                    meals.add(meal);
+                }
+            }
+        }
+        return meals;
+    }
+
+    private static List<Ingredient> extractIngredients(LegacyMealDto dto) {
+        List<Ingredient> ingredients = new ArrayList<>();
+
+        addIngredient(ingredients, dto.getStrIngredient1(), dto.getStrMeasure1());
+        addIngredient(ingredients, dto.getStrIngredient2(), dto.getStrMeasure2());
+        addIngredient(ingredients, dto.getStrIngredient3(), dto.getStrMeasure3());
+        addIngredient(ingredients, dto.getStrIngredient4(), dto.getStrMeasure4());
+        addIngredient(ingredients, dto.getStrIngredient5(), dto.getStrMeasure5());
+        addIngredient(ingredients, dto.getStrIngredient6(), dto.getStrMeasure6());
+        addIngredient(ingredients, dto.getStrIngredient7(), dto.getStrMeasure7());
+        addIngredient(ingredients, dto.getStrIngredient8(), dto.getStrMeasure8());
+        addIngredient(ingredients, dto.getStrIngredient9(), dto.getStrMeasure9());
+        addIngredient(ingredients, dto.getStrIngredient10(), dto.getStrMeasure10());
+        addIngredient(ingredients, dto.getStrIngredient11(), dto.getStrMeasure11());
+        addIngredient(ingredients, dto.getStrIngredient12(), dto.getStrMeasure12());
+        addIngredient(ingredients, dto.getStrIngredient13(), dto.getStrMeasure13());
+        addIngredient(ingredients, dto.getStrIngredient14(), dto.getStrMeasure14());
+        addIngredient(ingredients, dto.getStrIngredient15(), dto.getStrMeasure15());
+        addIngredient(ingredients, dto.getStrIngredient16(), dto.getStrMeasure16());
+        addIngredient(ingredients, dto.getStrIngredient17(), dto.getStrMeasure17());
+        addIngredient(ingredients, dto.getStrIngredient18(), dto.getStrMeasure18());
+        addIngredient(ingredients, dto.getStrIngredient19(), dto.getStrMeasure19());
+        addIngredient(ingredients, dto.getStrIngredient20(), dto.getStrMeasure20());
+
+        return ingredients;
+    }
+
+    private static void addIngredient(List<Ingredient> list, String name, String measure) {
+        if (name != null && !name.trim().isEmpty()) {
+            list.add(new Ingredient(name.trim(), measure != null ? measure.trim() : ""));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.recipe_android_project.testsupport;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+public class LegacyMealResponseDto {
+
+    @SerializedName("meals")
+    private List<LegacyMealDto> meals;
+
+    public List<LegacyMealDto> getMeals() {
+        return meals;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.recipe_android_project.testsupport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the TheMealDB responses under {@code test/resources/themealdb}, the
+ * fixture set the unit tests share with the benchmark module.
+ */
+public final class MealDbFixtures {
+
+    public static final String MEALS = "meals.json";
+    public static final String FILTER = "filter.json";
+    public static final String CATEGORIES = "categories.json";
+    public static final String LIST_INGREDIENTS = "list_ingredients.json";
+    public static final String LIST_AREAS = "list_areas.json";
+
+    private static final String FIXTURE_DIR = "/themealdb/";
+
+    private MealDbFixtures() {
+    }
+
+    public static String read(String name) {
+        InputStream in = MealDbFixtures.class.getResourceAsStream(FIXTURE_DIR + name);
+        if (in == null) {
+            throw new IllegalStateException("Missing fixture " + name);
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            StringBuilder text = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+            return text.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read fixture " + name, e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.recipe_android_project.testsupport;
+
+import com.example.recipe_android_project.core.enums.MealType;
+import com.example.recipe_android_project.features.auth.data.entities.UserEntity;
+import com.example.recipe_android_project.features.home.data.entities.FavoriteIngredientEntity;
+import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.plan.data.entity.MealPlanEntity;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Deterministic rows for the favourites and meal plan tables. The same seed
+ * always yields the same users, meals and dates, timestamps included, so runs
+ * before and after a schema change load identical data.
+ *
+ * <p>Payloads follow TheMealDB: instructions of roughly 600 to 3,000
+ * characters split into {@code \r\n} steps, 5 to 20 ingredients with measures,
+ * and the usual image, video and source URLs. Meal plans fill about
+ * {@link #PLAN_FILL_RATE} of the breakfast, lunch and dinner slots of
+ * consecutive days.
+ */
+public final class SyntheticDataGenerator {
+
+    public static final String FIRST_PLAN_DATE = "2024-01-01";
+
+    private static final long BASE_TIME_MS = 1_704_067_200_000L; // 2024-01-01T00:00Z
+    private static final int FIRST_MEAL_ID = 52_000;
+    private static final double PLAN_FILL_RATE = 0.7;
+
+    private static final String[] CATEGORIES = {
+            "Beef", "Chicken", "Dessert", "Lamb", "Pasta", "Pork", "Seafood", "Side",
+            "Starter", "Vegan", "Vegetarian", "Breakfast"
+    };
+    private static final String[] AREAS = {
+            "British", "Chinese", "French", "Greek", "Indian", "Italian", "Jamaican",
+            "Japanese", "Malaysian", "Mexican", "Moroccan", "Thai", "Turkish"
+    };
+    private static final String[] INGREDIENTS = {
+            "Chicken", "Beef", "Lamb", "Salmon", "Prawns", "Onion", "Garlic", "Ginger",
+            "Tomatoes", "Carrots", "Potatoes", "Rice", "Spaghetti", "Butter", "Olive Oil",
+            "Plain Flour", "Eggs", "Milk", "Double Cream", "Parmesan", "Cumin", "Paprika",
+            "Coriander", "Thyme", "Bay Leaf", "Chicken Stock", "Soy Sauce", "Honey",
+            "Lemon", "Lime", "Chilli", "Spinach", "Mushrooms", "Red Pepper", "Sugar",
+            "Salt", "Black Pepper", "Cinnamon", "Coconut Milk", "Chickpeas"
+    };
+    private static final String[] MEASURES = {
+            "1 tbsp", "2 tbsp", "1 tsp", "1/2 tsp", "100g", "250g", "500g", "1 kg",
+            "2 cloves", "1 large", "3 medium", "200ml", "400ml", "1 cup", "to taste", "pinch"
+    };
+    private static final String[] SENTENCES = {
+            "Preheat the oven to 180C/160C fan/gas 4.",
+            "Heat the oil in a large pan over a medium heat and fry the onion for 8-10 mins until soft and golden.",
+            "Add the garlic and ginger and cook for another minute, stirring so nothing catches.",
+            "Stir in the spices and cook until fragrant, then tip in the tomatoes with a splash of water.",
+            "Season well, cover and simmer gently for 20 mins, stirring occasionally.",
+            "Meanwhile, cook the rice following the pack instructions, then drain and keep warm.",
+            "Whisk the eggs with the milk and a pinch of salt until smooth.",
+            "Rub the butter into the flour with your fingertips until it resembles breadcrumbs.",
+            "Transfer to a baking dish and bake for 35-40 mins until bubbling and browned on top.",
+            "Leave to rest for 5 mins before slicing so the juices settle.",
+            "Scatter over the herbs, squeeze over the lemon and serve straight away.",
+            "Can be made up to 2 days ahead and kept covered in the fridge; reheat until piping hot."
+    };
+
+    private final Random random;
+
+    public SyntheticDataGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public List<UserEntity> users(int count) {
+        List<UserEntity> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UserEntity user = new UserEntity();
+            user.setId(userId(i));
+            user.setFullName("Synthetic User " + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setCreatedAt(BASE_TIME_MS);
+            user.setUpdatedAt(BASE_TIME_MS);
+            users.add(user);
+        }
+        return users;
+    }
+
+    public static String userId(int index) {
+        return String.format(Locale.US, "user-%04d", index);
+    }
+
+    /**
+     * {@code count} favourites for meals {@code firstIndex} onwards, newest
+     * last. Meal {@code n} always gets the same id, so overlapping ranges
+     * produce the updates a Firestore merge sees.
+     */
+    public List<FavoriteMealEntity> favorites(String userId, int firstIndex, int count) {
+        List<FavoriteMealEntity> favorites = new ArrayList<>(count);
+        for (int i = firstIndex; i < firstIndex + count; i++) {
+            String mealId = String.valueOf(FIRST_MEAL_ID + i);
+            FavoriteMealEntity meal = new FavoriteMealEntity(mealId, userId);
+            String dish = SyntheticNames.mealName(pick(INGREDIENTS), random);
+            meal.setName(dish);
+            meal.setCategory(pick(CATEGORIES));
+            meal.setArea(pick(AREAS));
+            meal.setInstructions(instructions());
+            meal.setThumbnailUrl("https://www.themealdb.com/images/media/meals/" + mealId + "x.jpg");
+            meal.setTags(pick(CATEGORIES) + "," + SyntheticNames.dish(random));
+            meal.setYoutubeUrl("https://www.youtube.com/watch?v=" + Long.toString(random.nextLong() & Long.MAX_VALUE, 36));
+            meal.setSourceUrl("https://www.example.com/recipes/" + dish.toLowerCase(Locale.ROOT).replace(' ', '-'));
+            meal.setIngredients(ingredients(mealId, userId));
+            meal.setCreatedAt(BASE_TIME_MS + i * 60_000L);
+            favorites.add(meal);
+        }
+        return favorites;
+    }
+
+    /**
+     * {@code count} plans for one user on consecutive days from
+     * {@link #FIRST_PLAN_DATE}, skipping slots at random.
+     */
+    public List<MealPlanEntity> mealPlans(String userId, int count) {
+        List<MealPlanEntity> plans = new ArrayList<>(count);
+        Calendar day = Calendar.getInstance(TimeZone.getTimeZone("UTC"), Locale.US);
+        day.setTimeInMillis(BASE_TIME_MS);
+        MealType[] slots = MealType.values();
+
+        while (plans.size() < count) {
+            String date = format(day);
+            for (MealType slot : slots) {
+                if (plans.size() == count) break;
+                if (random.nextDouble() >= PLAN_FILL_RATE) continue;
+
+                String mealId = String.valueOf(FIRST_MEAL_ID + random.nextInt(5_000));
+                MealPlanEntity plan = new MealPlanEntity(userId, date, slot.getValue(), mealId);
+                plan.setMealName(SyntheticNames.mealName(pick(INGREDIENTS), random));
+                plan.setMealThumbnail("https://www.themealdb.com/images/media/meals/" + mealId + "x.jpg");
+                plan.setMealCategory(pick(CATEGORIES));
+                plan.setMealArea(pick(AREAS));
+                plan.setCreatedAt(day.getTimeInMillis());
+                plan.setUpdatedAt(day.getTimeInMillis());
+                plan.setSynced(true);
+                plans.add(plan);
+            }
+            day.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        return plans;
+    }
+
+    public static String format(Calendar day) {
+        return String.format(Locale.US, "%04d-%02d-%02d",
+                day.get(Calendar.YEAR),
+                day.get(Calendar.MONTH) + 1,
+                day.get(Calendar.DAY_OF_MONTH));
+    }
+
+    private String instructions() {
+        int target = 600 + random.nextInt(2_400);
+        StringBuilder text = new StringBuilder(target + 200);
+        while (text.length() < target) {
+            if (text.length() > 0) {
+                text.append(random.nextInt(3) == 0 ? "\r\n\r\n" : " ");
+            }
+            text.append(pick(SENTENCES));
+        }
+        return text.toString();
+    }
+
+    private List<FavoriteIngredientEntity> ingredients(String mealId, String userId) {
+        int count = 5 + random.nextInt(16);
+        List<FavoriteIngredientEntity> ingredients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ingredients.add(new FavoriteIngredientEntity(mealId, userId, i,
+                    pick(INGREDIENTS), pick(MEASURES)));
+        }
+        return ingredients;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
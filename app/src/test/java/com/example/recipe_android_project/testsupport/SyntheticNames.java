@@ -0,0 +1,27 @@
+package com.example.recipe_android_project.testsupport;
+
+import java.util.Random;
+
+/**
+ * Meal names built as "main ingredient + dish", shared by the synthetic data
+ * the DAO benchmarks load and the catalog the search index benchmarks build.
+ * The benchmark module compiles this file too, so it must stay plain Java.
+ */
+public final class SyntheticNames {
+
+    private static final String[] DISHES = {
+            "Curry", "Pie", "Stew", "Salad", "Soup", "Tart", "Risotto", "Tagine", "Bake",
+            "Stir Fry", "Casserole", "Skewers"
+    };
+
+    private SyntheticNames() {
+    }
+
+    public static String dish(Random random) {
+        return DISHES[random.nextInt(DISHES.length)];
+    }
+
+    public static String mealName(String mainIngredient, Random random) {
+        return mainIngredient + " " + dish(random);
+    }
+}
@@ -0,0 +1,99 @@
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import java.net.URI
+
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// The app's platform-free mappers, parsers and indexes, compiled for the JVM
+// straight from app/src/main so the benchmarks measure the shipped code, plus
+// the synthetic meal names and legacy implementations the app's unit tests share.
+sourceSets {
+    main {
+        java {
+            srcDir("../app/src/main/java")
+            srcDir("../app/src/test/java")
+            include(
+                "com/example/recipe_android_project/core/utils/InstructionParser.java",
+                "com/example/recipe_android_project/core/utils/PasswordHasher.java",
+                "com/example/recipe_android_project/core/utils/TextNormalizer.java",
+                "com/example/recipe_android_project/features/auth/data/entities/UserEntity.java",
+                "com/example/recipe_android_project/features/home/data/dto/meal/**",
+                "com/example/recipe_android_project/features/home/data/entities/**",
+                "com/example/recipe_android_project/features/home/data/mapper/MealMapper.java",
+                "com/example/recipe_android_project/features/home/model/**",
+                "com/example/recipe_android_project/features/meal_detail/domain/model/InstructionStep.java",
+                "com/example/recipe_android_project/features/search/data/dto/**",
+                "com/example/recipe_android_project/features/search/data/index/**",
+                "com/example/recipe_android_project/features/search/data/mapper/**",
+                "com/example/recipe_android_project/features/search/domain/model/*.java",
+                "com/example/recipe_android_project/testsupport/LegacyInstructionParser.java",
+                "com/example/recipe_android_project/testsupport/LegacyMeal*.java",
+                "com/example/recipe_android_project/testsupport/SyntheticNames.java"
+            )
+        }
+    }
+    // One fixture set for the benchmarks and the app's unit tests.
+    named("jmh") {
+        resources {
+            srcDir("../app/src/test/resources")
+            include("themealdb/**")
+        }
+    }
+}
+
+dependencies {
+    implementation(libs.androidx.annotation)
+    implementation(libs.androidx.collection)
+    implementation(libs.androidx.room.common)
+    implementation(libs.bcrypt)
+    implementation(libs.gson)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    // gc adds gc.alloc.rate and gc.alloc.rate.norm (bytes/op) next to throughput.
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    // ./gradlew :benchmark:jmh -PjmhIncludes=InstructionParser
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
+// Refreshes the fixtures from the live API. Not part of the build.
+tasks.register("recordFixtures") {
+    group = "benchmark"
+    description = "Records TheMealDB responses into app/src/test/resources/themealdb."
+    val fixtureDir = rootProject.layout.projectDirectory.dir("app/src/test/resources/themealdb")
+    val api = "https://www.themealdb.com/api/json/v1/1/"
+    val fixtures = mapOf(
+        "filter.json" to "filter.php?i=chicken",
+        "list_ingredients.json" to "list.php?i=list",
+        "list_areas.json" to "list.php?a=list",
+        "categories.json" to "categories.php"
+    )
+    doLast {
+        fixtures.forEach { (file, endpoint) ->
+            URI(api + endpoint).toURL().openStream().use { input ->
+                fixtureDir.file(file).asFile.outputStream().use { input.copyTo(it) }
+            }
+        }
+        // search.php only searches by name or first letter, so the corpus is
+        // every letter's page in one response; letters without meals answer
+        // {"meals":null}.
+        val meals = ('a'..'z').flatMap { letter ->
+            val page = JsonSlurper().parse(URI(api + "search.php?f=$letter").toURL()) as Map<*, *>
+            (page["meals"] as List<*>?).orEmpty()
+        }
+        fixtureDir.file("meals.json").asFile.writeText(JsonOutput.toJson(mapOf("meals" to meals)))
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.recipe_android_project.benchmark;
+
+import com.example.recipe_android_project.benchmark.legacy.LegacyFavoriteMarking;
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseDto;
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseTypeAdapter;
+import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.model.Meal;
+import com.google.gson.GsonBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Marks the favourite flag on the fixture meal corpus, the list a letter or
+ * search page hands to the repositories, with the old per-meal list scan and
+ * with the id set FavoriteIdStore keeps in memory. Roughly every third meal in
+ * the list is a favourite.
+ */
+@State(Scope.Benchmark)
+public class FavoriteMarkingBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int favoriteCount;
+
+    private List<Meal> meals;
+    private List<FavoriteMealEntity> favoriteRows;
+    private Set<Long> favoriteIds;
+
+    @Setup
+    public void setUp() {
+        meals = new GsonBuilder()
+                .registerTypeAdapter(MealResponseDto.class, new MealResponseTypeAdapter())
+                .create()
+                .fromJson(Fixtures.read(Fixtures.MEALS), MealResponseDto.class)
+                .getMeals();
+
+        favoriteRows = new ArrayList<>(favoriteCount);
+        for (int i = 0; i < favoriteCount; i++) {
+            String mealId = i < meals.size() && i % 3 == 0
+                    ? meals.get(i).getId()
+                    : String.valueOf(60000 + i);
+            FavoriteMealEntity row = new FavoriteMealEntity();
+            row.setMealId(mealId);
+            row.setUserId("benchmark-user");
+            favoriteRows.add(row);
+        }
+
+        favoriteIds = ConcurrentHashMap.newKeySet(favoriteCount * 2);
+        for (FavoriteMealEntity row : favoriteRows) {
+            favoriteIds.add(Long.parseLong(row.getMealId()));
+        }
+    }
+
+    @Benchmark
+    public List<Meal> legacyListScan() {
+        return LegacyFavoriteMarking.markFavorites(meals, favoriteRows);
+    }
+
+    /**
+     * The loop in FavoriteIdStore.applyFavoriteStatus.
+     */
+    @Benchmark
+    public List<Meal> idSetLookup() {
+        for (Meal meal : meals) {
+            meal.setFavorite(favoriteIds.contains(Long.parseLong(meal.getId())));
+        }
+        return meals;
+    }
+}
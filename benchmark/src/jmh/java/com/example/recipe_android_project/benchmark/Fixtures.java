@@ -0,0 +1,42 @@
+package com.example.recipe_android_project.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TheMealDB responses shared with the app's unit tests, read from
+ * {@code app/src/test/resources/themealdb}. The checked-in files are a small
+ * hand-assembled sample in the API's format: ten meals starting with a, b or
+ * c, the {@code filter.php?i=chicken} rows for those meals, and the ingredient
+ * list. {@code ./gradlew :benchmark:recordFixtures} replaces them with live
+ * responses, the meals with every letter's {@code search.php?f=} page.
+ */
+public final class Fixtures {
+
+    public static final String MEALS = "meals.json";
+    public static final String FILTER = "filter.json";
+    public static final String LIST_INGREDIENTS = "list_ingredients.json";
+
+    private Fixtures() {
+    }
+
+    public static String read(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/themealdb/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toString(StandardCharsets.UTF_8.name());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.recipe_android_project.benchmark;
+
+import com.example.recipe_android_project.core.utils.InstructionParser;
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseDto;
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseTypeAdapter;
+import com.example.recipe_android_project.features.home.model.Meal;
+import com.example.recipe_android_project.features.meal_detail.domain.model.InstructionStep;
+import com.example.recipe_android_project.testsupport.LegacyInstructionParser;
+import com.google.gson.GsonBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Parses every instruction text in the fixture corpus, which mixes numbered,
+ * paragraph and run-on layouts. {@code memoizedRepeatOpen} is what a second
+ * visit to the same meal costs. The {@code runOn} pair parses one long text
+ * with no line breaks, which falls through to the sentence split.
+ *
+ * <p>Meant to run over the whole catalog: {@code ./gradlew
+ * :benchmark:recordFixtures} first, so {@link Fixtures#MEALS} holds every
+ * letter's meals rather than the checked-in sample.
+ */
+@State(Scope.Benchmark)
+public class InstructionParserBenchmark {
+
+    // TheMealDB's catalog has several hundred meals; the sample has ten.
+    private static final int FULL_CORPUS_MIN_MEALS = 200;
+    private static final int RUN_ON_SENTENCES = 1_600;
+
+    private List<Meal> meals;
+    private String runOnText;
+
+    @Setup
+    public void setUp() {
+        meals = new GsonBuilder()
+                .registerTypeAdapter(MealResponseDto.class, new MealResponseTypeAdapter())
+                .create()
+                .fromJson(Fixtures.read(Fixtures.MEALS), MealResponseDto.class)
+                .getMeals();
+        if (meals.size() < FULL_CORPUS_MIN_MEALS) {
+            System.err.println("InstructionParserBenchmark: " + meals.size()
+                    + " meals in the fixture corpus; run :benchmark:recordFixtures for the full catalog.");
+        }
+
+        StringBuilder runOn = new StringBuilder();
+        for (int i = 0; i < RUN_ON_SENTENCES; i++) {
+            if (i > 0) runOn.append(' ');
+            runOn.append("Stir the sauce for ").append(i % 10 + 1).append(" mins until it thickens.");
+        }
+        runOnText = runOn.toString();
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        for (Meal meal : meals) {
+            blackhole.consume(InstructionParser.parseInstructions(meal.getInstructions()));
+        }
+    }
+
+    @Benchmark
+    public void legacyRegex(Blackhole blackhole) {
+        for (Meal meal : meals) {
+            blackhole.consume(LegacyInstructionParser.parseInstructions(meal.getInstructions()));
+        }
+    }
+
+    @Benchmark
+    public void memoizedRepeatOpen(Blackhole blackhole) {
+        for (Meal meal : meals) {
+            blackhole.consume(InstructionParser.parseInstructions(
+                    meal.getId(), meal.getDateModified(), meal.getInstructions()));
+        }
+    }
+
+    @Benchmark
+    public List<InstructionStep> runOnSinglePass() {
+        return InstructionParser.parseInstructions(runOnText);
+    }
+
+    @Benchmark
+    public List<InstructionStep> runOnLegacyRegex() {
+        return LegacyInstructionParser.parseInstructions(runOnText);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.recipe_android_project.benchmark;
+
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseDto;
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseTypeAdapter;
+import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.data.entities.MealCatalogEntity;
+import com.example.recipe_android_project.features.home.data.mapper.MealMapper;
+import com.example.recipe_android_project.features.home.model.Meal;
+import com.example.recipe_android_project.features.search.data.dto.filter_result.FilterResultResponseDto;
+import com.example.recipe_android_project.features.search.data.mapper.FilterResultMapper;
+import com.example.recipe_android_project.features.search.domain.model.FilterResultList;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * The mapper work behind favouriting, catalog writes and catalog reads, the
+ * ingredient JSON round-trip Firestore and the catalog share, and
+ * {@code filter.php} result mapping.
+ */
+@State(Scope.Benchmark)
+public class MealMappingBenchmark {
+
+    private static final String USER_ID = "benchmark-user";
+
+    private List<Meal> meals;
+    private List<FavoriteMealEntity> favorites;
+    private List<MealCatalogEntity> catalog;
+    private String filterJson;
+    private Gson gson;
+
+    @Setup
+    public void setUp() {
+        Gson mealGson = new GsonBuilder()
+                .registerTypeAdapter(MealResponseDto.class, new MealResponseTypeAdapter())
+                .create();
+        meals = mealGson.fromJson(Fixtures.read(Fixtures.MEALS), MealResponseDto.class)
+                .getMeals();
+        favorites = MealMapper.toEntityList(meals, USER_ID);
+        catalog = MealMapper.toCatalogEntityList(meals);
+        filterJson = Fixtures.read(Fixtures.FILTER);
+        gson = new Gson();
+    }
+
+    @Benchmark
+    public List<FavoriteMealEntity> mealToFavoriteEntity() {
+        return MealMapper.toEntityList(meals, USER_ID);
+    }
+
+    @Benchmark
+    public List<MealCatalogEntity> mealToCatalogEntity() {
+        return MealMapper.toCatalogEntityList(meals);
+    }
+
+    @Benchmark
+    public List<Meal> catalogEntityToMeal() {
+        return MealMapper.toDomainListFromCatalog(catalog);
+    }
+
+    @Benchmark
+    public void favoriteIngredientsJsonRoundTrip(Blackhole blackhole) {
+        for (FavoriteMealEntity favorite : favorites) {
+            String json = MealMapper.favoriteIngredientsToJson(favorite.getIngredients());
+            blackhole.consume(MealMapper.favoriteIngredientsFromJson(json));
+        }
+    }
+
+    @Benchmark
+    public void catalogIngredientNames(Blackhole blackhole) {
+        for (MealCatalogEntity entity : catalog) {
+            blackhole.consume(MealMapper.ingredientNamesFromJson(entity.getIngredientsJson()));
+        }
+    }
+
+    @Benchmark
+    public FilterResultList filterResponseToDomain() {
+        return FilterResultMapper.toDomain(gson.fromJson(filterJson, FilterResultResponseDto.class));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.recipe_android_project.benchmark;
+
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseDto;
+import com.example.recipe_android_project.features.home.data.dto.meal.MealResponseTypeAdapter;
+import com.example.recipe_android_project.features.home.model.Meal;
+import com.example.recipe_android_project.testsupport.LegacyMealMapping;
+import com.example.recipe_android_project.testsupport.LegacyMealResponseDto;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * {@code search.php} decoding: the streaming {@link MealResponseTypeAdapter}
+ * against the reflective DTO plus mapping step it replaced.
+ */
+@State(Scope.Benchmark)
+public class MealResponseParsingBenchmark {
+
+    private String json;
+    private Gson streamingGson;
+    private Gson reflectiveGson;
+
+    @Setup
+    public void setUp() {
+        json = Fixtures.read(Fixtures.MEALS);
+        // Same registration as RetrofitClient.
+        streamingGson = new GsonBuilder()
+                .registerTypeAdapter(MealResponseDto.class, new MealResponseTypeAdapter())
+                .create();
+        reflectiveGson = new Gson();
+    }
+
+    @Benchmark
+    public List<Meal> streamingAdapter() {
+        return streamingGson.fromJson(json, MealResponseDto.class).getMeals();
+    }
+
+    @Benchmark
+    public List<Meal> reflectiveDtoThenMap() {
+        LegacyMealResponseDto response = reflectiveGson.fromJson(json, LegacyMealResponseDto.class);
+        return LegacyMealMapping.toDomainList(response.getMeals());
+    }
+}
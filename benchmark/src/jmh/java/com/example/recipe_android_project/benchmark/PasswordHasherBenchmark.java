@@ -0,0 +1,52 @@
+package com.example.recipe_android_project.benchmark;
+
+import com.example.recipe_android_project.core.utils.PasswordHasher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash and verify time per BCrypt cost, the numbers PasswordCostCalibrator
+ * projects from. Each cost step should roughly double the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHasherBenchmark {
+
+    private static final String PASSWORD = "Benchmark-Pass1";
+
+    @Param({"10", "12"})
+    public int cost;
+
+    private String hashed;
+
+    @Setup
+    public void setUp() {
+        hashed = PasswordHasher.hashPassword(PASSWORD, cost);
+    }
+
+    @Benchmark
+    public String hash() {
+        return PasswordHasher.hashPassword(PASSWORD, cost);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return PasswordHasher.verifyPassword(PASSWORD, hashed);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public PasswordHasher.PasswordValidationResult validateStrength() {
+        return PasswordHasher.validatePasswordStrength(PASSWORD);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.recipe_android_project.benchmark;
+
+import com.example.recipe_android_project.features.home.data.entities.MealNameTuple;
+import com.example.recipe_android_project.features.search.data.dto.ingradient.IngredientsResponseDto;
+import com.example.recipe_android_project.features.search.data.index.PantryIndex;
+import com.example.recipe_android_project.features.search.data.index.PrefixIndex;
+import com.example.recipe_android_project.features.search.data.index.TrigramIndex;
+import com.example.recipe_android_project.features.search.data.mapper.IngredientMapper;
+import com.example.recipe_android_project.features.search.domain.model.Ingredient;
+import com.example.recipe_android_project.testsupport.SyntheticNames;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Builds and queries the three in-memory search indexes over the real
+ * ingredient list and a catalog-sized set of meals. Meal names and ingredient
+ * sets are generated from the ingredient list with a fixed seed, so every run
+ * indexes the same data.
+ */
+@State(Scope.Benchmark)
+public class SearchIndexBenchmark {
+
+    private static final int CATALOG_SIZE = 300;
+    private static final long SEED = 42L;
+
+    private List<Ingredient> ingredients;
+    private List<String> ingredientNames;
+    private List<MealNameTuple> mealNames;
+    private List<List<String>> mealIngredients;
+
+    private PrefixIndex<Ingredient> prefixIndex;
+    private TrigramIndex<MealNameTuple> trigramIndex;
+    private PantryIndex pantryIndex;
+    private List<String> pantry;
+    private String typoQuery;
+
+    @Setup
+    public void setUp() {
+        IngredientsResponseDto response = new Gson().fromJson(
+                Fixtures.read(Fixtures.LIST_INGREDIENTS), IngredientsResponseDto.class);
+        ingredients = IngredientMapper.toDomain(response).getIngredients();
+        ingredientNames = new ArrayList<>();
+        for (Ingredient ingredient : ingredients) {
+            ingredientNames.add(ingredient.getName());
+        }
+
+        Random random = new Random(SEED);
+        mealNames = new ArrayList<>(CATALOG_SIZE);
+        mealIngredients = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            String main = ingredientNames.get(random.nextInt(ingredientNames.size()));
+            MealNameTuple tuple = new MealNameTuple();
+            tuple.setMealId(String.valueOf(52700 + i));
+            tuple.setName(SyntheticNames.mealName(main, random));
+            mealNames.add(tuple);
+
+            Set<String> names = new LinkedHashSet<>();
+            names.add(main);
+            int count = 3 + random.nextInt(13);
+            while (names.size() < count) {
+                names.add(ingredientNames.get(random.nextInt(ingredientNames.size())));
+            }
+            mealIngredients.add(new ArrayList<>(names));
+        }
+
+        // One dropped letter, the typo the fuzzy search exists for.
+        String name = mealNames.get(0).getName();
+        typoQuery = name.substring(0, 2) + name.substring(3);
+        pantry = Arrays.asList("Chicken", "Garlic", "Onion", "Olive Oil", "Rice", "Tomatoes");
+
+        prefixIndex = buildPrefixIndex();
+        trigramIndex = buildTrigramIndex();
+        pantryIndex = buildPantryIndex();
+    }
+
+    @Benchmark
+    public PrefixIndex<Ingredient> buildPrefixIndex() {
+        return PrefixIndex.build(ingredients, Ingredient::getName);
+    }
+
+    @Benchmark
+    public List<Ingredient> prefixTopK() {
+        return prefixIndex.topK("ch", 10);
+    }
+
+    @Benchmark
+    public TrigramIndex<MealNameTuple> buildTrigramIndex() {
+        return TrigramIndex.build(mealNames, MealNameTuple::getName);
+    }
+
+    @Benchmark
+    public List<MealNameTuple> trigramTypoSearch() {
+        return trigramIndex.search(typoQuery, 20);
+    }
+
+    @Benchmark
+    public PantryIndex buildPantryIndex() {
+        PantryIndex.Builder builder = PantryIndex.builder().addIngredients(ingredientNames);
+        for (int i = 0; i < mealNames.size(); i++) {
+            builder.addMeal(mealNames.get(i).getMealId(), mealIngredients.get(i));
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public List<PantryIndex.Match> pantryQuery() {
+        return pantryIndex.query(pantry, 20);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.recipe_android_project.benchmark.legacy;
+
+import com.example.recipe_android_project.features.home.data.entities.FavoriteMealEntity;
+import com.example.recipe_android_project.features.home.model.Meal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Favourite marking as it was done before the in-memory id set: load every
+ * favourite row, collect the ids into a list and scan it once per meal.
+ */
+public final class LegacyFavoriteMarking {
+
+    private LegacyFavoriteMarking() {
+    }
+
+    public static List<String> getMealIds(List<FavoriteMealEntity> entities) {
+        List<String> ids = new ArrayList<>();
+        if (entities != null) {
+            for (FavoriteMealEntity entity : entities) {
+                if (entity.getMealId() != null && !entity.getMealId().isEmpty()) {
+                    ids.add(entity.getMealId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    public static List<Meal> markFavorites(List<Meal> meals, List<FavoriteMealEntity> favorites) {
+        if (meals == null) return new ArrayList<>();
+        if (favorites == null || favorites.isEmpty()) return meals;
+
+        List<String> favoriteIds = getMealIds(favorites);
+        for (Meal meal : meals) {
+            meal.setFavorite(favoriteIds.contains(meal.getId()));
+        }
+        return meals;
+    }
+}
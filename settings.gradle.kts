@@ -21,3 +21,4 @@ dependencyResolutionManagement {
 
 rootProject.name = "recipe_android_project"
 include(":app")
+include(":benchmark")